@@ -6,8 +6,13 @@
  */
 package org.hibernate.search.backend.elasticsearch;
 
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotaion.Incubating;
 
 public interface ElasticsearchBackend extends Backend {
 
@@ -23,4 +28,20 @@ public interface ElasticsearchBackend extends Backend {
 	 */
 	<T> T getClient(Class<T> clientClass);
 
+	/**
+	 * @return Metrics related to the bytes exchanged with the Elasticsearch cluster by this backend,
+	 * before and after HTTP compression,
+	 * or an empty optional if the Elasticsearch client in use does not collect such metrics.
+	 */
+	@Incubating
+	Optional<ElasticsearchClientMetrics> getClientMetrics();
+
+	/**
+	 * Create a multi-search, to execute several search queries in a single request to the Elasticsearch cluster.
+	 *
+	 * @return A new, empty multi-search.
+	 * Only queries created by this backend can be added to the multi-search.
+	 */
+	ElasticsearchMultiSearch createMultiSearch();
+
 }
@@ -148,6 +148,32 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether the body of requests sent to the Elasticsearch cluster should be compressed using gzip.
+	 * <p>
+	 * Compression reduces network traffic, in particular for bulk indexing requests,
+	 * at the cost of some CPU time on both the client and the server.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#REQUEST_COMPRESSION_ENABLED}.
+	 */
+	public static final String REQUEST_COMPRESSION_ENABLED = "request_compression.enabled";
+
+	/**
+	 * Whether the Elasticsearch cluster should be asked to compress the body of responses using gzip.
+	 * <p>
+	 * The cluster will only compress responses if HTTP compression is enabled on its side
+	 * (see the {@code http.compression} setting in Elasticsearch).
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#RESPONSE_COMPRESSION_ENABLED}.
+	 */
+	public static final String RESPONSE_COMPRESSION_ENABLED = "response_compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -226,6 +252,134 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LAYOUT_STRATEGY = "layout.strategy";
 
+	/**
+	 * The maximum number of works sent to Elasticsearch in a single bulk request
+	 * by the backend-wide orchestrator, which is used in particular by the mass indexer.
+	 * <p>
+	 * The actual bulk size is automatically reduced when Elasticsearch rejects bulked works
+	 * because it is overloaded (HTTP status 429), and progressively restored to this value afterwards.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 500},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum size of a single bulk request sent to Elasticsearch by the backend-wide orchestrator,
+	 * estimated from the size of the serialized works.
+	 * <p>
+	 * A bulk request is sent as soon as either this size or {@link #INDEXING_MAX_BULK_SIZE} is reached.
+	 * A single work larger than this size is still sent, in a bulk request of its own.
+	 * <p>
+	 * Expects a positive Integer value in bytes, such as {@code 10000000},
+	 * or a String that can be parsed into such Integer value.
+	 * 0 means no limit.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * The maximum number of worksets processed in a single batch by the backend-wide orchestrator,
+	 * which is also the maximum number of worksets waiting to be processed
+	 * before submitting threads get blocked.
+	 * <p>
+	 * Higher values mean more opportunity to create large bulks, but higher heap consumption.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_WORKSETS_PER_BATCH}.
+	 */
+	public static final String INDEXING_MAX_WORKSETS_PER_BATCH = "indexing.max_worksets_per_batch";
+
+	/**
+	 * The default total hit count threshold for search queries,
+	 * i.e. the number of hits after which search queries may stop counting hits
+	 * and only return a lower bound of the total hit count.
+	 * <p>
+	 * Only has an effect on Elasticsearch 7 and above:
+	 * previous versions of Elasticsearch always count hits exactly.
+	 * <p>
+	 * Expects a positive Integer value, such as 1000, or a String that can be parsed into such Integer value.
+	 * Can be overridden on each query with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(int)}.
+	 * <p>
+	 * Defaults to no value, meaning the total hit count is always exact.
+	 */
+	public static final String SEARCH_TOTAL_HIT_COUNT_THRESHOLD = "search.total_hit_count_threshold";
+
+	/**
+	 * The maximum number of search queries executing concurrently on this backend.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 16, or a String that can be parsed into such Integer value.
+	 * Queries submitted while this limit is reached wait in a queue, see {@link #SEARCH_ADMISSION_QUEUE_SIZE},
+	 * instead of competing for HTTP connections, see {@link #MAX_CONNECTIONS}.
+	 * <p>
+	 * Defaults to no value, meaning admission control is disabled
+	 * and the other {@code search.admission} properties are ignored.
+	 */
+	public static final String SEARCH_ADMISSION_MAX_CONCURRENCY = "search.admission.max_concurrency";
+
+	/**
+	 * The maximum number of search queries executing concurrently on this backend for a single tenant.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 4, or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning a single tenant may use all the slots
+	 * allowed by {@link #SEARCH_ADMISSION_MAX_CONCURRENCY}.
+	 */
+	public static final String SEARCH_ADMISSION_MAX_CONCURRENCY_PER_TENANT = "search.admission.max_concurrency_per_tenant";
+
+	/**
+	 * The maximum number of search queries waiting for execution when admission control is enabled.
+	 * <p>
+	 * Expects a positive Integer value, such as 100, or a String that can be parsed into such Integer value.
+	 * Queries submitted while the queue is full are rejected with an exception.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ADMISSION_QUEUE_SIZE}.
+	 */
+	public static final String SEARCH_ADMISSION_QUEUE_SIZE = "search.admission.queue_size";
+
+	/**
+	 * The maximum time a search query may wait for execution when admission control is enabled, in milliseconds.
+	 * <p>
+	 * Expects a positive Long value, such as 5000, or a String that can be parsed into such Long value.
+	 * Queries waiting for longer are rejected with a {@link org.hibernate.search.util.common.SearchTimeoutException}.
+	 * A value of {@code 0} means queries wait indefinitely.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ADMISSION_QUEUE_TIMEOUT}.
+	 */
+	public static final String SEARCH_ADMISSION_QUEUE_TIMEOUT = "search.admission.queue_timeout";
+
+	/**
+	 * The weight of each tenant when sharing execution slots between tenants.
+	 * <p>
+	 * Expects a comma-separated String of {@code <tenant identifier>:<weight>} pairs, such as {@code "tenant1:3,tenant2:1"},
+	 * or a {@link java.util.Collection} of such pairs.
+	 * <p>
+	 * Defaults to no value, meaning every tenant has a weight of 1.
+	 */
+	public static final String SEARCH_ADMISSION_TENANT_WEIGHTS = "search.admission.tenant_weights";
+
+	/**
+	 * The size of the thread pool used to load the hits of search queries executed through asynchronous methods
+	 * such as {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer, Integer)}.
+	 * <p>
+	 * Requests are always sent to Elasticsearch without blocking;
+	 * this thread pool only ensures that hits (e.g. entities) are never loaded
+	 * in the I/O threads of the Elasticsearch client.
+	 * For that reason, contrary to the Lucene backend, this thread pool cannot be disabled.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 4, or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ASYNC_THREAD_POOL_SIZE},
+	 * the same default as the Lucene backend.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -235,17 +389,25 @@ private Defaults() {
 		}
 
 		public static final List<String> HOSTS = Collections.singletonList( "localhost:9200" );
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final int INDEXING_MAX_BULK_BYTES = 0;
+		public static final int INDEXING_MAX_WORKSETS_PER_BATCH = 20 * INDEXING_MAX_BULK_SIZE;
 		public static final String PROTOCOL = "http";
 		public static final int REQUEST_TIMEOUT = 60000;
 		public static final int READ_TIMEOUT = 60000;
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean REQUEST_COMPRESSION_ENABLED = false;
+		public static final boolean RESPONSE_COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final int SEARCH_ADMISSION_QUEUE_SIZE = 100;
+		public static final long SEARCH_ADMISSION_QUEUE_TIMEOUT = 0L;
+		public static final int SEARCH_ASYNC_THREAD_POOL_SIZE = 4;
 	}
 }
@@ -48,6 +48,49 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = "lifecycle.minimal_required_status_wait_timeout";
 
+	/**
+	 * The maximum number of works sent to Elasticsearch in a single bulk request
+	 * by the orchestrator of this index, which is used in particular for automatic indexing.
+	 * <p>
+	 * The actual bulk size is automatically reduced when Elasticsearch rejects bulked works
+	 * because it is overloaded (HTTP status 429), and progressively restored to this value afterwards.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 500},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_SIZE}.
+	 */
+	public static final String INDEXING_MAX_BULK_SIZE = "indexing.max_bulk_size";
+
+	/**
+	 * The maximum size of a single bulk request sent to Elasticsearch by the orchestrator of this index,
+	 * estimated from the size of the serialized works.
+	 * <p>
+	 * A bulk request is sent as soon as either this size or {@link #INDEXING_MAX_BULK_SIZE} is reached.
+	 * A single work larger than this size is still sent, in a bulk request of its own.
+	 * <p>
+	 * Expects a positive Integer value in bytes, such as {@code 10000000},
+	 * or a String that can be parsed into such Integer value.
+	 * 0 means no limit.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = "indexing.max_bulk_bytes";
+
+	/**
+	 * The maximum number of worksets processed in a single batch by the orchestrator of this index,
+	 * which is also the maximum number of worksets waiting to be processed
+	 * before submitting threads get blocked.
+	 * <p>
+	 * Higher values mean more opportunity to create large bulks, but higher heap consumption.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 5000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_WORKSETS_PER_BATCH}.
+	 */
+	public static final String INDEXING_MAX_WORKSETS_PER_BATCH = "indexing.max_worksets_per_batch";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -59,6 +102,9 @@ private Defaults() {
 		public static final IndexLifecycleStrategyName LIFECYCLE_STRATEGY = IndexLifecycleStrategyName.CREATE;
 		public static final IndexStatus LIFECYCLE_MINIMAL_REQUIRED_STATUS = IndexStatus.GREEN;
 		public static final int LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
+		public static final int INDEXING_MAX_BULK_SIZE = 250;
+		public static final int INDEXING_MAX_BULK_BYTES = 0;
+		public static final int INDEXING_MAX_WORKSETS_PER_BATCH = 10 * INDEXING_MAX_BULK_SIZE;
 	}
 
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * Metrics related to the bytes exchanged with the Elasticsearch cluster by a backend,
+ * before and after HTTP compression.
+ * <p>
+ * Values are read from live counters:
+ * two values retrieved from the same instance may not be consistent with each other.
+ */
+@Incubating
+public interface ElasticsearchClientMetrics {
+
+	/**
+	 * @return The total number of bytes in the body of requests, before compression.
+	 */
+	long getRequestBodyByteCount();
+
+	/**
+	 * @return The total number of bytes sent as the body of requests, after compression.
+	 * Equal to {@link #getRequestBodyByteCount()} if request compression is disabled.
+	 */
+	long getRequestSentByteCount();
+
+	/**
+	 * @return The total number of bytes in the body of responses, after decompression.
+	 */
+	long getResponseBodyByteCount();
+
+	/**
+	 * @return The total number of bytes received as the body of responses, before decompression.
+	 * Responses decompressed by the HTTP client itself are not taken into account,
+	 * since the number of bytes received is unknown for those.
+	 */
+	long getResponseReceivedByteCount();
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+final class CountingInputStream extends FilterInputStream {
+
+	private long bytesRead = 0L;
+
+	public CountingInputStream(InputStream in) {
+		super( in );
+	}
+
+	@Override
+	public int read() throws IOException {
+		int result = in.read();
+		if ( result >= 0 ) {
+			count( 1 );
+		}
+		return result;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		int result = in.read( b, off, len );
+		count( result );
+		return result;
+	}
+
+	@Override
+	public long skip(long n) throws IOException {
+		long result = in.skip( n );
+		if ( result > 0 ) {
+			bytesRead += result;
+		}
+		return result;
+	}
+
+	@Override
+	public boolean markSupported() {
+		// Resetting would make the count wrong
+		return false;
+	}
+
+	void count(int read) {
+		if ( read > 0 ) {
+			bytesRead += read;
+		}
+	}
+
+	public long getBytesRead() {
+		return bytesRead;
+	}
+
+}
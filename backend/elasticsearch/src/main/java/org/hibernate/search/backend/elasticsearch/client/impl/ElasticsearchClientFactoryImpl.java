@@ -106,6 +106,18 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REQUEST_COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.REQUEST_COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.REQUEST_COMPRESSION_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> RESPONSE_COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.RESPONSE_COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.RESPONSE_COMPRESSION_ENABLED )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -136,6 +148,7 @@ public ElasticsearchClientImplementor create(ConfigurationPropertySource propert
 		return new ElasticsearchClientImpl(
 				restClient, sniffer, threadPoolProvider,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
+				REQUEST_COMPRESSION_ENABLED.get( propertySource ), RESPONSE_COMPRESSION_ENABLED.get( propertySource ),
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
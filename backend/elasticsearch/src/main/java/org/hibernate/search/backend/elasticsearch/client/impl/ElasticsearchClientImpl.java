@@ -15,20 +15,27 @@
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.entity.DecompressingEntity;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.sniff.Sniffer;
 
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -50,6 +57,8 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP_ENCODING = "gzip";
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -59,33 +68,54 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int globalTimeoutValue;
 	private final TimeUnit globalTimeoutUnit;
 
+	private final boolean requestCompressionEnabled;
+	private final RequestOptions requestOptions;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
+	private final ElasticsearchClientMetricsImpl metrics = new ElasticsearchClientMetricsImpl();
+
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ThreadPoolProvider threadPoolProvider,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
+			boolean requestCompressionEnabled, boolean responseCompressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = threadPoolProvider.getSharedScheduledThreadPool();
 		this.globalTimeoutValue = globalTimeoutValue;
 		this.globalTimeoutUnit = globalTimeoutUnit;
+		this.requestCompressionEnabled = requestCompressionEnabled;
+		if ( responseCompressionEnabled ) {
+			this.requestOptions = RequestOptions.DEFAULT.toBuilder()
+					.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING )
+					.build();
+		}
+		else {
+			this.requestOptions = RequestOptions.DEFAULT;
+		}
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
 
 	@Override
 	public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
-		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request ) )
-				.thenApply( this::convertResponse );
+		TransferredBytes transferredBytes = new TransferredBytes();
+		CompletableFuture<ElasticsearchResponse> result = Futures.create( () -> send( request, transferredBytes ) )
+				.thenApply( response -> convertResponse( response, transferredBytes ) );
 		if ( requestLog.isDebugEnabled() ) {
 			long startTime = System.nanoTime();
-			result.thenAccept( response -> log( request, startTime, response ) );
+			result.thenAccept( response -> log( request, startTime, response, transferredBytes ) );
 		}
 		return result;
 	}
 
+	@Override
+	public Optional<ElasticsearchClientMetrics> getMetrics() {
+		return Optional.of( metrics );
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T unwrap(Class<T> clientClass) {
@@ -95,17 +125,19 @@ public <T> T unwrap(Class<T> clientClass) {
 		throw log.clientUnwrappingWithUnkownType( clientClass, RestClient.class );
 	}
 
-	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest) {
+	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest,
+			TransferredBytes transferredBytes) {
 		CompletableFuture<Response> completableFuture = new CompletableFuture<>();
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, requestCompressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
 			return completableFuture;
 		}
+		transferredBytes.requestEntity = entity;
 
 		restClient.performRequestAsync(
 				toRequest( elasticsearchRequest, entity ),
@@ -158,7 +190,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
@@ -166,13 +198,14 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 		}
 
 		request.setEntity( entity );
+		request.setOptions( requestOptions );
 
 		return request;
 	}
 
-	private ElasticsearchResponse convertResponse(Response response) {
+	private ElasticsearchResponse convertResponse(Response response, TransferredBytes transferredBytes) {
 		try {
-			JsonObject body = parseBody( response );
+			JsonObject body = parseBody( response, transferredBytes );
 			return new ElasticsearchResponse(
 					response.getStatusLine().getStatusCode(),
 					response.getStatusLine().getReasonPhrase(),
@@ -184,41 +217,71 @@ private ElasticsearchResponse convertResponse(Response response) {
 					response.getStatusLine().getReasonPhrase(),
 					e );
 		}
+		finally {
+			metrics.add( transferredBytes.getRequestBodyByteCount(), transferredBytes.getRequestSentByteCount(),
+					transferredBytes.responseBodyByteCount, transferredBytes.responseReceivedByteCount );
+		}
 	}
 
-	private JsonObject parseBody(Response response) throws IOException {
+	private JsonObject parseBody(Response response, TransferredBytes transferredBytes) throws IOException {
 		HttpEntity entity = response.getEntity();
 		if ( entity == null ) {
 			return null;
 		}
 
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		CountingInputStream receivedStream = new CountingInputStream( entity.getContent() );
+		CountingInputStream bodyStream;
+		if ( entity instanceof DecompressingEntity ) {
+			// The HTTP client already decompressed the content: we can't know how many bytes were received.
+			bodyStream = receivedStream;
+			receivedStream = null;
+		}
+		else if ( isGzipEncoded( entity ) ) {
+			bodyStream = new CountingInputStream( new GZIPInputStream( receivedStream ) );
+		}
+		else {
+			bodyStream = receivedStream;
+		}
+		try ( InputStream inputStream = bodyStream;
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
-			return gson.fromJson( reader, JsonObject.class );
+			JsonObject body = gson.fromJson( reader, JsonObject.class );
+			transferredBytes.responseBodyByteCount = bodyStream.getBytesRead();
+			transferredBytes.responseReceivedByteCount = receivedStream == null ? -1L : receivedStream.getBytesRead();
+			return body;
 		}
 	}
 
+	private static boolean isGzipEncoded(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		return contentEncoding != null && GZIP_ENCODING.equalsIgnoreCase( contentEncoding.getValue() );
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
 		return charset != null ? charset : StandardCharsets.UTF_8;
 	}
 
-	private void log(ElasticsearchRequest request, long start, ElasticsearchResponse response) {
+	private void log(ElasticsearchRequest request, long start, ElasticsearchResponse response,
+			TransferredBytes transferredBytes) {
 		long executionTimeNs = System.nanoTime() - start;
 		long executionTimeMs = TimeUnit.NANOSECONDS.toMillis( executionTimeNs );
 		if ( requestLog.isTraceEnabled() ) {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
+					request.getBodyPartCount(), executionTimeMs,
 					response.getStatusCode(), response.getStatusMessage(),
-					jsonLogHelper.toString( request.getBodyParts() ),
+					transferredBytes.getRequestBodyByteCount(), transferredBytes.getRequestSentByteCount(),
+					transferredBytes.responseBodyByteCount, transferredBytes.responseReceivedByteCount,
+					jsonLogHelper.bodyPartsToString( request.getRawBodyParts() ),
 					jsonLogHelper.toString( response.getBody() ) );
 		}
 		else {
 			requestLog.executedRequest( request.getMethod(), request.getPath(), request.getParameters(),
-					request.getBodyParts().size(), executionTimeMs,
-					response.getStatusCode(), response.getStatusMessage() );
+					request.getBodyPartCount(), executionTimeMs,
+					response.getStatusCode(), response.getStatusMessage(),
+					transferredBytes.getRequestBodyByteCount(), transferredBytes.getRequestSentByteCount(),
+					transferredBytes.responseBodyByteCount, transferredBytes.responseReceivedByteCount );
 		}
 	}
 
@@ -234,4 +297,33 @@ public void close() throws IOException {
 		}
 	}
 
+	/**
+	 * The number of bytes transferred for a single request, before and after content encoding (compression).
+	 * <p>
+	 * Written from the HTTP client threads, read once the response was received.
+	 */
+	private static final class TransferredBytes {
+		private volatile HttpEntity requestEntity;
+		private volatile long responseBodyByteCount = -1L;
+		private volatile long responseReceivedByteCount = -1L;
+
+		long getRequestBodyByteCount() {
+			HttpEntity entity = requestEntity;
+			if ( entity == null ) {
+				return 0L;
+			}
+			return entity instanceof ElasticsearchHttpEntity
+					? ( (ElasticsearchHttpEntity) entity ).getBodyByteCount() : entity.getContentLength();
+		}
+
+		long getRequestSentByteCount() {
+			HttpEntity entity = requestEntity;
+			if ( entity == null ) {
+				return 0L;
+			}
+			return entity instanceof ElasticsearchHttpEntity
+					? ( (ElasticsearchHttpEntity) entity ).getSentByteCount() : entity.getContentLength();
+		}
+	}
+
 }
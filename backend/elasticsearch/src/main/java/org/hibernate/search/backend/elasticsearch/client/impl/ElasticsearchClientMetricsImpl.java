@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
+
+/**
+ * Accumulates the number of bytes exchanged by all requests of a client.
+ * <p>
+ * This class is thread-safe.
+ */
+final class ElasticsearchClientMetricsImpl implements ElasticsearchClientMetrics {
+
+	private final LongAdder requestBodyByteCount = new LongAdder();
+	private final LongAdder requestSentByteCount = new LongAdder();
+	private final LongAdder responseBodyByteCount = new LongAdder();
+	private final LongAdder responseReceivedByteCount = new LongAdder();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "requestBodyByteCount=" + requestBodyByteCount
+				+ ", requestSentByteCount=" + requestSentByteCount
+				+ ", responseBodyByteCount=" + responseBodyByteCount
+				+ ", responseReceivedByteCount=" + responseReceivedByteCount
+				+ "]";
+	}
+
+	@Override
+	public long getRequestBodyByteCount() {
+		return requestBodyByteCount.sum();
+	}
+
+	@Override
+	public long getRequestSentByteCount() {
+		return requestSentByteCount.sum();
+	}
+
+	@Override
+	public long getResponseBodyByteCount() {
+		return responseBodyByteCount.sum();
+	}
+
+	@Override
+	public long getResponseReceivedByteCount() {
+		return responseReceivedByteCount.sum();
+	}
+
+	/**
+	 * @param requestBodyByteCount The size of the request body before compression, or -1 if unknown.
+	 * @param requestSentByteCount The size of the request body after compression, or -1 if unknown.
+	 * @param responseBodyByteCount The size of the response body after decompression, or -1 if unknown.
+	 * @param responseReceivedByteCount The size of the response body before decompression, or -1 if unknown.
+	 */
+	void add(long requestBodyByteCount, long requestSentByteCount,
+			long responseBodyByteCount, long responseReceivedByteCount) {
+		addIfKnown( this.requestBodyByteCount, requestBodyByteCount );
+		addIfKnown( this.requestSentByteCount, requestSentByteCount );
+		addIfKnown( this.responseBodyByteCount, responseBodyByteCount );
+		addIfKnown( this.responseReceivedByteCount, responseReceivedByteCount );
+	}
+
+	private static void addIfKnown(LongAdder adder, long value) {
+		if ( value > 0L ) {
+			adder.add( value );
+		}
+	}
+}
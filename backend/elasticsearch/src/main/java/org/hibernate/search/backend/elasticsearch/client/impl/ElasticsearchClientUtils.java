@@ -21,7 +21,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import org.apache.http.HttpEntity;
 
 
@@ -40,12 +39,13 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
-		final List<JsonObject> bodyParts = request.getBodyParts();
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean compress) throws IOException {
+		final List<Object> bodyParts = request.getRawBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts );
+		return compress ? new GzipHttpEntity( entity ) : entity;
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
@@ -0,0 +1,30 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+/**
+ * An entity for the body of requests sent to Elasticsearch,
+ * able to report how many bytes were produced.
+ */
+interface ElasticsearchHttpEntity extends HttpEntity, HttpAsyncContentProducer {
+
+	/**
+	 * @return The size of the body, in bytes, before any content encoding (e.g. compression) is applied,
+	 * or {@code -1} if the body was not produced completely yet.
+	 */
+	long getBodyByteCount();
+
+	/**
+	 * @return The number of bytes actually sent, i.e. the size of the body after content encoding,
+	 * or {@code -1} if the body was not produced completely yet.
+	 */
+	long getSentByteCount();
+
+}
@@ -16,14 +16,13 @@
 import java.util.List;
 
 import org.apache.http.Header;
-import org.apache.http.HttpEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.ContentEncoder;
 import org.apache.http.nio.IOControl;
-import org.apache.http.nio.entity.HttpAsyncContentProducer;
 import org.apache.http.protocol.HTTP;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.util.common.impl.Contracts;
 
 import com.google.gson.Gson;
@@ -55,9 +54,12 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Body parts that were already serialized (see {@link SerializedJsonObject})
+ * are copied to the output as-is, without going through GSON or the charset encoder.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
-final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+final class GsonHttpEntity implements ElasticsearchHttpEntity {
 
 	private static final Charset CHARSET = StandardCharsets.UTF_8;
 
@@ -81,7 +83,8 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private static final int CHAR_BUFFER_SIZE = BYTE_BUFFER_PAGE_SIZE;
 
 	private final Gson gson;
-	private final List<JsonObject> bodyParts;
+	// Each element is either a JsonObject or a SerializedJsonObject
+	private final List<Object> bodyParts;
 
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
@@ -112,6 +115,18 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	 */
 	private int nextBodyToEncodeIndex = 0;
 
+	/**
+	 * The number of bytes produced by the last complete rendering of the content,
+	 * or {@code -1} if the content was never rendered completely.
+	 */
+	private long producedByteCount = -1L;
+
+	/**
+	 * The value of {@link ProgressiveCharBufferWriter#writtenByteCount()}
+	 * when the current rendering of the content started.
+	 */
+	private long writtenByteCountBeforeCurrentRendering = 0L;
+
 	/**
 	 * Adaptor from string output rendered into the actual output sink.
 	 * We keep this as a field level attribute as we might have
@@ -121,7 +136,7 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
-	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+	public GsonHttpEntity(Gson gson, List<Object> bodyParts) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
@@ -175,13 +190,20 @@ public void writeTo(OutputStream out) throws IOException {
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
 		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
+		for ( Object bodyPart : bodyParts ) {
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				writer.flush();
+				countingStream.write( ( (SerializedJsonObject) bodyPart ).getBytes() );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, writer );
+			}
 			writer.append( '\n' );
 		}
 		writer.flush();
 		//Now we finally know the content size in bytes:
-		hintContentLength( countingStream.getBytesWritten() );
+		producedByteCount = countingStream.getBytesWritten();
+		hintContentLength( producedByteCount );
 	}
 
 	@Override
@@ -201,6 +223,17 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		this.writtenByteCountBeforeCurrentRendering = 0L;
+	}
+
+	@Override
+	public long getBodyByteCount() {
+		return producedByteCount;
+	}
+
+	@Override
+	public long getSentByteCount() {
+		return producedByteCount;
 	}
 
 	/**
@@ -237,8 +270,13 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
+			Object bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				writer.writeBytes( ( (SerializedJsonObject) bodyPart ).getBytes() );
+			}
+			else {
+				gson.toJson( (JsonObject) bodyPart, writer );
+			}
 			writer.append( '\n' );
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
@@ -279,6 +317,10 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// If we haven't aborted yet, we finished!
 		encoder.complete();
 
+		long writtenByteCount = writer.writtenByteCount();
+		producedByteCount = writtenByteCount - writtenByteCountBeforeCurrentRendering;
+		writtenByteCountBeforeCurrentRendering = writtenByteCount;
+
 		// Design note: we could finally know the content length in bytes at this point
 		// (we had an accumulator in previous versions) but that's always pointless
 		// as the HTTP CLient will request the size before starting produce content.
@@ -0,0 +1,284 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.protocol.HTTP;
+
+/**
+ * Compresses the content of a {@link GsonHttpEntity} using gzip.
+ * <p>
+ * Compression is streamed: the delegate entity writes its content into a gzip stream,
+ * and the compressed bytes are sent to the HTTP client as they become available.
+ * To keep memory consumption low, we stop accepting content from the delegate entity
+ * when too many compressed bytes are waiting to be sent,
+ * i.e. when the HTTP client is pushing back.
+ * The delegate entity handles this the same way it handles flow control from the HTTP client:
+ * it holds on to the remaining content until we call it again.
+ * <p>
+ * The length of the compressed content is not known in advance,
+ * so the HTTP client will always use chunked encoding.
+ */
+final class GzipHttpEntity implements ElasticsearchHttpEntity {
+
+	private static final BasicHeader CONTENT_ENCODING = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
+	/**
+	 * The size of the buffer used by the gzip stream.
+	 */
+	private static final int GZIP_BUFFER_SIZE = 1024;
+
+	/**
+	 * The number of compressed bytes waiting to be sent
+	 * above which we stop accepting content from the delegate entity.
+	 */
+	private static final int MAX_PENDING_COMPRESSED_BYTES = 8 * 1024;
+
+	private final GsonHttpEntity delegate;
+	private final ContentEncoder uncompressedContentEncoder = new UncompressedContentEncoder();
+
+	private PendingCompressedBytes pendingCompressedBytes;
+	private GZIPOutputStream gzipStream;
+	private boolean uncompressedContentComplete;
+	private boolean compressedContentComplete;
+	private long currentBodyByteCount;
+	private long currentSentByteCount;
+
+	private long bodyByteCount = -1L;
+	private long sentByteCount = -1L;
+
+	GzipHttpEntity(GsonHttpEntity delegate) {
+		Contracts.assertNotNull( delegate, "delegate" );
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	@Override
+	public boolean isChunked() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		return -1L;
+	}
+
+	@Override
+	public Header getContentType() {
+		return delegate.getContentType();
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return CONTENT_ENCODING;
+	}
+
+	@Override
+	public InputStream getContent() {
+		// Same as GsonHttpEntity: we expect content to be produced through produceContent() or writeTo(OutputStream).
+		throw new UnsupportedOperationException( "Not implemented! Expected to produce content only over produceContent(),"
+				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		/*
+		 * For this method we use no pagination, so ignore the mutable fields.
+		 *
+		 * Note we must not close the output stream that was passed as a parameter,
+		 * but we do need to close the gzip stream to release the native resources of its deflater.
+		 */
+		CountingOutputStream compressedStream = new CountingOutputStream( new NonClosingOutputStream( out ) );
+		CountingOutputStream uncompressedStream;
+		try ( GZIPOutputStream gzip = new GZIPOutputStream( compressedStream, GZIP_BUFFER_SIZE ) ) {
+			uncompressedStream = new CountingOutputStream( gzip );
+			delegate.writeTo( uncompressedStream );
+		}
+		bodyByteCount = uncompressedStream.getBytesWritten();
+		sentByteCount = compressedStream.getBytesWritten();
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+		if ( gzipStream == null ) {
+			startCompression();
+		}
+		while ( true ) {
+			// First write compressed bytes from previous attempts
+			pendingCompressedBytes.writeTo( encoder );
+			if ( pendingCompressedBytes.pendingSize() > 0 ) {
+				//Just quit: return control to the caller and trust we'll be called again.
+				return;
+			}
+
+			if ( compressedContentComplete ) {
+				encoder.complete();
+				bodyByteCount = currentBodyByteCount;
+				sentByteCount = currentSentByteCount;
+				//Allow to repeat the content rendering from the beginning:
+				gzipStream = null;
+				pendingCompressedBytes = null;
+				return;
+			}
+			else if ( uncompressedContentComplete ) {
+				// Flushes the remaining compressed bytes and writes the gzip trailer
+				gzipStream.close();
+				compressedContentComplete = true;
+			}
+			else {
+				// Will stop as soon as too many compressed bytes are waiting to be sent
+				delegate.produceContent( uncompressedContentEncoder, ioctrl );
+			}
+		}
+	}
+
+	@Override
+	public long getBodyByteCount() {
+		return bodyByteCount;
+	}
+
+	@Override
+	public long getSentByteCount() {
+		return sentByteCount;
+	}
+
+	@Override
+	public void close() throws IOException {
+		//Re-wind the stream so that we can start from the beginning if needed
+		delegate.close();
+		if ( gzipStream != null ) {
+			if ( !compressedContentComplete ) {
+				// Release the native resources of the deflater
+				gzipStream.close();
+			}
+			gzipStream = null;
+			pendingCompressedBytes = null;
+		}
+	}
+
+	private void startCompression() throws IOException {
+		pendingCompressedBytes = new PendingCompressedBytes();
+		// This writes the gzip header to the pending bytes
+		gzipStream = new GZIPOutputStream( pendingCompressedBytes, GZIP_BUFFER_SIZE );
+		uncompressedContentComplete = false;
+		compressedContentComplete = false;
+		currentBodyByteCount = 0L;
+		currentSentByteCount = 0L;
+	}
+
+	/**
+	 * Receives the uncompressed content from the delegate entity.
+	 */
+	private final class UncompressedContentEncoder implements ContentEncoder {
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			if ( pendingCompressedBytes.pendingSize() >= MAX_PENDING_COMPRESSED_BYTES ) {
+				// Push back: the compressed bytes must be sent first.
+				return 0;
+			}
+			int length = src.remaining();
+			if ( src.hasArray() ) {
+				gzipStream.write( src.array(), src.arrayOffset() + src.position(), length );
+				src.position( src.limit() );
+			}
+			else {
+				byte[] bytes = new byte[length];
+				src.get( bytes );
+				gzipStream.write( bytes );
+			}
+			currentBodyByteCount += length;
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			uncompressedContentComplete = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return uncompressedContentComplete;
+		}
+	}
+
+	/**
+	 * Compressed bytes waiting to be sent.
+	 */
+	private final class PendingCompressedBytes extends ByteArrayOutputStream {
+		private int readPosition = 0;
+
+		PendingCompressedBytes() {
+			super( MAX_PENDING_COMPRESSED_BYTES + GZIP_BUFFER_SIZE );
+		}
+
+		synchronized int pendingSize() {
+			return count - readPosition;
+		}
+
+		synchronized void writeTo(ContentEncoder encoder) throws IOException {
+			int toWrite = pendingSize();
+			// We should never do 0-length writes, see HSEARCH-2854
+			if ( toWrite == 0 ) {
+				return;
+			}
+			int written = encoder.write( ByteBuffer.wrap( buf, readPosition, toWrite ) );
+			currentSentByteCount += written;
+			readPosition += written;
+			if ( readPosition == count ) {
+				// Everything was sent: re-use the buffer from the start
+				reset();
+				readPosition = 0;
+			}
+		}
+	}
+
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+		NonClosingOutputStream(OutputStream out) {
+			super( out );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write( b, off, len );
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+}
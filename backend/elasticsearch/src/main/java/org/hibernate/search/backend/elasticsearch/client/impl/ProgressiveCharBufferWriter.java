@@ -70,6 +70,11 @@ class ProgressiveCharBufferWriter extends Writer {
 	 */
 	private boolean flowControlPushingBack = false;
 
+	/**
+	 * The number of bytes accepted by the {@link #setOutput(ContentEncoder) output} so far.
+	 */
+	private long writtenByteCount = 0L;
+
 	public ProgressiveCharBufferWriter(Charset charset, int charBufferSize, int pageSize) {
 		this.charsetEncoder = charset.newEncoder();
 		this.pageSize = pageSize;
@@ -130,6 +135,37 @@ public void close() {
 		// Nothing to do
 	}
 
+	/**
+	 * Write already encoded bytes, bypassing the charset encoder.
+	 * <p>
+	 * Pending chars are flushed first, so that write order is preserved.
+	 *
+	 * @param bytes The bytes to write.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	public void writeBytes(byte[] bytes) throws IOException {
+		flush();
+		int offset = 0;
+		while ( offset < bytes.length ) {
+			if ( currentPage == null ) {
+				currentPage = ByteBuffer.allocate( pageSize );
+			}
+			int length = Math.min( currentPage.remaining(), bytes.length - offset );
+			currentPage.put( bytes, offset, length );
+			offset += length;
+			if ( !currentPage.hasRemaining() ) {
+				// Avoid storing buffers if we can simply flush them
+				attemptFlushPendingBuffers( true );
+				if ( currentPage != null ) {
+					// We couldn't flush the current page, but it's full, so let's move it out of the way.
+					currentPage.flip();
+					needWritingPages.add( currentPage );
+					currentPage = null;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Send all full buffer pages to the {@link #setOutput(ContentEncoder) output}.
 	 * <p>
@@ -166,6 +202,13 @@ public void flushToOutput() throws IOException {
 		attemptFlushPendingBuffers( true );
 	}
 
+	/**
+	 * @return The number of bytes written to the {@link #setOutput(ContentEncoder) output} so far.
+	 */
+	public long writtenByteCount() {
+		return writtenByteCount;
+	}
+
 	/**
 	 * @return The current size of content stored in the byte buffer, in bytes.
 	 * This does not include the content that has already been written to the {@link #setOutput(ContentEncoder) output},
@@ -267,6 +310,7 @@ private boolean write(ByteBuffer buffer) throws IOException {
 			return true;
 		}
 		final int actuallyWritten = output.write( buffer );
+		writtenByteCount += actuallyWritten;
 		return toWrite == actuallyWritten;
 	}
 
@@ -7,10 +7,21 @@
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
 import java.io.Closeable;
+import java.util.Optional;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
 
 /**
  * An interface allowing to close an {@link ElasticsearchClient}.
  */
 public interface ElasticsearchClientImplementor extends ElasticsearchClient, Closeable {
 
+	/**
+	 * @return Metrics related to the bytes exchanged by this client,
+	 * or an empty optional if this client does not collect such metrics.
+	 */
+	default Optional<ElasticsearchClientMetrics> getMetrics() {
+		return Optional.empty();
+	}
+
 }
@@ -15,6 +15,7 @@
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 
 import com.google.gson.JsonObject;
@@ -45,7 +46,8 @@ public static Builder builder(String method) {
 	private final String method;
 	private final String path;
 	private final Map<String, String> parameters;
-	private final List<JsonObject> bodyParts;
+	// Each element is either a JsonObject or a SerializedJsonObject
+	private final List<Object> bodyParts;
 	private final Long timeoutValue;
 	private final TimeUnit timeoutUnit;
 
@@ -70,10 +72,39 @@ public Map<String, String> getParameters() {
 		return parameters;
 	}
 
+	/**
+	 * @return The body parts of this request as JSON trees.
+	 * Serialized body parts are parsed again on each call:
+	 * this is costly, so this should only be used for testing or for requests without serialized parts.
+	 * To log body parts, use {@link org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper#bodyPartsToString(Iterable)}
+	 * on {@link #getRawBodyParts() raw body parts} instead.
+	 * @see #getRawBodyParts()
+	 */
 	public List<JsonObject> getBodyParts() {
+		List<JsonObject> result = new ArrayList<>( bodyParts.size() );
+		for ( Object bodyPart : bodyParts ) {
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				result.add( ( (SerializedJsonObject) bodyPart ).toJsonObject() );
+			}
+			else {
+				result.add( (JsonObject) bodyPart );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return The body parts of this request, each element being
+	 * either a {@link JsonObject} or a {@link SerializedJsonObject}.
+	 */
+	public List<Object> getRawBodyParts() {
 		return bodyParts;
 	}
 
+	public int getBodyPartCount() {
+		return bodyParts.size();
+	}
+
 	public Long getTimeoutValue() {
 		return timeoutValue;
 	}
@@ -101,7 +132,7 @@ public static final class Builder {
 		private final StringBuilder pathBuilder = new StringBuilder( 20 );
 
 		private Map<String, String> parameters;
-		private List<JsonObject> bodyParts;
+		private List<Object> bodyParts;
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 
@@ -161,10 +192,22 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
-			if ( bodyParts == null ) {
-				bodyParts = new ArrayList<>();
+			return addBodyPart( object );
+		}
+
+		public Builder body(SerializedJsonObject object) {
+			return addBodyPart( object );
+		}
+
+		/**
+		 * Append the body parts of another request to this request, without parsing serialized parts.
+		 * @param request The request whose body parts should be appended.
+		 * @return This builder.
+		 */
+		public Builder bodyPartsOf(ElasticsearchRequest request) {
+			for ( Object bodyPart : request.bodyParts ) {
+				addBodyPart( bodyPart );
 			}
-			bodyParts.add( object );
 			return this;
 		}
 
@@ -177,6 +220,14 @@ public Builder timeout(Long timeoutValue, TimeUnit timeoutUnit) {
 		public ElasticsearchRequest build() {
 			return new ElasticsearchRequest( this );
 		}
+
+		private Builder addBodyPart(Object object) {
+			if ( bodyParts == null ) {
+				bodyParts = new ArrayList<>();
+			}
+			bodyParts.add( object );
+			return this;
+		}
 	}
 
 }
@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * Estimates the size of the serialized form of JSON elements,
+ * without actually serializing them.
+ * <p>
+ * The estimate ignores escaping and multi-byte characters,
+ * so it is only suitable for approximate limits such as the maximum size of bulk requests.
+ */
+public final class JsonElementSizeEstimator {
+
+	private JsonElementSizeEstimator() {
+	}
+
+	/**
+	 * @param element A JSON element, or {@code null}.
+	 * @return The approximate size of the serialized element, in bytes.
+	 */
+	public static long estimate(JsonElement element) {
+		if ( element == null || element.isJsonNull() ) {
+			return 4; // null
+		}
+		else if ( element.isJsonObject() ) {
+			JsonObject object = element.getAsJsonObject();
+			long size = 2; // {}
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				size += entry.getKey().length() + 4; // "key":,
+				size += estimate( entry.getValue() );
+			}
+			return size;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray array = element.getAsJsonArray();
+			long size = 2; // []
+			for ( JsonElement arrayElement : array ) {
+				size += estimate( arrayElement ) + 1; // ,
+			}
+			return size;
+		}
+		else {
+			JsonPrimitive primitive = element.getAsJsonPrimitive();
+			if ( primitive.isString() ) {
+				return primitive.getAsString().length() + 2; // ""
+			}
+			else if ( primitive.isBoolean() ) {
+				return 5;
+			}
+			else {
+				return primitive.getAsString().length();
+			}
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * A writer encoding characters to UTF-8 directly into a growing byte array,
+ * so that JSON can be serialized to bytes without any intermediary {@link String}.
+ * <p>
+ * The writer can be created around an existing buffer, so that buffers can be reused from one writer to the next.
+ * <p>
+ * Malformed surrogate pairs are encoded as {@code '?'},
+ * like {@link String#getBytes(java.nio.charset.Charset)} does.
+ */
+public final class Utf8ByteArrayWriter extends Writer {
+
+	private static final byte MALFORMED_REPLACEMENT = (byte) '?';
+
+	private byte[] buffer;
+	private int count = 0;
+	private char pendingHighSurrogate = 0;
+
+	public Utf8ByteArrayWriter(int initialCapacity) {
+		this( new byte[Math.max( initialCapacity, 16 )] );
+	}
+
+	/**
+	 * @param buffer The initial buffer, which will be written to until it needs to grow.
+	 */
+	public Utf8ByteArrayWriter(byte[] buffer) {
+		this.buffer = buffer;
+	}
+
+	@Override
+	public void write(int c) {
+		writeChar( (char) c );
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) {
+		// Three bytes per char at most
+		ensureCapacity( len * 3 );
+		for ( int i = off; i < off + len; i++ ) {
+			writeChar( cbuf[i] );
+		}
+	}
+
+	@Override
+	public void write(String str, int off, int len) {
+		ensureCapacity( len * 3 );
+		for ( int i = off; i < off + len; i++ ) {
+			writeChar( str.charAt( i ) );
+		}
+	}
+
+	@Override
+	public void flush() {
+		// Nothing to do
+	}
+
+	@Override
+	public void close() {
+		// Nothing to do
+	}
+
+	/**
+	 * @return The internal buffer, which may have been replaced by a larger one since this writer was created.
+	 */
+	public byte[] getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * @return A copy of the bytes written so far, trimmed to size.
+	 */
+	public byte[] toByteArray() {
+		if ( pendingHighSurrogate != 0 ) {
+			pendingHighSurrogate = 0;
+			ensureCapacity( 1 );
+			buffer[count++] = MALFORMED_REPLACEMENT;
+		}
+		return Arrays.copyOf( buffer, count );
+	}
+
+	private void writeChar(char c) {
+		if ( pendingHighSurrogate != 0 ) {
+			char high = pendingHighSurrogate;
+			pendingHighSurrogate = 0;
+			if ( Character.isLowSurrogate( c ) ) {
+				writeSupplementaryCodePoint( Character.toCodePoint( high, c ) );
+				return;
+			}
+			ensureCapacity( 1 );
+			buffer[count++] = MALFORMED_REPLACEMENT;
+		}
+
+		if ( c < 0x80 ) {
+			ensureCapacity( 1 );
+			buffer[count++] = (byte) c;
+		}
+		else if ( c < 0x800 ) {
+			ensureCapacity( 2 );
+			buffer[count++] = (byte) ( 0xC0 | ( c >> 6 ) );
+			buffer[count++] = (byte) ( 0x80 | ( c & 0x3F ) );
+		}
+		else if ( Character.isHighSurrogate( c ) ) {
+			pendingHighSurrogate = c;
+		}
+		else if ( Character.isLowSurrogate( c ) ) {
+			ensureCapacity( 1 );
+			buffer[count++] = MALFORMED_REPLACEMENT;
+		}
+		else {
+			ensureCapacity( 3 );
+			buffer[count++] = (byte) ( 0xE0 | ( c >> 12 ) );
+			buffer[count++] = (byte) ( 0x80 | ( ( c >> 6 ) & 0x3F ) );
+			buffer[count++] = (byte) ( 0x80 | ( c & 0x3F ) );
+		}
+	}
+
+	private void writeSupplementaryCodePoint(int codePoint) {
+		ensureCapacity( 4 );
+		buffer[count++] = (byte) ( 0xF0 | ( codePoint >> 18 ) );
+		buffer[count++] = (byte) ( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) );
+		buffer[count++] = (byte) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) );
+		buffer[count++] = (byte) ( 0x80 | ( codePoint & 0x3F ) );
+	}
+
+	private void ensureCapacity(int additionalBytes) {
+		int required = count + additionalBytes;
+		if ( required > buffer.length ) {
+			buffer = Arrays.copyOf( buffer, Math.max( buffer.length * 2, required ) );
+		}
+	}
+}
@@ -77,6 +77,42 @@ else if ( prettyPrinting ) {
 		afterValue( sb );
 	}
 
+	/**
+	 * @param bodyParts Request body parts, each being either a {@link JsonObject} or a {@link SerializedJsonObject}.
+	 * @return A string representation of the body parts.
+	 * Serialized parts are only parsed again if pretty printing is enabled.
+	 */
+	public String bodyPartsToString(Iterable<?> bodyParts) {
+		StringBuilder sb = new StringBuilder( 180 );
+		boolean first = true;
+		beforeValue( sb );
+		for ( Object bodyPart : bodyParts ) {
+			if ( first ) {
+				first = false;
+			}
+			else if ( prettyPrinting ) {
+				sb.append( "\n" );
+			}
+			else {
+				sb.append( "\\n" );
+			}
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				SerializedJsonObject serialized = (SerializedJsonObject) bodyPart;
+				if ( prettyPrinting ) {
+					doAppend( sb, serialized.toJsonObject() );
+				}
+				else {
+					sb.append( serialized );
+				}
+			}
+			else {
+				doAppend( sb, (JsonObject) bodyPart );
+			}
+		}
+		afterValue( sb );
+		return sb.toString();
+	}
+
 	private void beforeValue(StringBuilder sb) {
 		if ( prettyPrinting ) {
 			sb.append( "\n" );
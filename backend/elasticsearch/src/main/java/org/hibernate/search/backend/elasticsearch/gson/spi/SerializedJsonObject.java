@@ -0,0 +1,83 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.spi;
+
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.Utf8ByteArrayWriter;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+/**
+ * A JSON object serialized to UTF-8 bytes once and for all.
+ * <p>
+ * Useful for objects that must be retained for some time before being sent, e.g. documents waiting to be bulked:
+ * the JSON tree can be garbage-collected right after serialization,
+ * and the bytes can be copied to the request body as many times as necessary without any further encoding.
+ * <p>
+ * Objects are serialized into a per-thread buffer that is reused from one object to the next,
+ * so that the only allocation per object is the final, exactly-sized byte array.
+ */
+public final class SerializedJsonObject {
+
+	private static final int INITIAL_BUFFER_SIZE = 4 * 1024;
+
+	/*
+	 * Buffers that grew beyond this size while serializing an unusually large object are not kept,
+	 * so that each thread does not retain more memory than necessary.
+	 */
+	private static final int MAX_RETAINED_BUFFER_SIZE = 256 * 1024;
+
+	// Only holds a byte array, so that threads from a pool shared across applications don't retain our classes
+	private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial( () -> new byte[INITIAL_BUFFER_SIZE] );
+
+	public static SerializedJsonObject of(Gson gson, JsonObject object) {
+		Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter( BUFFER.get() );
+		gson.toJson( object, writer );
+		byte[] grownBuffer = writer.getBuffer();
+		if ( grownBuffer.length <= MAX_RETAINED_BUFFER_SIZE ) {
+			BUFFER.set( grownBuffer );
+		}
+		return new SerializedJsonObject( writer.toByteArray() );
+	}
+
+	private final byte[] bytes;
+
+	private SerializedJsonObject(byte[] bytes) {
+		this.bytes = bytes;
+	}
+
+	@Override
+	public String toString() {
+		return new String( bytes, StandardCharsets.UTF_8 );
+	}
+
+	/**
+	 * @return The UTF-8 representation of the JSON object. Must not be modified.
+	 */
+	public byte[] getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * @return The size of the UTF-8 representation of the JSON object, in bytes.
+	 */
+	public int getSize() {
+		return bytes.length;
+	}
+
+	/**
+	 * @return The JSON object, parsed again from its serialized form.
+	 * This is costly: only use for testing or for pretty-printed logs.
+	 */
+	public JsonObject toJsonObject() {
+		return new JsonParser().parse( toString() ).getAsJsonObject();
+	}
+
+}
@@ -31,7 +31,9 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingSettings;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionSettings;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -41,6 +43,7 @@
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -99,6 +102,17 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( BeanReference.of( DefaultIndexLayoutStrategy.class ) )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> SEARCH_TOTAL_HIT_COUNT_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_TOTAL_HIT_COUNT_THRESHOLD )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -159,7 +173,15 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
-					buildContext.getFailureHandler()
+					buildContext.getFailureHandler(),
+					ElasticsearchBatchingSettings.extractForBackend( propertySource, EventContexts.fromBackendName( name ) ),
+					SearchAdmissionSettings.createController(
+							"Search admission controller for backend " + name, propertySource,
+							EventContexts.fromBackendName( name ),
+							buildContext.getThreadPoolProvider().getSharedScheduledThreadPool()
+					),
+					getSearchAsyncThreadPoolSize( name, propertySource ),
+					SEARCH_TOTAL_HIT_COUNT_THRESHOLD.get( propertySource ).orElse( null )
 			);
 		}
 		catch (RuntimeException e) {
@@ -171,6 +193,14 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 		}
 	}
 
+	private int getSearchAsyncThreadPoolSize(String backendName, ConfigurationPropertySource propertySource) {
+		int threadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource );
+		if ( threadPoolSize <= 0 ) {
+			throw log.invalidSearchAsyncThreadPoolSize( threadPoolSize, EventContexts.fromBackendName( backendName ) );
+		}
+		return threadPoolSize;
+	}
+
 	private boolean getVersionCheckEnabled(ConfigurationPropertySource propertySource) {
 		Optional<ElasticsearchVersion> configuredVersionOptional = VERSION.get( propertySource );
 		boolean versionCheckEnabled = VERSION_CHECK_ENABLED.get( propertySource );
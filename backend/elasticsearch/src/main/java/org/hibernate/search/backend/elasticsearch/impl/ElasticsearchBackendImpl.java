@@ -10,10 +10,12 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
@@ -23,11 +25,17 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorImplementor;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchMultiSearchImpl;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchLoadingExecutor;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.Backend;
+import org.hibernate.search.engine.backend.orchestration.SearchAdmissionMetrics;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.engine.backend.spi.BackendBuildContext;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -62,6 +70,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 	private final TypeNameMapping typeNameMapping;
 
 	private final ElasticsearchWorkOrchestratorImplementor queryOrchestrator;
+	private final SearchAdmissionController searchAdmissionController;
+	private final ElasticsearchSearchLoadingExecutor searchLoadingExecutor;
 
 	private final EventContext eventContext;
 
@@ -77,7 +87,11 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			ElasticsearchBatchingSettings parallelBatchingSettings,
+			SearchAdmissionController searchAdmissionController,
+			int searchAsyncThreadPoolSize,
+			Integer defaultTotalHitCountThreshold) {
 		this.link = link;
 		this.name = name;
 
@@ -85,7 +99,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				link,
 				threadPoolProvider,
-				failureHandler
+				failureHandler,
+				parallelBatchingSettings
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -94,6 +109,11 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 		this.typeNameMapping = typeNameMapping;
 
 		this.queryOrchestrator = orchestratorProvider.createParallelOrchestrator( "Elasticsearch query orchestrator for backend " + name );
+		this.searchAdmissionController = searchAdmissionController;
+		this.searchLoadingExecutor = new ElasticsearchSearchLoadingExecutor(
+				"Elasticsearch search loading executor for backend " + name,
+				threadPoolProvider, searchAsyncThreadPoolSize
+		);
 
 		this.eventContext = EventContexts.fromBackendName( name );
 		this.indexManagerBackendContext = new IndexManagerBackendContext(
@@ -103,7 +123,10 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				orchestratorProvider,
-				queryOrchestrator
+				queryOrchestrator,
+				searchAdmissionController,
+				searchLoadingExecutor,
+				defaultTotalHitCountThreshold
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
 	}
@@ -122,6 +145,7 @@ public void start(BackendStartContext context) {
 		link.onStart( context.getConfigurationPropertySource() );
 		orchestratorProvider.start();
 		queryOrchestrator.start();
+		searchLoadingExecutor.start();
 	}
 
 	@Override
@@ -135,7 +159,10 @@ public CompletableFuture<?> preStop() {
 	@Override
 	public void stop() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			// Reject queued queries before the orchestrators stop accepting works
+			closer.push( SearchAdmissionController::stop, searchAdmissionController );
 			closer.push( ElasticsearchWorkOrchestratorImplementor::stop, queryOrchestrator );
+			closer.push( ElasticsearchSearchLoadingExecutor::stop, searchLoadingExecutor );
 			closer.push( ElasticsearchWorkOrchestratorProvider::stop, orchestratorProvider );
 			// Close the client after the orchestrators, when we're sure all works have been performed
 			closer.push( ElasticsearchLinkImpl::onStop, link );
@@ -160,11 +187,27 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public Optional<SearchAdmissionMetrics> getSearchAdmissionMetrics() {
+		return Optional.ofNullable( searchAdmissionController );
+	}
+
 	@Override
 	public <T> T getClient(Class<T> clientClass) {
 		return link.getClient().unwrap( clientClass );
 	}
 
+	@Override
+	public Optional<ElasticsearchClientMetrics> getClientMetrics() {
+		return link.getClientMetrics();
+	}
+
+	@Override
+	public ElasticsearchMultiSearch createMultiSearch() {
+		return new ElasticsearchMultiSearchImpl( link.getWorkBuilderFactory(), queryOrchestrator,
+				searchLoadingExecutor );
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String hibernateSearchIndexName,
@@ -181,7 +224,8 @@ public IndexManagerBuilder createIndexManagerBuilder(
 		return new ElasticsearchIndexManagerBuilder(
 				indexManagerBackendContext,
 				createIndexSchemaRootNodeBuilder( indexEventContext, indexNames, mappedTypeName ),
-				createDocumentMetadataContributors( mappedTypeName )
+				createDocumentMetadataContributors( mappedTypeName ),
+				ElasticsearchBatchingSettings.extractForIndex( propertySource, indexEventContext )
 		);
 	}
 
@@ -8,6 +8,7 @@
 
 import com.google.gson.GsonBuilder;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchClientMetrics;
 import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
@@ -101,6 +102,11 @@ public ElasticsearchSearchResultExtractorFactory getSearchResultExtractorFactory
 		return searchResultExtractorFactory;
 	}
 
+	Optional<ElasticsearchClientMetrics> getClientMetrics() {
+		checkStarted();
+		return clientImplementor.getMetrics();
+	}
+
 	ElasticsearchVersion getElasticsearchVersion() {
 		checkStarted();
 		return elasticsearchVersion;
@@ -31,6 +31,7 @@ public class ElasticsearchIndexAdministrationClient {
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
 
+	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final IndexNames indexNames;
 	private final IndexMetadata expectedMetadata;
 
@@ -45,10 +46,16 @@ public ElasticsearchIndexAdministrationClient(ElasticsearchWorkBuilderFactory wo
 		this.schemaValidator = new ElasticsearchSchemaValidatorImpl();
 		this.schemaMigrator = new ElasticsearchSchemaMigratorImpl( schemaAccessor, schemaValidator );
 
+		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.indexNames = indexNames;
 		this.expectedMetadata = expectedMetadata;
 	}
 
+	public ElasticsearchIndexBulkLoader createBulkLoader(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return new ElasticsearchIndexBulkLoader( schemaAccessor, indexLayoutStrategy, indexNames, expectedMetadata,
+				executionOptions );
+	}
+
 	public CompletableFuture<?> createIfAbsent(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
 				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
@@ -0,0 +1,186 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+/**
+ * Rebuilds an index from scratch into a new Elasticsearch index,
+ * then replaces the current Elasticsearch index with the new one.
+ * <p>
+ * While bulk-loading, the write alias points to the new index,
+ * which is configured for write throughput (no refresh, no replicas, asynchronous translog),
+ * while the read alias keeps pointing to the current index.
+ * When bulk-loading finishes, the settings of the new index are restored,
+ * the new index is merged, and once it reaches the
+ * {@link ElasticsearchIndexLifecycleExecutionOptions#getRequiredStatus() required status}
+ * the read alias is moved to the new index atomically,
+ * after which the previous index is dropped.
+ * <p>
+ * Instances are stateful and must not be reused.
+ */
+public class ElasticsearchIndexBulkLoader {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String REFRESH_INTERVAL = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS = "index.number_of_replicas";
+	private static final String TRANSLOG_DURABILITY = "index.translog.durability";
+
+	private static final List<String> BULK_LOAD_SETTING_NAMES =
+			Arrays.asList( REFRESH_INTERVAL, NUMBER_OF_REPLICAS, TRANSLOG_DURABILITY );
+
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+	private final IndexLayoutStrategy indexLayoutStrategy;
+	private final IndexNames indexNames;
+	private final IndexMetadata expectedMetadata;
+	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
+
+	private URLEncodedString previousIndexName;
+	private URLEncodedString newIndexName;
+	private JsonObject settingsToRestore;
+	private boolean writeAliasMoved;
+	private boolean readAliasMoved;
+
+	ElasticsearchIndexBulkLoader(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexLayoutStrategy indexLayoutStrategy,
+			IndexNames indexNames, IndexMetadata expectedMetadata,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		this.schemaAccessor = schemaAccessor;
+		this.indexLayoutStrategy = indexLayoutStrategy;
+		this.indexNames = indexNames;
+		this.expectedMetadata = expectedMetadata;
+		this.executionOptions = executionOptions;
+	}
+
+	public CompletableFuture<?> begin() {
+		if ( previousIndexName != null ) {
+			throw new AssertionFailure( "Bulk-loader instance not expected to be reused" );
+		}
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenCompose( existingIndexMetadata -> {
+					previousIndexName = URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() );
+					newIndexName = IndexNames.encodeName( createNextIndexName( existingIndexMetadata.getPrimaryName() ) );
+					return schemaAccessor.getSettings( previousIndexName );
+				} )
+				.thenCompose( previousSettings -> {
+					settingsToRestore = createSettingsToRestore( previousSettings );
+					// No aliases: the write alias is moved explicitly below, the read alias on finish.
+					return schemaAccessor.createIndexAssumeNonExisting(
+							newIndexName, Collections.emptyMap(),
+							expectedMetadata.getSettings(), expectedMetadata.getMapping()
+					);
+				} )
+				.thenCompose( ignored -> schemaAccessor.updateSettings( newIndexName, createBulkLoadSettings() ) )
+				.thenCompose( ignored -> schemaAccessor.moveAliases(
+						previousIndexName, newIndexName, getAliases( indexNames.getWrite() )
+				) )
+				.thenRun( () -> {
+					writeAliasMoved = true;
+					log.bulkLoadStarted( newIndexName, previousIndexName );
+				} );
+	}
+
+	public CompletableFuture<?> finish() {
+		checkStarted();
+		return schemaAccessor.updateSettings( newIndexName, settingsToRestore )
+				.thenCompose( ignored -> schemaAccessor.mergeSegments( newIndexName ) )
+				.thenCompose( ignored -> schemaAccessor.refresh( newIndexName ) )
+				// Replicas were just restored: don't expose the new index to searches before they are allocated
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( newIndexName, executionOptions ) )
+				.thenCompose( ignored -> schemaAccessor.moveAliases(
+						previousIndexName, newIndexName, getAliases( indexNames.getRead() )
+				) )
+				.thenCompose( ignored -> {
+					// From now on, the new index is live: there is no going back.
+					readAliasMoved = true;
+					return schemaAccessor.dropIndexIfExisting( previousIndexName );
+				} )
+				.thenRun( () -> log.bulkLoadFinished( newIndexName, previousIndexName ) );
+	}
+
+	public CompletableFuture<?> abort() {
+		if ( newIndexName == null || readAliasMoved ) {
+			// Nothing was created yet, or the new index is already live
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<?> future = writeAliasMoved
+				? schemaAccessor.moveAliases( newIndexName, previousIndexName, getAliases( indexNames.getWrite() ) )
+				: CompletableFuture.completedFuture( null );
+		return future
+				.thenCompose( ignored -> {
+					log.bulkLoadDroppingIndex( newIndexName, previousIndexName );
+					return schemaAccessor.dropIndexIfExisting( newIndexName );
+				} )
+				.thenRun( () -> {
+					writeAliasMoved = false;
+					log.bulkLoadAborted( newIndexName, previousIndexName );
+				} );
+	}
+
+	private String createNextIndexName(String currentIndexName) {
+		String nextIndexName = indexLayoutStrategy.createNextElasticsearchIndexName(
+				indexNames.getHibernateSearch(), currentIndexName );
+		if ( nextIndexName == null ) {
+			throw log.cannotBulkLoadWithIndexLayoutStrategy( indexLayoutStrategy, getEventContext() );
+		}
+		return nextIndexName;
+	}
+
+	private Map<String, IndexAliasDefinition> getAliases(URLEncodedString alias) {
+		IndexAliasDefinition definition = expectedMetadata.getAliases().get( alias.original );
+		return Collections.singletonMap( alias.original, definition == null ? new IndexAliasDefinition() : definition );
+	}
+
+	private void checkStarted() {
+		if ( !writeAliasMoved ) {
+			throw new AssertionFailure( "Bulk-loading was not started, or was already aborted" );
+		}
+	}
+
+	private static JsonObject createBulkLoadSettings() {
+		JsonObject settings = new JsonObject();
+		settings.addProperty( REFRESH_INTERVAL, "-1" );
+		settings.addProperty( NUMBER_OF_REPLICAS, 0 );
+		settings.addProperty( TRANSLOG_DURABILITY, "async" );
+		return settings;
+	}
+
+	private static JsonObject createSettingsToRestore(JsonObject previousSettings) {
+		JsonObject settings = new JsonObject();
+		for ( String name : BULK_LOAD_SETTING_NAMES ) {
+			JsonElement previousValue = previousSettings.get( name );
+			// Null resets the setting to its default value
+			settings.add( name, previousValue == null ? JsonNull.INSTANCE : previousValue );
+		}
+		return settings;
+	}
+
+	private EventContext getEventContext() {
+		return EventContexts.fromIndexName( indexNames.getHibernateSearch() );
+	}
+}
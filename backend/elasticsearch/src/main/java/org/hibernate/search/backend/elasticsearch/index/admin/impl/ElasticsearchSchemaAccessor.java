@@ -28,6 +28,8 @@
 import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonObject;
+
 /**
  * A utility implementing primitives for the various {@code ElasticsearchSchema*Impl}.
  * @author Gunnar Morling
@@ -122,6 +124,51 @@ public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, I
 				} ) );
 	}
 
+	/**
+	 * Moves aliases from one index to another in a single, atomic operation.
+	 *
+	 * @param sourceIndexName The name of the index the aliases currently point to.
+	 * @param targetIndexName The name of the index the aliases should point to.
+	 * @param aliases The aliases to move.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> moveAliases(URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			Map<String, IndexAliasDefinition> aliases) {
+		ElasticsearchWork<?> work = getWorkFactory().putIndexAliases( targetIndexName, aliases )
+				.removeFrom( sourceIndexName )
+				.build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed(
+							targetIndexName.original, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
+	/**
+	 * @param indexName The name of an index.
+	 * @return A future holding the settings explicitly set on the given index, in flat format.
+	 */
+	public CompletableFuture<JsonObject> getSettings(URLEncodedString indexName) {
+		ElasticsearchWork<JsonObject> work = getWorkFactory().getIndexSettings( indexName ).build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchIndexMetadataRetrievalFailed(
+							Throwables.expectException( e )
+					);
+				} ) );
+	}
+
+	public CompletableFuture<?> updateSettings(URLEncodedString indexName, JsonObject settings) {
+		ElasticsearchWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
+		return execute( work )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed(
+							indexName.original, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		ElasticsearchWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
 		return execute( work )
@@ -143,18 +190,20 @@ public CompletableFuture<?> putMapping(URLEncodedString indexName, RootTypeMappi
 	}
 
 	public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return waitForIndexStatus( indexNames.getWrite(), executionOptions );
+	}
+
+	public CompletableFuture<?> waitForIndexStatus(URLEncodedString indexName, ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
 		IndexStatus requiredIndexStatus = executionOptions.getRequiredStatus();
 		String timeoutAndUnit = executionOptions.getRequiredStatusTimeoutInMs() + "ms";
 
-		URLEncodedString alias = indexNames.getWrite();
-
 		ElasticsearchWork<?> work =
-				getWorkFactory().waitForIndexStatusWork( alias, requiredIndexStatus, timeoutAndUnit )
+				getWorkFactory().waitForIndexStatusWork( indexName, requiredIndexStatus, timeoutAndUnit )
 						.build();
 		return execute( work )
 				.exceptionally( Futures.handler( e -> {
 					throw log.unexpectedIndexStatus(
-							alias, requiredIndexStatus.getElasticsearchString(), timeoutAndUnit,
+							indexName, requiredIndexStatus.getElasticsearchString(), timeoutAndUnit,
 							Throwables.expectException( e )
 					);
 				} ) );
@@ -165,6 +214,16 @@ public CompletableFuture<?> dropIndexIfExisting(URLEncodedString indexName) {
 		return execute( work );
 	}
 
+	public CompletableFuture<?> mergeSegments(URLEncodedString indexName) {
+		ElasticsearchWork<?> work = getWorkFactory().mergeSegments().index( indexName ).build();
+		return execute( work );
+	}
+
+	public CompletableFuture<?> refresh(URLEncodedString indexName) {
+		ElasticsearchWork<?> work = getWorkFactory().refresh().index( indexName ).build();
+		return execute( work );
+	}
+
 	public CompletableFuture<?> closeIndex(URLEncodedString indexName) {
 		ElasticsearchWork<?> work = getWorkFactory().closeIndex( indexName ).build();
 		return execute( work )
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingSettings;
 import org.hibernate.search.engine.backend.document.model.dsl.spi.IndexSchemaRootNodeBuilder;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 
@@ -21,14 +22,17 @@ public class ElasticsearchIndexManagerBuilder implements IndexManagerBuilder {
 
 	private final ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder;
 	private final List<DocumentMetadataContributor> documentMetadataContributors;
+	private final ElasticsearchBatchingSettings serialBatchingSettings;
 
 	public ElasticsearchIndexManagerBuilder(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexSchemaRootNodeBuilder schemaRootNodeBuilder,
-			List<DocumentMetadataContributor> documentMetadataContributors) {
+			List<DocumentMetadataContributor> documentMetadataContributors,
+			ElasticsearchBatchingSettings serialBatchingSettings) {
 		this.backendContext = backendContext;
 
 		this.schemaRootNodeBuilder = schemaRootNodeBuilder;
 		this.documentMetadataContributors = documentMetadataContributors;
+		this.serialBatchingSettings = serialBatchingSettings;
 	}
 
 	@Override
@@ -48,7 +52,8 @@ public ElasticsearchIndexManagerImpl build() {
 		return new ElasticsearchIndexManagerImpl(
 				backendContext,
 				model,
-				documentMetadataContributors
+				documentMetadataContributors,
+				serialBatchingSettings
 		);
 	}
 
@@ -19,9 +19,11 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexAdministrationClient;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexBulkLoader;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexLifecycleExecutionOptions;
 import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorImplementor;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
@@ -85,12 +87,14 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor,
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
-			List<DocumentMetadataContributor> documentMetadataContributors) {
+			List<DocumentMetadataContributor> documentMetadataContributors,
+			ElasticsearchBatchingSettings serialBatchingSettings) {
 		this.backendContext = backendContext;
 		this.model = model;
 		this.documentMetadataContributors = documentMetadataContributors;
 		this.parallelOrchestrator = backendContext.createParallelOrchestrator( model.getHibernateSearchIndexName() );
-		this.serialOrchestrator = backendContext.createSerialOrchestrator( model.getHibernateSearchIndexName() );
+		this.serialOrchestrator = backendContext.createSerialOrchestrator( model.getHibernateSearchIndexName(),
+				serialBatchingSettings );
 	}
 
 	@Override
@@ -158,6 +162,16 @@ public URLEncodedString getElasticsearchIndexWriteName() {
 		return model.getNames().getWrite();
 	}
 
+	@Override
+	public String getHibernateSearchIndexName() {
+		return model.getHibernateSearchIndexName();
+	}
+
+	@Override
+	public ElasticsearchIndexBulkLoader createBulkLoader() {
+		return administrationClient.createBulkLoader( lifecycleStrategy.getExecutionOptions() );
+	}
+
 	@Override
 	public String toElasticsearchId(String tenantId, String id) {
 		return backendContext.toElasticsearchId( tenantId, id );
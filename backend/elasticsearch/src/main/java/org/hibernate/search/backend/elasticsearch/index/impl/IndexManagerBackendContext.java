@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.impl;
 
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.document.model.lowlevel.impl.LowLevelIndexMetadataBuilder;
@@ -14,6 +16,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchBatchingSettings;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorImplementor;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
@@ -29,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionBackendContext;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -49,6 +53,9 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final ElasticsearchWorkOrchestratorProvider orchestratorProvider;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final SearchAdmissionController searchAdmissionController;
+	private final Executor searchLoadingExecutor;
+	private final Integer defaultTotalHitCountThreshold;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -57,7 +64,10 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			ElasticsearchWorkOrchestratorProvider orchestratorProvider,
-			ElasticsearchWorkOrchestrator queryOrchestrator) {
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			SearchAdmissionController searchAdmissionController,
+			Executor searchLoadingExecutor,
+			Integer defaultTotalHitCountThreshold) {
 		this.eventContext = eventContext;
 		this.link = link;
 		this.userFacingGson = userFacingGson;
@@ -65,6 +75,9 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.orchestratorProvider = orchestratorProvider;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchAdmissionController = searchAdmissionController;
+		this.searchLoadingExecutor = searchLoadingExecutor;
+		this.defaultTotalHitCountThreshold = defaultTotalHitCountThreshold;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -141,8 +154,9 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				queryOrchestrator,
-				searchContext, sessionContext, loadingContextBuilder, rootProjection
+				queryOrchestrator, searchAdmissionController, searchLoadingExecutor,
+				searchContext, sessionContext, loadingContextBuilder, rootProjection,
+				defaultTotalHitCountThreshold
 		);
 	}
 
@@ -163,9 +177,11 @@ ElasticsearchIndexAdministrationClient createAdministrationClient(ElasticsearchI
 		);
 	}
 
-	ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String indexName) {
+	ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String indexName,
+			ElasticsearchBatchingSettings batchingSettings) {
 		return orchestratorProvider.createSerialOrchestrator(
-				"Elasticsearch serial work orchestrator for index " + indexName
+				"Elasticsearch serial work orchestrator for index " + indexName,
+				batchingSettings
 		);
 	}
 
@@ -23,6 +23,29 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a new non-alias Elasticsearch name for an index,
+	 * to be used when the index is rebuilt from scratch into a separate Elasticsearch index,
+	 * e.g. when mass indexing in bulk-load mode.
+	 * <p>
+	 * Optional operation: this method only has to be implemented
+	 * when using bulk-loading.
+	 * The default implementation returns {@code null}, meaning bulk-loading is not supported.
+	 * <p>
+	 * The returned name must be different from {@code currentElasticsearchIndexName},
+	 * and must be consistent with {@link #extractUniqueKeyFromElasticsearchIndexName(String)}
+	 * if that method is implemented.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The non-alias Elasticsearch name of the index currently in use.
+	 * @return The new non-alias Elasticsearch name for this index,
+	 * or {@code null} if this strategy does not support creating new index names.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		return null;
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
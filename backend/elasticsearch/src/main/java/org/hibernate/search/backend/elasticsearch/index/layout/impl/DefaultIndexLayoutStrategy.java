@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,11 +32,27 @@ public final class DefaultIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern SEQUENCE_NUMBER_EXTRACTION_PATTERN = Pattern.compile( "(.*)-(\\d{6})" );
+
+	private static final int MAX_SEQUENCE_NUMBER = 999999;
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = SEQUENCE_NUMBER_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			// Not a name we generated: start a new sequence.
+			return createInitialElasticsearchIndexName( hibernateSearchIndexName );
+		}
+		int nextSequenceNumber = Integer.parseInt( matcher.group( 2 ) ) % MAX_SEQUENCE_NUMBER + 1;
+		return String.format( Locale.ROOT, "%s-%06d", hibernateSearchIndexName, nextSequenceNumber );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
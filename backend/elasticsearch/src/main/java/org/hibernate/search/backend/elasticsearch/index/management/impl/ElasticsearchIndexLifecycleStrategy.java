@@ -27,6 +27,10 @@ public ElasticsearchIndexLifecycleStrategy(
 		this.executionOptions = executionOptions;
 	}
 
+	public ElasticsearchIndexLifecycleExecutionOptions getExecutionOptions() {
+		return executionOptions;
+	}
+
 	public CompletableFuture<?> onStart(ElasticsearchIndexAdministrationClient client, IndexManagerStartContext context) {
 		switch ( strategyName ) {
 			case CREATE:
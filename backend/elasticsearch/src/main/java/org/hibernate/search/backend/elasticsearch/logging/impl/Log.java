@@ -205,9 +205,11 @@ void executingElasticsearchQuery(String path, Map<String, String> parameters,
 	@Message(id = ID_OFFSET_2 + 82,
 			value = "Executed Elasticsearch HTTP %s request to path '%s' with query parameters %s and %d objects in payload in %dms."
 					+ " Response had status %d '%s'."
+					+ " Body sizes in bytes (-1 if unknown): request %d (%d sent), response %d (%d received)."
 	)
 	void executedRequest(String method, String path, Map<String, String> getParameters, int bodyParts, long timeInMs,
-			int responseStatusCode, String responseStatusMessage);
+			int responseStatusCode, String responseStatusMessage,
+			long requestBodyBytes, long requestSentBytes, long responseBodyBytes, long responseReceivedBytes);
 
 	@LogMessage(level = Level.WARN)
 	@Message(id = ID_OFFSET_2 + 85,
@@ -229,10 +231,13 @@ void executedRequest(String method, String path, Map<String, String> getParamete
 	@LogMessage(level = Level.TRACE)
 	@Message(id = ID_OFFSET_2 + 93,
 			value = "Executed Elasticsearch HTTP %s request to path '%s' with query parameters %s and %d objects in payload in %dms."
-					+ " Response had status %d '%s'. Request body: <%s>. Response body: <%s>"
+					+ " Response had status %d '%s'."
+					+ " Body sizes in bytes (-1 if unknown): request %d (%d sent), response %d (%d received)."
+					+ " Request body: <%s>. Response body: <%s>"
 	)
 	void executedRequest(String method, String path, Map<String, String> getParameters, int bodyParts, long timeInMs,
 			int responseStatusCode, String responseStatusMessage,
+			long requestBodyBytes, long requestSentBytes, long responseBodyBytes, long responseReceivedBytes,
 			String requestBodyParts, String responseBody);
 
 	// TODO HSEARCH-3308 migrate relevant messages from Search 5 (ES module) here
@@ -636,4 +641,69 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 			+ " the version must at least be in the form 'x.y', where 'x' and 'y' are integers")
 	SearchException invalidElasticsearchVersionCheckConfiguration(String versionString);
 
+	@Message(id = ID_OFFSET_3 + 98,
+			// Note: no need to add a '\n' before "Response", since the formatter will always add one
+			value = "Elasticsearch multi-searched request failed: %3$s\nRequest header: %1$sResponse: %2$s"
+	)
+	SearchException elasticsearchMultiSearchedRequestFailed(
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestHeader,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject response,
+			String causeMessage,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 99,
+			value = "Multi-search responded with %1$s items, but %2$s searches were sent.")
+	SearchException invalidMultiSearchResponseItemCount(int responseItemCount, int searchCount);
+
+	@Message(id = ID_OFFSET_3 + 100,
+			value = "Cannot add query '%1$s' to a multi-search: this query was not created by the same Elasticsearch backend.")
+	SearchException cannotMultiSearchQueryFromOtherBackend(Object query);
+
+	@Message(id = ID_OFFSET_3 + 101,
+			value = "Cannot bulk-load index: bulk-loading rebuilds the whole index into a new Elasticsearch index,"
+					+ " which would lose the documents of other tenants when multi-tenancy is enabled.")
+	SearchException cannotBulkLoadWithMultiTenancy(@Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 102,
+			value = "Cannot bulk-load index: index layout strategy '%1$s' does not support creating new Elasticsearch index names."
+					+ " Implement IndexLayoutStrategy.createNextElasticsearchIndexName, or disable bulk-loading.")
+	SearchException cannotBulkLoadWithIndexLayoutStrategy(Object indexLayoutStrategy, @Param EventContext context);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 103,
+			value = "Bulk-loading Elasticsearch index '%1$s', replacing index '%2$s'.")
+	void bulkLoadStarted(URLEncodedString newIndexName, URLEncodedString oldIndexName);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 104,
+			value = "Finished bulk-loading Elasticsearch index '%1$s'; dropped index '%2$s'.")
+	void bulkLoadFinished(URLEncodedString newIndexName, URLEncodedString oldIndexName);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 105,
+			value = "Aborted bulk-loading Elasticsearch index '%1$s'; index '%2$s' is used again.")
+	void bulkLoadAborted(URLEncodedString newIndexName, URLEncodedString oldIndexName);
+
+	@Message(id = ID_OFFSET_3 + 106,
+			value = "Invalid asynchronous search thread pool size: '%1$s'. The thread pool size must be strictly positive.")
+	SearchException invalidSearchAsyncThreadPoolSize(int threadPoolSize, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 107,
+			value = "Unable to load the hits of a search query: executor '%1$s' is stopped.")
+	SearchException searchLoadingExecutorStopped(String name);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 108,
+			value = "Aborting bulk-loading: dropping Elasticsearch index '%1$s' and all documents indexed into it;"
+					+ " writes will go to index '%2$s' again.")
+	void bulkLoadDroppingIndex(URLEncodedString newIndexName, URLEncodedString oldIndexName);
+
+	@Message(id = ID_OFFSET_3 + 109,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidStrictlyPositiveBatchingSetting(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_3 + 110,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be positive or zero.")
+	SearchException invalidPositiveBatchingSetting(String propertyKey, int value, @Param EventContext context);
+
 }
@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * User-provided settings for the batching of worksets and the bulking of works in an orchestrator.
+ * <p>
+ * Setting the maximum number of worksets per batch involves a bit of guesswork.
+ * Basically we want the number to be large enough for the orchestrator
+ * to create bulks of the maximum size most of the time,
+ * but we also want to keep the number as low as possible to avoid
+ * consuming too much memory with pending worksets.
+ * The default for the backend-wide, parallel orchestrator is higher than the default
+ * for index-scoped, serial orchestrators, because the parallel orchestrator will generally only handle
+ * single-work worksets, and also because it relies on a single
+ * consumer thread shared between all index managers.
+ */
+public final class ElasticsearchBatchingSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Integer> BACKEND_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BACKEND_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> BACKEND_MAX_WORKSETS_PER_BATCH =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.INDEXING_MAX_WORKSETS_PER_BATCH )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_WORKSETS_PER_BATCH )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEX_MAX_BULK_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEX_MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Integer> INDEX_MAX_WORKSETS_PER_BATCH =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_WORKSETS_PER_BATCH )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_WORKSETS_PER_BATCH )
+					.build();
+
+	/**
+	 * @param propertySource The backend property source.
+	 * @param eventContext The event context of the backend, for error reporting.
+	 * @return The settings for the backend-wide, parallel orchestrator.
+	 */
+	public static ElasticsearchBatchingSettings extractForBackend(ConfigurationPropertySource propertySource,
+			EventContext eventContext) {
+		return new ElasticsearchBatchingSettings(
+				getStrictlyPositive( BACKEND_MAX_WORKSETS_PER_BATCH, propertySource, eventContext ),
+				getStrictlyPositive( BACKEND_MAX_BULK_SIZE, propertySource, eventContext ),
+				getPositiveOrZero( BACKEND_MAX_BULK_BYTES, propertySource, eventContext )
+		);
+	}
+
+	/**
+	 * @param propertySource The index property source.
+	 * @param eventContext The event context of the index, for error reporting.
+	 * @return The settings for the serial orchestrator of the index.
+	 */
+	public static ElasticsearchBatchingSettings extractForIndex(ConfigurationPropertySource propertySource,
+			EventContext eventContext) {
+		return new ElasticsearchBatchingSettings(
+				getStrictlyPositive( INDEX_MAX_WORKSETS_PER_BATCH, propertySource, eventContext ),
+				getStrictlyPositive( INDEX_MAX_BULK_SIZE, propertySource, eventContext ),
+				getPositiveOrZero( INDEX_MAX_BULK_BYTES, propertySource, eventContext )
+		);
+	}
+
+	private static int getStrictlyPositive(ConfigurationProperty<Integer> property,
+			ConfigurationPropertySource propertySource, EventContext eventContext) {
+		int value = property.get( propertySource );
+		if ( value <= 0 ) {
+			throw log.invalidStrictlyPositiveBatchingSetting( property.resolveOrRaw( propertySource ), value,
+					eventContext );
+		}
+		return value;
+	}
+
+	private static int getPositiveOrZero(ConfigurationProperty<Integer> property,
+			ConfigurationPropertySource propertySource, EventContext eventContext) {
+		int value = property.get( propertySource );
+		if ( value < 0 ) {
+			// 0 means no limit
+			throw log.invalidPositiveBatchingSetting( property.resolveOrRaw( propertySource ), value, eventContext );
+		}
+		return value;
+	}
+
+	private final int maxWorksetsPerBatch;
+	private final int maxBulkSize;
+	private final int maxBulkBytes;
+
+	private ElasticsearchBatchingSettings(int maxWorksetsPerBatch, int maxBulkSize, int maxBulkBytes) {
+		this.maxWorksetsPerBatch = maxWorksetsPerBatch;
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+	}
+
+	int getMaxWorksetsPerBatch() {
+		return maxWorksetsPerBatch;
+	}
+
+	ElasticsearchBulkSizeController createBulkSizeController() {
+		return new ElasticsearchBulkSizeController( maxBulkSize, maxBulkBytes );
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Controls the maximum size of bulks,
+ * adapting the maximum number of works per bulk to the load of the Elasticsearch cluster.
+ * <p>
+ * When Elasticsearch rejects some works of a bulk because it is overloaded (HTTP status 429),
+ * the maximum number of works per bulk is halved.
+ * When a bulk is executed without any rejection,
+ * the maximum number of works per bulk is increased by a fraction of the configured maximum,
+ * until it reaches the configured maximum.
+ * <p>
+ * Thread-safe: bulk results are reported from the threads of the Elasticsearch client.
+ */
+final class ElasticsearchBulkSizeController {
+
+	private static final int INCREASE_STEPS = 10;
+
+	private final int maxBulkSize;
+	private final int maxBulkBytes;
+	private final int increment;
+
+	private final AtomicInteger currentMaxBulkSize;
+
+	/**
+	 * @param maxBulkSize The maximum number of works in a single bulk.
+	 * @param maxBulkBytes The maximum estimated size of a single bulk in bytes, or {@code 0} for no limit.
+	 */
+	ElasticsearchBulkSizeController(int maxBulkSize, int maxBulkBytes) {
+		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.increment = Math.max( 1, maxBulkSize / INCREASE_STEPS );
+		this.currentMaxBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBulkSize=" + maxBulkSize
+				+ ", maxBulkBytes=" + maxBulkBytes
+				+ ", currentMaxBulkSize=" + currentMaxBulkSize.get()
+				+ "]";
+	}
+
+	/**
+	 * @return The maximum number of works in a single bulk, taking into account recent rejections.
+	 */
+	int getMaxBulkSize() {
+		return currentMaxBulkSize.get();
+	}
+
+	/**
+	 * @return The maximum estimated size of a single bulk in bytes, or {@code 0} for no limit.
+	 */
+	int getMaxBulkBytes() {
+		return maxBulkBytes;
+	}
+
+	/**
+	 * @param rejectedItemCount The number of works rejected by Elasticsearch in a bulk because it was overloaded.
+	 */
+	void onBulkExecuted(int rejectedItemCount) {
+		if ( rejectedItemCount > 0 ) {
+			currentMaxBulkSize.updateAndGet( current -> Math.max( 1, current / 2 ) );
+		}
+		else {
+			currentMaxBulkSize.updateAndGet( current -> Math.min( maxBulkSize, current + increment ) );
+		}
+	}
+
+}
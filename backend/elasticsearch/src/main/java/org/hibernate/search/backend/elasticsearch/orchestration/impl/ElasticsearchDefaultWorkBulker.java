@@ -24,11 +24,13 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory;
 	private final int minBulkSize;
-	private final int maxBulkSize;
+	private final ElasticsearchBulkSizeController bulkSizeController;
+	private final int maxBulkBytes;
 
 	private final List<BulkableElasticsearchWork<?>> currentBulkItems;
 	private final List<CompletableFuture<?>> currentBulkItemsFutures;
 	private int currentBulkFirstNonAddedItem;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<ElasticsearchWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -48,14 +50,34 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
 			int minBulkSize, int maxBulkSize) {
+		this( sequenceBuilder, bulkWorkFactory, minBulkSize, new ElasticsearchBulkSizeController( maxBulkSize, 0 ) );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulkWorkFactory The factory for bulk works
+	 * @param minBulkSize Minimum number of works in a single bulk.
+	 * See {@link #ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder, BiFunction, int, int)}.
+	 * @param bulkSizeController The controller providing the maximum number of works
+	 * and the maximum size in bytes of a single bulk, and notified of the results of each bulk.
+	 * If a bulk reaches either maximum, it will be automatically
+	 * {@link #addWorksToSequence() add the bulk work and work extractions to the sequence}
+	 * and {@link #finalizeBulkWork() finalize the bulk work}
+	 * to the underlying sequence builder.
+	 */
+	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			BiFunction<List<? extends BulkableElasticsearchWork<?>>, DocumentRefreshStrategy, ElasticsearchWork<BulkResult>> bulkWorkFactory,
+			int minBulkSize, ElasticsearchBulkSizeController bulkSizeController) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.minBulkSize = minBulkSize;
-		this.maxBulkSize = maxBulkSize;
+		this.bulkSizeController = bulkSizeController;
+		this.maxBulkBytes = bulkSizeController.getMaxBulkBytes();
 
 		this.currentBulkItems = new ArrayList<>();
 		this.currentBulkItemsFutures = new ArrayList<>();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -63,6 +85,8 @@ public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceB
 	@Override
 	public <T> CompletableFuture<T> add(BulkableElasticsearchWork<T> work) {
 		DocumentRefreshStrategy workRefreshStrategy = work.getRefreshStrategy();
+		// Only estimate the size of works when necessary: the estimate is not free
+		long workBytes = maxBulkBytes > 0 ? work.getBulkableActionSizeEstimate() : 0L;
 		if ( currentBulkItems.isEmpty() ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
@@ -72,11 +96,19 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			finalizeBulkWork();
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
+		else if ( maxBulkBytes > 0 && currentBulkBytes + workBytes > maxBulkBytes ) {
+			// This work would make the current bulk too large; we need to start a new bulk.
+			addWorksToSequence();
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
 
 		CompletableFuture<T> future = new CompletableFuture<>();
 		currentBulkItems.add( work );
 		currentBulkItemsFutures.add( future );
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		currentBulkBytes += workBytes;
+		if ( currentBulkItems.size() >= bulkSizeController.getMaxBulkSize()
+				|| maxBulkBytes > 0 && currentBulkBytes >= maxBulkBytes ) {
 			addWorksToSequence();
 			finalizeBulkWork();
 		}
@@ -107,6 +139,8 @@ else if ( currentBulkWorksSize < minBulkSize && currentBulkFirstNonAddedItem ==
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
 			currentBulkResultFuture = sequenceBuilder.addBulkExecution( currentBulkWorkFuture );
+			// Let the controller adapt the size of the next bulks to the load of the Elasticsearch cluster
+			currentBulkResultFuture.thenAccept( this::onBulkExecuted );
 		}
 
 		BulkResultExtractionStep extractionStep = sequenceBuilder.addBulkResultExtraction( currentBulkResultFuture );
@@ -140,11 +174,18 @@ public void reset() {
 		this.currentBulkItems.clear();
 		this.currentBulkItemsFutures.clear();
 		this.currentBulkFirstNonAddedItem = 0;
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
 
+	private void onBulkExecuted(BulkResult result) {
+		if ( result != null ) {
+			bulkSizeController.onBulkExecuted( result.getRejectedItemCount() );
+		}
+	}
+
 	private <T> void addAndConnectNonBulkedWorkExecution(BulkableElasticsearchWork<T> work, int index) {
 		@SuppressWarnings("unchecked") // The type T of the future matches the one of the work with the same index; see add()
 		CompletableFuture<T> future = (CompletableFuture<T>) currentBulkItemsFutures.get( index );
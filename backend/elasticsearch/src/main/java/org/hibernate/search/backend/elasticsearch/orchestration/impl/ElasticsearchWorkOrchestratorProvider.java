@@ -80,21 +80,6 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 * work to bulk), which would result in terrible performance.
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
-	private static final int MAX_BULK_SIZE = 250;
-
-	/*
-	 * Setting the following constants involves a bit of guesswork.
-	 * Basically we want the number to be large enough for the orchestrator
-	 * to create bulks of the maximum size defined above most of the time,
-	 * but we also want to keep the number as low as possible to avoid
-	 * consuming too much memory with pending worksets.
-	 * Here we set the number for parallel orchestrators higher than the number
-	 * for serial orchestrators, because parallel orchestrators will generally only handle
-	 * single-work worksets, and also because the parallel orchestrators rely on a single
-	 * consumer thread shared between all index managers.
-	 */
-	private static final int SERIAL_MAX_WORKSETS_PER_BATCH = 10 * MAX_BULK_SIZE;
-	private static final int PARALLEL_MAX_WORKSETS_PER_BATCH = 20 * MAX_BULK_SIZE;
 
 	private final ElasticsearchLink link;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -105,7 +90,8 @@ public class ElasticsearchWorkOrchestratorProvider {
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchLink link,
 			ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
+			FailureHandler failureHandler,
+			ElasticsearchBatchingSettings parallelBatchingSettings) {
 		this.link = link;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
@@ -118,8 +104,8 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 		 */
 		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
 				rootParallelOrchestratorName,
-				createParallelWorkProcessor(),
-				PARALLEL_MAX_WORKSETS_PER_BATCH,
+				createParallelWorkProcessor( parallelBatchingSettings ),
+				parallelBatchingSettings.getMaxWorksetsPerBatch(),
 				false // Do not care about ordering when queuing worksets
 		);
 	}
@@ -146,15 +132,17 @@ public ElasticsearchBatchingWorkOrchestrator getRootParallelOrchestrator() {
 
 	/**
 	 * @param name The name of the orchestrator to create.
+	 * @param batchingSettings The settings for batching worksets and bulking works in the orchestrator to create.
 	 * @return A <a href="#serial-orchestrators">serial orchestrator</a>.
 	 */
-	public ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String name) {
-		ElasticsearchWorkProcessor processor = createSerialWorkProcessor();
+	public ElasticsearchWorkOrchestratorImplementor createSerialOrchestrator(String name,
+			ElasticsearchBatchingSettings batchingSettings) {
+		ElasticsearchWorkProcessor processor = createSerialWorkProcessor( batchingSettings );
 
 		return createBatchingSharedOrchestrator(
 				name,
 				processor,
-				SERIAL_MAX_WORKSETS_PER_BATCH,
+				batchingSettings.getMaxWorksetsPerBatch(),
 				true /* enqueue worksets in the exact order they were submitted */
 		);
 	}
@@ -177,15 +165,15 @@ private ElasticsearchBatchingWorkOrchestrator createBatchingSharedOrchestrator(
 		);
 	}
 
-	private ElasticsearchWorkProcessor createSerialWorkProcessor() {
+	private ElasticsearchWorkProcessor createSerialWorkProcessor(ElasticsearchBatchingSettings batchingSettings) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( this::createRefreshingWorkExecutionContext );
-		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, SERIAL_MIN_BULK_SIZE );
+		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, SERIAL_MIN_BULK_SIZE, batchingSettings );
 		return new ElasticsearchSerialWorkProcessor( sequenceBuilder, bulker );
 	}
 
-	private ElasticsearchWorkProcessor createParallelWorkProcessor() {
+	private ElasticsearchWorkProcessor createParallelWorkProcessor(ElasticsearchBatchingSettings batchingSettings) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( this::createRefreshingWorkExecutionContext );
-		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE );
+		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE, batchingSettings );
 		return new ElasticsearchParallelWorkProcessor( sequenceBuilder, bulker );
 	}
 
@@ -195,12 +183,13 @@ private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<Elastics
 		);
 	}
 
-	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize) {
+	private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder, int minBulkSize,
+			ElasticsearchBatchingSettings batchingSettings) {
 		return new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
 				(worksToBulk, refreshStrategy) ->
 						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				minBulkSize, MAX_BULK_SIZE
+				minBulkSize, batchingSettings.createBulkSizeController()
 				);
 	}
 
@@ -8,13 +8,19 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonArrayAccessor;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
 
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 class ElasticsearchJsonHitProjection implements ElasticsearchSearchProjection<JsonObject, JsonObject> {
 
+	private static final JsonArrayAccessor REQUEST_SOURCE_ACCESSOR = JsonAccessor.root().property( "_source" ).asArray();
+	private static final JsonPrimitive WILDCARD_ALL = new JsonPrimitive( "*" );
+
 	private final Set<String> indexNames;
 
 	ElasticsearchJsonHitProjection(Set<String> indexNames) {
@@ -23,7 +29,8 @@ class ElasticsearchJsonHitProjection implements ElasticsearchSearchProjection<Js
 
 	@Override
 	public void request(JsonObject requestBody, SearchProjectionRequestContext context) {
-		// No-op
+		// The hit is returned as-is, so it must include the full source
+		REQUEST_SOURCE_ACCESSOR.addElementIfAbsent( requestBody, WILDCARD_ALL );
 	}
 
 	@Override
@@ -0,0 +1,72 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * A group of search queries to execute in a single request to the Elasticsearch cluster,
+ * using the multi-search API.
+ * <p>
+ * Queries are added to the multi-search, then sent all at once when {@link #execute()} is called.
+ * Each query still gets its own result, or its own failure:
+ * a failing query does not affect the results of the other queries.
+ * <p>
+ * Queries that cannot be expressed as part of a multi-search request,
+ * such as queries with a {@link SearchQuery#failAfter(long, java.util.concurrent.TimeUnit) client-side timeout}
+ * or with a {@link ElasticsearchSearchRequestTransformer request transformer},
+ * are sent in their own request instead, in parallel with the multi-search request.
+ * <p>
+ * Instances are not thread-safe.
+ */
+@Incubating
+public interface ElasticsearchMultiSearch {
+
+	/**
+	 * Add a query to this multi-search.
+	 * <p>
+	 * Entity loading, if necessary, is chained after Elasticsearch returned the hits
+	 * and may execute in a different thread:
+	 * the session the query was created from must not be used until the returned {@link CompletionStage} completes.
+	 *
+	 * @param query The query to execute. Must have been created by the backend this multi-search was created from.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to return. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return A {@link CompletionStage} that will be completed with the result of the query
+	 * once {@link #execute()} has been called and the response has been received,
+	 * or completed exceptionally if the query fails.
+	 * @throws org.hibernate.search.util.common.SearchException If the query was not created by the same backend.
+	 */
+	<H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit);
+
+	/**
+	 * Add a query to this multi-search, only to retrieve its total hit count.
+	 *
+	 * @param query The query to execute. Must have been created by the backend this multi-search was created from.
+	 * @return A {@link CompletionStage} that will be completed with the exact total hit count of the query
+	 * once {@link #execute()} has been called and the response has been received,
+	 * or completed exceptionally if the query fails.
+	 * @throws org.hibernate.search.util.common.SearchException If the query was not created by the same backend.
+	 * @see SearchQuery#fetchTotalHitCount()
+	 */
+	CompletionStage<Long> addTotalHitCount(SearchQuery<?> query);
+
+	/**
+	 * Send all queries added so far to Elasticsearch.
+	 * <p>
+	 * After this method is called, the multi-search is empty and can be re-used.
+	 *
+	 * @return A {@link CompletionStage} that will be completed when all queries added so far have completed,
+	 * or completed exceptionally if at least one of them failed.
+	 */
+	CompletionStage<Void> execute();
+
+}
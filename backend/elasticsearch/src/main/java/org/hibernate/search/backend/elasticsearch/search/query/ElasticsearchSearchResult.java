@@ -17,6 +17,14 @@
 	 * @return The body of the response to the search request as a {@link JsonObject}.
 	 * The returned object must not be modified; use {@link JsonObject#deepCopy()} if necessary.
 	 * <p>
+	 * Hits in the response only include their {@code _source} when a projection needs it,
+	 * e.g. a field projection or the {@code source} or {@code jsonHit} projections of the Elasticsearch extension.
+	 * To get the source of hits when projecting on entities, entity references or scores only,
+	 * add one of these projections to the query,
+	 * or set the {@code _source} property of the request body in a
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.dsl.ElasticsearchSearchQueryOptionsStep#requestTransformer(ElasticsearchSearchRequestTransformer)
+	 * request transformer}.
+	 * <p>
 	 * <strong>WARNING:</strong> The content of the response may change depending on
 	 * the version of Elasticsearch, depending on which Hibernate Search features are used,
 	 * and even depending on how Hibernate Search features are implemented.
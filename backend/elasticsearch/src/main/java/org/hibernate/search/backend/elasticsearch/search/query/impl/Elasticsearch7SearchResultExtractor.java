@@ -36,6 +36,11 @@
 	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
 			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
 
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_EQUAL_TO = "eq";
+
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
 
@@ -66,10 +71,16 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		);
 
 		long hitCount = extractHitCount( responseBody );
+		boolean hitCountExact = extractHitCountExact( responseBody );
 
-		final List<Object> extractedHits = hitCount > 0 ?
+		final List<Object> extractedHits = hitCount > 0 || !hitCountExact ?
 				extractHits( extractContext ) : Collections.emptyList();
 
+		if ( !hitCountExact && hitCount < extractedHits.size() ) {
+			// Hit counting was disabled: the hits we got are the best lower bound we have
+			hitCount = extractedHits.size();
+		}
+
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
 				Collections.emptyMap() : extractAggregations( extractContext, responseBody );
 
@@ -79,7 +90,7 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				hitCount, hitCountExact,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut
@@ -90,6 +101,12 @@ protected long extractHitCount(JsonObject responseBody) {
 		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
 	}
 
+	protected boolean extractHitCountExact(JsonObject responseBody) {
+		// The relation is "gte" when Elasticsearch stopped counting after the threshold,
+		// and is missing along with the total when hit counting was disabled.
+		return HITS_TOTAL_RELATION_EQUAL_TO.equals( HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).orElse( null ) );
+	}
+
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
 		JsonObject responseBody = extractContext.getResponseBody();
 		ProjectionHitMapper<?, ?> hitMapper = extractContext.getProjectionHitMapper();
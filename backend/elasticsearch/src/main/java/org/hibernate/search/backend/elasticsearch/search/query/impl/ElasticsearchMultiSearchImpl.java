@@ -0,0 +1,139 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public class ElasticsearchMultiSearchImpl implements ElasticsearchMultiSearch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Executor loadingExecutor;
+
+	private final List<Item<?>> items = new ArrayList<>();
+
+	public ElasticsearchMultiSearchImpl(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator, Executor loadingExecutor) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.loadingExecutor = loadingExecutor;
+	}
+
+	@Override
+	public <H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit) {
+		ElasticsearchSearchQueryImpl<H> queryImpl = toImpl( query );
+		return addWork( queryImpl, queryImpl.createSearchWork( offset, limit ) )
+				/*
+				 * The request completes in an I/O thread of the Elasticsearch client, which must not block:
+				 * load entities in the loading executor instead.
+				 * See ElasticsearchSearchQueryImpl#fetchAsync.
+				 */
+				.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor );
+	}
+
+	@Override
+	public CompletionStage<Long> addTotalHitCount(SearchQuery<?> query) {
+		ElasticsearchSearchQueryImpl<?> queryImpl = toImpl( query );
+		// No hits are returned, so there is no need to load anything
+		return addWork( queryImpl, queryImpl.createCountSearchWork() )
+				.thenApply( result -> result.loadBlocking().getTotalHitCount() );
+	}
+
+	@Override
+	public CompletionStage<Void> execute() {
+		List<Item<?>> multiSearchedItems = new ArrayList<>();
+		List<SearchWork<?>> multiSearchedWorks = new ArrayList<>();
+		CompletableFuture<?>[] futures = new CompletableFuture<?>[items.size()];
+
+		for ( int i = 0; i < items.size(); i++ ) {
+			Item<?> item = items.get( i );
+			futures[i] = item.future;
+			if ( item.work.isMultiSearchable() ) {
+				multiSearchedItems.add( item );
+				multiSearchedWorks.add( item.work );
+			}
+			else {
+				item.submit();
+			}
+		}
+		items.clear();
+
+		if ( multiSearchedItems.size() == 1 ) {
+			// No need for a multi-search request
+			multiSearchedItems.get( 0 ).submit();
+		}
+		else if ( multiSearchedItems.size() > 1 ) {
+			// The multi-search request goes through admission control as a single query,
+			// on behalf of the tenant of the first query.
+			ElasticsearchSearchQueryImpl<?> firstQuery = multiSearchedItems.get( 0 ).query;
+			CompletableFuture<MultiSearchResult> multiSearchFuture = Futures.create(
+					() -> firstQuery.submit( workFactory.multiSearch( multiSearchedWorks ).build() )
+			);
+			for ( int i = 0; i < multiSearchedItems.size(); i++ ) {
+				multiSearchedItems.get( i ).extractFrom( multiSearchFuture, i );
+			}
+		}
+
+		return CompletableFuture.allOf( futures );
+	}
+
+	private <T> CompletableFuture<T> addWork(ElasticsearchSearchQueryImpl<?> query, SearchWork<T> work) {
+		Item<T> item = new Item<>( query, work );
+		items.add( item );
+		return item.future;
+	}
+
+	private <H> ElasticsearchSearchQueryImpl<H> toImpl(SearchQuery<H> query) {
+		if ( !( query instanceof ElasticsearchSearchQueryImpl ) ) {
+			throw log.cannotMultiSearchQueryFromOtherBackend( query );
+		}
+		ElasticsearchSearchQueryImpl<H> queryImpl = (ElasticsearchSearchQueryImpl<H>) query;
+		if ( queryImpl.getQueryOrchestrator() != queryOrchestrator ) {
+			throw log.cannotMultiSearchQueryFromOtherBackend( query );
+		}
+		return queryImpl;
+	}
+
+	private static final class Item<T> {
+		private final ElasticsearchSearchQueryImpl<?> query;
+		private final SearchWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		Item(ElasticsearchSearchQueryImpl<?> query, SearchWork<T> work) {
+			this.query = query;
+			this.work = work;
+		}
+
+		void submit() {
+			Futures.create( () -> query.submit( work ) )
+					.whenComplete( Futures.copyHandler( future ) );
+		}
+
+		void extractFrom(CompletableFuture<MultiSearchResult> multiSearchFuture, int index) {
+			multiSearchFuture.thenApply( result -> result.extract( work, index ) )
+					.whenComplete( Futures.copyHandler( future ) );
+		}
+	}
+}
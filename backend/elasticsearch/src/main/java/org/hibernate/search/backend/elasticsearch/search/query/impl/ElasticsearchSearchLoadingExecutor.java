@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The executor loading the hits of search queries executed asynchronously.
+ * <p>
+ * Responses to asynchronous requests are handled in the I/O threads of the Elasticsearch client,
+ * which must never block: loading hits, which may involve database queries,
+ * is handed off to this executor instead.
+ */
+public final class ElasticsearchSearchLoadingExecutor implements Executor {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String name;
+	private final ThreadPoolProvider threadPoolProvider;
+	private final int threadPoolSize;
+
+	private volatile ExecutorService delegate;
+
+	/**
+	 * @param name The name of this executor when reporting errors, also used to name loading threads.
+	 * @param threadPoolProvider A provider of thread pools.
+	 * @param threadPoolSize The number of threads to use to load hits.
+	 */
+	public ElasticsearchSearchLoadingExecutor(String name, ThreadPoolProvider threadPoolProvider,
+			int threadPoolSize) {
+		this.name = name;
+		this.threadPoolProvider = threadPoolProvider;
+		this.threadPoolSize = threadPoolSize;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + name + ", threadPoolSize=" + threadPoolSize + "]";
+	}
+
+	public synchronized void start() {
+		if ( delegate == null ) {
+			delegate = threadPoolProvider.newFixedThreadPool( threadPoolSize, name );
+		}
+	}
+
+	public synchronized void stop() {
+		if ( delegate != null ) {
+			delegate.shutdownNow();
+			delegate = null;
+		}
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		ExecutorService executor = delegate;
+		if ( executor == null ) {
+			// Fails the dependent future when called from CompletableFuture.thenApplyAsync
+			throw log.searchLoadingExecutorStopped( name );
+		}
+		executor.execute( command );
+	}
+
+}
@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
@@ -27,6 +28,7 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
@@ -50,6 +52,8 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final SearchAdmissionController searchAdmissionController;
+	private final Executor loadingExecutor;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -66,19 +70,25 @@
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Integer totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			SearchAdmissionController searchAdmissionController,
+			Executor loadingExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			ElasticsearchSearchProjection<?, H> rootProjection) {
+			ElasticsearchSearchProjection<?, H> rootProjection,
+			Integer defaultTotalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchAdmissionController = searchAdmissionController;
+		this.loadingExecutor = loadingExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -87,6 +97,7 @@ public ElasticsearchSearchQueryBuilder(
 		this.rootPredicateContext = new ElasticsearchSearchPredicateContext( sessionContext );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.totalHitCountThreshold = defaultTotalHitCountThreshold;
 	}
 
 	@Override
@@ -115,6 +126,11 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(int totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public ElasticsearchSearchPredicateContext getRootPredicateContext() {
 		return rootPredicateContext;
@@ -191,6 +207,15 @@ public ElasticsearchSearchQuery<H> build() {
 
 		rootProjection.request( payload, requestContext );
 
+		if ( !payload.has( "_source" ) ) {
+			/*
+			 * No projection needs the document source: ask Elasticsearch not to return it.
+			 * By default Elasticsearch returns the full source of every hit,
+			 * which we would then have to parse and hold in memory for nothing.
+			 */
+			payload.addProperty( "_source", false );
+		}
+
 		if ( aggregations != null ) {
 			JsonObject jsonAggregations = new JsonObject();
 
@@ -209,11 +234,12 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, searchAdmissionController, loadingExecutor,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold
 		);
 	}
 }
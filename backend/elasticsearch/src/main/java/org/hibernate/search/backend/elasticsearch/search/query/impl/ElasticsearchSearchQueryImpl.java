@@ -10,6 +10,9 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
@@ -23,12 +26,15 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -48,8 +54,16 @@
 	 */
 	private static final int MAX_RESULT_WINDOW_SIZE = 10000;
 
+	/**
+	 * How long Elasticsearch should keep the search context of a scroll alive between two chunks.
+	 * The timeout is renewed each time a chunk is retrieved.
+	 */
+	private static final String SCROLL_TIMEOUT = "60s";
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final SearchAdmissionController searchAdmissionController;
+	private final Executor loadingExecutor;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
@@ -57,6 +71,7 @@
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final Integer totalHitCountThreshold;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
@@ -64,6 +79,8 @@
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			SearchAdmissionController searchAdmissionController,
+			Executor loadingExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
@@ -71,9 +88,12 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Integer totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchAdmissionController = searchAdmissionController;
+		this.loadingExecutor = loadingExecutor;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -84,6 +104,7 @@
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -105,45 +126,51 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( submitSearch( offset, limit ) )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * or at least in a thread that has exclusive access to the session.
+				 * See fetchAsync, which loads entities in the loading executor.
 				 */
 				.loadBlocking();
 	}
 
 	@Override
-	public long fetchTotalHitCount() {
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
-		}
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> submitSearch( offset, limit ) )
+				/*
+				 * The request completes in an I/O thread of the Elasticsearch client, which must not block:
+				 * load entities in the loading executor instead.
+				 */
+				.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, loadingExecutor );
+	}
 
-		ElasticsearchWork<Long> work = workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.query( filteredPayload )
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork = workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.scrolling( chunkSize, SCROLL_TIMEOUT )
+				// Scroll results always expose an exact total hit count: no threshold
 				.routingKeys( routingKeys )
 				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
 				.requestTransformer(
 						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
 				)
 				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+
+		return new ElasticsearchSearchScroll<>( this, workFactory, queryOrchestrator, searchResultExtractor,
+				SCROLL_TIMEOUT, firstWork );
+	}
+
+	@Override
+	public long fetchTotalHitCount() {
+		return Futures.unwrappedExceptionJoin( submitCount() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( this::submitCount );
 	}
 
 	@Override
@@ -172,6 +199,73 @@ public JsonObject explain(String indexName, String id) {
 		return doExplain( indexReadName, id );
 	}
 
+	ElasticsearchWorkOrchestrator getQueryOrchestrator() {
+		return queryOrchestrator;
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit) {
+		return createSearchWork( offset, defaultedLimit( limit, offset ), totalHitCountThreshold );
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> createCountSearchWork() {
+		// No hits, but an exact total hit count
+		return createSearchWork( null, 0, Integer.MAX_VALUE );
+	}
+
+	private SearchWork<ElasticsearchLoadableSearchResult<H>> createSearchWork(Integer offset, Integer limit,
+			Integer totalHitCountThreshold) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.paging( limit, offset )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private CompletableFuture<ElasticsearchLoadableSearchResult<H>> submitSearch(Integer offset, Integer limit) {
+		return submit( createSearchWork( offset, limit ) );
+	}
+
+	private CompletableFuture<Long> submitCount() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		ElasticsearchWork<Long> work = workFactory.count( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+		return submit( work );
+	}
+
+	/**
+	 * Submits a work on behalf of this query, after it was admitted by the search admission controller if any.
+	 * <p>
+	 * Also used for requests derived from this query: scroll chunks and multi-search requests.
+	 *
+	 * @param work The work to submit.
+	 * @param <T> The type of results.
+	 * @return A future completed with the result of the work.
+	 */
+	<T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+		if ( searchAdmissionController == null ) {
+			return queryOrchestrator.submit( work );
+		}
+		return searchAdmissionController.submit(
+				sessionContext.getTenantIdentifier(), () -> queryOrchestrator.submit( work )
+		);
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -208,7 +302,7 @@ private JsonObject doExplain(URLEncodedString encodedIndexName, String id) {
 				)
 				.build();
 
-		ExplainResult explainResult = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		ExplainResult explainResult = Futures.unwrappedExceptionJoin( submit( work ) );
 		return explainResult.getJsonObject();
 	}
 
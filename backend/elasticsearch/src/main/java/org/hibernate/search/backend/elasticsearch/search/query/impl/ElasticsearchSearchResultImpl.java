@@ -22,8 +22,10 @@
 	private final JsonObject responseBody;
 
 	ElasticsearchSearchResultImpl(JsonObject responseBody,
-			long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults, Integer took, Boolean timedOut) {
-		super( hitCount, hits, aggregationResults, ( took == null ) ? null : Duration.ofMillis( took ), timedOut );
+			long hitCount, boolean hitCountExact, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Integer took, Boolean timedOut) {
+		super( hitCount, hitCountExact, hits, aggregationResults,
+				( took == null ) ? null : Duration.ofMillis( took ), timedOut );
 		this.responseBody = responseBody;
 	}
 
@@ -0,0 +1,116 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API:
+ * the first chunk is retrieved by the initial search request, which also opens a server-side search context,
+ * and subsequent chunks are retrieved from that search context using its scroll ID.
+ * <p>
+ * The search context is renewed on each call to {@link #next()} and released on {@link #close()}.
+ * <p>
+ * Each chunk is subject to search admission control, but releasing the search context is not.
+ *
+ * @param <H> The type of query hits.
+ */
+class ElasticsearchSearchScroll<H> implements SearchScroll<H> {
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private final ElasticsearchSearchQueryImpl<H> query;
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final String scrollTimeout;
+
+	private ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork;
+	private String scrollId;
+	private boolean exhausted = false;
+	private long totalHitCount = 0;
+
+	ElasticsearchSearchScroll(ElasticsearchSearchQueryImpl<H> query, ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			String scrollTimeout,
+			ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> firstWork) {
+		this.query = query;
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.searchResultExtractor = searchResultExtractor;
+		this.scrollTimeout = scrollTimeout;
+		this.firstWork = firstWork;
+	}
+
+	@Override
+	public void close() {
+		exhausted = true;
+		if ( scrollId == null ) {
+			return;
+		}
+		String scrollIdToClear = scrollId;
+		scrollId = null;
+		ElasticsearchWork<?> work = workFactory.clearScroll( scrollIdToClear ).build();
+		// Not subject to admission control: releasing the search context must not wait or be rejected.
+		Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		List<H> hits = Collections.emptyList();
+		// Hits may be skipped during loading (e.g. deleted entities),
+		// so make sure we don't return an empty chunk unless the scroll is really exhausted.
+		while ( hits.isEmpty() && !exhausted ) {
+			hits = nextChunk();
+		}
+		return new SimpleSearchScrollResult<>( totalHitCount, hits );
+	}
+
+	private List<H> nextChunk() {
+		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( firstWork != null ) {
+			work = firstWork;
+			firstWork = null;
+		}
+		else {
+			work = workFactory.scroll( scrollId, scrollTimeout, searchResultExtractor ).build();
+		}
+
+		// Each chunk goes through admission control, like any other request of the query.
+		ElasticsearchSearchResult<H> result = Futures.unwrappedExceptionJoin( query.submit( work ) )
+				// WARNING: the following call must run in the user thread, see ElasticsearchSearchQueryImpl#fetch.
+				.loadBlocking();
+
+		JsonObject responseBody = result.getResponseBody();
+		scrollId = SCROLL_ID_ACCESSOR.get( responseBody ).orElse( scrollId );
+		totalHitCount = result.getTotalHitCount();
+		if ( HITS_HITS_ACCESSOR.get( responseBody ).map( JsonArray::size ).orElse( 0 ) == 0 ) {
+			exhausted = true;
+		}
+		return result.getHits();
+	}
+}
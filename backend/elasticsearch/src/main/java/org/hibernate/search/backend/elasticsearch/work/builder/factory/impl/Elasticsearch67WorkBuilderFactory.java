@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.CreateIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.DeleteWorkBuilder;
@@ -49,7 +50,7 @@ public Elasticsearch67WorkBuilderFactory(GsonProvider gsonProvider) {
 	public IndexWorkBuilder index(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch67AndBelow( mappedTypeName, elasticsearchIndexName,
-				Paths.DOC, id, routingKey, document );
+				Paths.DOC, id, routingKey, SerializedJsonObject.of( gsonProvider.getGson(), document ) );
 	}
 
 	@Override
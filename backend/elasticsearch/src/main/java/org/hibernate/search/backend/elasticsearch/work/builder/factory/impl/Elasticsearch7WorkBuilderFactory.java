@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
@@ -27,9 +28,11 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ExplainWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.FlushWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexMetadataWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexSettingsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
@@ -50,9 +53,11 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ExplainWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.FlushWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexMetadataWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.GetIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
@@ -78,7 +83,7 @@ public Elasticsearch7WorkBuilderFactory(GsonProvider gsonProvider) {
 	public IndexWorkBuilder index(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey, JsonObject document) {
 		return IndexWork.Builder.forElasticsearch7AndAbove( mappedTypeName, elasticsearchIndexName,
-				id, routingKey, document );
+				id, routingKey, SerializedJsonObject.of( gsonProvider.getGson(), document ) );
 	}
 
 	@Override
@@ -118,6 +123,11 @@ public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchRe
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch(List<? extends SearchWork<?>> searchWorks) {
+		return new MultiSearchWork.Builder( searchWorks );
+	}
+
 	@Override
 	public CountWorkBuilder count(Collection<URLEncodedString> indexNames) {
 		return new CountWork.Builder( indexNames );
@@ -163,11 +173,21 @@ public GetIndexMetadataWorkBuilder getIndexMetadata() {
 		return GetIndexMetadataWork.Builder.forElasticsearch7AndAbove();
 	}
 
+	@Override
+	public GetIndexSettingsWorkBuilder getIndexSettings(URLEncodedString indexName) {
+		return new GetIndexSettingsWork.Builder( indexName );
+	}
+
 	@Override
 	public PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName, IndexSettings settings) {
 		return new PutIndexSettingsWork.Builder( gsonProvider, indexName, settings );
 	}
 
+	@Override
+	public PutIndexSettingsWorkBuilder putIndexSettings(URLEncodedString indexName, JsonObject settings) {
+		return new PutIndexSettingsWork.Builder( indexName, settings );
+	}
+
 	@Override
 	public PutIndexMappingWorkBuilder putIndexTypeMapping(URLEncodedString indexName, RootTypeMapping mapping) {
 		return PutIndexTypeMappingWork.Builder.forElasticsearch7AndAbove( gsonProvider, indexName, mapping );
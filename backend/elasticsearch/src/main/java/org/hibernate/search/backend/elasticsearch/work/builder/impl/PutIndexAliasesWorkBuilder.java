@@ -6,9 +6,19 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 
 
 public interface PutIndexAliasesWorkBuilder extends ElasticsearchWorkBuilder<ElasticsearchWork<Void>> {
 
+	/**
+	 * Remove the same aliases from another index as part of the same request,
+	 * so that the aliases are moved atomically.
+	 *
+	 * @param otherIndexName The name of the index the aliases should be removed from.
+	 * @return {@code this}, for method chaining.
+	 */
+	PutIndexAliasesWorkBuilder removeFrom(URLEncodedString otherIndexName);
+
 }
@@ -13,15 +13,17 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
 
-public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<ElasticsearchWork<R>> {
+public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<SearchWork<R>> {
 
 	SearchWorkBuilder<R> indexes(Collection<URLEncodedString> indexNames);
 
 	SearchWorkBuilder<R> paging(Integer limit, Integer offset);
 
+	SearchWorkBuilder<R> totalHitCountThreshold(Integer totalHitCountThreshold);
+
 	SearchWorkBuilder<R> scrolling(int scrollSize, String scrollTimeout);
 
 	SearchWorkBuilder<R> routingKeys(Set<String> routingKeys);
@@ -6,9 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexBulkLoader;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
@@ -16,18 +19,26 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkBuilderFactory builderFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final URLEncodedString indexName;
 	private final DetachedBackendSessionContext sessionContext;
 
+	private ElasticsearchIndexBulkLoader bulkLoader;
+
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkBuilderFactory builderFactory,
 			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -35,6 +46,7 @@ public ElasticsearchIndexWorkspace(ElasticsearchWorkBuilderFactory builderFactor
 		this.builderFactory = builderFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.indexManagerContext = indexManagerContext;
 		this.indexName = indexManagerContext.getElasticsearchIndexWriteName();
 		this.sessionContext = sessionContext;
 	}
@@ -77,4 +89,34 @@ public CompletableFuture<?> flush() {
 	public CompletableFuture<?> refresh() {
 		return orchestrator.submit( builderFactory.refresh().index( indexName ).build() );
 	}
+
+	@Override
+	public CompletableFuture<?> beginBulkLoad() {
+		if ( multiTenancyStrategy.isMultiTenancySupported() ) {
+			throw log.cannotBulkLoadWithMultiTenancy(
+					EventContexts.fromIndexName( indexManagerContext.getHibernateSearchIndexName() )
+			);
+		}
+		if ( bulkLoader != null ) {
+			throw new AssertionFailure( "Bulk-loading already started in this workspace" );
+		}
+		bulkLoader = indexManagerContext.createBulkLoader();
+		return bulkLoader.begin();
+	}
+
+	@Override
+	public CompletableFuture<?> finishBulkLoad() {
+		if ( bulkLoader == null ) {
+			throw new AssertionFailure( "Bulk-loading was not started in this workspace" );
+		}
+		return bulkLoader.finish();
+	}
+
+	@Override
+	public CompletableFuture<?> abortBulkLoad() {
+		if ( bulkLoader == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return bulkLoader.abort();
+	}
 }
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexBulkLoader;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -28,6 +29,10 @@ public interface WorkExecutionIndexManagerContext {
 
 	URLEncodedString getElasticsearchIndexWriteName();
 
+	String getHibernateSearchIndexName();
+
+	ElasticsearchIndexBulkLoader createBulkLoader();
+
 	String toElasticsearchId(String tenantId, String id);
 
 	JsonObject createDocument(String tenantId, String id,
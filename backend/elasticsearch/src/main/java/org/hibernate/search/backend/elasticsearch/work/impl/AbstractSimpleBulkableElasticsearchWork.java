@@ -7,10 +7,11 @@
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonElementSizeEstimator;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -44,17 +45,26 @@ public JsonObject getBulkableActionMetadata() {
 	}
 
 	@Override
-	public JsonObject getBulkableActionBody() {
-		List<JsonObject> bodyParts = request.getBodyParts();
-		if ( !bodyParts.isEmpty() ) {
-			if ( bodyParts.size() > 1 ) {
-				throw new AssertionFailure( "Found a bulkable action with multiple body parts: " + bodyParts );
-			}
-			return bodyParts.get( 0 );
+	public void appendBulkableActionBody(ElasticsearchRequest.Builder bulkRequestBuilder) {
+		if ( request.getBodyPartCount() > 1 ) {
+			throw new AssertionFailure( "Found a bulkable action with multiple body parts: " + request.getRawBodyParts() );
 		}
-		else {
-			return null;
+		bulkRequestBuilder.bodyPartsOf( request );
+	}
+
+	@Override
+	public long getBulkableActionSizeEstimate() {
+		long size = JsonElementSizeEstimator.estimate( bulkableActionMetadata ) + 1; // Line break
+		for ( Object bodyPart : request.getRawBodyParts() ) {
+			if ( bodyPart instanceof SerializedJsonObject ) {
+				// Exact size, no need to estimate
+				size += ( (SerializedJsonObject) bodyPart ).getSize() + 1; // Line break
+			}
+			else {
+				size += JsonElementSizeEstimator.estimate( (JsonObject) bodyPart ) + 1; // Line break
+			}
 		}
+		return size;
 	}
 
 	@Override
@@ -176,6 +176,10 @@ protected static String getTimeoutString(Long timeoutValue, TimeUnit timeoutUnit
 			return builder.toString();
 		}
 
+		protected boolean hasRequestTransformer() {
+			return requestTransformer != null;
+		}
+
 		private ElasticsearchRequest buildRequestAndTransformIfNecessary() {
 			ElasticsearchRequest request = buildRequest();
 			if ( requestTransformer != null ) {
@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
@@ -28,6 +29,7 @@
 import java.lang.invoke.MethodHandles;
 
 import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -37,6 +39,10 @@ public class BulkWork implements ElasticsearchWork<BulkResult> {
 
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
 
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_STATUS_CODE = 429;
+
 	private final ElasticsearchRequest request;
 
 	private final List<BulkableElasticsearchWork<?>> works;
@@ -97,7 +103,34 @@ public Object getInfo() {
 	private BulkResult generateResult(ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.getBody();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultImpl( resultItems, refreshStrategy );
+		int rejectedItemCount;
+		if ( response.getStatusCode() == TOO_MANY_REQUESTS_STATUS_CODE ) {
+			// The whole bulk was rejected
+			rejectedItemCount = works.size();
+		}
+		else {
+			rejectedItemCount = countRejectedItems( resultItems );
+		}
+		return new BulkResultImpl( resultItems, refreshStrategy, rejectedItemCount );
+	}
+
+	private static int countRejectedItems(JsonArray resultItems) {
+		int count = 0;
+		for ( JsonElement resultItem : resultItems ) {
+			if ( !resultItem.isJsonObject() ) {
+				continue;
+			}
+			// Each item is an object with a single property named after the action: "index", "delete", ...
+			for ( Map.Entry<String, JsonElement> actionResult : resultItem.getAsJsonObject().entrySet() ) {
+				JsonElement actionResultValue = actionResult.getValue();
+				if ( actionResultValue.isJsonObject()
+						&& BULK_ITEM_STATUS.get( actionResultValue.getAsJsonObject() )
+								.map( status -> status == TOO_MANY_REQUESTS_STATUS_CODE ).orElse( false ) ) {
+					++count;
+				}
+			}
+		}
+		return count;
 	}
 
 	private static class NoIndexDirtyBulkExecutionContext extends ElasticsearchForwardingWorkExecutionContext {
@@ -140,10 +173,7 @@ protected ElasticsearchRequest buildRequest() {
 
 			for ( BulkableElasticsearchWork<?> work : bulkableWorks ) {
 				builder.body( work.getBulkableActionMetadata() );
-				JsonObject actionBody = work.getBulkableActionBody();
-				if ( actionBody != null ) {
-					builder.body( actionBody );
-				}
+				work.appendBulkableActionBody( builder );
 			}
 
 			return builder.build();
@@ -158,11 +188,18 @@ public BulkWork build() {
 	private static class BulkResultImpl implements BulkResult {
 		private final JsonArray results;
 		private final DocumentRefreshStrategy refreshStrategy;
+		private final int rejectedItemCount;
 
-		public BulkResultImpl(JsonArray results, DocumentRefreshStrategy refreshStrategy) {
+		public BulkResultImpl(JsonArray results, DocumentRefreshStrategy refreshStrategy, int rejectedItemCount) {
 			super();
 			this.results = results;
 			this.refreshStrategy = refreshStrategy;
+			this.rejectedItemCount = rejectedItemCount;
+		}
+
+		@Override
+		public int getRejectedItemCount() {
+			return rejectedItemCount;
 		}
 
 		@Override
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 
 import com.google.gson.JsonObject;
@@ -17,7 +18,16 @@
 
 	JsonObject getBulkableActionMetadata();
 
-	JsonObject getBulkableActionBody();
+	/**
+	 * Append the body of this work, if any, to a bulk request.
+	 * @param bulkRequestBuilder The bulk request builder.
+	 */
+	void appendBulkableActionBody(ElasticsearchRequest.Builder bulkRequestBuilder);
+
+	/**
+	 * @return An estimate of the size of this work once serialized in a bulk request, in bytes.
+	 */
+	long getBulkableActionSizeEstimate();
 
 	/**
 	 * @param context The execution context
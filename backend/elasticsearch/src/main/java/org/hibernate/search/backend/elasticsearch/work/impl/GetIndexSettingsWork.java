@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexSettingsWorkBuilder;
+import org.hibernate.search.util.common.AssertionFailure;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Retrieves the settings explicitly set on a single index, in flat format
+ * (e.g. {@code "index.number_of_replicas": "1"}).
+ */
+public class GetIndexSettingsWork extends AbstractSimpleElasticsearchWork<JsonObject> {
+
+	protected GetIndexSettingsWork(Builder builder) {
+		super( builder );
+	}
+
+	@Override
+	protected JsonObject generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonObject body = response.getBody();
+		Iterator<Map.Entry<String, JsonElement>> iterator = body.entrySet().iterator();
+		if ( !iterator.hasNext() ) {
+			throw new AssertionFailure( "Elasticsearch API call succeeded, but the index wasn't mentioned in the result: " + body );
+		}
+		JsonElement settings = iterator.next().getValue().getAsJsonObject().get( "settings" );
+		if ( settings == null || !settings.isJsonObject() ) {
+			throw new AssertionFailure( "Elasticsearch API call succeeded, but the requested settings weren't mentioned in the result: " + body );
+		}
+		return settings.getAsJsonObject();
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements GetIndexSettingsWorkBuilder {
+		private final URLEncodedString indexName;
+
+		public Builder(URLEncodedString indexName) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.indexName = indexName;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.get()
+					.pathComponent( indexName )
+					.pathComponent( Paths._SETTINGS )
+					.param( "flat_settings", true );
+			return builder.build();
+		}
+
+		@Override
+		public GetIndexSettingsWork build() {
+			return new GetIndexSettingsWork( this );
+		}
+	}
+}
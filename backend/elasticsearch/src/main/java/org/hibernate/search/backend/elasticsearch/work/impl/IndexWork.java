@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchDocumentReference;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
@@ -52,22 +53,22 @@ public DocumentReference getDocumentReference() {
 		private final URLEncodedString typeName;
 		private final URLEncodedString id;
 		private final String routingKey;
-		private final JsonObject document;
+		private final SerializedJsonObject document;
 
 		public static Builder forElasticsearch67AndBelow(String mappedTypeName,
 				URLEncodedString elasticsearchIndexName, URLEncodedString typeName, URLEncodedString id, String routingKey,
-				JsonObject document) {
+				SerializedJsonObject document) {
 			return new Builder( mappedTypeName, elasticsearchIndexName, typeName, id, routingKey, document );
 		}
 
 		public static Builder forElasticsearch7AndAbove(String mappedTypeName,
 				URLEncodedString elasticsearchIndexName, URLEncodedString id, String routingKey,
-				JsonObject document) {
+				SerializedJsonObject document) {
 			return new Builder( mappedTypeName, elasticsearchIndexName, null, id, routingKey, document );
 		}
 
 		private Builder(String mappedTypeName, URLEncodedString elasticsearchIndexName,
-					URLEncodedString typeName, URLEncodedString id, String routingKey, JsonObject document) {
+					URLEncodedString typeName, URLEncodedString id, String routingKey, SerializedJsonObject document) {
 			super( elasticsearchIndexName, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.mappedTypeName = mappedTypeName;
 			this.indexName = elasticsearchIndexName;
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A work executing multiple search works in a single request, using the multi-search API.
+ * <p>
+ * The result of each search work must be extracted from the {@link MultiSearchResult}.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<MultiSearchResult> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	private final int searchCount;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.searchCount = builder.searchWorks.size();
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		queryLog.executingElasticsearchQuery(
+				request.getPath(),
+				request.getParameters(),
+				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+				);
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonArray responses = RESPONSES.get( response.getBody() ).orElseGet( JsonArray::new );
+		if ( responses.size() != searchCount ) {
+			throw log.invalidMultiSearchResponseItemCount( responses.size(), searchCount );
+		}
+		return new MultiSearchResultImpl( responses );
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<SearchWork<?>> searchWorks;
+
+		public Builder(List<? extends SearchWork<?>> searchWorks) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.searchWorks = new ArrayList<>( searchWorks );
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( SearchWork<?> work : searchWorks ) {
+				builder.body( work.getMultiSearchHeader() );
+				builder.body( work.getMultiSearchBody() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray responses;
+
+		MultiSearchResultImpl(JsonArray responses) {
+			this.responses = responses;
+		}
+
+		@Override
+		public <T> T extract(SearchWork<T> work, int index) {
+			return work.handleMultiSearchResult( responses.get( index ).getAsJsonObject() );
+		}
+	}
+}
@@ -36,11 +36,28 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, Elastic
 			extends AbstractBuilder<Builder>
 			implements PutIndexAliasesWorkBuilder {
 		private final JsonObject payload;
+		private final Map<String, IndexAliasDefinition> aliases;
 
 		public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 				Map<String, IndexAliasDefinition> aliases) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = createPayload( gsonProvider, indexName.original, aliases );
+			this.aliases = aliases;
+		}
+
+		@Override
+		public PutIndexAliasesWorkBuilder removeFrom(URLEncodedString otherIndexName) {
+			JsonArray actions = payload.getAsJsonArray( "actions" );
+			for ( String alias : aliases.keySet() ) {
+				JsonObject action = new JsonObject();
+				JsonObject removeDefinition = new JsonObject();
+				action.add( "remove", removeDefinition );
+				removeDefinition.addProperty( "index", otherIndexName.original );
+				removeDefinition.addProperty( "alias", alias );
+
+				actions.add( action );
+			}
+			return this;
 		}
 
 		@Override
@@ -48,6 +48,17 @@ public Builder(
 			this.payload = gson.toJsonTree( settings ).getAsJsonObject();
 		}
 
+		/**
+		 * @param indexName The name of the index to update.
+		 * @param settings Raw settings, e.g. dynamic settings in flat format such as {@code "index.refresh_interval"}.
+		 * Null values are serialized and reset the corresponding setting to its default.
+		 */
+		public Builder(URLEncodedString indexName, JsonObject settings) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.indexName = indexName;
+			this.payload = settings;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -6,8 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
@@ -21,18 +23,66 @@
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
 public class SearchWork<R> extends AbstractSimpleElasticsearchWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 
+	private final JsonObject multiSearchHeader;
+	private final JsonObject multiSearchBody;
+
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		if ( builder.isMultiSearchable() ) {
+			this.multiSearchHeader = builder.buildMultiSearchHeader();
+			this.multiSearchBody = builder.buildMultiSearchBody();
+		}
+		else {
+			this.multiSearchHeader = null;
+			this.multiSearchBody = null;
+		}
+	}
+
+	/**
+	 * @return {@code true} if this work can be executed as part of a multi-search request,
+	 * {@code false} if it must be executed on its own,
+	 * for instance because it relies on scrolling, on a client-side timeout or on a custom request transformer.
+	 */
+	public boolean isMultiSearchable() {
+		return multiSearchHeader != null;
+	}
+
+	public JsonObject getMultiSearchHeader() {
+		return multiSearchHeader;
+	}
+
+	public JsonObject getMultiSearchBody() {
+		return multiSearchBody;
+	}
+
+	/**
+	 * @param responseItem The item of the multi-search response matching this work.
+	 * @return The result of this work.
+	 */
+	public R handleMultiSearchResult(JsonObject responseItem) {
+		try {
+			if ( responseItem.has( "error" ) ) {
+				throw log.elasticsearchResponseIndicatesFailure();
+			}
+			return resultExtractor.extract( responseItem );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchedRequestFailed( multiSearchHeader, responseItem, e.getMessage(), e );
+		}
 	}
 
 	@Override
@@ -59,27 +109,27 @@ public static <T> Builder<T> forElasticsearch62AndBelow(JsonObject payload, Elas
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// No "allow_partial_search_results": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// See https://github.com/elastic/elasticsearch/pull/27906
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
-			return new Builder<>( payload, resultExtractor, null, false );
+			return new Builder<>( payload, resultExtractor, false, false );
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
 		private final JsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
-		private final Boolean trackTotalHits;
+		private final boolean trackTotalHitsSupported;
 		private final boolean allowPartialSearchResultsSupported;
 		private final Set<URLEncodedString> indexes = new HashSet<>();
 
 		private Integer from;
 		private Integer size;
+		private Integer totalHitCountThreshold;
 		private Integer scrollSize;
 		private String scrollTimeout;
 		private Set<String> routingKeys;
@@ -87,12 +137,12 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
 
-		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
+		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, boolean trackTotalHitsSupported,
 				boolean allowPartialSearchResultsSupported) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
 			this.resultExtractor = resultExtractor;
-			this.trackTotalHits = trackTotalHits;
+			this.trackTotalHitsSupported = trackTotalHitsSupported;
 			this.allowPartialSearchResultsSupported = allowPartialSearchResultsSupported;
 		}
 
@@ -109,6 +159,12 @@ public Builder<R> paging(Integer limit, Integer offset) {
 			return this;
 		}
 
+		@Override
+		public Builder<R> totalHitCountThreshold(Integer totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		public Builder<R> scrolling(int scrollSize, String scrollTimeout) {
 			this.scrollSize = scrollSize;
@@ -155,9 +211,19 @@ protected ElasticsearchRequest buildRequest() {
 				builder.multiValuedParam( "routing", routingKeys );
 			}
 
-			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold == null || totalHitCountThreshold == Integer.MAX_VALUE ) {
+					builder.param( "track_total_hits", true );
+				}
+				else if ( totalHitCountThreshold == 0 ) {
+					builder.param( "track_total_hits", false );
+				}
+				else {
+					// Elasticsearch will count hits accurately up to the threshold, then return a lower bound
+					builder.param( "track_total_hits", totalHitCountThreshold );
+				}
 			}
+			// Else: total hits are always tracked accurately, the threshold is ignored
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
 				// Server-side timeout: the search will truncate results or fail on timeout.
@@ -188,6 +254,59 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		private boolean isMultiSearchable() {
+			return scrollSize == null
+					// Multi-search requests do not support per-search client-side timeouts
+					&& !( exceptionOnTimeout && timeoutValue != null && timeoutUnit != null )
+					// Transformers work on the request of a single search
+					&& !hasRequestTransformer();
+		}
+
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			// Copy the payload: it may be shared with other works created for the same query
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+
+			// Parameters that are passed in the URL of single search requests
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+			if ( trackTotalHitsSupported ) {
+				if ( totalHitCountThreshold == null || totalHitCountThreshold == Integer.MAX_VALUE ) {
+					body.addProperty( "track_total_hits", true );
+				}
+				else if ( totalHitCountThreshold == 0 ) {
+					body.addProperty( "track_total_hits", false );
+				}
+				else {
+					body.addProperty( "track_total_hits", totalHitCountThreshold );
+				}
+			}
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				// Server-side timeout only: the search will truncate results on timeout.
+				body.addProperty( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+			return body;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
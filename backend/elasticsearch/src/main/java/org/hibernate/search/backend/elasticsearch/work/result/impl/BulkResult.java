@@ -13,4 +13,10 @@ public interface BulkResult {
 
 	BulkResultItemExtractor withContext(ElasticsearchWorkExecutionContext context);
 
+	/**
+	 * @return The number of bulked works that Elasticsearch rejected because it was overloaded
+	 * (HTTP status 429).
+	 */
+	int getRejectedItemCount();
+
 }
@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+
+
+public interface MultiSearchResult {
+
+	/**
+	 * @param work A search work that was part of the multi-search request.
+	 * @param index The index of the search work in the multi-search request.
+	 * @param <T> The type of the work result.
+	 * @return The result of the search work.
+	 */
+	<T> T extract(SearchWork<T> work, int index);
+
+}
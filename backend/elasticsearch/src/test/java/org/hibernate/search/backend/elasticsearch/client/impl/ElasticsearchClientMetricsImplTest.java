@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ElasticsearchClientMetricsImplTest {
+
+	@Test
+	public void initial() {
+		ElasticsearchClientMetricsImpl metrics = new ElasticsearchClientMetricsImpl();
+
+		assertThat( metrics.getRequestBodyByteCount() ).isEqualTo( 0L );
+		assertThat( metrics.getRequestSentByteCount() ).isEqualTo( 0L );
+		assertThat( metrics.getResponseBodyByteCount() ).isEqualTo( 0L );
+		assertThat( metrics.getResponseReceivedByteCount() ).isEqualTo( 0L );
+	}
+
+	@Test
+	public void add() {
+		ElasticsearchClientMetricsImpl metrics = new ElasticsearchClientMetricsImpl();
+
+		metrics.add( 1000L, 200L, 3000L, 400L );
+		metrics.add( 10L, 20L, 30L, 40L );
+
+		assertThat( metrics.getRequestBodyByteCount() ).isEqualTo( 1010L );
+		assertThat( metrics.getRequestSentByteCount() ).isEqualTo( 220L );
+		assertThat( metrics.getResponseBodyByteCount() ).isEqualTo( 3030L );
+		assertThat( metrics.getResponseReceivedByteCount() ).isEqualTo( 440L );
+	}
+
+	@Test
+	public void add_unknown() {
+		ElasticsearchClientMetricsImpl metrics = new ElasticsearchClientMetricsImpl();
+
+		metrics.add( 1000L, 200L, 3000L, 400L );
+		// e.g. a response decompressed by the HTTP client: the number of bytes received is unknown
+		metrics.add( 10L, 20L, 30L, -1L );
+
+		assertThat( metrics.getRequestBodyByteCount() ).isEqualTo( 1010L );
+		assertThat( metrics.getRequestSentByteCount() ).isEqualTo( 220L );
+		assertThat( metrics.getResponseBodyByteCount() ).isEqualTo( 3030L );
+		assertThat( metrics.getResponseReceivedByteCount() ).isEqualTo( 400L );
+	}
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GzipHttpEntityTest {
+
+	private static final Gson GSON = new Gson();
+
+	@Test
+	public void produceContent_small() throws IOException {
+		List<Object> bodyParts = Collections.singletonList( versionObject() );
+		GzipHttpEntity entity = new GzipHttpEntity( new GsonHttpEntity( GSON, bodyParts ) );
+
+		byte[] compressed = produceContent( entity, Integer.MAX_VALUE );
+
+		assertThat( gunzip( compressed ) ).isEqualTo( expected( bodyParts ) );
+		assertThat( entity.getBodyByteCount() ).isEqualTo( expected( bodyParts ).length );
+		assertThat( entity.getSentByteCount() ).isEqualTo( compressed.length );
+	}
+
+	@Test
+	public void produceContent_large_flowControl() throws IOException {
+		List<Object> bodyParts = largeBulk();
+		GzipHttpEntity entity = new GzipHttpEntity( new GsonHttpEntity( GSON, bodyParts ) );
+
+		// Accept very few bytes at a time, so that the entity has to stop producing content many times
+		byte[] compressed = produceContent( entity, 7 );
+
+		byte[] expected = expected( bodyParts );
+		assertThat( gunzip( compressed ) ).isEqualTo( expected );
+		assertThat( entity.getBodyByteCount() ).isEqualTo( expected.length );
+		assertThat( entity.getSentByteCount() ).isEqualTo( compressed.length );
+		// The payload is very repetitive
+		assertThat( entity.getSentByteCount() ).isLessThan( entity.getBodyByteCount() / 10 );
+	}
+
+	@Test
+	public void produceContent_repeatable() throws IOException {
+		List<Object> bodyParts = largeBulk();
+		GzipHttpEntity entity = new GzipHttpEntity( new GsonHttpEntity( GSON, bodyParts ) );
+
+		byte[] firstRun = gunzip( produceContent( entity, 1000 ) );
+		entity.close();
+		byte[] secondRun = gunzip( produceContent( entity, 1000 ) );
+		byte[] thirdRunWithoutClose = gunzip( produceContent( entity, 1000 ) );
+
+		assertThat( firstRun ).isEqualTo( expected( bodyParts ) );
+		assertThat( secondRun ).isEqualTo( firstRun );
+		assertThat( thirdRunWithoutClose ).isEqualTo( firstRun );
+	}
+
+	@Test
+	public void writeTo() throws IOException {
+		List<Object> bodyParts = largeBulk();
+		GzipHttpEntity entity = new GzipHttpEntity( new GsonHttpEntity( GSON, bodyParts ) );
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		entity.writeTo( out );
+
+		byte[] expected = expected( bodyParts );
+		assertThat( gunzip( out.toByteArray() ) ).isEqualTo( expected );
+		assertThat( entity.getBodyByteCount() ).isEqualTo( expected.length );
+		assertThat( entity.getSentByteCount() ).isEqualTo( out.size() );
+	}
+
+	private static byte[] produceContent(GzipHttpEntity entity, int maxBytesPerWrite) throws IOException {
+		HeapContentEncoder encoder = new HeapContentEncoder( maxBytesPerWrite );
+		int loopCounter = 0;
+		while ( !encoder.isCompleted() ) {
+			assertThat( loopCounter++ ).as( "Number of calls to produceContent()" ).isLessThan( 1_000_000 );
+			entity.produceContent( encoder, null );
+		}
+		return encoder.getContent();
+	}
+
+	private static byte[] gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try ( InputStream in = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = in.read( buffer ) ) >= 0 ) {
+				out.write( buffer, 0, read );
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] expected(List<Object> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( Object bodyPart : bodyParts ) {
+			GSON.toJson( (JsonObject) bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static List<Object> largeBulk() {
+		List<Object> list = new ArrayList<>();
+		for ( int i = 0; i < 2000; i++ ) {
+			list.add( versionObject() );
+		}
+		return list;
+	}
+
+	private static JsonObject versionObject() {
+		JsonObject version = new JsonObject();
+		version.addProperty( "number", "7.6.0" );
+		JsonObject object = new JsonObject();
+		object.add( "version", version );
+		return object;
+	}
+
+	/**
+	 * A content encoder accepting at most a given number of bytes per write.
+	 */
+	private static class HeapContentEncoder implements ContentEncoder {
+		private final int maxBytesPerWrite;
+		private final ByteArrayOutputStream content = new ByteArrayOutputStream();
+		private boolean completed = false;
+
+		HeapContentEncoder(int maxBytesPerWrite) {
+			this.maxBytesPerWrite = maxBytesPerWrite;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			assertThat( completed ).isFalse();
+			int length = Math.min( src.remaining(), maxBytesPerWrite );
+			for ( int i = 0; i < length; i++ ) {
+				content.write( src.get() );
+			}
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+
+		byte[] getContent() {
+			return content.toByteArray();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+public class Utf8ByteArrayWriterTest {
+
+	@Test
+	public void ascii() throws IOException {
+		assertSameAsStringEncoding( "{\"field\":\"value\"}" );
+	}
+
+	@Test
+	public void multiByte() throws IOException {
+		assertSameAsStringEncoding( "café € 中文" );
+	}
+
+	@Test
+	public void surrogatePairs() throws IOException {
+		assertSameAsStringEncoding( "emoji: 😀 and 𝄞" );
+	}
+
+	@Test
+	public void malformedSurrogates() throws IOException {
+		assertSameAsStringEncoding( "lone high \ud83d then text" );
+		assertSameAsStringEncoding( "lone low \ude00 then text" );
+		assertSameAsStringEncoding( "trailing high \ud83d" );
+	}
+
+	@Test
+	public void surrogatePairSplitAcrossWrites() throws IOException {
+		Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter( 1 );
+		writer.write( "a\ud83d" );
+		writer.write( "\ude00b" );
+		assertThat( writer.toByteArray() )
+				.isEqualTo( "a😀b".getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	@Test
+	public void growth() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		for ( int i = 0; i < 1000; i++ ) {
+			builder.append( "éx€" );
+		}
+		assertSameAsStringEncoding( builder.toString() );
+	}
+
+	@Test
+	public void reusedBuffer() throws IOException {
+		Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter( 4 );
+		writer.write( "some longer text" );
+		byte[] buffer = writer.getBuffer();
+		assertThat( buffer.length ).isGreaterThanOrEqualTo( 16 );
+
+		// Bytes left in the buffer by the previous writer must not leak into the output
+		writer = new Utf8ByteArrayWriter( buffer );
+		writer.write( "short" );
+		assertThat( writer.getBuffer() ).isSameAs( buffer );
+		assertThat( writer.toByteArray() ).isEqualTo( "short".getBytes( StandardCharsets.UTF_8 ) );
+	}
+
+	private static void assertSameAsStringEncoding(String string) throws IOException {
+		Utf8ByteArrayWriter writer = new Utf8ByteArrayWriter( 1 );
+		writer.write( string );
+		assertThat( writer.toByteArray() ).isEqualTo( string.getBytes( StandardCharsets.UTF_8 ) );
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class ElasticsearchBatchingSettingsTest {
+
+	private static final EventContext BACKEND_CONTEXT = EventContexts.fromBackendName( "myBackend" );
+	private static final EventContext INDEX_CONTEXT = EventContexts.fromIndexName( "myIndex" );
+
+	private final Map<String, Object> properties = new HashMap<>();
+
+	@Test
+	public void defaults() {
+		ElasticsearchBatchingSettings backendSettings = extractForBackend();
+		assertThat( backendSettings.getMaxWorksetsPerBatch() )
+				.isEqualTo( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_WORKSETS_PER_BATCH );
+		ElasticsearchBulkSizeController backendController = backendSettings.createBulkSizeController();
+		assertThat( backendController.getMaxBulkSize() )
+				.isEqualTo( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_SIZE );
+		assertThat( backendController.getMaxBulkBytes() )
+				.isEqualTo( ElasticsearchBackendSettings.Defaults.INDEXING_MAX_BULK_BYTES );
+
+		ElasticsearchBatchingSettings indexSettings = extractForIndex();
+		assertThat( indexSettings.getMaxWorksetsPerBatch() )
+				.isEqualTo( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_WORKSETS_PER_BATCH );
+		ElasticsearchBulkSizeController indexController = indexSettings.createBulkSizeController();
+		assertThat( indexController.getMaxBulkSize() )
+				.isEqualTo( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE );
+		assertThat( indexController.getMaxBulkBytes() )
+				.isEqualTo( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES );
+	}
+
+	@Test
+	public void custom() {
+		properties.put( ElasticsearchBackendSettings.INDEXING_MAX_WORKSETS_PER_BATCH, 42 );
+		properties.put( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE, "12" );
+		properties.put( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES, 10_000 );
+
+		ElasticsearchBatchingSettings settings = extractForBackend();
+		assertThat( settings.getMaxWorksetsPerBatch() ).isEqualTo( 42 );
+		ElasticsearchBulkSizeController controller = settings.createBulkSizeController();
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 12 );
+		assertThat( controller.getMaxBulkBytes() ).isEqualTo( 10_000 );
+	}
+
+	@Test
+	public void maxWorksetsPerBatch_invalid() {
+		testInvalidStrictlyPositive( ElasticsearchBackendSettings.INDEXING_MAX_WORKSETS_PER_BATCH, 0 );
+		testInvalidStrictlyPositive( ElasticsearchBackendSettings.INDEXING_MAX_WORKSETS_PER_BATCH, -1 );
+	}
+
+	@Test
+	public void maxBulkSize_invalid() {
+		testInvalidStrictlyPositive( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE, 0 );
+		testInvalidStrictlyPositive( ElasticsearchBackendSettings.INDEXING_MAX_BULK_SIZE, -1 );
+	}
+
+	@Test
+	public void maxBulkBytes_zero() {
+		// 0 means no limit
+		properties.put( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES, 0 );
+		assertThat( extractForBackend().createBulkSizeController().getMaxBulkBytes() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void maxBulkBytes_invalid() {
+		properties.put( ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES, -1 );
+		SubTest.expectException( this::extractForBackend )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '"
+						+ ElasticsearchBackendSettings.INDEXING_MAX_BULK_BYTES + "': '-1'" )
+				.hasMessageContaining( "The value must be positive or zero" )
+				.hasMessageContaining( "myBackend" );
+	}
+
+	private void testInvalidStrictlyPositive(String key, int value) {
+		properties.clear();
+		properties.put( key, value );
+		SubTest.expectException( this::extractForBackend )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '" + key + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be strictly positive" )
+				.hasMessageContaining( "myBackend" );
+		SubTest.expectException( this::extractForIndex )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '" + key + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be strictly positive" )
+				.hasMessageContaining( "myIndex" );
+	}
+
+	private ElasticsearchBatchingSettings extractForBackend() {
+		return ElasticsearchBatchingSettings.extractForBackend( ConfigurationPropertySource.fromMap( properties ),
+				BACKEND_CONTEXT );
+	}
+
+	private ElasticsearchBatchingSettings extractForIndex() {
+		return ElasticsearchBatchingSettings.extractForIndex( ConfigurationPropertySource.fromMap( properties ),
+				INDEX_CONTEXT );
+	}
+}
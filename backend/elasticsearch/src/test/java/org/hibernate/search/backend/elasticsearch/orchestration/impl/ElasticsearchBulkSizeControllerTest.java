@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class ElasticsearchBulkSizeControllerTest {
+
+	@Test
+	public void noRejection() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 100, 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+
+		controller.onBulkExecuted( 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void rejection_backOffThenRecover() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 100, 0 );
+
+		controller.onBulkExecuted( 3 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 50 );
+		controller.onBulkExecuted( 1 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 25 );
+
+		controller.onBulkExecuted( 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 35 );
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( 0 );
+		}
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 100 );
+	}
+
+	@Test
+	public void rejection_neverBelowOne() {
+		ElasticsearchBulkSizeController controller = new ElasticsearchBulkSizeController( 4, 0 );
+
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( 1 );
+		}
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 1 );
+
+		controller.onBulkExecuted( 0 );
+		assertThat( controller.getMaxBulkSize() ).isEqualTo( 2 );
+	}
+
+}
@@ -6,10 +6,17 @@
  */
 package org.hibernate.search.backend.lucene;
 
+import org.hibernate.search.backend.lucene.search.aggregation.LuceneFacetsCacheMetrics;
 import org.hibernate.search.engine.backend.Backend;
+import org.hibernate.search.util.common.annotaion.Incubating;
 
 public interface LuceneBackend extends Backend {
 
-	// No Lucene-specific backend APIs yet
+	/**
+	 * @return Metrics related to the cache of facet ordinals
+	 * shared by all indexes of this backend.
+	 */
+	@Incubating
+	LuceneFacetsCacheMetrics getFacetsCacheMetrics();
 
 }
@@ -114,6 +114,98 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis.configurer";
 
+	/**
+	 * The size of the thread pool used to execute search queries concurrently
+	 * over multiple slices (shards, groups of segments) of the targeted indexes.
+	 * <p>
+	 * Expects a positive Integer value, such as 4, or a String that can be parsed into such Integer value.
+	 * A value of {@code 0} disables concurrent search execution:
+	 * search queries are then executed entirely in the calling thread.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_THREAD_POOL_SIZE}.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The size of the thread pool used to execute search queries submitted through asynchronous methods
+	 * such as {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer, Integer)}.
+	 * <p>
+	 * Expects a positive Integer value, such as 4, or a String that can be parsed into such Integer value.
+	 * A value of {@code 0} disables asynchronous search execution:
+	 * asynchronous methods then execute search queries in the calling thread
+	 * and return an already completed {@link java.util.concurrent.CompletionStage}.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ASYNC_THREAD_POOL_SIZE},
+	 * the same default as the Elasticsearch backend.
+	 */
+	public static final String SEARCH_ASYNC_THREAD_POOL_SIZE = "search.async.thread_pool.size";
+
+	/**
+	 * The default total hit count threshold for search queries,
+	 * i.e. the number of hits after which search queries may stop counting hits
+	 * and only return a lower bound of the total hit count.
+	 * <p>
+	 * Expects a positive Integer value, such as 1000, or a String that can be parsed into such Integer value.
+	 * Can be overridden on each query with
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(int)}.
+	 * <p>
+	 * Defaults to no value, meaning the total hit count is always exact.
+	 */
+	public static final String SEARCH_TOTAL_HIT_COUNT_THRESHOLD = "search.total_hit_count_threshold";
+
+	/**
+	 * The maximum number of search queries executing concurrently on this backend.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 16, or a String that can be parsed into such Integer value.
+	 * Queries submitted while this limit is reached wait in a queue, see {@link #SEARCH_ADMISSION_QUEUE_SIZE}.
+	 * <p>
+	 * Defaults to no value, meaning admission control is disabled
+	 * and the other {@code search.admission} properties are ignored.
+	 */
+	public static final String SEARCH_ADMISSION_MAX_CONCURRENCY = "search.admission.max_concurrency";
+
+	/**
+	 * The maximum number of search queries executing concurrently on this backend for a single tenant.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as 4, or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning a single tenant may use all the slots
+	 * allowed by {@link #SEARCH_ADMISSION_MAX_CONCURRENCY}.
+	 */
+	public static final String SEARCH_ADMISSION_MAX_CONCURRENCY_PER_TENANT = "search.admission.max_concurrency_per_tenant";
+
+	/**
+	 * The maximum number of search queries waiting for execution when admission control is enabled.
+	 * <p>
+	 * Expects a positive Integer value, such as 100, or a String that can be parsed into such Integer value.
+	 * Queries submitted while the queue is full are rejected with an exception.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ADMISSION_QUEUE_SIZE}.
+	 */
+	public static final String SEARCH_ADMISSION_QUEUE_SIZE = "search.admission.queue_size";
+
+	/**
+	 * The maximum time a search query may wait for execution when admission control is enabled, in milliseconds.
+	 * <p>
+	 * Expects a positive Long value, such as 5000, or a String that can be parsed into such Long value.
+	 * Queries waiting for longer are rejected with a {@link org.hibernate.search.util.common.SearchTimeoutException}.
+	 * A value of {@code 0} means queries wait indefinitely.
+	 * <p>
+	 * Defaults to {@link Defaults#SEARCH_ADMISSION_QUEUE_TIMEOUT}.
+	 */
+	public static final String SEARCH_ADMISSION_QUEUE_TIMEOUT = "search.admission.queue_timeout";
+
+	/**
+	 * The weight of each tenant when sharing execution slots between tenants.
+	 * <p>
+	 * Expects a comma-separated String of {@code <tenant identifier>:<weight>} pairs, such as {@code "tenant1:3,tenant2:1"},
+	 * or a {@link java.util.Collection} of such pairs.
+	 * When a slot is freed, it goes to the waiting tenant with the fewest executing queries relative to its weight.
+	 * <p>
+	 * Defaults to no value, meaning every tenant has a weight of 1.
+	 */
+	public static final String SEARCH_ADMISSION_TENANT_WEIGHTS = "search.admission.tenant_weights";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -146,5 +238,13 @@ private Defaults() {
 				FileSystemAccessStrategyName.AUTO;
 
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final int SEARCH_THREAD_POOL_SIZE = 0;
+
+		public static final int SEARCH_ASYNC_THREAD_POOL_SIZE = 4;
+
+		public static final int SEARCH_ADMISSION_QUEUE_SIZE = 100;
+
+		public static final long SEARCH_ADMISSION_QUEUE_TIMEOUT = 0L;
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.cfg;
 
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.backend.lucene.lowlevel.writer.MergePolicyName;
 
 /**
  * Configuration properties for Lucene indexes.
@@ -86,6 +87,186 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background
+	 * instead of upon search queries.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and requires {@link #IO_REFRESH_INTERVAL} to be strictly positive:
+	 * enabling background refresh with a zero refresh interval will cause bootstrap to fail.
+	 * <p>
+	 * When enabled, the index reader is refreshed every {@link #IO_REFRESH_INTERVAL refresh interval}
+	 * in a shared, scheduled thread, as well as right after write operations that require a refresh,
+	 * so that search queries never have to wait for an index reader to be refreshed.
+	 * Search results may still be out-of-date by up to one refresh interval.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_BACKGROUND}.
+	 */
+	public static final String IO_REFRESH_BACKGROUND = IO_PREFIX + IORadicals.REFRESH_BACKGROUND;
+
+	/**
+	 * The number of threads applying write operations to each shard of the index.
+	 * <p>
+	 * All threads share the same index writer.
+	 * Operations affecting a given document are always applied by the same thread, and thus in order.
+	 * Higher values mean faster indexing when many documents are written concurrently,
+	 * but more threads and more concurrent commits.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_THREAD_COUNT}.
+	 */
+	public static final String IO_WRITER_THREAD_COUNT = IO_PREFIX + IORadicals.WRITER_THREAD_COUNT;
+
+	/**
+	 * The maximum number of documents that can be buffered in-memory before they are flushed to the Directory.
+	 * <p>
+	 * Large values mean faster indexing, but more RAM usage.
+	 * When used together with {@link #IO_WRITER_RAM_BUFFER_SIZE} a flush occurs for whichever event happens first.
+	 * <p>
+	 * Expects an Integer value greater than or equal to {@code 2}, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default (flush by RAM usage only) applies.
+	 */
+	public static final String IO_WRITER_MAX_BUFFERED_DOCS = IO_PREFIX + IORadicals.WRITER_MAX_BUFFERED_DOCS;
+
+	/**
+	 * The maximum amount of RAM that may be used for buffering added entries and deletions
+	 * before they are flushed to the Directory.
+	 * <p>
+	 * Large values mean faster indexing, but more RAM usage.
+	 * Generally for faster indexing performance it's best to use this setting
+	 * rather than {@link #IO_WRITER_MAX_BUFFERED_DOCS}.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 32},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default (16MB) applies.
+	 */
+	public static final String IO_WRITER_RAM_BUFFER_SIZE = IO_PREFIX + IORadicals.WRITER_RAM_BUFFER_SIZE;
+
+	/**
+	 * The merge policy, deciding which segments are merged together.
+	 * <p>
+	 * Expects a {@link MergePolicyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_MERGE_POLICY}.
+	 * Other "merge" properties apply to the selected merge policy:
+	 * some of them are only supported by the {@link MergePolicyName#LOG_BYTE_SIZE} merge policy.
+	 */
+	public static final String IO_MERGE_POLICY = IO_PREFIX + IORadicals.MERGE_POLICY;
+
+	/**
+	 * The maximum number of documents that a segment can have before merging.
+	 * Segments with more than this number of documents will not be merged.
+	 * <p>
+	 * Smaller values perform better on frequently changing indexes,
+	 * larger values provide better search performance if the index does not change often.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * Only supported by the {@link MergePolicyName#LOG_BYTE_SIZE} merge policy: see {@link #IO_MERGE_POLICY}.
+	 */
+	public static final String IO_MERGE_MAX_DOCS = IO_PREFIX + IORadicals.MERGE_MAX_DOCS;
+
+	/**
+	 * The number of segments that are merged at once.
+	 * <p>
+	 * With smaller values, merging happens more often and thus uses more resources,
+	 * but the total number of segments will be lower on average, increasing read performance.
+	 * Thus, larger values (&gt; 10) are best for mass indexing,
+	 * and smaller values (&lt; 10) are best for interactive indexing.
+	 * <p>
+	 * Expects an Integer value greater than or equal to {@code 2}, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * With the {@link MergePolicyName#TIERED} merge policy,
+	 * this sets both the number of segments merged at once and the number of segments allowed per tier.
+	 */
+	public static final String IO_MERGE_FACTOR = IO_PREFIX + IORadicals.MERGE_FACTOR;
+
+	/**
+	 * The minimum size of a segment, in megabytes.
+	 * Segments smaller than this size will be merged more aggressively.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 1},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * With the {@link MergePolicyName#TIERED} merge policy, this sets the floor segment size.
+	 */
+	public static final String IO_MERGE_MIN_SIZE = IO_PREFIX + IORadicals.MERGE_MIN_SIZE;
+
+	/**
+	 * The maximum size of a segment, in megabytes.
+	 * Segments larger than this size will not be merged, except when forcing a merge.
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * With the {@link MergePolicyName#TIERED} merge policy, this sets the maximum merged segment size.
+	 */
+	public static final String IO_MERGE_MAX_SIZE = IO_PREFIX + IORadicals.MERGE_MAX_SIZE;
+
+	/**
+	 * The maximum size of a segment, in megabytes, when forcing a merge
+	 * (for example with {@code purge} and {@code mergeSegments} operations).
+	 * <p>
+	 * Expects a strictly positive Integer value in megabytes, such as {@code 1000},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * Only supported by the {@link MergePolicyName#LOG_BYTE_SIZE} merge policy: see {@link #IO_MERGE_POLICY}.
+	 */
+	public static final String IO_MERGE_MAX_FORCED_SIZE = IO_PREFIX + IORadicals.MERGE_MAX_FORCED_SIZE;
+
+	/**
+	 * Whether the number of deleted entries in an index should be taken into account when estimating segment sizes.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies.
+	 * Only supported by the {@link MergePolicyName#LOG_BYTE_SIZE} merge policy: see {@link #IO_MERGE_POLICY}.
+	 */
+	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_PREFIX + IORadicals.MERGE_CALIBRATE_BY_DELETES;
+
+	/**
+	 * The maximum number of threads that may run merges concurrently for each index (or shard).
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 2},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to no value, meaning the Lucene default applies
+	 * (dynamically determined depending on the number of cores and the type of storage).
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_THREAD_COUNT;
+
+	/**
+	 * The maximum number of merges that may be pending for each index (or shard)
+	 * before indexing threads are stalled until merges complete.
+	 * <p>
+	 * Must be greater than or equal to {@link #IO_MERGE_SCHEDULER_MAX_THREAD_COUNT}.
+	 * Can only be set if {@link #IO_MERGE_SCHEDULER_MAX_THREAD_COUNT} is set, too.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 7},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to the max thread count plus 5.
+	 */
+	public static final String IO_MERGE_SCHEDULER_MAX_MERGE_COUNT =
+			IO_PREFIX + IORadicals.MERGE_SCHEDULER_MAX_MERGE_COUNT;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -138,6 +319,19 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_BACKGROUND = "refresh_background";
+		public static final String WRITER_THREAD_COUNT = "writer.thread_count";
+		public static final String WRITER_MAX_BUFFERED_DOCS = "writer.max_buffered_docs";
+		public static final String WRITER_RAM_BUFFER_SIZE = "writer.ram_buffer_size";
+		public static final String MERGE_POLICY = "merge.policy";
+		public static final String MERGE_MAX_DOCS = "merge.max_docs";
+		public static final String MERGE_FACTOR = "merge.factor";
+		public static final String MERGE_MIN_SIZE = "merge.min_size";
+		public static final String MERGE_MAX_SIZE = "merge.max_size";
+		public static final String MERGE_MAX_FORCED_SIZE = "merge.max_forced_size";
+		public static final String MERGE_CALIBRATE_BY_DELETES = "merge.calibrate_by_deletes";
+		public static final String MERGE_SCHEDULER_MAX_THREAD_COUNT = "merge.scheduler.max_thread_count";
+		public static final String MERGE_SCHEDULER_MAX_MERGE_COUNT = "merge.scheduler.max_merge_count";
 	}
 
 	/**
@@ -165,5 +359,8 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 0;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_REFRESH_BACKGROUND = false;
+		public static final int IO_WRITER_THREAD_COUNT = 1;
+		public static final MergePolicyName IO_MERGE_POLICY = MergePolicyName.TIERED;
 	}
 }
@@ -25,6 +25,8 @@
 import org.hibernate.search.backend.lucene.multitenancy.impl.NoMultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.search.timeout.impl.DefaultTimingSource;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactoryImpl;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionSettings;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
@@ -63,6 +65,23 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_THREAD_POOL_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> SEARCH_ASYNC_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.SEARCH_ASYNC_THREAD_POOL_SIZE )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> SEARCH_TOTAL_HIT_COUNT_THRESHOLD =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_TOTAL_HIT_COUNT_THRESHOLD )
+					.asInteger()
+					.build();
+
 	@Override
 	public BackendImplementor create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -79,10 +98,22 @@ public BackendImplementor create(String name, BackendBuildContext buildContext,
 				buildContext, propertySource, luceneVersion
 		);
 
+		int searchThreadPoolSize = SEARCH_THREAD_POOL_SIZE.get( propertySource );
+		int searchAsyncThreadPoolSize = SEARCH_ASYNC_THREAD_POOL_SIZE.get( propertySource );
+		Integer defaultTotalHitCountThreshold = SEARCH_TOTAL_HIT_COUNT_THRESHOLD.get( propertySource ).orElse( null );
+		SearchAdmissionController searchAdmissionController = SearchAdmissionSettings.createController(
+				"Search admission controller for backend " + name, propertySource, backendContext,
+				buildContext.getThreadPoolProvider().getSharedScheduledThreadPool()
+		);
+
 		return new LuceneBackendImpl(
 				name,
 				directoryProviderHolder,
 				buildContext.getThreadPoolProvider(),
+				searchThreadPoolSize,
+				searchAsyncThreadPoolSize,
+				defaultTotalHitCountThreshold,
+				searchAdmissionController,
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
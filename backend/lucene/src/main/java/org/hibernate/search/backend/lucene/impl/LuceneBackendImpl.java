@@ -7,14 +7,18 @@
 package org.hibernate.search.backend.lucene.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestratorImplementor;
+import org.hibernate.search.backend.lucene.search.aggregation.LuceneFacetsCacheMetrics;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.backend.Backend;
+import org.hibernate.search.engine.backend.orchestration.SearchAdmissionMetrics;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerBuilder;
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.index.impl.IndexManagerBackendContext;
@@ -47,6 +51,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
 	private final LuceneReadWorkOrchestratorImplementor readOrchestrator;
+	private final SearchAdmissionController searchAdmissionController;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
 
@@ -56,6 +61,10 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	LuceneBackendImpl(String name,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			ThreadPoolProvider threadPoolProvider,
+			int searchThreadPoolSize,
+			int searchAsyncThreadPoolSize,
+			Integer defaultTotalHitCountThreshold,
+			SearchAdmissionController searchAdmissionController,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
@@ -67,8 +76,11 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
 		this.readOrchestrator = new LuceneReadWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name,
+				threadPoolProvider, searchThreadPoolSize, searchAsyncThreadPoolSize,
+				searchAdmissionController
 		);
+		this.searchAdmissionController = searchAdmissionController;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
 
@@ -79,7 +91,8 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 				timingSource, analysisDefinitionRegistry,
 				threadPoolProvider,
 				failureHandler,
-				readOrchestrator
+				readOrchestrator,
+				defaultTotalHitCountThreshold
 		);
 	}
 
@@ -130,6 +143,16 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public Optional<SearchAdmissionMetrics> getSearchAdmissionMetrics() {
+		return Optional.ofNullable( searchAdmissionController );
+	}
+
+	@Override
+	public LuceneFacetsCacheMetrics getFacetsCacheMetrics() {
+		return indexManagerBackendContext.getFacetsCacheMetrics();
+	}
+
 	@Override
 	public IndexManagerBuilder createIndexManagerBuilder(
 			String indexName, String mappedTypeName,
@@ -6,24 +6,33 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.NearRealTimeIOStrategy;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBatchingWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestratorImplementor;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkProcessor;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
+import org.hibernate.search.backend.lucene.search.aggregation.LuceneFacetsCacheMetrics;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.query.impl.LuceneSearchQueryBuilder;
@@ -50,18 +59,27 @@
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.facet.FacetsConfig;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> IO_WRITER_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_THREAD_COUNT )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_THREAD_COUNT )
+					.build();
+
 	private final EventContext eventContext;
 
 	private final DirectoryProvider directoryProvider;
@@ -72,6 +90,8 @@ public class IndexManagerBackendContext implements WorkExecutionBackendContext,
 	private final ThreadPoolProvider threadPoolProvider;
 	private final FailureHandler failureHandler;
 	private final LuceneReadWorkOrchestrator readOrchestrator;
+	private final Integer defaultTotalHitCountThreshold;
+	private final SortedSetDocValuesReaderStateCache facetsReaderStateCache = new SortedSetDocValuesReaderStateCache();
 
 	public IndexManagerBackendContext(EventContext eventContext,
 			DirectoryProvider directoryProvider,
@@ -81,7 +101,8 @@ public IndexManagerBackendContext(EventContext eventContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
-			LuceneReadWorkOrchestrator readOrchestrator) {
+			LuceneReadWorkOrchestrator readOrchestrator,
+			Integer defaultTotalHitCountThreshold) {
 		this.eventContext = eventContext;
 		this.directoryProvider = directoryProvider;
 		this.multiTenancyStrategy = multiTenancyStrategy;
@@ -91,6 +112,7 @@ public IndexManagerBackendContext(EventContext eventContext,
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
 		this.readOrchestrator = readOrchestrator;
+		this.defaultTotalHitCountThreshold = defaultTotalHitCountThreshold;
 	}
 
 	@Override
@@ -98,6 +120,10 @@ public String toString() {
 		return getClass().getSimpleName() + "[" + eventContext + "]";
 	}
 
+	public LuceneFacetsCacheMetrics getFacetsCacheMetrics() {
+		return facetsReaderStateCache;
+	}
+
 	@Override
 	public IndexIndexingPlan createIndexingPlan(
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -145,7 +171,7 @@ public LuceneSearchContext createSearchContext(BackendMappingContext mappingCont
 			LuceneScopeModel scopeModel) {
 		return new LuceneSearchContext(
 				mappingContext, analysisDefinitionRegistry, multiTenancyStrategy,
-				timingSource,
+				timingSource, facetsReaderStateCache,
 				scopeModel
 		);
 	}
@@ -164,7 +190,8 @@ public <H> LuceneSearchQueryBuilder<H> createSearchQueryBuilder(
 				searchContext,
 				sessionContext,
 				loadingContextBuilder,
-				rootProjection
+				rootProjection,
+				defaultTotalHitCountThreshold
 		);
 	}
 
@@ -176,21 +203,31 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsCo
 		return new LuceneIndexEntryFactory( multiTenancyStrategy, indexName, facetsConfig );
 	}
 
-	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
+	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource, String indexName) {
+		IndexWriterSettings writerSettings = IndexWriterSettings.extract( propertySource, indexName );
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( directoryProvider, threadPoolProvider, failureHandler );
+				return DebugIOStrategy.create( directoryProvider, writerSettings, threadPoolProvider, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create(
-						propertySource, directoryProvider,
-						timingSource, threadPoolProvider, failureHandler
+						propertySource, indexName, directoryProvider, writerSettings,
+						timingSource, facetsReaderStateCache, threadPoolProvider, failureHandler
 				);
 		}
 	}
 
-	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId) {
-		LuceneWriteWorkOrchestratorImplementor writeOrchestrator;
+	int getWriterThreadCount(ConfigurationPropertySource propertySource, String indexName) {
+		int writerThreadCount = IO_WRITER_THREAD_COUNT.get( propertySource );
+		if ( writerThreadCount < 1 ) {
+			throw log.invalidWriterThreadCount( writerThreadCount, EventContexts.fromIndexName( indexName ) );
+		}
+		return writerThreadCount;
+	}
+
+	Shard createShard(IOStrategy ioStrategy, int writerThreadCount, LuceneIndexModel model,
+			Optional<String> shardId) {
+		List<LuceneWriteWorkOrchestratorImplementor> writeOrchestrators = new ArrayList<>( writerThreadCount );
 		IndexAccessorImpl indexAccessor = null;
 		String indexName = model.getIndexName();
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.getIndexName(), shardId );
@@ -200,25 +237,35 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 					indexName, shardEventContext,
 					shardId, model.getScopedAnalyzer()
 			);
-			writeOrchestrator = createWriteOrchestrator( indexName, shardEventContext, indexAccessor );
+			// Shared by all orchestrators, which share the same index writer
+			ReadWriteLock writerUsageLock = new ReentrantReadWriteLock();
+			for ( int i = 0; i < writerThreadCount; i++ ) {
+				String orchestratorName = "Lucene write work orchestrator for " + shardEventContext.render();
+				if ( writerThreadCount > 1 ) {
+					orchestratorName += " - " + i;
+				}
+				writeOrchestrators.add( createWriteOrchestrator( orchestratorName, indexName, shardEventContext,
+						indexAccessor, writerUsageLock ) );
+			}
 
-			return new Shard( shardEventContext, indexAccessor, writeOrchestrator );
+			return new Shard( shardEventContext, indexAccessor, writeOrchestrators );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
-					// No need to stop the orchestrator, we didn't start it
+					// No need to stop the orchestrators, we didn't start them
 					.push( indexAccessor );
 			throw e;
 		}
 	}
 
-	private LuceneWriteWorkOrchestratorImplementor createWriteOrchestrator(String indexName,
-			EventContext eventContext, IndexAccessorImpl indexAccessor) {
+	private LuceneWriteWorkOrchestratorImplementor createWriteOrchestrator(String name, String indexName,
+			EventContext eventContext, IndexAccessorImpl indexAccessor, ReadWriteLock writerUsageLock) {
 		return new LuceneBatchingWriteWorkOrchestrator(
-				"Lucene write work orchestrator for " + eventContext.render(),
+				name,
 				new LuceneWriteWorkProcessor(
 						indexName, eventContext,
-						indexAccessor, failureHandler
+						indexAccessor, failureHandler,
+						writerUsageLock
 				),
 				threadPoolProvider,
 				failureHandler
@@ -8,10 +8,12 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneBarrierWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneWriteWorkOrchestratorImplementor;
 import org.hibernate.search.util.common.impl.Closer;
@@ -27,25 +29,41 @@ public final class Shard {
 
 	private final EventContext eventContext;
 	private final IndexAccessorImpl indexAccessor;
-	private final LuceneWriteWorkOrchestratorImplementor writeOrchestrator;
+	/*
+	 * All orchestrators share the same index accessor, and thus the same index writer,
+	 * but each one applies works in its own thread.
+	 * Works affecting a given document are always routed to the same orchestrator,
+	 * so that they are applied in order.
+	 */
+	private final List<LuceneWriteWorkOrchestratorImplementor> writeOrchestrators;
+	/*
+	 * Works affecting the whole shard must be applied after all works submitted earlier
+	 * to any orchestrator, and before all works submitted later.
+	 */
+	private final LuceneWriteWorkOrchestrator shardWideWriteOrchestrator;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
-			LuceneWriteWorkOrchestratorImplementor writeOrchestrator) {
+			List<LuceneWriteWorkOrchestratorImplementor> writeOrchestrators) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
-		this.writeOrchestrator = writeOrchestrator;
+		this.writeOrchestrators = writeOrchestrators;
+		this.shardWideWriteOrchestrator = writeOrchestrators.size() == 1
+				? writeOrchestrators.get( 0 )
+				: new LuceneBarrierWriteWorkOrchestrator( writeOrchestrators );
 	}
 
 	CompletableFuture<?> start() {
 		try {
 			indexAccessor.start();
-			writeOrchestrator.start();
-			return writeOrchestrator.ensureIndexExists();
+			for ( LuceneWriteWorkOrchestratorImplementor writeOrchestrator : writeOrchestrators ) {
+				writeOrchestrator.start();
+			}
+			return getWriteOrchestratorImplementor().ensureIndexExists();
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
 					.push( indexAccessor )
-					.push( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrator );
+					.pushAll( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrators );
 			throw log.unableToInitializeIndexDirectory(
 					e.getMessage(),
 					eventContext,
@@ -55,12 +73,18 @@ CompletableFuture<?> start() {
 	}
 
 	CompletableFuture<?> preStop() {
-		return writeOrchestrator.preStop();
+		CompletableFuture<?>[] futures = new CompletableFuture[writeOrchestrators.size()];
+		int i = 0;
+		for ( LuceneWriteWorkOrchestratorImplementor writeOrchestrator : writeOrchestrators ) {
+			futures[i] = writeOrchestrator.preStop();
+			i++;
+		}
+		return CompletableFuture.allOf( futures );
 	}
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
-			closer.push( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrator );
+			closer.pushAll( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrators );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
 		}
@@ -70,8 +94,27 @@ DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	/**
+	 * @return The orchestrator to use for works affecting the whole shard (purge, merge, flush, ...).
+	 */
 	LuceneWriteWorkOrchestrator getWriteOrchestrator() {
-		return writeOrchestrator;
+		return shardWideWriteOrchestrator;
+	}
+
+	/**
+	 * @param documentId The identifier of a document.
+	 * @return The orchestrator to use for works affecting the given document.
+	 */
+	LuceneWriteWorkOrchestrator getWriteOrchestrator(String documentId) {
+		int orchestratorCount = writeOrchestrators.size();
+		if ( orchestratorCount == 1 ) {
+			return writeOrchestrators.get( 0 );
+		}
+		return writeOrchestrators.get( Math.floorMod( documentId.hashCode(), orchestratorCount ) );
+	}
+
+	private LuceneWriteWorkOrchestratorImplementor getWriteOrchestratorImplementor() {
+		return writeOrchestrators.get( 0 );
 	}
 
 	public IndexAccessorImpl getIndexAccessorForTests() {
@@ -54,11 +54,13 @@ CompletableFuture<?> start(IndexManagerStartContext startContext) {
 		ConfigurationPropertySource propertySource = startContext.getConfigurationPropertySource();
 
 		try {
-			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource, model.getIndexName() );
+			int writerThreadCount = backendContext.getWriterThreadCount( propertySource, model.getIndexName() );
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl(
 							backendContext,
 							ioStrategy,
+							writerThreadCount,
 							model,
 							startContext,
 							propertySource.withMask( "sharding" )
@@ -127,7 +129,7 @@ public String getIndexName() {
 
 	@Override
 	public LuceneWriteWorkOrchestrator getWriteOrchestrator(String documentId, String routingKey) {
-		return toShard( documentId, routingKey ).getWriteOrchestrator();
+		return toShard( documentId, routingKey ).getWriteOrchestrator( documentId );
 	}
 
 	@Override
@@ -42,6 +42,7 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 
 	private final IndexManagerBackendContext backendContext;
 	private final IOStrategy ioStrategy;
+	private final int writerThreadCount;
 	private final LuceneIndexModel model;
 	private final IndexManagerStartContext startContext;
 	private final ConfigurationPropertySource propertySource;
@@ -50,11 +51,12 @@ class ShardingStrategyInitializationContextImpl implements ShardingStrategyIniti
 
 	ShardingStrategyInitializationContextImpl(
 			IndexManagerBackendContext backendContext,
-			IOStrategy ioStrategy, LuceneIndexModel model,
+			IOStrategy ioStrategy, int writerThreadCount, LuceneIndexModel model,
 			IndexManagerStartContext startContext,
 			ConfigurationPropertySource propertySource) {
 		this.backendContext = backendContext;
 		this.ioStrategy = ioStrategy;
+		this.writerThreadCount = writerThreadCount;
 		this.model = model;
 		this.startContext = startContext;
 		this.propertySource = propertySource;
@@ -113,7 +115,7 @@ public BeanHolder<? extends ShardingStrategy> create(Map<String, Shard> shardCol
 
 	private void contributeShardWithSilentFailure(Map<String, Shard> shardCollector, Optional<String> shardId) {
 		try {
-			Shard shard = backendContext.createShard( ioStrategy, model, shardId );
+			Shard shard = backendContext.createShard( ioStrategy, writerThreadCount, model, shardId );
 			shardCollector.put( shardId.orElse( null ), shard );
 		}
 		catch (RuntimeException e) {
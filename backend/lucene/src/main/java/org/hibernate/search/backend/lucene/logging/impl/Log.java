@@ -596,4 +596,65 @@ SearchException conflictingFieldModel(String absoluteFieldPath,
 	@Message(id = ID_OFFSET_2 + 108,
 			value = "Invalid I/O strategy name: '%1$s'. Valid names are: %2$s.")
 	SearchException invalidIOStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 109,
+			value = "Invalid writer thread count: '%1$s'. The writer thread count must be strictly positive.")
+	SearchException invalidWriterThreadCount(int writerThreadCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 110,
+			value = "Index reader refresh")
+	String indexReaderRefreshOperation();
+
+	@Message(id = ID_OFFSET_2 + 111, value = "Search query was cancelled: '%1$s'.")
+	SearchException queryCancelled(String queryDescription);
+
+	@Message(id = ID_OFFSET_2 + 112,
+			value = "Search query exceeded the limit of %1$s visited documents: '%2$s'.")
+	SearchException visitedDocumentLimitExceeded(long limit, String queryDescription);
+
+	@Message(id = ID_OFFSET_2 + 113,
+			value = "Search query exceeded the limit of %1$s aggregation buckets: '%2$s'.")
+	SearchException aggregationBucketLimitExceeded(int limit, String queryDescription);
+
+	@Message(id = ID_OFFSET_2 + 114,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidIndexWriterSetting(String propertyKey, int value, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 115,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be greater than or equal to %3$s.")
+	SearchException invalidIndexWriterSettingBelowMinimum(String propertyKey, int value, int minimum,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 116,
+			value = "Configuration property '%1$s' is set, but configuration property '%2$s' is not."
+					+ " The maximum merge count can only be set together with the maximum thread count.")
+	SearchException mergeSchedulerMaxMergeCountWithoutMaxThreadCount(String maxMergeCountPropertyKey,
+			String maxThreadCountPropertyKey, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 117,
+			value = "Invalid value for configuration property '%1$s': '%2$s'."
+					+ " The value must be greater than or equal to the value of configuration property '%3$s': '%4$s'.")
+	SearchException mergeSchedulerMaxMergeCountLowerThanMaxThreadCount(String maxMergeCountPropertyKey,
+			int maxMergeCount, String maxThreadCountPropertyKey, int maxThreadCount, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 118,
+			value = "Invalid merge policy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidMergePolicyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 119,
+			value = "Configuration property '%1$s' is set, but the merge policy selected through configuration property '%2$s'"
+					+ " does not support it. This property is only supported by the 'log-byte-size' merge policy.")
+	SearchException mergePolicySettingRequiresLogByteSizeMergePolicy(String propertyKey, String mergePolicyPropertyKey,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 120,
+			value = "Configuration property '%1$s' is enabled, but configuration property '%2$s' is set to '%3$s'."
+					+ " Background refresh requires a strictly positive refresh interval.")
+	SearchException backgroundRefreshRequiresPositiveRefreshInterval(String refreshBackgroundPropertyKey,
+			String refreshIntervalPropertyKey, int refreshInterval, @Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 121,
+			value = "The index writer was reset after a failure in another thread using the same index writer."
+					+ " Index works applied to the previous index writer may not have been committed.")
+	SearchException uncommittedWorksLostOnIndexWriterReset(@Param EventContext context);
 }
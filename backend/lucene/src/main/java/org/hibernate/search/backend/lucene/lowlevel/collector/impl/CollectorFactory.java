@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.List;
+
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.search.Collector;
 
@@ -16,4 +19,18 @@
 
 	CollectorKey<C> getCollectorKey();
 
+	/**
+	 * Merges collectors created by this factory for different slices of the same index reader,
+	 * when slices were searched concurrently.
+	 *
+	 * @param collectors The collectors to merge. Never empty.
+	 * @return A collector exposing the data of all the given collectors.
+	 */
+	default C reduce(List<C> collectors) {
+		if ( collectors.size() == 1 ) {
+			return collectors.get( 0 );
+		}
+		throw new AssertionFailure( "Collector factory " + this + " does not support concurrent search" );
+	}
+
 }
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
+import java.util.List;
+
 import org.apache.lucene.facet.FacetsCollector;
 
 public class FacetsCollectorFactory implements CollectorFactory<FacetsCollector> {
@@ -22,4 +24,17 @@ public FacetsCollector createCollector(CollectorExecutionContext context) {
 	public CollectorKey<FacetsCollector> getCollectorKey() {
 		return KEY;
 	}
+
+	@Override
+	public FacetsCollector reduce(List<FacetsCollector> collectors) {
+		if ( collectors.size() == 1 ) {
+			return collectors.get( 0 );
+		}
+		// Each collector holds the matching docs of distinct leaves: just concatenate them.
+		FacetsCollector reduced = new FacetsCollector();
+		for ( FacetsCollector collector : collectors ) {
+			reduced.getMatchingDocs().addAll( collector.getMatchingDocs() );
+		}
+		return reduced;
+	}
 }
@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.hibernate.search.util.common.AssertionFailure;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the values of a single-valued numeric doc values field for each collected document.
+ * <p>
+ * Meant to be applied to top documents only, so as to retrieve values for projections
+ * without loading stored fields.
+ * Values are kept in primitive arrays, sorted by document ID:
+ * this relies on documents being collected in increasing order of document ID,
+ * which is the case when collecting top docs through an
+ * {@link org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery}.
+ */
+public class NumericDocValuesCollector extends SimpleCollector {
+
+	private final String absoluteFieldPath;
+
+	private int[] docIds;
+	private long[] values;
+	private int size = 0;
+
+	private int currentLeafDocBase;
+	private NumericDocValues currentLeafValues;
+
+	public NumericDocValuesCollector(String absoluteFieldPath, int expectedDocCount) {
+		this.absoluteFieldPath = absoluteFieldPath;
+		int initialCapacity = Math.max( expectedDocCount, 1 );
+		this.docIds = new int[initialCapacity];
+		this.values = new long[initialCapacity];
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + absoluteFieldPath + "]";
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		if ( !currentLeafValues.advanceExact( doc ) ) {
+			// No value for this document
+			return;
+		}
+		int absoluteDocId = currentLeafDocBase + doc;
+		if ( size > 0 && absoluteDocId <= docIds[size - 1] ) {
+			throw new AssertionFailure( "Collector.collect called in unexpected order" );
+		}
+		if ( size == docIds.length ) {
+			docIds = Arrays.copyOf( docIds, size * 2 );
+			values = Arrays.copyOf( values, size * 2 );
+		}
+		docIds[size] = absoluteDocId;
+		values[size] = currentLeafValues.longValue();
+		++size;
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	/**
+	 * @param docId The ID of a collected document.
+	 * @return The value of the field for this document, or {@code null} if the document has no value.
+	 */
+	public Long getValue(int docId) {
+		int index = Arrays.binarySearch( docIds, 0, size, docId );
+		return index < 0 ? null : values[index];
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafValues = DocValues.getNumeric( context.reader(), absoluteFieldPath );
+	}
+}
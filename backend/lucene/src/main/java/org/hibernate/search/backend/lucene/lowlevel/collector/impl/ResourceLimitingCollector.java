@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+
+/**
+ * Wraps a collector to periodically check for cancellation
+ * and to enforce the limit on visited documents, if any.
+ * <p>
+ * Visited documents are reported to the {@link TimeoutManager} in batches of 256,
+ * and when switching to a new leaf, so that the check remains cheap.
+ * A single instance must not be used concurrently, which matches how collectors are used
+ * when searching slices of the index concurrently: one collector per slice.
+ */
+public class ResourceLimitingCollector extends FilterCollector {
+
+	private static final int CHECK_INTERVAL = 256;
+
+	private final TimeoutManager timeoutManager;
+
+	private int pendingVisitedDocuments = 0;
+
+	public ResourceLimitingCollector(Collector in, TimeoutManager timeoutManager) {
+		super( in );
+		this.timeoutManager = timeoutManager;
+	}
+
+	@Override
+	public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+		reportVisitedDocuments();
+		return new FilterLeafCollector( super.getLeafCollector( context ) ) {
+			@Override
+			public void collect(int doc) throws IOException {
+				super.collect( doc );
+				if ( ++pendingVisitedDocuments >= CHECK_INTERVAL ) {
+					reportVisitedDocuments();
+				}
+			}
+		};
+	}
+
+	private void reportVisitedDocuments() {
+		// Fails if the query was cancelled or if the limit was exceeded
+		timeoutManager.visitDocuments( pendingVisitedDocuments );
+		pendingVisitedDocuments = 0;
+	}
+}
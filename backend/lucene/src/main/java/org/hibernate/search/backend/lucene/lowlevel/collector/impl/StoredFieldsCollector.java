@@ -7,8 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
@@ -49,7 +48,8 @@ public StoredFieldsCollector createCollector(CollectorExecutionContext context)
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher(),
+						context.getMaxDocs() );
 			}
 
 			@Override
@@ -68,20 +68,26 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 	private DocIdSetIterator currentLeafChildDocs;
 	private LeafReader currentLeafReader;
 
-	private final Map<Integer, Document> documents = new HashMap<>();
+	// Documents sorted by doc ID, which is the order in which they are collected
+	private int[] docIds;
+	private Document[] documents;
+	private int size = 0;
 
 	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
 			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
+			IndexSearcher indexSearcher, int expectedDocCount) throws IOException {
 		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
+		int initialCapacity = Math.max( expectedDocCount, 1 );
+		this.docIds = new int[initialCapacity];
+		this.documents = new Document[initialCapacity];
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder sb = new StringBuilder( "ChildrenCollector{" );
-		sb.append( "documents=" ).append( documents );
+		sb.append( "documents=" ).append( Arrays.asList( documents ).subList( 0, size ) );
 		sb.append( '}' );
 		return sb.toString();
 	}
@@ -96,7 +102,17 @@ public void collect(int parentDoc) throws IOException {
 		// add root document contribution
 		currentLeafReader.document( parentDoc, storedFieldVisitor );
 
-		documents.put( currentLeafDocBase + parentDoc, storedFieldVisitor.getDocumentAndReset() );
+		int absoluteDocId = currentLeafDocBase + parentDoc;
+		if ( size > 0 && absoluteDocId <= docIds[size - 1] ) {
+			throw new AssertionFailure( "Collector.collect called in unexpected order" );
+		}
+		if ( size == docIds.length ) {
+			docIds = Arrays.copyOf( docIds, size * 2 );
+			documents = Arrays.copyOf( documents, size * 2 );
+		}
+		docIds[size] = absoluteDocId;
+		documents[size] = storedFieldVisitor.getDocumentAndReset();
+		++size;
 	}
 
 	private void collectChildDocs(int parentDoc) throws IOException {
@@ -129,7 +145,8 @@ public ScoreMode scoreMode() {
 	}
 
 	public Document getDocument(int docId) {
-		return documents.get( docId );
+		int index = Arrays.binarySearch( docIds, 0, size, docId );
+		return index < 0 ? null : documents[index];
 	}
 
 	@Override
@@ -137,6 +154,7 @@ protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafDocBase = context.docBase;
 		this.currentLeafLastSeenParentDoc = -1;
 		this.currentLeafReader = context.reader();
+		storedFieldVisitor.setFieldInfos( currentLeafReader.getFieldInfos() );
 
 		this.currentLeafChildDocs = nestedDocsProvider == null ? null : nestedDocsProvider.childDocs( childrenWeight, context );
 	}
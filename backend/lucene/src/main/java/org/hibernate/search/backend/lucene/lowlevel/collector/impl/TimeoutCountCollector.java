@@ -13,7 +13,7 @@
 
 /**
  * Counts the total hit, as {@link org.apache.lucene.search.TotalHitCountCollector} does.
- * Moreover, it periodically checks for timeout.
+ * Moreover, it periodically checks for timeout, cancellation and the limit of visited documents.
  *
  */
 public class TimeoutCountCollector extends SimpleCollector {
@@ -37,6 +37,8 @@ public void collect(int doc) {
 		if ( totalHits % 256 == 0 ) {
 			// Fail if hard timeout, ignore if soft timeout
 			timeoutManager.checkTimedOut();
+			// Fail if cancelled or if the limit of visited documents was exceeded
+			timeoutManager.visitDocuments( totalHits == 0 ? 0 : 256 );
 		}
 		totalHits++;
 	}
@@ -0,0 +1,341 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.search.aggregation.LuceneFacetsCacheMetrics;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.BytesRef;
+
+/**
+ * A cache of the data backing {@link SortedSetDocValuesReaderState}s,
+ * i.e. the global ordinal map and the range of ordinals for each facet dimension.
+ * <p>
+ * Building that data requires going through every single term of every segment,
+ * which is too expensive to do on every query that involves a text terms aggregation.
+ * <p>
+ * {@link SortedSetDocValuesReaderState} instances cannot be cached directly,
+ * because they are bound to a specific top-level reader
+ * and we open a new {@link org.apache.lucene.index.MultiReader} for every query.
+ * Instead, we cache the data per combination of directory readers,
+ * and create a lightweight state around the cached data on every query.
+ * Cache entries are evicted as soon as one of the directory readers they were built from gets closed,
+ * e.g. when a near-real-time reader gets replaced after a refresh.
+ */
+public final class SortedSetDocValuesReaderStateCache implements LuceneFacetsCacheMetrics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String FIELD = FacetsConfig.DEFAULT_INDEX_FIELD_NAME;
+
+	private final ConcurrentMap<List<IndexReader.CacheKey>, Entry> entries = new ConcurrentHashMap<>();
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder loadTimeNanos = new LongAdder();
+
+	/**
+	 * @param reader The top-level reader the returned state will be used with.
+	 * @return A state for the default facets field.
+	 * @throws IllegalArgumentException If the reader does not contain any facets.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public SortedSetDocValuesReaderState getOrCreate(IndexReader reader) throws IOException {
+		List<IndexReader.CacheHelper> cacheHelpers = getSubReaderCacheHelpers( reader );
+		Ordinals ordinals;
+		if ( cacheHelpers == null ) {
+			// Some readers cannot be cached: just don't cache anything.
+			missCount.increment();
+			ordinals = load( reader );
+		}
+		else {
+			ordinals = getOrCreateEntry( cacheHelpers ).get( reader );
+		}
+		if ( ordinals == null ) {
+			throw new IllegalArgumentException( "field \"" + FIELD + "\" was not indexed with SortedSetDocValues" );
+		}
+		return new CachedState( reader, ordinals );
+	}
+
+	/**
+	 * Loads the data for the given reader, if necessary,
+	 * so that the first queries after a refresh don't have to.
+	 *
+	 * @param reader A directory reader that was just opened.
+	 * @throws IOException If an I/O failure occurs.
+	 */
+	public void warm(IndexReader reader) throws IOException {
+		List<IndexReader.CacheHelper> cacheHelpers = getSubReaderCacheHelpers( reader );
+		if ( cacheHelpers == null ) {
+			return;
+		}
+		getOrCreateEntry( cacheHelpers ).get( reader );
+	}
+
+	@Override
+	public long getHitCount() {
+		return hitCount.sum();
+	}
+
+	@Override
+	public long getMissCount() {
+		return missCount.sum();
+	}
+
+	@Override
+	public int getEntryCount() {
+		return entries.size();
+	}
+
+	@Override
+	public Duration getTotalLoadTime() {
+		return Duration.ofNanos( loadTimeNanos.sum() );
+	}
+
+	private Entry getOrCreateEntry(List<IndexReader.CacheHelper> cacheHelpers) {
+		List<IndexReader.CacheKey> key = new ArrayList<>( cacheHelpers.size() );
+		for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+			key.add( cacheHelper.getKey() );
+		}
+		key = Collections.unmodifiableList( key );
+
+		Entry entry = entries.get( key );
+		if ( entry != null ) {
+			return entry;
+		}
+		Entry newEntry = new Entry();
+		entry = entries.putIfAbsent( key, newEntry );
+		if ( entry != null ) {
+			return entry;
+		}
+		for ( IndexReader.CacheHelper cacheHelper : cacheHelpers ) {
+			// The readers are open at this point: they will necessarily be closed after this call,
+			// so the entry will necessarily be evicted.
+			cacheHelper.addClosedListener( this::evict );
+		}
+		return newEntry;
+	}
+
+	private void evict(IndexReader.CacheKey closedReaderKey) {
+		entries.keySet().removeIf( key -> key.contains( closedReaderKey ) );
+	}
+
+	private Ordinals load(IndexReader reader) throws IOException {
+		long start = System.nanoTime();
+		Ordinals ordinals = Ordinals.create( reader );
+		long duration = System.nanoTime() - start;
+		loadTimeNanos.add( duration );
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Loaded facet ordinals for %s in %d ms. Cache statistics: %d hits, %d misses, %d entries.",
+					reader, TimeUnit.NANOSECONDS.toMillis( duration ),
+					getHitCount(), getMissCount(), getEntryCount() );
+		}
+		return ordinals;
+	}
+
+	/**
+	 * @return The cache helpers of the directory readers composing the given reader,
+	 * or {@code null} if some of these readers cannot be cached.
+	 */
+	private static List<IndexReader.CacheHelper> getSubReaderCacheHelpers(IndexReader reader) {
+		List<IndexReaderContext> children = reader.getContext().children();
+		if ( children == null || reader.getReaderCacheHelper() != null ) {
+			// Leaf reader or directory reader: use the reader itself as the key.
+			IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+			return cacheHelper == null ? null : Collections.singletonList( cacheHelper );
+		}
+		// Multi-reader: use the directory readers as the key,
+		// so that queries targeting a single index can benefit from warming.
+		List<IndexReader.CacheHelper> result = new ArrayList<>( children.size() );
+		for ( IndexReaderContext child : children ) {
+			IndexReader.CacheHelper cacheHelper = child.reader().getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				return null;
+			}
+			result.add( cacheHelper );
+		}
+		return result;
+	}
+
+	private final class Entry {
+		private volatile boolean loaded = false;
+		private Ordinals ordinals;
+
+		Ordinals get(IndexReader reader) throws IOException {
+			if ( loaded ) {
+				hitCount.increment();
+				return ordinals;
+			}
+			synchronized ( this ) {
+				if ( loaded ) {
+					hitCount.increment();
+					return ordinals;
+				}
+				missCount.increment();
+				ordinals = load( reader );
+				loaded = true;
+				return ordinals;
+			}
+		}
+	}
+
+	private static final class Ordinals {
+
+		/**
+		 * @return The ordinals for the default facet field, or {@code null} if there isn't any.
+		 */
+		static Ordinals create(IndexReader reader) throws IOException {
+			SortedSetDocValues docValues = MultiDocValues.getSortedSetValues( reader, FIELD );
+			if ( docValues == null ) {
+				return null;
+			}
+			if ( docValues.getValueCount() > Integer.MAX_VALUE ) {
+				throw new IllegalArgumentException( "can only handle valueCount < Integer.MAX_VALUE; got "
+						+ docValues.getValueCount() );
+			}
+			int valueCount = (int) docValues.getValueCount();
+
+			OrdinalMap ordinalMap = null;
+			if ( docValues instanceof MultiDocValues.MultiSortedSetDocValues ) {
+				ordinalMap = ( (MultiDocValues.MultiSortedSetDocValues) docValues ).mapping;
+			}
+
+			// Same as in DefaultSortedSetDocValuesReaderState
+			Map<String, SortedSetDocValuesReaderState.OrdRange> prefixToOrdRange = new HashMap<>();
+			String lastDim = null;
+			int startOrd = -1;
+			for ( int ord = 0; ord < valueCount; ord++ ) {
+				BytesRef term = docValues.lookupOrd( ord );
+				String[] components = FacetsConfig.stringToPath( term.utf8ToString() );
+				if ( components.length != 2 ) {
+					throw new IllegalArgumentException( "this class can only handle 2 level hierarchy (dim/value); got: "
+							+ Arrays.toString( components ) + " " + term.utf8ToString() );
+				}
+				if ( !components[0].equals( lastDim ) ) {
+					if ( lastDim != null ) {
+						prefixToOrdRange.put( lastDim, new SortedSetDocValuesReaderState.OrdRange( startOrd, ord - 1 ) );
+					}
+					startOrd = ord;
+					lastDim = components[0];
+				}
+			}
+			if ( lastDim != null ) {
+				prefixToOrdRange.put( lastDim, new SortedSetDocValuesReaderState.OrdRange( startOrd, valueCount - 1 ) );
+			}
+
+			return new Ordinals( ordinalMap, Collections.unmodifiableMap( prefixToOrdRange ), valueCount );
+		}
+
+		private final OrdinalMap ordinalMap;
+		private final Map<String, SortedSetDocValuesReaderState.OrdRange> prefixToOrdRange;
+		private final int valueCount;
+
+		private Ordinals(OrdinalMap ordinalMap, Map<String, SortedSetDocValuesReaderState.OrdRange> prefixToOrdRange,
+				int valueCount) {
+			this.ordinalMap = ordinalMap;
+			this.prefixToOrdRange = prefixToOrdRange;
+			this.valueCount = valueCount;
+		}
+	}
+
+	/**
+	 * A state bound to the top-level reader of a given query,
+	 * relying on cached ordinals.
+	 */
+	private static final class CachedState extends SortedSetDocValuesReaderState {
+		private final IndexReader reader;
+		private final Ordinals ordinals;
+
+		private CachedState(IndexReader reader, Ordinals ordinals) {
+			this.reader = reader;
+			this.ordinals = ordinals;
+		}
+
+		@Override
+		public SortedSetDocValues getDocValues() throws IOException {
+			// Same as MultiDocValues.getSortedSetValues, but reusing the cached ordinal map
+			List<LeafReaderContext> leaves = reader.leaves();
+			int size = leaves.size();
+			if ( ordinals.ordinalMap == null ) {
+				SortedSetDocValues values = size == 0 ? null : leaves.get( 0 ).reader().getSortedSetDocValues( FIELD );
+				return values == null ? DocValues.emptySortedSet() : values;
+			}
+			SortedSetDocValues[] values = new SortedSetDocValues[size];
+			int[] starts = new int[size + 1];
+			long totalCost = 0;
+			for ( int i = 0; i < size; i++ ) {
+				LeafReaderContext context = leaves.get( i );
+				SortedSetDocValues leafValues = context.reader().getSortedSetDocValues( FIELD );
+				if ( leafValues == null ) {
+					leafValues = DocValues.emptySortedSet();
+				}
+				else {
+					totalCost += leafValues.cost();
+				}
+				values[i] = leafValues;
+				starts[i] = context.docBase;
+			}
+			starts[size] = reader.maxDoc();
+			return new MultiDocValues.MultiSortedSetDocValues( values, starts, ordinals.ordinalMap, totalCost );
+		}
+
+		@Override
+		public String getField() {
+			return FIELD;
+		}
+
+		@Override
+		public OrdRange getOrdRange(String dim) {
+			return ordinals.prefixToOrdRange.get( dim );
+		}
+
+		@Override
+		public Map<String, OrdRange> getPrefixToOrdRange() {
+			return ordinals.prefixToOrdRange;
+		}
+
+		@Override
+		public IndexReader getReader() {
+			return reader;
+		}
+
+		@Override
+		public int getSize() {
+			return ordinals.valueCount;
+		}
+
+		@Override
+		public long ramBytesUsed() {
+			// The cached data is not owned by this state
+			return 0L;
+		}
+	}
+}
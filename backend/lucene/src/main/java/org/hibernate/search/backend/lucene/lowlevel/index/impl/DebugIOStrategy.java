@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -19,14 +20,14 @@
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
-		return new DebugIOStrategy( directoryProvider, threadPoolProvider, failureHandler );
+	public static DebugIOStrategy create(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+		return new DebugIOStrategy( directoryProvider, writerSettings, threadPoolProvider, failureHandler );
 	}
 
-	private DebugIOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+	private DebugIOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
+		super( directoryProvider, writerSettings, threadPoolProvider, failureHandler );
 	}
 
 	@Override
@@ -36,13 +37,14 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 				indexName, eventContext,
 				directoryHolder, analyzer,
 				null, 0,
+				writerSettings,
 				threadPoolProvider.getThreadProvider(),
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
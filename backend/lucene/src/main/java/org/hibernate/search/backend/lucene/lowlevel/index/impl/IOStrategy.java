@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -25,12 +26,14 @@
 public abstract class IOStrategy {
 
 	private final DirectoryProvider directoryProvider;
+	final IndexWriterSettings writerSettings;
 	final ThreadPoolProvider threadPoolProvider;
 	final FailureHandler failureHandler;
 
-	protected IOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
-			FailureHandler failureHandler) {
+	protected IOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
 		this.directoryProvider = directoryProvider;
+		this.writerSettings = writerSettings;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
 	}
@@ -48,7 +51,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 		IndexReaderProvider indexReaderProvider = null;
 		try {
 			indexWriterProvider = createIndexWriterProvider( indexName, eventContext, analyzer, directoryHolder );
-			indexReaderProvider = createIndexReaderProvider( directoryHolder, indexWriterProvider );
+			indexReaderProvider = createIndexReaderProvider( indexName, directoryHolder, indexWriterProvider );
 			return new IndexAccessorImpl(
 					eventContext,
 					directoryHolder, indexWriterProvider, indexReaderProvider
@@ -66,7 +69,7 @@ public IndexAccessorImpl createIndexAccessor(String indexName, EventContext even
 	abstract IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eventContext, Analyzer analyzer,
 			DirectoryHolder directoryHolder);
 
-	abstract IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	abstract IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider);
 
 }
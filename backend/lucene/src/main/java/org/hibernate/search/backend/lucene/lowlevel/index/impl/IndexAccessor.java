@@ -39,16 +39,27 @@ public interface IndexAccessor {
 	void commit();
 
 	/**
-	 * Commits the underlying index writer, if any,
+	 * Commits the underlying index writer, if any and if it has uncommitted changes,
 	 * or delay the commit if a commit happened recently
 	 * and configuration requires to wait longer between two commits.
 	 *
-	 * @return {@code 0} if the commit occurred.
+	 * @return {@code 0} if the commit occurred or if there was nothing to commit,
+	 * e.g. because another thread using the same index writer committed it already,
+	 * or because the index writer was reset since the changes were applied:
+	 * callers should use {@link #getWriterGeneration()} to tell these situations apart.
 	 * If the commit was delayed,
 	 * returns the number of milliseconds until the moment a commit can be executed.
 	 */
 	long commitOrDelay();
 
+	/**
+	 * @return The generation of the underlying index writer,
+	 * incremented every time an open index writer is closed through {@link #reset()}.
+	 * Changes applied to an index writer with a different generation than the current one
+	 * may have been lost.
+	 */
+	long getWriterGeneration();
+
 	/**
 	 * Refreshes the underlying index readers.
 	 */
@@ -113,6 +113,11 @@ public long commitOrDelay() {
 		}
 	}
 
+	@Override
+	public long getWriterGeneration() {
+		return indexWriterProvider.getGeneration();
+	}
+
 	@Override
 	public void refresh() {
 		try {
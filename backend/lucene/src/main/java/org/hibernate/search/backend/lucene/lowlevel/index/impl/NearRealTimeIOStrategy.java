@@ -6,23 +6,33 @@
  */
 package org.hibernate.search.backend.lucene.lowlevel.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NearRealTimeIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterSettings;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.analysis.Analyzer;
 
 public class NearRealTimeIOStrategy extends IOStrategy {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<Integer> COMMIT_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_INTERVAL )
 					.asInteger()
@@ -35,29 +45,50 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
-	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
-			DirectoryProvider directoryProvider, TimingSource timingSource,
+	private static final ConfigurationProperty<Boolean> REFRESH_BACKGROUND =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_BACKGROUND )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_BACKGROUND )
+					.build();
+
+	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource, String indexName,
+			DirectoryProvider directoryProvider, IndexWriterSettings writerSettings, TimingSource timingSource,
+			SortedSetDocValuesReaderStateCache facetsReaderStateCache,
 			ThreadPoolProvider threadPoolProvider, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		boolean refreshBackground = REFRESH_BACKGROUND.get( propertySource );
+		if ( refreshBackground && refreshInterval == 0 ) {
+			throw log.backgroundRefreshRequiresPositiveRefreshInterval(
+					REFRESH_BACKGROUND.resolveOrRaw( propertySource ),
+					REFRESH_INTERVAL.resolveOrRaw( propertySource ),
+					refreshInterval, EventContexts.fromIndexName( indexName )
+			);
+		}
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
+				directoryProvider, writerSettings, timingSource, facetsReaderStateCache,
+				commitInterval, refreshInterval, refreshBackground,
 				threadPoolProvider, failureHandler
 		);
 	}
 
 	private final TimingSource timingSource;
+	private final SortedSetDocValuesReaderStateCache facetsReaderStateCache;
 	private final int commitInterval;
 	private final int refreshInterval;
+	private final boolean refreshBackground;
 
-	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
-			TimingSource timingSource, int commitInterval, int refreshInterval,
+	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider, IndexWriterSettings writerSettings,
+			TimingSource timingSource, SortedSetDocValuesReaderStateCache facetsReaderStateCache,
+			int commitInterval, int refreshInterval, boolean refreshBackground,
 			ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+		super( directoryProvider, writerSettings, threadPoolProvider, failureHandler );
 		this.timingSource = timingSource;
+		this.facetsReaderStateCache = facetsReaderStateCache;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
+		this.refreshBackground = refreshBackground;
 	}
 
 	@Override
@@ -69,18 +100,27 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, analyzer,
-				timingSource, commitInterval, threadPoolProvider.getThreadProvider(),
+				timingSource, commitInterval, writerSettings,
+				threadPoolProvider.getThreadProvider(),
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(String indexName, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		// Background refresh only makes sense if we accept out-of-date readers,
+		// which is checked when creating this strategy
+		ScheduledExecutorService backgroundRefreshExecutor = refreshBackground
+				? threadPoolProvider.getSharedScheduledThreadPool()
+				: null;
+		return new NearRealTimeIndexReaderProvider(
+				indexName, indexWriterProvider, timingSource, refreshInterval,
+				backgroundRefreshExecutor, facetsReaderStateCache, failureHandler
+		);
 	}
 
 }
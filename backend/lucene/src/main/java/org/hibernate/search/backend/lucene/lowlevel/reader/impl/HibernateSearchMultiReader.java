@@ -15,8 +15,10 @@
 import java.util.Set;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.ExitableDirectoryReader;
 import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.index.QueryTimeout;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -75,6 +77,23 @@ public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	/**
+	 * @param queryTimeout A query timeout.
+	 * @return A reader over the same directory readers, each wrapped in an {@link ExitableDirectoryReader}
+	 * so that the given timeout is checked while enumerating terms.
+	 * The returned reader does not hold any reference to the directory readers:
+	 * it must not be used after this reader is closed, and does not need to be closed itself.
+	 * @throws IOException If wrapping the readers fails.
+	 */
+	public IndexReader wrapExitable(QueryTimeout queryTimeout) throws IOException {
+		IndexReader[] exitableReaders = new IndexReader[directoryReaders.size()];
+		for ( int i = 0; i < exitableReaders.length; i++ ) {
+			exitableReaders[i] = ExitableDirectoryReader.wrap( directoryReaders.get( i ), queryTimeout );
+		}
+		// If this flag isn't set to false, the MultiReader would close the wrappers, and thus the directory readers.
+		return new MultiReader( exitableReaders, false );
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean debugEnabled = log.isDebugEnabled();
@@ -11,6 +11,7 @@
 import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FilterDirectoryReader;
 import org.apache.lucene.index.IndexReaderContext;
 import org.apache.lucene.index.LeafReaderContext;
 
@@ -37,6 +38,7 @@ private DirectoryReader getDirectoryReader(LeafReaderContext context) {
 			);
 		}
 
-		return (DirectoryReader) current.reader();
+		// The directory reader may have been wrapped, e.g. in an ExitableDirectoryReader
+		return FilterDirectoryReader.unwrap( (DirectoryReader) current.reader() );
 	}
 }
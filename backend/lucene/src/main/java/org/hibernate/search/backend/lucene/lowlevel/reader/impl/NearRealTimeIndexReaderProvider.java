@@ -7,9 +7,19 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegatorImpl;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.IndexFailureContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,29 +32,67 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When background refresh is enabled, the index reader is instead refreshed periodically
+ * by a task running in a scheduled executor, as well as upon explicit calls to {@link #refresh()},
+ * so that threads requesting an index reader never have to open one,
+ * except for the very first one.
+ * Background refresh also warms up the cache of facets data for each newly opened reader.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final String indexName;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final ScheduledExecutorService backgroundRefreshExecutor;
+	private final SortedSetDocValuesReaderStateCache facetsReaderStateCache;
+	private final FailureHandler failureHandler;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * Current background refresh task, or null when background refresh is disabled or the reader is closed.
+	 */
+	private ScheduledFuture<?> backgroundRefreshFuture = null;
+
+	/**
+	 * @param indexName The name of the index, for failure reports.
+	 * @param indexWriterProvider The provider of index writers to open readers from.
+	 * @param timingSource A timing source.
+	 * @param refreshInterval The refresh interval, in milliseconds.
+	 * @param backgroundRefreshExecutor An executor to refresh the index reader in the background
+	 * every {@code refreshInterval} milliseconds, or {@code null} to refresh the index reader lazily
+	 * when it is requested.
+	 * @param facetsReaderStateCache The cache of facets data to warm up after each background refresh.
+	 * @param failureHandler The failure handler to report background refresh failures to.
+	 */
+	public NearRealTimeIndexReaderProvider(String indexName, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			ScheduledExecutorService backgroundRefreshExecutor,
+			SortedSetDocValuesReaderStateCache facetsReaderStateCache, FailureHandler failureHandler) {
+		this.indexName = indexName;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+		this.facetsReaderStateCache = facetsReaderStateCache;
+		this.failureHandler = failureHandler;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshFuture != null ) {
+			backgroundRefreshFuture.cancel( false );
+			backgroundRefreshFuture = null;
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -52,7 +100,16 @@ public synchronized void clear() throws IOException {
 	public void refresh() throws IOException {
 		IndexReaderEntry entry = currentReaderEntry;
 
-		if ( entry != null ) {
+		if ( entry == null ) {
+			return;
+		}
+
+		if ( backgroundRefreshExecutor != null ) {
+			// Refresh right now, in the calling (writing) thread,
+			// so that reading threads don't have to.
+			refreshIfChanged();
+		}
+		else {
 			entry.forceRefresh();
 		}
 	}
@@ -65,7 +122,7 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( backgroundRefreshExecutor != null || entry.isFresh() ) {
 				return entry.reader;
 			}
 			else {
@@ -78,26 +135,18 @@ public DirectoryReader getOrCreate() throws IOException {
 
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
-		IndexReaderEntry freshEntry;
-		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
-		}
-		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
-			if ( newReaderOrNull == null ) {
-				// No change, keep the old reader
-				freshEntry = oldEntry;
-			}
-			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
-			}
-		}
+		IndexReaderEntry freshEntry = openFreshEntry( indexWriterProvider.getOrCreate(), oldEntry );
 
 		if ( oldEntry != freshEntry ) {
 			setCurrentReaderEntry( freshEntry );
 		}
 
+		if ( backgroundRefreshExecutor != null && backgroundRefreshFuture == null ) {
+			backgroundRefreshFuture = backgroundRefreshExecutor.scheduleWithFixedDelay(
+					this::refreshInBackground, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+			);
+		}
+
 		// At this point the reference count is at least one, for the holder.
 		// Let's also increment the reference for the caller.
 		freshEntry.reader.incRef();
@@ -105,6 +154,68 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private synchronized void refreshIfChanged() throws IOException {
+		IndexReaderEntry oldEntry = currentReaderEntry;
+		IndexWriterDelegatorImpl indexWriterDelegator = indexWriterProvider.getOrNull();
+		if ( oldEntry == null || indexWriterDelegator == null ) {
+			// Cleared concurrently: the next call to getOrCreate will open a fresh reader.
+			return;
+		}
+
+		IndexReaderEntry freshEntry = openFreshEntry( indexWriterDelegator, oldEntry );
+		if ( oldEntry != freshEntry ) {
+			setCurrentReaderEntry( freshEntry );
+		}
+	}
+
+	private void refreshInBackground() {
+		try {
+			refreshIfChanged();
+			warmUpCurrentReader();
+		}
+		catch (RuntimeException | IOException e) {
+			// Don't propagate: that would cancel further executions of this task.
+			IndexFailureContext.Builder contextBuilder = IndexFailureContext.builder();
+			contextBuilder.indexName( indexName );
+			contextBuilder.throwable( e );
+			contextBuilder.failingOperation( log.indexReaderRefreshOperation() );
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
+	private void warmUpCurrentReader() throws IOException {
+		IndexReaderEntry entry = currentReaderEntry;
+		// Do this outside of any lock, so as not to block reading threads while warming up.
+		if ( entry == null || !entry.reader.tryIncRef() ) {
+			// Cleared concurrently
+			return;
+		}
+		try {
+			// No-op if the cache was already populated for this reader
+			facetsReaderStateCache.warm( entry.reader );
+		}
+		finally {
+			entry.reader.decRef();
+		}
+	}
+
+	private IndexReaderEntry openFreshEntry(IndexWriterDelegatorImpl indexWriterDelegator,
+			IndexReaderEntry oldEntry) throws IOException {
+		if ( oldEntry == null ) {
+			DirectoryReader newReader = indexWriterDelegator.openReader();
+			return new IndexReaderEntry( newReader, timingSource, refreshInterval );
+		}
+
+		DirectoryReader newReaderOrNull = indexWriterDelegator.openReaderIfChanged( oldEntry.reader );
+		if ( newReaderOrNull == null ) {
+			// No change, keep the old reader
+			return oldEntry;
+		}
+		else {
+			return new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
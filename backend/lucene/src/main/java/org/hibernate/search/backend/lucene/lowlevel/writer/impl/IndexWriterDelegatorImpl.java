@@ -25,7 +25,8 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final TimingSource timingSource;
 	private final int commitInterval;
 
-	private long commitExpiration;
+	// Volatile because multiple write threads may commit through the same writer
+	private volatile long commitExpiration;
 
 	public IndexWriterDelegatorImpl(IndexWriter delegate, TimingSource timingSource, int commitInterval) {
 		this.delegate = delegate;
@@ -64,6 +65,12 @@ public void commit() throws IOException {
 	}
 
 	public long commitOrDelay() throws IOException {
+		if ( !delegate.hasUncommittedChanges() ) {
+			// Nothing to commit: another thread using this writer may already have committed our changes.
+			// Changes lost because the writer was reset are detected by callers through the writer generation.
+			return 0L;
+		}
+
 		long timeToCommit = commitInterval == 0 ? 0L : commitExpiration - timingSource.getMonotonicTimeEstimate();
 
 		if ( timeToCommit > 0L ) {
@@ -23,7 +23,6 @@
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.IndexWriterConfig.OpenMode;
-import org.apache.lucene.index.MergeScheduler;
 
 /**
  * @author Sanne Grinovero (C) 2011 Red Hat Inc.
@@ -38,15 +37,10 @@ public class IndexWriterProvider {
 	private final Analyzer analyzer;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final IndexWriterSettings writerSettings;
 	private final ThreadProvider threadProvider;
 	private final FailureHandler failureHandler;
 
-	/* TODO HSEARCH-3776 re-allow configuring index writers
-	private final Similarity similarity;
-	private final LuceneIndexingParameters luceneParameters;
-	private final ParameterSet indexParameters;
-	 */
-
 	/**
 	 * Current open IndexWriter, or null when closed.
 	 */
@@ -57,9 +51,16 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * Incremented every time an open IndexWriter is closed,
+	 * so that users of this provider can detect that uncommitted changes may have been lost.
+	 */
+	private volatile long generation = 0L;
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, Analyzer analyzer,
 			TimingSource timingSource, int commitInterval,
+			IndexWriterSettings writerSettings,
 			ThreadProvider threadProvider,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -68,13 +69,9 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.analyzer = analyzer;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.writerSettings = writerSettings;
 		this.threadProvider = threadProvider;
 		this.failureHandler = failureHandler;
-		/* TODO HSEARCH-3776 re-allow configuring index writers
-		this.luceneParameters = indexManager.getIndexingParameters();
-		this.indexParameters = luceneParameters.getIndexParameters();
-		this.similarity = indexManager.getSimilarity();
-		 */
 	}
 
 	/**
@@ -92,6 +89,7 @@ public void clear() throws IOException {
 		try {
 			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.getAndSet( null );
 			if ( indexWriterDelegator != null ) {
+				++generation;
 				indexWriterDelegator.close();
 				log.trace( "IndexWriter closed" );
 			}
@@ -101,6 +99,14 @@ public void clear() throws IOException {
 		}
 	}
 
+	/**
+	 * @return The current generation of the index writer,
+	 * incremented every time an open index writer is closed through {@link #clear()}.
+	 */
+	public long getGeneration() {
+		return generation;
+	}
+
 	public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
@@ -133,18 +139,12 @@ private IndexWriter createNewIndexWriter() throws IOException {
 
 	private IndexWriterConfig createWriterConfig() {
 		IndexWriterConfig writerConfig = new IndexWriterConfig( analyzer );
-		/* TODO HSEARCH-3776 re-allow configuring index writers
-		luceneParameters.applyToWriter( writerConfig );
-		if ( similarity != null ) {
-			writerConfig.setSimilarity( similarity );
-		}
-		LogByteSizeMergePolicy newMergePolicy = indexParameters.getNewMergePolicy(); //TODO HSEARCH-3776 make it possible to configure a different policy?
-		writerConfig.setMergePolicy( newMergePolicy );
-		 */
-		MergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
+		writerSettings.applyToWriterConfig( writerConfig );
+		HibernateSearchConcurrentMergeScheduler mergeScheduler = new HibernateSearchConcurrentMergeScheduler(
 				indexName, eventContext.render(),
 				threadProvider, failureHandler
 		);
+		writerSettings.applyToMergeScheduler( mergeScheduler );
 		writerConfig.setMergeScheduler( mergeScheduler );
 		writerConfig.setOpenMode( OpenMode.CREATE_OR_APPEND );
 		return writerConfig;
@@ -0,0 +1,266 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.writer.MergePolicyName;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+/**
+ * User-provided settings for index writers and the related merge policy and merge scheduler.
+ * <p>
+ * Settings that are not set explicitly are left to their Lucene defaults.
+ */
+public final class IndexWriterSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<Integer> MAX_BUFFERED_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> RAM_BUFFER_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<MergePolicyName> MERGE_POLICY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_POLICY )
+					.as( MergePolicyName.class, MergePolicyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.IO_MERGE_POLICY )
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_DOCS =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_DOCS )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_FACTOR =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_FACTOR )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MIN_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MIN_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_MAX_FORCED_SIZE =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Boolean> MERGE_CALIBRATE_BY_DELETES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_CALIBRATE_BY_DELETES )
+					.asBoolean()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_THREAD_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MERGE_SCHEDULER_MAX_MERGE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT )
+					.asInteger()
+					.build();
+
+	// Same default as Lucene's ConcurrentMergeScheduler when the thread count is dynamic.
+	private static final int DEFAULT_ADDITIONAL_MERGE_COUNT = 5;
+
+	// Lucene rejects lower values for IndexWriterConfig#setMaxBufferedDocs, LogMergePolicy#setMergeFactor,
+	// TieredMergePolicy#setMaxMergeAtOnce and TieredMergePolicy#setSegmentsPerTier.
+	private static final int MIN_MAX_BUFFERED_DOCS = 2;
+	private static final int MIN_MERGE_FACTOR = 2;
+
+	public static IndexWriterSettings extract(ConfigurationPropertySource propertySource, String indexName) {
+		EventContext eventContext = EventContexts.fromIndexName( indexName );
+
+		Optional<Integer> mergeSchedulerMaxThreadCount =
+				getStrictlyPositive( MERGE_SCHEDULER_MAX_THREAD_COUNT, propertySource, eventContext );
+		Optional<Integer> mergeSchedulerMaxMergeCount =
+				getStrictlyPositive( MERGE_SCHEDULER_MAX_MERGE_COUNT, propertySource, eventContext );
+		if ( mergeSchedulerMaxMergeCount.isPresent() ) {
+			if ( !mergeSchedulerMaxThreadCount.isPresent() ) {
+				// Lucene only accepts an explicit merge count together with an explicit thread count.
+				throw log.mergeSchedulerMaxMergeCountWithoutMaxThreadCount(
+						MERGE_SCHEDULER_MAX_MERGE_COUNT.resolveOrRaw( propertySource ),
+						MERGE_SCHEDULER_MAX_THREAD_COUNT.resolveOrRaw( propertySource ),
+						eventContext
+				);
+			}
+			if ( mergeSchedulerMaxMergeCount.get() < mergeSchedulerMaxThreadCount.get() ) {
+				throw log.mergeSchedulerMaxMergeCountLowerThanMaxThreadCount(
+						MERGE_SCHEDULER_MAX_MERGE_COUNT.resolveOrRaw( propertySource ),
+						mergeSchedulerMaxMergeCount.get(),
+						MERGE_SCHEDULER_MAX_THREAD_COUNT.resolveOrRaw( propertySource ),
+						mergeSchedulerMaxThreadCount.get(),
+						eventContext
+				);
+			}
+		}
+
+		MergePolicyName mergePolicyName = MERGE_POLICY.get( propertySource );
+		Optional<Integer> mergeMaxDocs = getStrictlyPositive( MERGE_MAX_DOCS, propertySource, eventContext );
+		Optional<Integer> mergeMaxForcedSize = getStrictlyPositive( MERGE_MAX_FORCED_SIZE, propertySource, eventContext );
+		Optional<Boolean> mergeCalibrateByDeletes = MERGE_CALIBRATE_BY_DELETES.get( propertySource );
+		if ( MergePolicyName.TIERED.equals( mergePolicyName ) ) {
+			// TieredMergePolicy has no equivalent for these settings: don't ignore them silently.
+			checkNotSetForTieredMergePolicy( MERGE_MAX_DOCS, mergeMaxDocs, propertySource, eventContext );
+			checkNotSetForTieredMergePolicy( MERGE_MAX_FORCED_SIZE, mergeMaxForcedSize, propertySource, eventContext );
+			checkNotSetForTieredMergePolicy( MERGE_CALIBRATE_BY_DELETES, mergeCalibrateByDeletes,
+					propertySource, eventContext );
+		}
+
+		return new IndexWriterSettings(
+				getAtLeast( MAX_BUFFERED_DOCS, MIN_MAX_BUFFERED_DOCS, propertySource, eventContext ),
+				getStrictlyPositive( RAM_BUFFER_SIZE, propertySource, eventContext ),
+				mergePolicyName,
+				mergeMaxDocs,
+				getAtLeast( MERGE_FACTOR, MIN_MERGE_FACTOR, propertySource, eventContext ),
+				getStrictlyPositive( MERGE_MIN_SIZE, propertySource, eventContext ),
+				getStrictlyPositive( MERGE_MAX_SIZE, propertySource, eventContext ),
+				mergeMaxForcedSize,
+				mergeCalibrateByDeletes,
+				mergeSchedulerMaxThreadCount,
+				mergeSchedulerMaxMergeCount
+		);
+	}
+
+	private static void checkNotSetForTieredMergePolicy(OptionalConfigurationProperty<?> property,
+			Optional<?> value, ConfigurationPropertySource propertySource, EventContext eventContext) {
+		if ( value.isPresent() ) {
+			throw log.mergePolicySettingRequiresLogByteSizeMergePolicy( property.resolveOrRaw( propertySource ),
+					MERGE_POLICY.resolveOrRaw( propertySource ), eventContext );
+		}
+	}
+
+	private static Optional<Integer> getStrictlyPositive(OptionalConfigurationProperty<Integer> property,
+			ConfigurationPropertySource propertySource, EventContext eventContext) {
+		Optional<Integer> value = property.get( propertySource );
+		if ( value.isPresent() && value.get() <= 0 ) {
+			throw log.invalidIndexWriterSetting( property.resolveOrRaw( propertySource ), value.get(), eventContext );
+		}
+		return value;
+	}
+
+	private static Optional<Integer> getAtLeast(OptionalConfigurationProperty<Integer> property, int minimum,
+			ConfigurationPropertySource propertySource, EventContext eventContext) {
+		Optional<Integer> value = property.get( propertySource );
+		if ( value.isPresent() && value.get() < minimum ) {
+			throw log.invalidIndexWriterSettingBelowMinimum( property.resolveOrRaw( propertySource ),
+					value.get(), minimum, eventContext );
+		}
+		return value;
+	}
+
+	private final Optional<Integer> maxBufferedDocs;
+	private final Optional<Integer> ramBufferSize;
+	private final MergePolicyName mergePolicyName;
+	private final Optional<Integer> mergeMaxDocs;
+	private final Optional<Integer> mergeFactor;
+	private final Optional<Integer> mergeMinSize;
+	private final Optional<Integer> mergeMaxSize;
+	private final Optional<Integer> mergeMaxForcedSize;
+	private final Optional<Boolean> mergeCalibrateByDeletes;
+	private final Optional<Integer> mergeSchedulerMaxThreadCount;
+	private final Optional<Integer> mergeSchedulerMaxMergeCount;
+
+	private IndexWriterSettings(Optional<Integer> maxBufferedDocs, Optional<Integer> ramBufferSize,
+			MergePolicyName mergePolicyName, Optional<Integer> mergeMaxDocs, Optional<Integer> mergeFactor,
+			Optional<Integer> mergeMinSize, Optional<Integer> mergeMaxSize, Optional<Integer> mergeMaxForcedSize,
+			Optional<Boolean> mergeCalibrateByDeletes,
+			Optional<Integer> mergeSchedulerMaxThreadCount, Optional<Integer> mergeSchedulerMaxMergeCount) {
+		this.maxBufferedDocs = maxBufferedDocs;
+		this.ramBufferSize = ramBufferSize;
+		this.mergePolicyName = mergePolicyName;
+		this.mergeMaxDocs = mergeMaxDocs;
+		this.mergeFactor = mergeFactor;
+		this.mergeMinSize = mergeMinSize;
+		this.mergeMaxSize = mergeMaxSize;
+		this.mergeMaxForcedSize = mergeMaxForcedSize;
+		this.mergeCalibrateByDeletes = mergeCalibrateByDeletes;
+		this.mergeSchedulerMaxThreadCount = mergeSchedulerMaxThreadCount;
+		this.mergeSchedulerMaxMergeCount = mergeSchedulerMaxMergeCount;
+	}
+
+	void applyToWriterConfig(IndexWriterConfig writerConfig) {
+		maxBufferedDocs.ifPresent( writerConfig::setMaxBufferedDocs );
+		ramBufferSize.ifPresent( writerConfig::setRAMBufferSizeMB );
+
+		switch ( mergePolicyName ) {
+			case LOG_BYTE_SIZE:
+				writerConfig.setMergePolicy( createLogByteSizeMergePolicy() );
+				break;
+			case TIERED:
+			default:
+				// Lucene's default merge policy is a TieredMergePolicy already: only replace it if necessary.
+				if ( hasMergePolicySettings() ) {
+					writerConfig.setMergePolicy( createTieredMergePolicy() );
+				}
+				break;
+		}
+	}
+
+	void applyToMergeScheduler(ConcurrentMergeScheduler mergeScheduler) {
+		if ( mergeSchedulerMaxThreadCount.isPresent() ) {
+			int maxThreadCount = mergeSchedulerMaxThreadCount.get();
+			int maxMergeCount = mergeSchedulerMaxMergeCount.orElse( maxThreadCount + DEFAULT_ADDITIONAL_MERGE_COUNT );
+			mergeScheduler.setMaxMergesAndThreads( maxMergeCount, maxThreadCount );
+		}
+	}
+
+	private boolean hasMergePolicySettings() {
+		return mergeMaxDocs.isPresent() || mergeFactor.isPresent()
+				|| mergeMinSize.isPresent() || mergeMaxSize.isPresent() || mergeMaxForcedSize.isPresent()
+				|| mergeCalibrateByDeletes.isPresent();
+	}
+
+	private TieredMergePolicy createTieredMergePolicy() {
+		TieredMergePolicy mergePolicy = new TieredMergePolicy();
+		mergeFactor.ifPresent( factor -> {
+			// Same as what a merge factor means for LogMergePolicy
+			mergePolicy.setMaxMergeAtOnce( factor );
+			mergePolicy.setSegmentsPerTier( factor );
+		} );
+		mergeMinSize.ifPresent( mergePolicy::setFloorSegmentMB );
+		mergeMaxSize.ifPresent( mergePolicy::setMaxMergedSegmentMB );
+		return mergePolicy;
+	}
+
+	private LogByteSizeMergePolicy createLogByteSizeMergePolicy() {
+		LogByteSizeMergePolicy mergePolicy = new LogByteSizeMergePolicy();
+		mergeMaxDocs.ifPresent( mergePolicy::setMaxMergeDocs );
+		mergeFactor.ifPresent( mergePolicy::setMergeFactor );
+		mergeMinSize.ifPresent( mergePolicy::setMinMergeMB );
+		mergeMaxSize.ifPresent( mergePolicy::setMaxMergeMB );
+		mergeMaxForcedSize.ifPresent( mergePolicy::setMaxMergeMBForForcedMerge );
+		mergeCalibrateByDeletes.ifPresent( mergePolicy::setCalibrateSizeByDeletes );
+		return mergePolicy;
+	}
+
+}
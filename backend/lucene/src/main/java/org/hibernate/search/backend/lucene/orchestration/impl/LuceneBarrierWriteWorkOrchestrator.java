@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.List;
+
+/**
+ * An orchestrator for works affecting a whole shard (purge, merge, flush, refresh, ...),
+ * when the shard applies document works in multiple orchestrators.
+ * <p>
+ * Document works submitted earlier may still be waiting in the queue of any orchestrator:
+ * a flush or refresh must not be applied before them, and a purge must not overtake earlier additions.
+ * Thus shard-wide worksets act as a barrier across all orchestrators,
+ * see {@link LuceneBarrierWriteWorkSet}.
+ */
+public final class LuceneBarrierWriteWorkOrchestrator implements LuceneWriteWorkOrchestrator {
+
+	private final List<? extends LuceneWriteWorkOrchestrator> delegates;
+
+	public LuceneBarrierWriteWorkOrchestrator(List<? extends LuceneWriteWorkOrchestrator> delegates) {
+		this.delegates = delegates;
+	}
+
+	@Override
+	public synchronized void submit(LuceneWriteWorkSet workSet) {
+		/*
+		 * Synchronized so that barriers are enqueued in the same order in every orchestrator:
+		 * otherwise two concurrent barriers could each wait for the other.
+		 */
+		LuceneBarrierWriteWorkSet barrier = new LuceneBarrierWriteWorkSet( workSet, delegates.size() );
+		try {
+			for ( LuceneWriteWorkOrchestrator delegate : delegates ) {
+				delegate.submit( barrier.createParticipant() );
+			}
+		}
+		catch (RuntimeException e) {
+			// Release the orchestrators that already reached the barrier
+			barrier.markAsFailed( e );
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A workset that must be applied by a single orchestrator
+ * once all the orchestrators of a shard reached it in their queue.
+ * <p>
+ * Each orchestrator receives a {@link #createParticipant() participant}.
+ * Orchestrators block when they process their participant,
+ * until the last orchestrator to process its participant applies the workset.
+ * Thus the workset is applied after all worksets submitted earlier to any orchestrator,
+ * and before all worksets submitted later.
+ */
+final class LuceneBarrierWriteWorkSet {
+
+	private final LuceneWriteWorkSet workSet;
+	private final CompletableFuture<Void> released = new CompletableFuture<>();
+
+	// Guarded by "this"
+	private int remainingParticipants;
+
+	LuceneBarrierWriteWorkSet(LuceneWriteWorkSet workSet, int participantCount) {
+		this.workSet = workSet;
+		this.remainingParticipants = participantCount;
+	}
+
+	LuceneWriteWorkSet createParticipant() {
+		return new Participant();
+	}
+
+	void markAsFailed(Throwable throwable) {
+		if ( released.completeExceptionally( throwable ) ) {
+			workSet.markAsFailed( throwable );
+		}
+	}
+
+	private void arrive(LuceneWriteWorkProcessor processor) {
+		boolean last;
+		synchronized ( this ) {
+			if ( released.isDone() ) {
+				// The barrier failed: the workset was already marked as failed.
+				return;
+			}
+			last = --remainingParticipants == 0;
+		}
+
+		if ( last ) {
+			try {
+				workSet.submitTo( processor );
+			}
+			finally {
+				released.complete( null );
+			}
+			return;
+		}
+
+		try {
+			released.get();
+		}
+		catch (InterruptedException e) {
+			// The orchestrator is being stopped: release the other orchestrators.
+			Thread.currentThread().interrupt();
+			markAsFailed( e );
+		}
+		catch (ExecutionException e) {
+			// The barrier failed: the workset was already marked as failed.
+		}
+	}
+
+	private final class Participant implements LuceneWriteWorkSet {
+		@Override
+		public void submitTo(LuceneWriteWorkProcessor processor) {
+			arrive( processor );
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			LuceneBarrierWriteWorkSet.this.markAsFailed( t );
+		}
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
@@ -14,7 +16,33 @@
 
 public interface LuceneReadWorkOrchestrator {
 
-	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+	/**
+	 * Execute the given read work in the calling thread.
+	 *
+	 * @param tenantId The identifier of the tenant executing the work, or {@code null}.
+	 * Used for admission control, if enabled.
+	 * @param indexNames The names of the targeted indexes.
+	 * @param indexManagerContexts The contexts of the targeted index managers.
+	 * @param routingKeys The routing keys restricting the targeted shards, if any.
+	 * @param work The work to execute.
+	 * @param <T> The type of the result.
+	 * @return The result of {@code work}.
+	 */
+	<T> T submit(String tenantId, Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work);
 
+	/**
+	 * Execute the given task in the asynchronous search thread pool,
+	 * or in the calling thread if that thread pool is disabled.
+	 * <p>
+	 * The task is expected to {@link #submit(String, Set, Set, Set, LuceneReadWork) submit} read works
+	 * and post-process their results.
+	 *
+	 * @param task The task to execute.
+	 * @param <T> The type of the result.
+	 * @return A future that will be completed with the result of {@code task},
+	 * or completed exceptionally if {@code task} throws an exception.
+	 */
+	<T> CompletableFuture<T> executeAsync(Supplier<T> task);
+
 }
@@ -10,6 +10,9 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
@@ -18,19 +21,36 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.backend.orchestration.spi.SearchAdmissionController;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.QueryTimeout;
+import org.apache.lucene.search.IndexSearcher;
 
 /**
  * An orchestrator that executes read works synchronously in the current thread.
  * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * Asynchronous execution is achieved by calling this orchestrator from
+ * {@link #executeAsync(Supplier) a dedicated thread pool}:
+ * read works themselves are always executed synchronously.
+ * <p>
+ * Optionally, a single read work may be parallelized:
+ * when a search thread pool is configured,
+ * index searchers will dispatch the search of each slice (shard, group of segments)
+ * to that thread pool, and the calling thread will merge the results.
+ * <p>
+ * The asynchronous thread pool is distinct from the search thread pool,
+ * so that a query never waits for a thread that is itself waiting for slices to be searched.
+ * <p>
+ * Optionally, read works may go through {@link SearchAdmissionController admission control}
+ * before opening any index reader, so as to bound the number of read works executing concurrently:
+ * read works that cannot be admitted immediately block the calling thread until they are admitted or rejected.
  */
 public class LuceneReadWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneReadWorkOrchestratorImpl.ReadTask<?>>
@@ -38,15 +58,50 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneReadWorkOrchestratorImpl(String name) {
+	private final ThreadPoolProvider threadPoolProvider;
+	private final int searchThreadPoolSize;
+	private final int asyncThreadPoolSize;
+	private final SearchAdmissionController admissionController;
+
+	private volatile ExecutorService searchExecutor;
+	private volatile ExecutorService asyncExecutor;
+
+	/**
+	 * @param name The name of this orchestrator when reporting errors, also used to name search threads.
+	 * @param threadPoolProvider A provider of thread pools.
+	 * @param searchThreadPoolSize The number of threads to use to search slices of indexes concurrently,
+	 * or {@code 0} to execute searches entirely in the calling thread.
+	 * @param asyncThreadPoolSize The number of threads to use to execute asynchronous queries,
+	 * or {@code 0} to execute asynchronous queries in the calling thread.
+	 * @param admissionController The admission controller to go through before executing each read work,
+	 * or {@code null} to execute read works immediately.
+	 */
+	public LuceneReadWorkOrchestratorImpl(String name,
+			ThreadPoolProvider threadPoolProvider, int searchThreadPoolSize, int asyncThreadPoolSize,
+			SearchAdmissionController admissionController) {
 		super( name );
-		start(); // Nothing to start, just force the superclass to go to the right state.
+		this.threadPoolProvider = threadPoolProvider;
+		this.searchThreadPoolSize = searchThreadPoolSize;
+		this.asyncThreadPoolSize = asyncThreadPoolSize;
+		this.admissionController = admissionController;
+		start(); // Force the superclass to go to the right state, and start the thread pools if necessary.
 	}
 
 	@Override
-	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+	public <T> T submit(String tenantId, Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, LuceneReadWork<T> work) {
+		if ( admissionController == null ) {
+			return executeReadWork( indexNames, indexManagerContexts, routingKeys, work );
+		}
+		return admissionController.execute(
+				tenantId, () -> executeReadWork( indexNames, indexManagerContexts, routingKeys, work )
+		);
+	}
+
+	private <T> T executeReadWork(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work) {
-		ReadTask<T> task = new ReadTask<>( indexNames, indexManagerContexts, routingKeys, work );
+		ReadTask<T> task = new ReadTask<>( indexNames, indexManagerContexts, routingKeys, work, searchExecutor );
 		Throwable throwable = null;
 		try {
 			submit( task );
@@ -70,9 +125,24 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> executeAsync(Supplier<T> task) {
+		Executor executor = asyncExecutor;
+		if ( executor == null ) {
+			return Futures.create( () -> CompletableFuture.completedFuture( task.get() ) );
+		}
+		// Rejections (e.g. after the orchestrator was stopped) must fail the future, not the caller.
+		return Futures.create( () -> CompletableFuture.supplyAsync( task, executor ) );
+	}
+
 	@Override
 	protected void doStart() {
-		// Nothing to do
+		if ( searchThreadPoolSize > 0 ) {
+			searchExecutor = threadPoolProvider.newFixedThreadPool( searchThreadPoolSize, getName() );
+		}
+		if ( asyncThreadPoolSize > 0 ) {
+			asyncExecutor = threadPoolProvider.newFixedThreadPool( asyncThreadPoolSize, getName() + " - async" );
+		}
 	}
 
 	@Override
@@ -88,21 +158,33 @@ protected CompletableFuture<?> getCompletion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		if ( admissionController != null ) {
+			admissionController.stop();
+		}
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+			searchExecutor = null;
+		}
+		if ( asyncExecutor != null ) {
+			asyncExecutor.shutdownNow();
+			asyncExecutor = null;
+		}
 	}
 
 	static class ReadTask<T> implements AutoCloseable, LuceneReadWorkExecutionContext {
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
 		private final LuceneReadWork<T> work;
+		private final Executor searchExecutor;
 
 		private T result;
 
 		ReadTask(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, LuceneReadWork<T> work) {
+				Set<String> routingKeys, LuceneReadWork<T> work, Executor searchExecutor) {
 			this.indexNames = indexNames;
 			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
 			this.work = work;
+			this.searchExecutor = searchExecutor;
 		}
 
 		@Override
@@ -110,6 +192,22 @@ public IndexReader getIndexReader() {
 			return indexReader;
 		}
 
+		@Override
+		public IndexSearcher createIndexSearcher() {
+			// A null executor means the whole search will be executed in the current thread.
+			return new IndexSearcher( indexReader, searchExecutor );
+		}
+
+		@Override
+		public IndexSearcher createIndexSearcher(QueryTimeout queryTimeout) throws IOException {
+			if ( !queryTimeout.isTimeoutEnabled() ) {
+				// Nothing to check while enumerating terms: avoid the overhead of wrapping.
+				return createIndexSearcher();
+			}
+			// The wrapped reader does not need to be closed: closing the original reader is enough.
+			return new IndexSearcher( indexReader.wrapExitable( queryTimeout ), searchExecutor );
+		}
+
 		@Override
 		public IndexReaderMetadataResolver getIndexReaderMetadataResolver() {
 			return indexReader.getMetadataResolver();
@@ -11,6 +11,9 @@
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
@@ -38,8 +41,14 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 	private final IndexAccessor indexAccessor;
 	private final LuceneWriteWorkExecutionContextImpl context;
 	private final FailureHandler failureHandler;
+	private final ReadWriteLock writerUsageLock;
 
 	private List<LuceneWriteWork<?>> previousWorkSetsUncommittedWorks = new ArrayList<>();
+	/**
+	 * The generation of the index writer that uncommitted works were applied to.
+	 * See {@link IndexAccessor#getWriterGeneration()}.
+	 */
+	private long uncommittedWorksWriterGeneration;
 
 	private boolean workSetForcesCommit;
 	private boolean workSetForcesRefresh;
@@ -48,11 +57,27 @@ public class LuceneWriteWorkProcessor implements BatchingExecutor.WorkProcessor
 
 	public LuceneWriteWorkProcessor(String indexName, EventContext eventContext,
 			IndexAccessor indexAccessor, FailureHandler failureHandler) {
+		this( indexName, eventContext, indexAccessor, failureHandler, new ReentrantReadWriteLock() );
+	}
+
+	/**
+	 * @param indexName The name of the index.
+	 * @param eventContext The event context of the index (or shard).
+	 * @param indexAccessor The index accessor.
+	 * @param failureHandler A failure handler.
+	 * @param writerUsageLock A lock shared by all processors using the same index accessor from different threads:
+	 * the read lock is held while using the index writer, and the write lock is held while resetting it,
+	 * so that a processor never closes the index writer while another processor is using it.
+	 */
+	public LuceneWriteWorkProcessor(String indexName, EventContext eventContext,
+			IndexAccessor indexAccessor, FailureHandler failureHandler,
+			ReadWriteLock writerUsageLock) {
 		this.indexName = indexName;
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.context = new LuceneWriteWorkExecutionContextImpl( eventContext, indexAccessor );
 		this.failureHandler = failureHandler;
+		this.writerUsageLock = writerUsageLock;
 	}
 
 	@Override
@@ -119,8 +144,16 @@ public <T> T submit(LuceneWriteWork<T> work) {
 			);
 		}
 		try {
-			workSetUncommittedWorks.add( work );
-			return work.execute( context );
+			Lock lock = writerUsageLock.readLock();
+			lock.lock();
+			try {
+				checkWriterGeneration();
+				workSetUncommittedWorks.add( work );
+				return work.execute( context );
+			}
+			finally {
+				lock.unlock();
+			}
 		}
 		catch (RuntimeException e) {
 			cleanUpAfterFailure( e, work.getInfo() );
@@ -131,7 +164,7 @@ public <T> T submit(LuceneWriteWork<T> work) {
 	public void afterSuccessfulWorkSet() {
 		if ( workSetForcesCommit ) {
 			try {
-				indexAccessor.commit();
+				commit();
 				// Previous worksets were committed along with this workset
 				previousWorkSetsUncommittedWorks.clear();
 			}
@@ -152,15 +185,52 @@ public void afterSuccessfulWorkSet() {
 		if ( workSetForcesRefresh ) {
 			// In case of failure, just propagate the exception:
 			// we don't expect a refresh failure to affect the writer.
+			refresh();
+		}
+	}
+
+	private void commit() {
+		Lock lock = writerUsageLock.readLock();
+		lock.lock();
+		try {
+			checkWriterGeneration();
+			indexAccessor.commit();
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void refresh() {
+		Lock lock = writerUsageLock.readLock();
+		lock.lock();
+		try {
 			indexAccessor.refresh();
 		}
+		finally {
+			lock.unlock();
+		}
 	}
 
 	private long tryCommitOrDelay() {
-		long timeToCommit = indexAccessor.commitOrDelay();
+		long timeToCommit;
+		Lock lock = writerUsageLock.readLock();
+		lock.lock();
+		try {
+			checkWriterGeneration();
+			if ( previousWorkSetsUncommittedWorks.isEmpty() ) {
+				// Our works were lost when another processor reset the index writer, and were reported as such.
+				return 0L;
+			}
+			timeToCommit = indexAccessor.commitOrDelay();
+		}
+		finally {
+			lock.unlock();
+		}
 
 		if ( timeToCommit == 0 ) {
-			// The commit was executed
+			// The commit was executed, or another processor sharing the index writer committed our works already:
+			// the writer generation did not change, so our works cannot have been lost.
 			previousWorkSetsUncommittedWorks.clear();
 		}
 		// else: the commit was delayed to a later time
@@ -169,6 +239,13 @@ private long tryCommitOrDelay() {
 	}
 
 	private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
+		/*
+		 * Other processors may be using the same index writer in other threads:
+		 * wait for them to finish their current work before closing the writer.
+		 * They will simply open a new writer for their next work.
+		 */
+		Lock lock = writerUsageLock.writeLock();
+		lock.lock();
 		try {
 			/*
 			 * Note this will close the index writer,
@@ -179,6 +256,11 @@ private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		catch (RuntimeException | IOException e) {
 			throwable.addSuppressed( log.unableToCleanUpAfterError( eventContext, e ) );
 		}
+		finally {
+			// Our own uncommitted works are reported below, not as a consequence of the writer generation change.
+			uncommittedWorksWriterGeneration = indexAccessor.getWriterGeneration();
+			lock.unlock();
+		}
 
 		if ( previousWorkSetsUncommittedWorks.isEmpty() ) {
 			// The failure will be reported elsewhere with all the necessary context.
@@ -201,4 +283,40 @@ private void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		IndexFailureContext failureContext = failureContextBuilder.build();
 		failureHandler.handle( failureContext );
 	}
+
+	/**
+	 * Checks whether the index writer was reset by another processor sharing the same index accessor
+	 * since our uncommitted works were applied,
+	 * and if so reports these works to the failure handler, since they may have been lost.
+	 * <p>
+	 * Must be called while holding the read lock of {@link #writerUsageLock},
+	 * so that the writer generation cannot change until the lock is released.
+	 */
+	private void checkWriterGeneration() {
+		long currentGeneration = indexAccessor.getWriterGeneration();
+		if ( currentGeneration == uncommittedWorksWriterGeneration ) {
+			return;
+		}
+		uncommittedWorksWriterGeneration = currentGeneration;
+
+		if ( previousWorkSetsUncommittedWorks.isEmpty() && workSetUncommittedWorks.isEmpty() ) {
+			// Nothing was lost.
+			return;
+		}
+
+		IndexFailureContext.Builder failureContextBuilder = IndexFailureContext.builder();
+		failureContextBuilder.indexName( indexName );
+		failureContextBuilder.throwable( log.uncommittedWorksLostOnIndexWriterReset( eventContext ) );
+		failureContextBuilder.failingOperation( "Index writer reset after a failure in another thread" );
+		for ( LuceneWriteWork<?> work : previousWorkSetsUncommittedWorks ) {
+			failureContextBuilder.uncommittedOperation( work.getInfo() );
+		}
+		for ( LuceneWriteWork<?> work : workSetUncommittedWorks ) {
+			failureContextBuilder.uncommittedOperation( work.getInfo() );
+		}
+		previousWorkSetsUncommittedWorks.clear();
+		workSetUncommittedWorks.clear();
+		IndexFailureContext failureContext = failureContextBuilder.build();
+		failureHandler.handle( failureContext );
+	}
 }
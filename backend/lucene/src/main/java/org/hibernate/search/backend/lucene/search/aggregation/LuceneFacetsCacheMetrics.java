@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.aggregation;
+
+import java.time.Duration;
+
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * Metrics related to the cache of facet ordinals used by terms aggregations on text fields.
+ * <p>
+ * Values are read from live counters:
+ * two values retrieved from the same instance may not be consistent with each other.
+ */
+@Incubating
+public interface LuceneFacetsCacheMetrics {
+
+	/**
+	 * @return The total number of times facet ordinals were retrieved from the cache.
+	 */
+	long getHitCount();
+
+	/**
+	 * @return The total number of times facet ordinals had to be loaded from the index,
+	 * be it because they were not cached yet or because the reader could not be cached.
+	 */
+	long getMissCount();
+
+	/**
+	 * @return The number of entries currently in the cache.
+	 * Entries are evicted when one of the index readers they were built from is closed.
+	 */
+	int getEntryCount();
+
+	/**
+	 * @return The total time spent loading facet ordinals from the index.
+	 */
+	Duration getTotalLoadTime();
+
+}
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 
 import org.apache.lucene.index.IndexReader;
@@ -18,13 +19,15 @@ public class AggregationExtractContext {
 	private final IndexReader indexReader;
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final CollectorSet collectors;
+	private final TimeoutManager timeoutManager;
 
 	public AggregationExtractContext(IndexReader indexReader,
 			FromDocumentFieldValueConvertContext convertContext,
-			CollectorSet collectors) {
+			CollectorSet collectors, TimeoutManager timeoutManager) {
 		this.indexReader = indexReader;
 		this.convertContext = convertContext;
 		this.collectors = collectors;
+		this.timeoutManager = timeoutManager;
 	}
 
 	public IndexReader getIndexReader() {
@@ -39,4 +42,16 @@ public <C extends Collector> C getCollector(CollectorKey<C> key) {
 		return collectors.get( key );
 	}
 
+	public boolean isAggregationBucketCountLimited() {
+		return timeoutManager.getAggregationBucketLimit() != null;
+	}
+
+	/**
+	 * @param count The number of buckets an aggregation is about to count.
+	 * @throws org.hibernate.search.util.common.SearchException If the aggregation bucket limit was exceeded.
+	 */
+	public void countBuckets(long count) {
+		timeoutManager.countAggregationBuckets( count );
+	}
+
 }
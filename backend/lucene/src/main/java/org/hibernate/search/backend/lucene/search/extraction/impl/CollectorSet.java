@@ -7,13 +7,16 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ResourceLimitingCollector;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
 import org.apache.lucene.search.Collector;
@@ -39,6 +42,31 @@ public <C extends Collector> C get(CollectorKey<C> key) {
 		return (C) components.get( key );
 	}
 
+	/**
+	 * @param collectorFactories The factories that created the collectors to reduce.
+	 * @param collectorSets Collector sets built from the given factories, one per slice of the index
+	 * that was searched concurrently.
+	 * @return A collector set exposing one reduced collector for each factory.
+	 * The returned set cannot be used to collect more data: {@link #getComposed()} will return {@code null}.
+	 */
+	static CollectorSet reduce(Set<CollectorFactory<?>> collectorFactories, List<CollectorSet> collectorSets) {
+		Map<CollectorKey<?>, Collector> reducedComponents = new LinkedHashMap<>();
+		for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
+			reducedComponents.put( collectorFactory.getCollectorKey(), reduce( collectorFactory, collectorSets ) );
+		}
+		return new CollectorSet( null, reducedComponents );
+	}
+
+	private static <C extends Collector> C reduce(CollectorFactory<C> collectorFactory,
+			List<CollectorSet> collectorSets) {
+		CollectorKey<C> key = collectorFactory.getCollectorKey();
+		List<C> collectors = new ArrayList<>( collectorSets.size() );
+		for ( CollectorSet collectorSet : collectorSets ) {
+			collectors.add( collectorSet.get( key ) );
+		}
+		return collectorFactory.reduce( collectors );
+	}
+
 	public static class Builder {
 
 		private final CollectorExecutionContext executionContext;
@@ -67,10 +95,19 @@ public CollectorSet build() {
 					MultiCollector.wrap( components.values() ),
 					timeoutManager
 			);
+			composed = wrapResourceLimitingCollectorIfNecessary( composed, timeoutManager );
 
 			return new CollectorSet( composed, components );
 		}
 
+		private Collector wrapResourceLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
+			// Only pay for the per-document checks if they may actually fail.
+			if ( timeoutManager.isCancellable() || timeoutManager.getVisitedDocumentLimit() != null ) {
+				return new ResourceLimitingCollector( collector, timeoutManager );
+			}
+			return collector;
+		}
+
 		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
 			final Long timeoutLeft = timeoutManager.checkTimeLeftInMilliseconds();
 			if ( timeoutLeft != null ) {
@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
@@ -16,16 +19,26 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
 import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
 import org.apache.lucene.search.TotalHitCountCollector;
+import org.apache.lucene.search.TotalHits;
 
 public class LuceneCollectors {
 
@@ -36,30 +49,48 @@ public class LuceneCollectors {
 
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
+	private final Sort sort;
+	private final ScoreDoc after;
+	private final int topDocsTotalHitsThreshold;
+	private final boolean trackTotalHitCount;
 
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
+	private final CollectorExecutionContext executionContext;
+	private final Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories;
+	private CollectorSet collectorsForAllMatchingDocs;
 	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
 	private long totalHitCount = 0;
+	private boolean totalHitCountExact = true;
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
-			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
+			Sort sort, ScoreDoc after, Integer totalHitCountThreshold, boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
+			CollectorExecutionContext executionContext,
+			Set<CollectorFactory<?>> collectorsForAllMatchingDocsFactories,
 			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
+		this.sort = sort;
+		this.after = after;
+		int maxDocs = executionContext.getMaxDocs();
+		// Without top docs, counting is the only thing we do: just count exactly.
+		// Otherwise, let the top docs collector count hits, up to the threshold,
+		// which allows it to skip non-competitive hits.
+		this.trackTotalHitCount = maxDocs == 0 || totalHitCountThreshold == null
+				|| totalHitCountThreshold == Integer.MAX_VALUE;
+		this.topDocsTotalHitsThreshold = trackTotalHitCount ? Integer.MAX_VALUE : totalHitCountThreshold;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.executionContext = executionContext;
+		this.collectorsForAllMatchingDocsFactories = collectorsForAllMatchingDocsFactories;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -71,21 +102,45 @@ public void collect(int offset, Integer limit) throws IOException {
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
+		// If the index searcher has an executor, slices of the index will be searched concurrently.
+		AllMatchingDocsCollectorManager collectorManager = new AllMatchingDocsCollectorManager();
+		List<CollectorSet> sliceCollectorSets = indexSearcher.search( luceneQuery, collectorManager );
+		if ( collectorManager.timedOut ) {
 			timeoutManager.forceTimedOut();
 		}
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+		if ( sliceCollectorSets.size() == 1 ) {
+			CollectorSet collectorSet = sliceCollectorSets.get( 0 );
+			this.collectorsForAllMatchingDocs = collectorSet;
+			if ( trackTotalHitCount ) {
+				this.totalHitCount = collectorSet.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+			}
+			TopDocsCollector<?> topDocsCollector = collectorSet.get( TOP_DOCS_KEY );
+			if ( topDocsCollector == null ) {
+				return;
+			}
+			extractTopDocs( topDocsCollector, offset, limit );
+		}
+		else {
+			this.collectorsForAllMatchingDocs =
+					CollectorSet.reduce( collectorsForAllMatchingDocsFactories, sliceCollectorSets );
+			if ( trackTotalHitCount ) {
+				for ( CollectorSet collectorSet : sliceCollectorSets ) {
+					this.totalHitCount += collectorSet.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
+				}
+			}
+			if ( executionContext.getMaxDocs() == 0 ) {
+				return;
+			}
+			mergeTopDocs( sliceCollectorSets, offset, limit );
+		}
 
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
-			return;
+		if ( !trackTotalHitCount ) {
+			TotalHits totalHits = topDocs.totalHits;
+			this.totalHitCount = totalHits.value;
+			this.totalHitCountExact = TotalHits.Relation.EQUAL_TO.equals( totalHits.relation );
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
@@ -114,10 +169,86 @@ public long getTotalHitCount() {
 		return totalHitCount;
 	}
 
+	public boolean isTotalHitCountExact() {
+		return totalHitCountExact;
+	}
+
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
+	private CollectorSet createCollectorsForAllMatchingDocs() throws IOException {
+		CollectorSet.Builder builder = new CollectorSet.Builder( executionContext, timeoutManager );
+
+		int maxDocs = executionContext.getMaxDocs();
+		if ( maxDocs > 0 ) {
+			builder.add( TOP_DOCS_KEY, createTopDocsCollector( maxDocs ) );
+		}
+
+		if ( trackTotalHitCount ) {
+			// This disables the ability of top docs collectors to skip non-competitive hits,
+			// since MultiCollector requires complete scores as soon as it wraps multiple collectors.
+			builder.add( TOTAL_HIT_COUNT_KEY, new TotalHitCountCollector() );
+		}
+
+		builder.addAll( collectorsForAllMatchingDocsFactories );
+		return builder.build();
+	}
+
+	private TopDocsCollector<?> createTopDocsCollector(int maxDocs) {
+		if ( sort == null ) {
+			return TopScoreDocCollector.create(
+					maxDocs,
+					after,
+					topDocsTotalHitsThreshold
+			);
+		}
+		else {
+			return TopFieldCollector.create(
+					sort,
+					maxDocs,
+					(FieldDoc) after,
+					topDocsTotalHitsThreshold
+			);
+		}
+	}
+
+	private void mergeTopDocs(List<CollectorSet> sliceCollectorSets, int offset, Integer limit) {
+		int topN = limit == null ? executionContext.getMaxDocs() : limit;
+		if ( sort == null ) {
+			TopDocs[] sliceTopDocs = new TopDocs[sliceCollectorSets.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = sliceCollectorSets.get( i ).get( TOP_DOCS_KEY ).topDocs();
+				setDocIdAsTieBreaker( sliceTopDocs[i] );
+			}
+			topDocs = TopDocs.merge( offset, topN, sliceTopDocs, false );
+		}
+		else {
+			TopFieldDocs[] sliceTopDocs = new TopFieldDocs[sliceCollectorSets.size()];
+			for ( int i = 0; i < sliceTopDocs.length; i++ ) {
+				sliceTopDocs[i] = (TopFieldDocs) sliceCollectorSets.get( i ).get( TOP_DOCS_KEY ).topDocs();
+				setDocIdAsTieBreaker( sliceTopDocs[i] );
+			}
+			topDocs = TopDocs.merge( sort, offset, topN, sliceTopDocs, false );
+		}
+		for ( ScoreDoc scoreDoc : topDocs.scoreDocs ) {
+			scoreDoc.shardIndex = -1;
+		}
+	}
+
+	/*
+	 * TopDocs.merge breaks ties using the shard index of each hit.
+	 * Slices are not ordered by doc base, so using the slice index would not order tied hits by doc id,
+	 * whereas collectors, and thus "search after" in scrolls, break ties by doc id:
+	 * scroll chunks would skip or repeat tied hits.
+	 * Using the (global) doc id as the shard index restores the same ordering as a non-sliced search.
+	 */
+	private static void setDocIdAsTieBreaker(TopDocs sliceTopDocs) {
+		for ( ScoreDoc scoreDoc : sliceTopDocs.scoreDocs ) {
+			scoreDoc.shardIndex = scoreDoc.doc;
+		}
+	}
+
 	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
 		if ( limit == null ) {
 			topDocs = topDocsCollector.topDocs( offset );
@@ -163,4 +294,70 @@ private void applyCollectorsToTopDocs() throws IOException {
 		// This will collect data
 		indexSearcher.search( topDocsQuery, collector );
 	}
+
+	/**
+	 * Creates one collector set per slice of the index,
+	 * so that slices can be searched concurrently.
+	 * <p>
+	 * Timeouts are handled by terminating the collection in each slice,
+	 * so that data collected before the timeout is still available,
+	 * as when searching the whole index in a single thread.
+	 */
+	private class AllMatchingDocsCollectorManager implements CollectorManager<SliceCollector, List<CollectorSet>> {
+
+		private volatile boolean timedOut = false;
+
+		@Override
+		public SliceCollector newCollector() throws IOException {
+			return new SliceCollector( this, createCollectorsForAllMatchingDocs() );
+		}
+
+		@Override
+		public List<CollectorSet> reduce(Collection<SliceCollector> collectors) {
+			List<CollectorSet> result = new ArrayList<>( collectors.size() );
+			for ( SliceCollector collector : collectors ) {
+				result.add( collector.collectorSet );
+			}
+			return result;
+		}
+	}
+
+	private static class SliceCollector extends FilterCollector {
+
+		private final AllMatchingDocsCollectorManager manager;
+		private final CollectorSet collectorSet;
+
+		SliceCollector(AllMatchingDocsCollectorManager manager, CollectorSet collectorSet) {
+			super( collectorSet.getComposed() );
+			this.manager = manager;
+			this.collectorSet = collectorSet;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( manager.timedOut ) {
+				throw new CollectionTerminatedException();
+			}
+			LeafCollector leafCollector;
+			try {
+				leafCollector = super.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				manager.timedOut = true;
+				throw new CollectionTerminatedException();
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						manager.timedOut = true;
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+	}
 }
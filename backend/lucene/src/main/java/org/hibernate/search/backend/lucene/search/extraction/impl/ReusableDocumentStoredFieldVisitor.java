@@ -15,13 +15,15 @@
 import org.apache.lucene.document.StoredField;
 import org.apache.lucene.document.TextField;
 import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.FieldInfos;
 import org.apache.lucene.index.StoredFieldVisitor;
 
 /**
  * Inspired by Lucene's DocumentStoredFieldVisitor, with the difference that we want
  * to reuse the same FieldVisitor to load multiple Document instances.
- * Also the accepted fields are kept in a linked-list like structure, to optimize
- * for small amounts of accepted fields.
+ * Also the accepted fields are resolved to field numbers once per segment,
+ * so that checking whether a field is accepted is a simple array lookup,
+ * and the field types of string fields are created once per segment instead of once per value.
  *
  * A ReusableDocumentStoredFieldVisitor is NOT threadsafe: in case you need one
  * for multiple threads make a clone for each thread.
@@ -31,10 +33,15 @@
  */
 public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor {
 
-	private static final FieldAcceptor NOT_ACCEPT = new DenyingFieldAcceptor();
+	private static final boolean[] NO_ACCEPTED_FIELD = new boolean[0];
+	private static final FieldType[] NO_FIELD_TYPE = new FieldType[0];
 
-	private final FieldAcceptor rootAcceptor;
-	private final int totalFields;
+	private final Set<String> fieldsToLoad;
+
+	// Per-segment state, see setFieldInfos()
+	private boolean[] acceptedByFieldNumber = NO_ACCEPTED_FIELD;
+	private FieldType[] stringFieldTypesByFieldNumber = NO_FIELD_TYPE;
+	private int totalFields;
 
 	//The Lucene Document which will be returned. Lazily initialized.
 	private Document doc = null;
@@ -47,7 +54,7 @@ public final class ReusableDocumentStoredFieldVisitor extends StoredFieldVisitor
 	 * Create a visitor that collects all fields.
 	 */
 	public ReusableDocumentStoredFieldVisitor() {
-		this.rootAcceptor = null;
+		this.fieldsToLoad = null;
 		this.totalFields = 0; // Shouldn't be used
 		this.missingFields = totalFields;
 	}
@@ -56,12 +63,39 @@ public ReusableDocumentStoredFieldVisitor() {
 	 * Create a visitor that collects only some specified fields.
 	 */
 	public ReusableDocumentStoredFieldVisitor(Set<String> fieldsToLoad) {
-		FieldAcceptor previous = NOT_ACCEPT;
+		this.fieldsToLoad = fieldsToLoad;
+		this.totalFields = 0; // Set in setFieldInfos()
+		this.missingFields = totalFields;
+	}
+
+	/**
+	 * Prepare this visitor for visiting documents of a new segment.
+	 * <p>
+	 * Must be called before visiting the first document of each segment.
+	 *
+	 * @param fieldInfos The field infos of the segment.
+	 */
+	public void setFieldInfos(FieldInfos fieldInfos) {
+		int maxFieldNumber = -1;
+		for ( FieldInfo fieldInfo : fieldInfos ) {
+			maxFieldNumber = Math.max( maxFieldNumber, fieldInfo.number );
+		}
+		this.stringFieldTypesByFieldNumber = new FieldType[maxFieldNumber + 1];
+
+		if ( fieldsToLoad == null ) {
+			return;
+		}
+
+		this.acceptedByFieldNumber = new boolean[maxFieldNumber + 1];
+		int fieldsInSegment = 0;
 		for ( String fieldName : fieldsToLoad ) {
-			previous = new ChainedFieldAcceptor( previous, fieldName );
+			FieldInfo fieldInfo = fieldInfos.fieldInfo( fieldName );
+			if ( fieldInfo != null ) {
+				acceptedByFieldNumber[fieldInfo.number] = true;
+				++fieldsInSegment;
+			}
 		}
-		this.rootAcceptor = previous;
-		this.totalFields = fieldsToLoad.size();
+		this.totalFields = fieldsInSegment;
 		this.missingFields = totalFields;
 	}
 
@@ -72,11 +106,8 @@ public void binaryField(FieldInfo fieldInfo, byte[] value) {
 
 	@Override
 	public void stringField(FieldInfo fieldInfo, byte[] value) {
-		final FieldType ft = new FieldType( TextField.TYPE_STORED );
-		ft.setStoreTermVectors( fieldInfo.hasVectors() );
-		ft.setOmitNorms( fieldInfo.omitsNorms() );
-		ft.setIndexOptions( fieldInfo.getIndexOptions() );
-		getDocument().add( new Field( fieldInfo.name, new String( value, StandardCharsets.UTF_8 ), ft ) );
+		getDocument().add( new Field( fieldInfo.name, new String( value, StandardCharsets.UTF_8 ),
+				getStringFieldType( fieldInfo ) ) );
 	}
 
 	@Override
@@ -101,7 +132,7 @@ public void doubleField(FieldInfo fieldInfo, double value) {
 
 	@Override
 	public Status needsField(FieldInfo fieldInfo) {
-		if ( rootAcceptor == null ) {
+		if ( fieldsToLoad == null ) {
 			// We need all fields
 			return Status.YES;
 		}
@@ -109,11 +140,12 @@ public Status needsField(FieldInfo fieldInfo) {
 			// An aggressive STOP could prevent unnecessary I/O !
 			return Status.STOP;
 		}
-		final Status s = rootAcceptor.acceptField( fieldInfo.name );
-		if ( s == Status.YES ) {
+		int fieldNumber = fieldInfo.number;
+		if ( fieldNumber < acceptedByFieldNumber.length && acceptedByFieldNumber[fieldNumber] ) {
 			missingFields--;
+			return Status.YES;
 		}
-		return s;
+		return Status.NO;
 	}
 
 	/**
@@ -143,36 +175,27 @@ private Document getDocument() {
 		return localDoc;
 	}
 
-	/* The structure below shapes a chain of accepted field names:
-	 * you could think of it as a linked list. */
-
-	private interface FieldAcceptor {
-		Status acceptField(String fieldName);
-	}
-
-	private static final class DenyingFieldAcceptor implements FieldAcceptor {
-		@Override
-		public Status acceptField(final String fieldName) {
-			return Status.NO;
+	private FieldType getStringFieldType(FieldInfo fieldInfo) {
+		int fieldNumber = fieldInfo.number;
+		if ( fieldNumber >= stringFieldTypesByFieldNumber.length ) {
+			// Should not happen, but let's be safe
+			return createStringFieldType( fieldInfo );
+		}
+		FieldType fieldType = stringFieldTypesByFieldNumber[fieldNumber];
+		if ( fieldType == null ) {
+			fieldType = createStringFieldType( fieldInfo );
+			stringFieldTypesByFieldNumber[fieldNumber] = fieldType;
 		}
+		return fieldType;
 	}
 
-	private static final class ChainedFieldAcceptor implements FieldAcceptor {
-		final FieldAcceptor next;
-		final String acceptedFieldName;
-		ChainedFieldAcceptor(FieldAcceptor next, String acceptedFieldName) {
-			this.next = next;
-			this.acceptedFieldName = acceptedFieldName;
-		}
-		@Override
-		public Status acceptField(final String fieldName) {
-			if ( acceptedFieldName.equals( fieldName ) ) {
-				return Status.YES;
-			}
-			else {
-				return next.acceptField( fieldName );
-			}
-		}
+	private static FieldType createStringFieldType(FieldInfo fieldInfo) {
+		final FieldType ft = new FieldType( TextField.TYPE_STORED );
+		ft.setStoreTermVectors( fieldInfo.hasVectors() );
+		ft.setOmitNorms( fieldInfo.omitsNorms() );
+		ft.setIndexOptions( fieldInfo.getIndexOptions() );
+		ft.freeze();
+		return ft;
 	}
 
 }
@@ -10,6 +10,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeModel;
@@ -36,6 +37,9 @@ public final class LuceneSearchContext {
 	// Global timing source
 	private final TimingSource timingSource;
 
+	// Backend-wide cache of facets data
+	private final SortedSetDocValuesReaderStateCache facetsReaderStateCache;
+
 	// Targeted indexes
 	private final LuceneScopeModel scopeModel;
 
@@ -43,12 +47,14 @@ public LuceneSearchContext(BackendMappingContext mappingContext,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
 			TimingSource timingSource,
+			SortedSetDocValuesReaderStateCache facetsReaderStateCache,
 			LuceneScopeModel scopeModel) {
 		this.toDocumentIdentifierValueConvertContext = new ToDocumentIdentifierValueConvertContextImpl( mappingContext );
 		this.toDocumentFieldValueConvertContext = new ToDocumentFieldValueConvertContextImpl( mappingContext );
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
+		this.facetsReaderStateCache = facetsReaderStateCache;
 		this.scopeModel = scopeModel;
 	}
 
@@ -64,6 +70,10 @@ public LuceneAnalysisDefinitionRegistry getAnalysisDefinitionRegistry() {
 		return analysisDefinitionRegistry;
 	}
 
+	public SortedSetDocValuesReaderStateCache getFacetsReaderStateCache() {
+		return facetsReaderStateCache;
+	}
+
 	public Set<String> getIndexNames() {
 		return scopeModel.getIndexNames();
 	}
@@ -77,16 +87,20 @@ public Query getFilterOrNull(String tenantId) {
 	}
 
 	public TimeoutManager createTimeoutManager(Query definitiveLuceneQuery,
-			Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout) {
+			Long timeout, TimeUnit timeUnit, boolean exceptionOnTimeout,
+			boolean cancellable, Long visitedDocumentLimit, Integer aggregationBucketLimit) {
 		if ( timeout != null && timeUnit != null ) {
 			if ( exceptionOnTimeout ) {
-				return TimeoutManager.hardTimeout( timingSource, definitiveLuceneQuery, timeout, timeUnit );
+				return TimeoutManager.hardTimeout( timingSource, definitiveLuceneQuery, timeout, timeUnit,
+						cancellable, visitedDocumentLimit, aggregationBucketLimit );
 			}
 			else {
-				return TimeoutManager.softTimeout( timingSource, definitiveLuceneQuery, timeout, timeUnit );
+				return TimeoutManager.softTimeout( timingSource, definitiveLuceneQuery, timeout, timeUnit,
+						cancellable, visitedDocumentLimit, aggregationBucketLimit );
 			}
 		}
-		return TimeoutManager.noTimeout( timingSource, definitiveLuceneQuery );
+		return TimeoutManager.noTimeout( timingSource, definitiveLuceneQuery,
+				cancellable, visitedDocumentLimit, aggregationBucketLimit );
 	}
 
 }
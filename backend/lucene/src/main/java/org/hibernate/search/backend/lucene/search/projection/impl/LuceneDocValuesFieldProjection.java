@@ -0,0 +1,130 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.projection.impl;
+
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.NumericDocValuesCollector;
+import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
+import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.engine.search.loading.spi.LoadingResult;
+import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+
+/**
+ * A field projection relying on doc values instead of stored fields,
+ * so that projecting on top documents does not require decompressing stored fields.
+ *
+ * @param <F> The field type.
+ * @param <E> The encoded type, as stored in doc values.
+ * @param <V> The projected type.
+ */
+class LuceneDocValuesFieldProjection<F, E extends Number, V>
+		implements LuceneSearchProjection<F, V>, CollectorFactory<NumericDocValuesCollector> {
+
+	private final Set<String> indexNames;
+	private final String absoluteFieldPath;
+
+	private final AbstractLuceneNumericFieldCodec<F, E> codec;
+	private final LuceneNumericDomain<E> numericDomain;
+
+	private final ProjectionConverter<? super F, V> converter;
+
+	private final DocValuesCollectorKey collectorKey;
+
+	LuceneDocValuesFieldProjection(Set<String> indexNames, String absoluteFieldPath,
+			AbstractLuceneNumericFieldCodec<F, E> codec, ProjectionConverter<? super F, V> converter) {
+		this.indexNames = indexNames;
+		this.absoluteFieldPath = absoluteFieldPath;
+		this.codec = codec;
+		this.numericDomain = codec.getDomain();
+		this.converter = converter;
+		this.collectorKey = new DocValuesCollectorKey( absoluteFieldPath );
+	}
+
+	@Override
+	public void request(SearchProjectionRequestContext context) {
+		context.requireCollector( this );
+	}
+
+	@Override
+	public F extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
+			SearchProjectionExtractContext context) {
+		NumericDocValuesCollector collector = context.getCollector( collectorKey );
+		Long docValue = collector.getValue( documentResult.getDocId() );
+		if ( docValue == null ) {
+			return null;
+		}
+		return codec.decode( numericDomain.fromDocValue( docValue ) );
+	}
+
+	@Override
+	public V transform(LoadingResult<?> loadingResult, F extractedData,
+			SearchProjectionTransformContext context) {
+		FromDocumentFieldValueConvertContext convertContext = context.getFromDocumentFieldValueConvertContext();
+		return converter.convert( extractedData, convertContext );
+	}
+
+	@Override
+	public Set<String> getIndexNames() {
+		return indexNames;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "absoluteFieldPath=" ).append( absoluteFieldPath )
+				.append( "]" );
+		return sb.toString();
+	}
+
+	@Override
+	public NumericDocValuesCollector createCollector(CollectorExecutionContext context) {
+		return new NumericDocValuesCollector( absoluteFieldPath, context.getMaxDocs() );
+	}
+
+	@Override
+	public CollectorKey<NumericDocValuesCollector> getCollectorKey() {
+		return collectorKey;
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class DocValuesCollectorKey implements CollectorKey<NumericDocValuesCollector> {
+
+		private final String absoluteFieldPath;
+
+		private DocValuesCollectorKey(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			DocValuesCollectorKey other = (DocValuesCollectorKey) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return absoluteFieldPath.hashCode();
+		}
+	}
+}
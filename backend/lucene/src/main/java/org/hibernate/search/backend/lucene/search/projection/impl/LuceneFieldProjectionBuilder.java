@@ -8,6 +8,7 @@
 
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 import org.hibernate.search.engine.search.projection.SearchProjection;
@@ -34,6 +35,13 @@ public LuceneFieldProjectionBuilder(Set<String> indexNames, String absoluteField
 
 	@Override
 	public SearchProjection<V> build() {
+		if ( nestedDocumentPath == null && codec instanceof AbstractLuceneNumericFieldCodec ) {
+			AbstractLuceneNumericFieldCodec<F, ?> numericCodec = (AbstractLuceneNumericFieldCodec<F, ?>) codec;
+			if ( numericCodec.isDecodableFromDocValues() ) {
+				// Reading a doc values column is much cheaper than loading stored fields for each hit
+				return new LuceneDocValuesFieldProjection<>( indexNames, absoluteFieldPath, numericCodec, converter );
+			}
+		}
 		return new LuceneFieldProjection<>( indexNames, absoluteFieldPath, nestedDocumentPath, codec, converter );
 	}
 }
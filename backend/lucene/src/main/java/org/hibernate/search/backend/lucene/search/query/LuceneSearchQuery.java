@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query;
 
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
+import org.hibernate.search.util.common.annotaion.Incubating;
 
 import org.apache.lucene.search.Explanation;
 
@@ -37,4 +38,21 @@
 	 * or if the explain request fails.
 	 */
 	Explanation explain(String indexName, String id);
+
+	/**
+	 * Cancel the executions of this query that are currently in progress, if any.
+	 * <p>
+	 * This method may be called from any thread.
+	 * Cancelled executions will fail with a {@link org.hibernate.search.util.common.SearchException}
+	 * as soon as they notice the cancellation:
+	 * while collecting matching documents, or while extracting hits and aggregations.
+	 * If this query was built with the
+	 * {@link org.hibernate.search.backend.lucene.search.query.dsl.LuceneSearchQueryOptionsStep#cancellable() cancellable option},
+	 * cancellation is also noticed while enumerating terms (e.g. when expanding wildcard or fuzzy predicates).
+	 * <p>
+	 * Cancellation is permanent: executions of this query started after this call will fail as well.
+	 * To execute the same search again, build a new query.
+	 */
+	@Incubating
+	void cancel();
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchFetchable;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.util.common.annotaion.Incubating;
 
 public interface LuceneSearchQueryOptionsStep<H, LOS>
 		extends SearchQueryOptionsStep<
@@ -22,6 +23,51 @@
 				>,
 				LuceneSearchFetchable<H> {
 
+	/**
+	 * Make {@link LuceneSearchQuery#cancel() cancellation} of this query effective while Lucene enumerates terms,
+	 * e.g. when expanding wildcard or fuzzy predicates, and not just while collecting documents.
+	 * <p>
+	 * This adds a check for every enumerated term,
+	 * so only use this option for queries that may actually be cancelled while they execute.
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<H, LOS> cancellable();
+
+	/**
+	 * Limit the number of documents this query may visit while collecting hits and aggregations.
+	 * <p>
+	 * When the limit is exceeded, the query execution will fail with a
+	 * {@link org.hibernate.search.util.common.SearchException}.
+	 * The limit is checked periodically, so a few hundred documents more than the limit may be visited
+	 * before the query fails.
+	 *
+	 * @param visitedDocumentLimit The maximum number of documents to visit. Must be strictly positive.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<H, LOS> visitedDocumentLimit(long visitedDocumentLimit);
+
+	/**
+	 * Limit the total number of buckets this query may count across all of its aggregations.
+	 * <p>
+	 * When the limit is exceeded, the query execution will fail with a
+	 * {@link org.hibernate.search.util.common.SearchException}.
+	 * <p>
+	 * This limit is checked before buckets are counted, so it bounds the memory used while counting,
+	 * not only the size of the result.
+	 * As a consequence, a terms aggregation counts every distinct term it has to consider,
+	 * even those that are not returned:
+	 * for text fields, every distinct term of the field in the index;
+	 * for numeric fields, every distinct term of the matching documents.
+	 *
+	 * @param aggregationBucketLimit The maximum number of aggregation buckets. Must be strictly positive.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	LuceneSearchQueryOptionsStep<H, LOS> aggregationBucketLimit(int aggregationBucketLimit);
+
 	@Override
 	LuceneSearchQuery<H> toQuery();
 
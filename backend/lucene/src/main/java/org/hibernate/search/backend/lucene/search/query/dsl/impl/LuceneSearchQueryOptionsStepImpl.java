@@ -45,6 +45,24 @@
 		this.searchQueryBuilder = searchQueryBuilder;
 	}
 
+	@Override
+	public LuceneSearchQueryOptionsStep<H, LOS> cancellable() {
+		searchQueryBuilder.cancellable();
+		return thisAsS();
+	}
+
+	@Override
+	public LuceneSearchQueryOptionsStep<H, LOS> visitedDocumentLimit(long visitedDocumentLimit) {
+		searchQueryBuilder.visitedDocumentLimit( visitedDocumentLimit );
+		return thisAsS();
+	}
+
+	@Override
+	public LuceneSearchQueryOptionsStep<H, LOS> aggregationBucketLimit(int aggregationBucketLimit) {
+		searchQueryBuilder.aggregationBucketLimit( aggregationBucketLimit );
+		return thisAsS();
+	}
+
 	@Override
 	public LuceneSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
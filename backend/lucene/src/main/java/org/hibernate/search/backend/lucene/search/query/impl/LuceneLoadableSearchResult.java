@@ -19,6 +19,8 @@
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.LoadingResult;
 
+import org.apache.lucene.search.ScoreDoc;
+
 /**
  * A search result from the backend that offers a method to load data from the mapper.
  * <p>
@@ -35,23 +37,36 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private final long hitCount;
+	private final boolean hitCountExact;
 	private List<Object> extractedData;
 	private final Map<AggregationKey<?>, ?> extractedAggregations;
 	private Duration took;
 	private Boolean timedOut;
+	private final ScoreDoc lastExtractedScoreDoc;
 
 	LuceneLoadableSearchResult(LuceneSearchQueryExtractContext extractContext,
 			LuceneSearchProjection<?, H> rootProjection,
-			long hitCount, List<Object> extractedData,
+			long hitCount, boolean hitCountExact, List<Object> extractedData,
 			Map<AggregationKey<?>, ?> extractedAggregations,
 			Duration took, boolean timedOut) {
 		this.extractContext = extractContext;
 		this.rootProjection = rootProjection;
 		this.hitCount = hitCount;
+		this.hitCountExact = hitCountExact;
 		this.extractedData = extractedData;
 		this.extractedAggregations = extractedAggregations;
 		this.took = took;
 		this.timedOut = timedOut;
+		this.lastExtractedScoreDoc = extractedData.isEmpty()
+				? null : extractContext.getTopDocs().scoreDocs[extractedData.size() - 1];
+	}
+
+	/**
+	 * @return The last hit that was extracted from the index, to be used as a starting point for scrolling,
+	 * or {@code null} if there were no hits.
+	 */
+	ScoreDoc getLastExtractedScoreDoc() {
+		return lastExtractedScoreDoc;
 	}
 
 	LuceneSearchResult<H> loadBlocking() {
@@ -88,6 +103,6 @@ LuceneSearchResult<H> loadBlocking() {
 		// Make sure that if someone uses this object incorrectly, it will always fail, and will fail early.
 		extractedData = null;
 
-		return new LuceneSearchResultImpl<>( hitCount, loadedHits, extractedAggregations, took, timedOut );
+		return new LuceneSearchResultImpl<>( hitCount, hitCountExact, loadedHits, extractedAggregations, took, timedOut );
 	}
 }
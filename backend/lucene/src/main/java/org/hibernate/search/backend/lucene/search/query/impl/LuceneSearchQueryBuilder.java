@@ -36,6 +36,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.search.BooleanClause;
@@ -68,6 +69,10 @@
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Integer totalHitCountThreshold;
+	private boolean cancellable;
+	private Long visitedDocumentLimit;
+	private Integer aggregationBucketLimit;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -75,7 +80,8 @@ public LuceneSearchQueryBuilder(
 			LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
-			LuceneSearchProjection<?, H> rootProjection) {
+			LuceneSearchProjection<?, H> rootProjection,
+			Integer defaultTotalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
 
@@ -85,6 +91,7 @@ public LuceneSearchQueryBuilder(
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
+		this.totalHitCountThreshold = defaultTotalHitCountThreshold;
 	}
 
 	@Override
@@ -113,6 +120,25 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(int totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	public void cancellable() {
+		this.cancellable = true;
+	}
+
+	public void visitedDocumentLimit(long visitedDocumentLimit) {
+		Contracts.assertStrictlyPositive( visitedDocumentLimit, "visitedDocumentLimit" );
+		this.visitedDocumentLimit = visitedDocumentLimit;
+	}
+
+	public void aggregationBucketLimit(int aggregationBucketLimit) {
+		Contracts.assertStrictlyPositive( aggregationBucketLimit, "aggregationBucketLimit" );
+		this.aggregationBucketLimit = aggregationBucketLimit;
+	}
+
 	@Override
 	public void collectPredicate(Query luceneQuery) {
 		this.luceneQuery = luceneQuery;
@@ -209,14 +235,16 @@ public LuceneSearchQuery<H> build() {
 		}
 		ExtractionRequirements extractionRequirements = extractionRequirementsBuilder.build();
 
-		TimeoutManager timeoutManager = searchContext.createTimeoutManager( definitiveLuceneQuery, timeout, timeUnit, exceptionOnTimeout );
+		TimeoutManager timeoutManager = searchContext.createTimeoutManager( definitiveLuceneQuery, timeout, timeUnit, exceptionOnTimeout,
+				cancellable, visitedDocumentLimit, aggregationBucketLimit );
 
 		LuceneSearcherImpl<H> searcher = new LuceneSearcherImpl<>(
 				requestContext,
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
-				timeoutManager
+				timeoutManager,
+				totalHitCountThreshold
 		);
 
 		return new LuceneSearchQueryImpl<>(
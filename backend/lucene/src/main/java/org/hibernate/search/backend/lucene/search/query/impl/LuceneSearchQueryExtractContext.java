@@ -10,6 +10,7 @@
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.spi.FromDocumentFieldValueConvertContextImpl;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
@@ -30,16 +31,18 @@ class LuceneSearchQueryExtractContext {
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
 	private final LuceneCollectors luceneCollectors;
+	private final TimeoutManager timeoutManager;
 
 	LuceneSearchQueryExtractContext(BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			IndexSearcher indexSearcher, Query luceneQuery,
-			LuceneCollectors luceneCollectors) {
+			LuceneCollectors luceneCollectors, TimeoutManager timeoutManager) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
 		this.luceneCollectors = luceneCollectors;
+		this.timeoutManager = timeoutManager;
 	}
 
 	ProjectionHitMapper<?, ?> getProjectionHitMapper() {
@@ -65,7 +68,8 @@ AggregationExtractContext createAggregationExtractContext() {
 		return new AggregationExtractContext(
 				indexSearcher.getIndexReader(),
 				convertContext,
-				luceneCollectors.getCollectorsForAllMatchingDocs()
+				luceneCollectors.getCollectorsForAllMatchingDocs(),
+				timeoutManager
 		);
 	}
 }
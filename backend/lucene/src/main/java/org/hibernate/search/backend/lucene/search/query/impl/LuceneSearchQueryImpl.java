@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -24,6 +25,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -47,7 +49,9 @@
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
 
-	private TimeoutManager timeoutManager;
+	// Replaced by failAfter(), possibly while another thread calls cancel()
+	private volatile TimeoutManager timeoutManager;
+	private volatile boolean cancelled = false;
 
 	LuceneSearchQueryImpl(LuceneReadWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
@@ -92,17 +96,28 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.search( searcher, offset, limit );
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * or at least in a thread that has exclusive access to the session.
+				 * See fetchAsync, which loads entities in a thread of the asynchronous search thread pool.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
 		return result;
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return queryOrchestrator.executeAsync( () -> fetch( offset, limit ) );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		return new LuceneSearchScroll<>( queryOrchestrator, workFactory, searchContext,
+				sessionContext.getTenantIdentifier(), routingKeys,
+				timeoutManager, searcher, chunkSize );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -112,6 +127,11 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.executeAsync( this::fetchTotalHitCount );
+	}
+
 	@Override
 	public Explanation explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -139,6 +159,7 @@ public Explanation explain(String indexName, String id) {
 
 	private <T> T doSubmit(LuceneReadWork<T> work) {
 		return queryOrchestrator.submit(
+				sessionContext.getTenantIdentifier(),
 				searchContext.getIndexNames(),
 				searchContext.getIndexManagerContexts(),
 				routingKeys,
@@ -159,8 +180,22 @@ private Explanation doExplain(String indexName, String id) {
 
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
-		// replace the timeout manager on already created query instance
-		timeoutManager = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true );
-		searcher.setTimeoutManager( timeoutManager );
+		// replace the timeout manager on already created query instance, preserving cancellability and resource limits
+		TimeoutManager previous = timeoutManager;
+		TimeoutManager replacement = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true,
+				previous.isCancellable(), previous.getVisitedDocumentLimit(), previous.getAggregationBucketLimit() );
+		searcher.setTimeoutManager( replacement );
+		timeoutManager = replacement;
+		// Check the flag *after* publishing the replacement:
+		// a concurrent cancel() either sees the replacement or sets the flag before we check it.
+		if ( cancelled ) {
+			replacement.cancel();
+		}
+	}
+
+	@Override
+	public void cancel() {
+		cancelled = true;
+		timeoutManager.cancel();
 	}
 }
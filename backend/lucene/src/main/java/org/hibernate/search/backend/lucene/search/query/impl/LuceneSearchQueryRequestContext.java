@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
@@ -18,7 +19,7 @@
  * The context holding all the useful information pertaining to the Lucene search query,
  * to be used when extracting data from the response,
  * to get an "extract" context linked to the session/loading context
- * ({@link #createExtractContext(IndexSearcher, LuceneCollectors)}.
+ * ({@link #createExtractContext(IndexSearcher, LuceneCollectors, TimeoutManager)}.
  */
 class LuceneSearchQueryRequestContext {
 
@@ -47,13 +48,14 @@ Sort getLuceneSort() {
 	}
 
 	LuceneSearchQueryExtractContext createExtractContext(IndexSearcher indexSearcher,
-			LuceneCollectors luceneCollectors) {
+			LuceneCollectors luceneCollectors, TimeoutManager timeoutManager) {
 		return new LuceneSearchQueryExtractContext(
 				sessionContext,
 				loadingContext.getProjectionHitMapper(),
 				indexSearcher,
 				luceneQuery,
-				luceneCollectors
+				luceneCollectors,
+				timeoutManager
 		);
 	}
 
@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneReadWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+import org.apache.lucene.search.ScoreDoc;
+
+/**
+ * A scroll relying on Lucene's "search after" feature:
+ * each chunk is retrieved by a separate search that only collects the hits following the last hit of the previous chunk.
+ * <p>
+ * Each chunk is retrieved using a fresh index reader, so this is not a point-in-time view of the index:
+ * changes to the index between two calls to {@link #next()} may result in some hits being skipped or repeated.
+ *
+ * @param <H> The type of query hits.
+ */
+class LuceneSearchScroll<H> implements SearchScroll<H> {
+
+	private final LuceneReadWorkOrchestrator queryOrchestrator;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearchContext searchContext;
+	private final String tenantId;
+	private final Set<String> routingKeys;
+	private final TimeoutManager timeoutManager;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final int chunkSize;
+
+	private ScoreDoc after;
+	private boolean exhausted = false;
+	private long totalHitCount = 0;
+
+	LuceneSearchScroll(LuceneReadWorkOrchestrator queryOrchestrator,
+			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
+			String tenantId, Set<String> routingKeys,
+			TimeoutManager timeoutManager,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			int chunkSize) {
+		this.queryOrchestrator = queryOrchestrator;
+		this.workFactory = workFactory;
+		this.searchContext = searchContext;
+		this.tenantId = tenantId;
+		this.routingKeys = routingKeys;
+		this.timeoutManager = timeoutManager;
+		this.searcher = searcher;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		// No resources to release: each chunk opens and closes its own index reader.
+		exhausted = true;
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		List<H> hits = Collections.emptyList();
+		// Hits may be skipped during loading (e.g. deleted entities),
+		// so make sure we don't return an empty chunk unless the scroll is really exhausted.
+		while ( hits.isEmpty() && !exhausted ) {
+			hits = nextChunk();
+		}
+		return new SimpleSearchScrollResult<>( totalHitCount, hits );
+	}
+
+	private List<H> nextChunk() {
+		timeoutManager.start();
+		LuceneReadWork<LuceneLoadableSearchResult<H>> work = workFactory.scroll( searcher, after, chunkSize );
+		LuceneLoadableSearchResult<H> loadableResult = queryOrchestrator.submit(
+				tenantId,
+				searchContext.getIndexNames(),
+				searchContext.getIndexManagerContexts(),
+				routingKeys,
+				work
+		);
+		ScoreDoc lastScoreDoc = loadableResult.getLastExtractedScoreDoc();
+		// WARNING: the following call must run in the user thread, see LuceneSearchQueryImpl#fetch.
+		LuceneSearchResult<H> result = loadableResult.loadBlocking();
+		timeoutManager.stop();
+
+		totalHitCount = result.getTotalHitCount();
+		if ( lastScoreDoc == null ) {
+			exhausted = true;
+		}
+		else {
+			after = lastScoreDoc;
+		}
+		return result.getHits();
+	}
+}
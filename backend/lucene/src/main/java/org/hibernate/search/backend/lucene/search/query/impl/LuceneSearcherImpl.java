@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
@@ -48,6 +49,7 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final Integer totalHitCountThreshold;
 
 	private TimeoutManager timeoutManager;
 
@@ -55,12 +57,14 @@
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
-			TimeoutManager timeoutManager) {
+			TimeoutManager timeoutManager,
+			Integer totalHitCountThreshold) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
 		this.timeoutManager = timeoutManager;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -77,43 +81,34 @@ public String toString() {
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit) throws IOException {
-		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
-
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
-
-		luceneCollectors.collect( offset, limit );
-
-		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				indexSearcher, luceneCollectors
-		);
-
-		List<Object> extractedData = extractHits( extractContext );
-
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext );
+		return doSearch( indexSearcher, metadataResolver, offset, limit, null, totalHitCountThreshold );
+	}
 
-		return new LuceneLoadableSearchResult<>(
-				extractContext, rootProjection,
-				luceneCollectors.getTotalHitCount(),
-				extractedData,
-				extractedAggregations,
-				timeoutManager.getTookTime(),
-				timeoutManager.isTimedOut()
-		);
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int limit) throws IOException {
+		// Scroll results always expose an exact total hit count
+		return doSearch( indexSearcher, metadataResolver, 0, limit, after, null );
 	}
 
 	@Override
 	public int count(IndexSearcher indexSearcher) throws IOException {
 		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
 
-		// Handling the hard timeout.
+		// Handling the hard timeout and the limit of visited documents.
 		// Soft timeout has no sense in case of count,
 		// since there is no possible to have partial result.
-		if ( timeoutManager.hasHardTimeout() ) {
-			return indexSearcher.search( requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager ) );
-		}
+		try {
+			if ( timeoutManager.hasHardTimeout() || timeoutManager.getVisitedDocumentLimit() != null ) {
+				return indexSearcher.search( requestContext.getLuceneQuery(), new TimeoutCountCollectorManager( timeoutManager ) );
+			}
 
-		return indexSearcher.count( requestContext.getLuceneQuery() );
+			return indexSearcher.count( requestContext.getLuceneQuery() );
+		}
+		catch (RuntimeException e) {
+			throw unwrapConcurrentSearchFailure( e );
+		}
 	}
 
 	@Override
@@ -126,13 +121,53 @@ public Query getLuceneQueryForExceptions() {
 		return requestContext.getLuceneQuery();
 	}
 
+	@Override
+	public TimeoutManager getTimeoutManager() {
+		return timeoutManager;
+	}
+
 	@Override
 	public void setTimeoutManager(TimeoutManager timeoutManager) {
 		this.timeoutManager = timeoutManager;
 	}
 
+	private LuceneLoadableSearchResult<H> doSearch(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			int offset, Integer limit, ScoreDoc after, Integer totalHitCountThreshold) throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit, after,
+				totalHitCountThreshold );
+
+		try {
+			luceneCollectors.collect( offset, limit );
+		}
+		catch (RuntimeException e) {
+			throw unwrapConcurrentSearchFailure( e );
+		}
+
+		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				indexSearcher, luceneCollectors, timeoutManager
+		);
+
+		List<Object> extractedData = extractHits( extractContext );
+
+		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
+				Collections.emptyMap() : extractAggregations( extractContext );
+
+		return new LuceneLoadableSearchResult<>(
+				extractContext, rootProjection,
+				luceneCollectors.getTotalHitCount(),
+				luceneCollectors.isTotalHitCountExact(),
+				extractedData,
+				extractedAggregations,
+				timeoutManager.getTookTime(),
+				timeoutManager.isTimedOut()
+		);
+	}
+
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
+			int offset, Integer limit, ScoreDoc after, Integer totalHitCountThreshold) throws IOException {
 		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
 		//  as it is done in Search 5.
 		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
@@ -140,10 +175,23 @@ private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReade
 
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				metadataResolver, maxDocs, after, totalHitCountThreshold, timeoutManager
 		);
 	}
 
+	/*
+	 * When slices of the index are searched concurrently,
+	 * IndexSearcher wraps failures in other threads into a RuntimeException caused by an ExecutionException.
+	 * Unwrap the original failure, so that e.g. timeouts are reported as such.
+	 */
+	private static RuntimeException unwrapConcurrentSearchFailure(RuntimeException e) {
+		Throwable cause = e.getCause();
+		if ( cause instanceof ExecutionException && cause.getCause() instanceof RuntimeException ) {
+			return (RuntimeException) cause.getCause();
+		}
+		return e;
+	}
+
 	private int getMaxDocs(IndexReader reader, int offset, Integer limit) {
 		if ( limit == null ) {
 			return reader.maxDoc();
@@ -174,8 +222,11 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 		for ( int i = 0; i < topDocs.scoreDocs.length; i++ ) {
 			// Check for timeout every 16 elements.
 			// Do this *before* the element, so that we don't fail after the last element.
-			if ( i % 16 == 0 && timeoutManager.checkTimedOut() ) {
-				break;
+			if ( i % 16 == 0 ) {
+				if ( timeoutManager.checkTimedOut() ) {
+					break;
+				}
+				timeoutManager.checkCancelled();
 			}
 
 			ScoreDoc hit = topDocs.scoreDocs[i];
@@ -202,10 +253,12 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 			if ( timeoutManager.checkTimedOut() ) {
 				break;
 			}
+			timeoutManager.checkCancelled();
 
 			AggregationKey<?> key = entry.getKey();
 			LuceneSearchAggregation<?> aggregation = entry.getValue();
 
+			// Bucket aggregations check the bucket limit themselves, before counting buckets.
 			Object extracted = aggregation.extract( aggregationExtractContext );
 			extractedMap.put( key, extracted );
 		}
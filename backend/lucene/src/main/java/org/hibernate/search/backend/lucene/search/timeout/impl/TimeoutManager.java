@@ -9,31 +9,46 @@
 import java.lang.invoke.MethodHandles;
 import java.time.Duration;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.index.QueryTimeout;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.util.Counter;
 
 /**
+ * Controls the execution of a search query: timeout, cancellation and resource limits.
+ * <p>
+ * Implements {@link QueryTimeout} so that it can be passed to
+ * {@link org.apache.lucene.index.ExitableDirectoryReader},
+ * which checks it while enumerating terms, e.g. when rewriting wildcard or fuzzy queries.
+ * This is only necessary when {@link #isTimeoutEnabled()} returns {@code true}.
+ *
  * @author Emmanuel Bernard
  */
-public final class TimeoutManager {
+public final class TimeoutManager implements QueryTimeout {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public static TimeoutManager noTimeout(TimingSource timingSource, Query query) {
-		return new TimeoutManager( timingSource, query, null, null, Type.NONE );
+	public static TimeoutManager noTimeout(TimingSource timingSource, Query query,
+			boolean cancellable, Long visitedDocumentLimit, Integer aggregationBucketLimit) {
+		return new TimeoutManager( timingSource, query, null, null, Type.NONE,
+				cancellable, visitedDocumentLimit, aggregationBucketLimit );
 	}
 
-	public static TimeoutManager softTimeout(TimingSource timingSource, Query query, long timeout, TimeUnit timeUnit) {
-		return new TimeoutManager( timingSource, query, timeout, timeUnit, Type.LIMIT );
+	public static TimeoutManager softTimeout(TimingSource timingSource, Query query, long timeout, TimeUnit timeUnit,
+			boolean cancellable, Long visitedDocumentLimit, Integer aggregationBucketLimit) {
+		return new TimeoutManager( timingSource, query, timeout, timeUnit, Type.LIMIT,
+				cancellable, visitedDocumentLimit, aggregationBucketLimit );
 	}
 
-	public static TimeoutManager hardTimeout(TimingSource timingSource, Query query, long timeout, TimeUnit timeUnit) {
-		return new TimeoutManager( timingSource, query, timeout, timeUnit, Type.EXCEPTION );
+	public static TimeoutManager hardTimeout(TimingSource timingSource, Query query, long timeout, TimeUnit timeUnit,
+			boolean cancellable, Long visitedDocumentLimit, Integer aggregationBucketLimit) {
+		return new TimeoutManager( timingSource, query, timeout, timeUnit, Type.EXCEPTION,
+				cancellable, visitedDocumentLimit, aggregationBucketLimit );
 	}
 
 	private enum Type {
@@ -48,17 +63,28 @@ private enum Type {
 	private final Long timeoutValue;
 	private final TimeUnit timeoutUnit;
 	private final Type type;
+	private final boolean cancellable;
+	private final Long visitedDocumentLimit;
+	private final Integer aggregationBucketLimit;
+
+	private final AtomicLong visitedDocumentCount = new AtomicLong();
+	private final AtomicLong aggregationBucketCount = new AtomicLong();
 
 	private Long start;
-	boolean timedOut = false;
+	volatile boolean timedOut = false;
+	private volatile boolean cancelled = false;
 
-	private TimeoutManager(TimingSource timingSource, Query query, Long timeoutValue, TimeUnit timeoutUnit, Type type) {
+	private TimeoutManager(TimingSource timingSource, Query query, Long timeoutValue, TimeUnit timeoutUnit, Type type,
+			boolean cancellable, Long visitedDocumentLimit, Integer aggregationBucketLimit) {
 		this.timingSource = timingSource;
 		this.query = query;
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.timeoutMs = timeoutUnit == null ? null : timeoutUnit.toMillis( timeoutValue );
 		this.type = type;
+		this.cancellable = cancellable;
+		this.visitedDocumentLimit = visitedDocumentLimit;
+		this.aggregationBucketLimit = aggregationBucketLimit;
 
 		timingSource.ensureInitialized();
 	}
@@ -68,6 +94,8 @@ private TimeoutManager(TimingSource timingSource, Query query, Long timeoutValue
 	 */
 	public void start() {
 		this.start = timingSource.getMonotonicTimeEstimate();
+		this.visitedDocumentCount.set( 0L );
+		this.aggregationBucketCount.set( 0L );
 	}
 
 	public void stop() {
@@ -138,6 +166,92 @@ public boolean hasHardTimeout() {
 		return this.type == Type.EXCEPTION;
 	}
 
+	public boolean isCancellable() {
+		return cancellable;
+	}
+
+	public Long getVisitedDocumentLimit() {
+		return visitedDocumentLimit;
+	}
+
+	public Integer getAggregationBucketLimit() {
+		return aggregationBucketLimit;
+	}
+
+	/**
+	 * Requests the cancellation of the current execution and of all subsequent executions.
+	 * <p>
+	 * May be called from any thread.
+	 * The execution will fail at the next check, be it during term enumeration, collection or extraction.
+	 * Cancellation is sticky: {@link #start()} does not reset it,
+	 * so that a cancellation requested right before an execution starts is not lost.
+	 */
+	public void cancel() {
+		this.cancelled = true;
+	}
+
+	/**
+	 * @throws org.hibernate.search.util.common.SearchException If the current execution was cancelled.
+	 */
+	public void checkCancelled() {
+		if ( cancelled ) {
+			throw log.queryCancelled( query.toString() );
+		}
+	}
+
+	/**
+	 * @param count The number of documents visited since the last call to this method.
+	 * @throws org.hibernate.search.util.common.SearchException If the current execution was cancelled,
+	 * or if the visited document limit was exceeded.
+	 */
+	public void visitDocuments(long count) {
+		checkCancelled();
+		if ( visitedDocumentLimit != null
+				&& visitedDocumentCount.addAndGet( count ) > visitedDocumentLimit ) {
+			throw log.visitedDocumentLimitExceeded( visitedDocumentLimit, query.toString() );
+		}
+	}
+
+	/**
+	 * @param count The number of aggregation buckets an aggregation is about to count.
+	 * Called before the buckets are allocated, so that exceeding the limit
+	 * does not require counting the buckets first.
+	 * @throws org.hibernate.search.util.common.SearchException If the aggregation bucket limit was exceeded.
+	 */
+	public void countAggregationBuckets(long count) {
+		if ( aggregationBucketLimit != null
+				&& aggregationBucketCount.addAndGet( count ) > aggregationBucketLimit ) {
+			throw log.aggregationBucketLimitExceeded( aggregationBucketLimit, query.toString() );
+		}
+	}
+
+	/**
+	 * Called by {@link org.apache.lucene.index.ExitableDirectoryReader} for every enumerated term.
+	 * <p>
+	 * Fails directly instead of returning {@code true},
+	 * so that the failure is reported as a cancellation or timeout
+	 * rather than as an {@link org.apache.lucene.index.ExitableDirectoryReader.ExitingReaderException}.
+	 * Soft timeouts are ignored here: they are handled during collection.
+	 */
+	@Override
+	public boolean shouldExit() {
+		checkCancelled();
+		if ( hasHardTimeout() && start != null ) {
+			checkTimedOut();
+		}
+		return false;
+	}
+
+	/**
+	 * @return {@code true} if {@link #shouldExit()} may fail, i.e. if a hard timeout was requested
+	 * or if the query was built as cancellable, {@code false} otherwise.
+	 * When {@code false}, term enumeration does not need to be checked at all.
+	 */
+	@Override
+	public boolean isTimeoutEnabled() {
+		return hasHardTimeout() || cancellable;
+	}
+
 	public Duration getTookTime() {
 		return Duration.ofMillis( getElapsedTimeInMilliseconds() );
 	}
@@ -109,7 +109,8 @@ public final Map<K, Long> extract(AggregationExtractContext context) throws IOEx
 		return toMap( convertContext, buckets );
 	}
 
-	abstract FacetResult getTopChildren(IndexReader reader,
+	// Implementations must report buckets through context.countBuckets() *before* counting them.
+	abstract FacetResult getTopChildren(AggregationExtractContext context,
 			FacetsCollector facetsCollector, int limit) throws IOException;
 
 	abstract Set<T> collectFirstTerms(IndexReader reader, boolean descending, int limit)
@@ -135,7 +136,7 @@ private List<Bucket<T>> getTopBuckets(AggregationExtractContext context) throws
 		 *  To improve on this, we would need to re-implement the facet collections.
 		 */
 		int limit = maxTermCount;
-		FacetResult facetResult = getTopChildren( context.getIndexReader(), facetsCollector, limit );
+		FacetResult facetResult = getTopChildren( context, facetsCollector, limit );
 
 		List<Bucket<T>> buckets = new ArrayList<>();
 
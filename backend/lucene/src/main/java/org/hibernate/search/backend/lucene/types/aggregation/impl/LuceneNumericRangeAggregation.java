@@ -68,6 +68,8 @@ public Map<Range<K>, Long> extract(AggregationExtractContext context) throws IOE
 
 		FacetsCollector facetsCollector = context.getCollector( FacetsCollectorFactory.KEY );
 
+		context.countBuckets( rangesInOrder.size() );
+
 		Facets facetsCount = numericDomain.createRangeFacetCounts(
 				absoluteFieldPath, facetsCollector, encodedRangesInOrder
 		);
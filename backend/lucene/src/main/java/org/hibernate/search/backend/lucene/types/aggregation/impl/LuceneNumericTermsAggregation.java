@@ -8,13 +8,17 @@
 
 import java.io.IOException;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
+import org.hibernate.search.util.common.AssertionFailure;
 
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
@@ -23,6 +27,7 @@
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.PointValues;
 import org.apache.lucene.search.DocIdSetIterator;
 
 /**
@@ -33,51 +38,93 @@
 public class LuceneNumericTermsAggregation<F, E extends Number, K>
 		extends AbstractLuceneFacetsBasedTermsAggregation<F, Long, K> {
 
-	private static final Comparator<Long> LONG_COMPARATOR = Comparator.naturalOrder();
-
 	private final AbstractLuceneNumericFieldCodec<F, E> codec;
 	private final LuceneNumericDomain<E> numericDomain;
+	// Doc values are raw bits for floating-point numbers: we need to decode them in order to compare them.
+	private final Comparator<Long> ascendingTermComparator;
 
 	private LuceneNumericTermsAggregation(Builder<F, E, K> builder) {
 		super( builder );
 		this.codec = builder.codec;
 		this.numericDomain = codec.getDomain();
+		this.ascendingTermComparator = Comparator.comparing( numericDomain::fromDocValue, numericDomain.createComparator() );
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector, int limit)
+	FacetResult getTopChildren(AggregationExtractContext context, FacetsCollector facetsCollector, int limit)
 			throws IOException {
+		if ( context.isAggregationBucketCountLimited() ) {
+			countDistinctTerms( context, facetsCollector );
+		}
 		LongValueFacetCounts facetCounts = numericDomain.createTermsFacetCounts( absoluteFieldPath, facetsCollector );
 		return facetCounts.getTopChildren( limit, absoluteFieldPath );
 	}
 
+	/**
+	 * Reports each distinct term of the matching documents as a bucket,
+	 * so that the bucket limit fails the query as soon as it is exceeded,
+	 * instead of after all terms were counted.
+	 * The number of terms held in memory here is bounded by the bucket limit.
+	 */
+	private void countDistinctTerms(AggregationExtractContext context, FacetsCollector facetsCollector)
+			throws IOException {
+		Set<Long> distinctTerms = new HashSet<>();
+		for ( FacetsCollector.MatchingDocs hits : facetsCollector.getMatchingDocs() ) {
+			NumericDocValues docValues = hits.context.reader().getNumericDocValues( absoluteFieldPath );
+			DocIdSetIterator matchingDocs = hits.bits.iterator();
+			if ( docValues == null || matchingDocs == null ) {
+				continue;
+			}
+			for ( int doc = matchingDocs.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = matchingDocs.nextDoc() ) {
+				if ( docValues.advanceExact( doc ) && distinctTerms.add( docValues.longValue() ) ) {
+					context.countBuckets( 1 );
+				}
+			}
+		}
+	}
+
 	@Override
 	SortedSet<Long> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
-		// TODO HSEARCH-1927 when we switch to Sorted/SortedSetDocValues, this can be implemented in a much more efficient way
-		//  since docvalues will be sorted. See the same method in LuceneTextTermsAggregation.
-		TreeSet<Long> collectedTerms = new TreeSet<>( descending ? LONG_COMPARATOR.reversed() : LONG_COMPARATOR );
+		Comparator<Long> termComparator = descending ? ascendingTermComparator.reversed() : ascendingTermComparator;
+		TreeSet<Long> collectedTerms = new TreeSet<>( termComparator );
 		for ( LeafReaderContext leaf : reader.leaves() ) {
 			final LeafReader atomicReader = leaf.reader();
-			NumericDocValues docValues = atomicReader.getNumericDocValues( absoluteFieldPath );
-			if ( docValues == null ) {
-				continue;
+			PointValues pointValues = atomicReader.getPointValues( absoluteFieldPath );
+			if ( pointValues != null ) {
+				// Points are sorted: we only need to visit the few cells that may contain the first terms.
+				pointValues.intersect( new FirstTermsVisitor( collectedTerms, descending, limit ) );
 			}
-			while ( docValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
-				Long term = docValues.longValue();
-				collectedTerms.add( term );
-				// Try not to keep too many terms in memory
-				if ( collectedTerms.size() > limit ) {
-					collectedTerms.remove( collectedTerms.last() );
-				}
+			else {
+				// The field is not searchable: fall back to a full scan of doc values.
+				collectFirstTermsFromDocValues( atomicReader, collectedTerms, limit );
 			}
 		}
 		return collectedTerms;
 	}
 
+	private void collectFirstTermsFromDocValues(LeafReader atomicReader, TreeSet<Long> collectedTerms, int limit)
+			throws IOException {
+		NumericDocValues docValues = atomicReader.getNumericDocValues( absoluteFieldPath );
+		if ( docValues == null ) {
+			return;
+		}
+		while ( docValues.nextDoc() != DocIdSetIterator.NO_MORE_DOCS ) {
+			addTerm( collectedTerms, limit, docValues.longValue() );
+		}
+	}
+
+	private static void addTerm(TreeSet<Long> collectedTerms, int limit, long term) {
+		collectedTerms.add( term );
+		// Try not to keep too many terms in memory
+		if ( collectedTerms.size() > limit ) {
+			collectedTerms.pollLast();
+		}
+	}
+
 	@Override
 	Comparator<Long> getAscendingTermComparator() {
-		return LONG_COMPARATOR;
+		return ascendingTermComparator;
 	}
 
 	@Override
@@ -90,6 +137,51 @@ F termToFieldValue(Long term) {
 		return codec.decode( numericDomain.fromDocValue( term ) );
 	}
 
+	/**
+	 * Collects the first terms from points, skipping cells that cannot contain any term
+	 * that comes before the last collected term.
+	 */
+	private final class FirstTermsVisitor implements PointValues.IntersectVisitor {
+		private final TreeSet<Long> collectedTerms;
+		private final boolean descending;
+		private final int limit;
+
+		private FirstTermsVisitor(TreeSet<Long> collectedTerms, boolean descending, int limit) {
+			this.collectedTerms = collectedTerms;
+			this.descending = descending;
+			this.limit = limit;
+		}
+
+		@Override
+		public void visit(int docID) {
+			throw new AssertionFailure( "Unexpected call to visit(int): cells are never fully inside the query" );
+		}
+
+		@Override
+		public void visit(int docID, byte[] packedValue) {
+			long term = numericDomain.toDocValue( numericDomain.fromPoint( packedValue ) );
+			if ( isAfterLastCollectedTerm( term ) ) {
+				return;
+			}
+			addTerm( collectedTerms, limit, term );
+		}
+
+		@Override
+		public PointValues.Relation compare(byte[] minPackedValue, byte[] maxPackedValue) {
+			byte[] firstPackedValueInCell = descending ? maxPackedValue : minPackedValue;
+			long firstTermInCell = numericDomain.toDocValue( numericDomain.fromPoint( firstPackedValueInCell ) );
+			if ( isAfterLastCollectedTerm( firstTermInCell ) ) {
+				return PointValues.Relation.CELL_OUTSIDE_QUERY;
+			}
+			return PointValues.Relation.CELL_CROSSES_QUERY;
+		}
+
+		private boolean isAfterLastCollectedTerm(long term) {
+			return collectedTerms.size() >= limit
+					&& collectedTerms.comparator().compare( term, collectedTerms.last() ) >= 0;
+		}
+	}
+
 	public static class Builder<F, E extends Number, K>
 			extends AbstractBuilder<F, Long, K> {
 
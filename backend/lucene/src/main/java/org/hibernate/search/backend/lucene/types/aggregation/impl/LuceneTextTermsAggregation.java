@@ -11,13 +11,14 @@
 import java.util.LinkedHashSet;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.facet.impl.SortedSetDocValuesReaderStateCache;
+import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.engine.backend.types.converter.spi.ProjectionConverter;
 
 import org.apache.lucene.facet.FacetResult;
 import org.apache.lucene.facet.FacetsCollector;
 import org.apache.lucene.facet.FacetsConfig;
-import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
 import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState.OrdRange;
@@ -33,15 +34,25 @@
 
 	private static final Comparator<String> STRING_COMPARATOR = Comparator.naturalOrder();
 
+	private final SortedSetDocValuesReaderStateCache readerStateCache;
+
 	private LuceneTextTermsAggregation(Builder<K> builder) {
 		super( builder );
+		this.readerStateCache = builder.searchContext.getFacetsReaderStateCache();
 	}
 
 	@Override
-	FacetResult getTopChildren(IndexReader reader, FacetsCollector facetsCollector, int limit)
+	FacetResult getTopChildren(AggregationExtractContext context, FacetsCollector facetsCollector, int limit)
 			throws IOException {
 		// May throw IllegalArgumentException
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = readerStateCache.getOrCreate( context.getIndexReader() );
+
+		OrdRange ordRange = docValuesReaderState.getOrdRange( absoluteFieldPath );
+		if ( ordRange != null ) {
+			// Counting allocates one counter per distinct term of this field: check the limit beforehand.
+			// Note ordRange.end is inclusive.
+			context.countBuckets( ordRange.end - ordRange.start + 1 );
+		}
 
 		SortedSetDocValuesFacetCounts facetCounts = new SortedSetDocValuesFacetCounts(
 				docValuesReaderState, facetsCollector
@@ -56,7 +67,7 @@ Set<String> collectFirstTerms(IndexReader reader, boolean descending, int limit)
 			throws IOException {
 		Set<String> collectedTerms = new LinkedHashSet<>();
 
-		SortedSetDocValuesReaderState docValuesReaderState = new DefaultSortedSetDocValuesReaderState( reader );
+		SortedSetDocValuesReaderState docValuesReaderState = readerStateCache.getOrCreate( reader );
 		OrdRange ordRange = docValuesReaderState.getOrdRange( absoluteFieldPath );
 		SortedSetDocValues docValues = docValuesReaderState.getDocValues();
 
@@ -89,10 +89,27 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 				&& ( sortable == other.sortable ) && ( aggregable == other.aggregable );
 	}
 
+	/**
+	 * @return {@code true} if values of this field can be retrieved from doc values
+	 * and decoded to the exact same value as the one decoded from stored fields,
+	 * {@code false} otherwise.
+	 */
+	public final boolean isDecodableFromDocValues() {
+		return ( sortable || aggregable ) && isEncodingLossless();
+	}
+
 	public abstract F decode(E encoded);
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} always returns a value
+	 * equal to the one passed to {@link #encode(Object)}, {@code false} otherwise.
+	 */
+	boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
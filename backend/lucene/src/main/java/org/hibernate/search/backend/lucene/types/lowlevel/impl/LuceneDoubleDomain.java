@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesJoin;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
@@ -73,6 +74,21 @@ public Double fromDocValue(Long longValue) {
 		return Double.longBitsToDouble( longValue );
 	}
 
+	@Override
+	public long toDocValue(Double value) {
+		return Double.doubleToRawLongBits( value );
+	}
+
+	@Override
+	public Double fromPoint(byte[] packedValue) {
+		return DoublePoint.decodeDimension( packedValue, 0 );
+	}
+
+	@Override
+	public Comparator<Double> createComparator() {
+		return Comparator.naturalOrder();
+	}
+
 	@Override
 	public LongValueFacetCounts createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector) throws IOException {
 		return new LongValueFacetCounts(
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesJoin;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
@@ -74,6 +75,21 @@ public Float fromDocValue(Long longValue) {
 		return Float.intBitsToFloat( longValue.intValue() );
 	}
 
+	@Override
+	public long toDocValue(Float value) {
+		return Float.floatToRawIntBits( value );
+	}
+
+	@Override
+	public Float fromPoint(byte[] packedValue) {
+		return FloatPoint.decodeDimension( packedValue, 0 );
+	}
+
+	@Override
+	public Comparator<Float> createComparator() {
+		return Comparator.naturalOrder();
+	}
+
 	@Override
 	public LongValueFacetCounts createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector) throws IOException {
 		return new LongValueFacetCounts(
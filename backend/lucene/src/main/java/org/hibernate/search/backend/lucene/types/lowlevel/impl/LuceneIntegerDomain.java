@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesJoin;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
@@ -71,6 +72,21 @@ public Integer fromDocValue(Long longValue) {
 		return longValue.intValue();
 	}
 
+	@Override
+	public long toDocValue(Integer value) {
+		return value.longValue();
+	}
+
+	@Override
+	public Integer fromPoint(byte[] packedValue) {
+		return IntPoint.decodeDimension( packedValue, 0 );
+	}
+
+	@Override
+	public Comparator<Integer> createComparator() {
+		return Comparator.naturalOrder();
+	}
+
 	@Override
 	public LongValueFacetCounts createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector) throws IOException {
 		return new LongValueFacetCounts(
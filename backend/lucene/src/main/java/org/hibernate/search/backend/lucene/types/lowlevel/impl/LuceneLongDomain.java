@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DocValuesJoin;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.FacetCountsUtils;
@@ -71,6 +72,21 @@ public Long fromDocValue(Long longValue) {
 		return longValue;
 	}
 
+	@Override
+	public long toDocValue(Long value) {
+		return value;
+	}
+
+	@Override
+	public Long fromPoint(byte[] packedValue) {
+		return LongPoint.decodeDimension( packedValue, 0 );
+	}
+
+	@Override
+	public Comparator<Long> createComparator() {
+		return Comparator.naturalOrder();
+	}
+
 	@Override
 	public LongValueFacetCounts createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector) throws IOException {
 		return new LongValueFacetCounts(
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.Comparator;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.util.common.data.Range;
@@ -35,6 +36,24 @@
 
 	E fromDocValue(Long longValue);
 
+	/**
+	 * @param value A value.
+	 * @return The value as stored in doc values, i.e. the reverse operation of {@link #fromDocValue(Long)}.
+	 */
+	long toDocValue(E value);
+
+	/**
+	 * @param packedValue A value as stored in points, for a single dimension.
+	 * @return The decoded value.
+	 */
+	E fromPoint(byte[] packedValue);
+
+	/**
+	 * @return A comparator consistent with the natural order of values,
+	 * which is also the order of values in points.
+	 */
+	Comparator<E> createComparator();
+
 	LongValueFacetCounts createTermsFacetCounts(String absoluteFieldPath, FacetsCollector facetsCollector) throws IOException;
 
 	Facets createRangeFacetCounts(String absoluteFieldPath,
@@ -6,16 +6,37 @@
  */
 package org.hibernate.search.backend.lucene.work.impl;
 
+import java.io.IOException;
+
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.QueryTimeout;
+import org.apache.lucene.search.IndexSearcher;
 
 
 public interface LuceneReadWorkExecutionContext {
 
 	IndexReader getIndexReader();
 
+	/**
+	 * @return A new searcher for the {@link #getIndexReader() index reader},
+	 * potentially executing searches over multiple slices of the index concurrently.
+	 */
+	IndexSearcher createIndexSearcher();
+
+	/**
+	 * @param queryTimeout A query timeout, checked while enumerating terms.
+	 * @return A new searcher for the {@link #getIndexReader() index reader},
+	 * wrapped so that the given timeout is regularly checked
+	 * unless {@link QueryTimeout#isTimeoutEnabled() it is disabled},
+	 * potentially executing searches over multiple slices of the index concurrently.
+	 * @throws IOException If wrapping the index reader fails.
+	 * @see org.apache.lucene.index.ExitableDirectoryReader
+	 */
+	IndexSearcher createIndexSearcher(QueryTimeout queryTimeout) throws IOException;
+
 	IndexReaderMetadataResolver getIndexReaderMetadataResolver();
 
 	EventContext getEventContext();
@@ -35,7 +35,7 @@
 	@Override
 	public R execute(LuceneReadWorkExecutionContext context) {
 		try {
-			IndexSearcher indexSearcher = new IndexSearcher( context.getIndexReader() );
+			IndexSearcher indexSearcher = context.createIndexSearcher( searcher.getTimeoutManager() );
 
 			return searcher.search(
 					indexSearcher, context.getIndexReaderMetadataResolver(), offset, limit
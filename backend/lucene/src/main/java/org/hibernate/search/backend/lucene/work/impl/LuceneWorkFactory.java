@@ -12,6 +12,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -30,6 +31,8 @@ public interface LuceneWorkFactory {
 
 	<R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
+	<R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int limit);
+
 	LuceneReadWork<Integer> count(LuceneSearcher<?> searcher);
 
 	LuceneReadWork<Explanation> explain(LuceneSearcher<?> searcher,
@@ -18,6 +18,7 @@
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.MatchAllDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 public class LuceneWorkFactoryImpl implements LuceneWorkFactory {
 
@@ -75,6 +76,11 @@ public <R> LuceneReadWork<R> search(LuceneSearcher<R> searcher, Integer offset,
 		return new LuceneSearchWork<>( searcher, offset, limit );
 	}
 
+	@Override
+	public <R> LuceneReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int limit) {
+		return new LuceneScrollWork<>( searcher, after, limit );
+	}
+
 	@Override
 	public LuceneReadWork<Integer> count(LuceneSearcher<?> searcher) {
 		return new LuceneCountWork( searcher );
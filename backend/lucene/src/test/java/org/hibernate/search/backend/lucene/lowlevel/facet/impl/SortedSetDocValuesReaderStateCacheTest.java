@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.facet.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiReader;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+public class SortedSetDocValuesReaderStateCacheTest {
+
+	private static final String DIMENSION = "dim";
+
+	private final FacetsConfig facetsConfig = new FacetsConfig();
+	private final SortedSetDocValuesReaderStateCache cache = new SortedSetDocValuesReaderStateCache();
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private IndexWriter writer;
+	private final List<DirectoryReader> readersToClose = new ArrayList<>();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 8 );
+
+	@Before
+	public void setup() throws IOException {
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		executor.shutdownNow();
+		for ( DirectoryReader reader : readersToClose ) {
+			reader.close();
+		}
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void keyedOnReader() throws IOException {
+		addDocuments( "value1", "value2" );
+		DirectoryReader reader = openReader();
+
+		SortedSetDocValuesReaderState state1 = cache.getOrCreate( reader );
+		SortedSetDocValuesReaderState state2 = cache.getOrCreate( reader );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+		assertThat( cache.getEntryCount() ).isEqualTo( 1 );
+		assertSameAsUncached( state1, reader );
+		assertSameAsUncached( state2, reader );
+
+		// A new top-level reader over the same directory reader, as we open for every query, hits the cache
+		MultiReader multiReader = new MultiReader( new DirectoryReader[] { reader }, false );
+		SortedSetDocValuesReaderState multiReaderState = cache.getOrCreate( multiReader );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( 2 );
+		assertThat( multiReaderState.getReader() ).isSameAs( multiReader );
+		assertSameAsUncached( multiReaderState, multiReader );
+		multiReader.close();
+	}
+
+	@Test
+	public void warm() throws IOException {
+		addDocuments( "value1" );
+		DirectoryReader reader = openReader();
+
+		cache.warm( reader );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+
+		cache.getOrCreate( reader );
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void segmentsChange_evictedOnClose() throws IOException {
+		addDocuments( "value1", "value2" );
+		DirectoryReader oldReader = openReader();
+		cache.getOrCreate( oldReader );
+		assertThat( cache.getEntryCount() ).isEqualTo( 1 );
+
+		// New segment, new value: the new reader must not reuse the ordinals of the old one
+		addDocuments( "value3" );
+		DirectoryReader newReader = DirectoryReader.openIfChanged( oldReader );
+		assertThat( newReader ).isNotNull();
+		readersToClose.add( newReader );
+
+		SortedSetDocValuesReaderState newState = cache.getOrCreate( newReader );
+		assertThat( cache.getMissCount() ).isEqualTo( 2 );
+		assertThat( cache.getEntryCount() ).isEqualTo( 2 );
+		assertThat( newState.getSize() ).isEqualTo( 3 );
+		assertSameAsUncached( newState, newReader );
+
+		// Closing the old reader evicts its entry only
+		readersToClose.remove( oldReader );
+		oldReader.close();
+		assertThat( cache.getEntryCount() ).isEqualTo( 1 );
+
+		cache.getOrCreate( newReader );
+		assertThat( cache.getHitCount() ).isEqualTo( 1 );
+
+		newReader.close();
+		readersToClose.remove( newReader );
+		assertThat( cache.getEntryCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void concurrentAccess() throws Exception {
+		addDocuments( "value1", "value2" );
+		addDocuments( "value3" );
+		DirectoryReader reader = openReader();
+
+		int threadCount = 8;
+		CountDownLatch start = new CountDownLatch( 1 );
+		List<Future<SortedSetDocValuesReaderState>> futures = new ArrayList<>();
+		for ( int i = 0; i < threadCount; i++ ) {
+			futures.add( executor.submit( () -> {
+				start.await();
+				// Each thread uses its own top-level reader, as queries do
+				return cache.getOrCreate( new MultiReader( new DirectoryReader[] { reader }, false ) );
+			} ) );
+		}
+		start.countDown();
+
+		for ( Future<SortedSetDocValuesReaderState> future : futures ) {
+			SortedSetDocValuesReaderState state = future.get( 10, TimeUnit.SECONDS );
+			assertSameAsUncached( state, state.getReader() );
+			state.getReader().close();
+		}
+		// Ordinals are loaded only once
+		assertThat( cache.getMissCount() ).isEqualTo( 1 );
+		assertThat( cache.getHitCount() ).isEqualTo( threadCount - 1 );
+		assertThat( cache.getEntryCount() ).isEqualTo( 1 );
+	}
+
+	private void addDocuments(String... values) throws IOException {
+		for ( String value : values ) {
+			Document document = new Document();
+			document.add( new SortedSetDocValuesFacetField( DIMENSION, value ) );
+			writer.addDocument( facetsConfig.build( document ) );
+		}
+		// One commit per call: one segment per call
+		writer.commit();
+	}
+
+	private DirectoryReader openReader() throws IOException {
+		DirectoryReader reader = DirectoryReader.open( directory );
+		readersToClose.add( reader );
+		return reader;
+	}
+
+	private static void assertSameAsUncached(SortedSetDocValuesReaderState state,
+			IndexReader reader) throws IOException {
+		SortedSetDocValuesReaderState expected = new DefaultSortedSetDocValuesReaderState( reader );
+		assertThat( state.getSize() ).isEqualTo( expected.getSize() );
+		assertThat( state.getOrdRange( DIMENSION ) ).isNotNull();
+		assertThat( state.getOrdRange( DIMENSION ).start ).isEqualTo( expected.getOrdRange( DIMENSION ).start );
+		assertThat( state.getOrdRange( DIMENSION ).end ).isEqualTo( expected.getOrdRange( DIMENSION ).end );
+		assertThat( state.getDocValues().getValueCount() ).isEqualTo( expected.getDocValues().getValueCount() );
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+
+/**
+ * Test commits through a delegator whose index writer is shared by multiple write threads.
+ */
+public class IndexWriterDelegatorImplTest {
+
+	private static final int COMMIT_INTERVAL = 1000;
+
+	private final Directory directory = new ByteBuffersDirectory();
+	private final StubTimingSource timingSource = new StubTimingSource();
+	private IndexWriter writer;
+	private IndexWriterDelegatorImpl delegator;
+
+	@Before
+	public void setup() throws IOException {
+		writer = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		writer.commit();
+		delegator = new IndexWriterDelegatorImpl( writer, timingSource, COMMIT_INTERVAL );
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		writer.close();
+		directory.close();
+	}
+
+	@Test
+	public void commitOrDelay_uncommittedChanges() throws IOException {
+		long initialGeneration = SegmentInfos.getLastCommitGeneration( directory );
+		addDocument( "1" );
+
+		// Too early: the commit is delayed
+		assertThat( delegator.commitOrDelay() ).isEqualTo( COMMIT_INTERVAL );
+		assertThat( SegmentInfos.getLastCommitGeneration( directory ) ).isEqualTo( initialGeneration );
+
+		timingSource.time += COMMIT_INTERVAL;
+		assertThat( delegator.commitOrDelay() ).isEqualTo( 0L );
+		assertThat( SegmentInfos.getLastCommitGeneration( directory ) ).isGreaterThan( initialGeneration );
+	}
+
+	@Test
+	public void commitOrDelay_changesAlreadyCommittedByAnotherThread() throws IOException {
+		addDocument( "1" );
+		timingSource.time += COMMIT_INTERVAL;
+
+		// Another write thread commits the shared writer, including the document added above
+		assertThat( delegator.commitOrDelay() ).isEqualTo( 0L );
+		long generation = SegmentInfos.getLastCommitGeneration( directory );
+
+		// This thread must neither commit again nor wait for the commit interval to expire
+		assertThat( delegator.commitOrDelay() ).isEqualTo( 0L );
+		assertThat( SegmentInfos.getLastCommitGeneration( directory ) ).isEqualTo( generation );
+
+		// New changes must still be committed once the commit interval expires
+		addDocument( "2" );
+		assertThat( delegator.commitOrDelay() ).isEqualTo( COMMIT_INTERVAL );
+		timingSource.time += COMMIT_INTERVAL;
+		assertThat( delegator.commitOrDelay() ).isEqualTo( 0L );
+		assertThat( SegmentInfos.getLastCommitGeneration( directory ) ).isGreaterThan( generation );
+	}
+
+	private void addDocument(String id) throws IOException {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		delegator.addDocuments( Collections.singletonList( document ) );
+	}
+
+	private static class StubTimingSource implements TimingSource {
+		private long time = 0L;
+
+		@Override
+		public long getMonotonicTimeEstimate() {
+			return time;
+		}
+
+		@Override
+		public void stop() {
+		}
+
+		@Override
+		public void ensureInitialized() {
+		}
+	}
+}
@@ -0,0 +1,239 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.index.ConcurrentMergeScheduler;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LogByteSizeMergePolicy;
+import org.apache.lucene.index.MergePolicy;
+import org.apache.lucene.index.TieredMergePolicy;
+
+public class IndexWriterSettingsTest {
+
+	private static final String INDEX_NAME = "myIndex";
+
+	private final Map<String, Object> properties = new HashMap<>();
+
+	@Test
+	public void defaults() {
+		IndexWriterConfig defaultConfig = new IndexWriterConfig( new StandardAnalyzer() );
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		extract().applyToWriterConfig( config );
+
+		assertThat( config.getMaxBufferedDocs() ).isEqualTo( defaultConfig.getMaxBufferedDocs() );
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( defaultConfig.getRAMBufferSizeMB() );
+		assertThat( config.getMergePolicy() ).isInstanceOf( defaultConfig.getMergePolicy().getClass() );
+
+		ConcurrentMergeScheduler defaultMergeScheduler = new ConcurrentMergeScheduler();
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+		extract().applyToMergeScheduler( mergeScheduler );
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( defaultMergeScheduler.getMaxThreadCount() );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( defaultMergeScheduler.getMaxMergeCount() );
+	}
+
+	@Test
+	public void writer() {
+		properties.put( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 1000 );
+		properties.put( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, "32" );
+
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		extract().applyToWriterConfig( config );
+
+		assertThat( config.getMaxBufferedDocs() ).isEqualTo( 1000 );
+		assertThat( config.getRAMBufferSizeMB() ).isEqualTo( 32.0 );
+	}
+
+	@Test
+	public void mergePolicy_tiered() {
+		properties.put( LuceneIndexSettings.IO_MERGE_FACTOR, 7 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MIN_SIZE, 2 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_SIZE, 500 );
+
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		extract().applyToWriterConfig( config );
+
+		// Setting merge properties must not switch to another merge policy
+		MergePolicy mergePolicy = config.getMergePolicy();
+		assertThat( mergePolicy ).isInstanceOf( TieredMergePolicy.class );
+		TieredMergePolicy tieredMergePolicy = (TieredMergePolicy) mergePolicy;
+		assertThat( tieredMergePolicy.getMaxMergeAtOnce() ).isEqualTo( 7 );
+		assertThat( tieredMergePolicy.getSegmentsPerTier() ).isEqualTo( 7.0 );
+		assertThat( tieredMergePolicy.getFloorSegmentMB() ).isEqualTo( 2.0 );
+		assertThat( tieredMergePolicy.getMaxMergedSegmentMB() ).isEqualTo( 500.0 );
+	}
+
+	@Test
+	public void mergePolicy_logByteSize() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "log-byte-size" );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_DOCS, 10_000 );
+		properties.put( LuceneIndexSettings.IO_MERGE_FACTOR, 7 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MIN_SIZE, 2 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_SIZE, 500 );
+		properties.put( LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE, 600 );
+		properties.put( LuceneIndexSettings.IO_MERGE_CALIBRATE_BY_DELETES, false );
+
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		extract().applyToWriterConfig( config );
+
+		MergePolicy mergePolicy = config.getMergePolicy();
+		assertThat( mergePolicy ).isInstanceOf( LogByteSizeMergePolicy.class );
+		LogByteSizeMergePolicy logByteSizeMergePolicy = (LogByteSizeMergePolicy) mergePolicy;
+		assertThat( logByteSizeMergePolicy.getMaxMergeDocs() ).isEqualTo( 10_000 );
+		assertThat( logByteSizeMergePolicy.getMergeFactor() ).isEqualTo( 7 );
+		assertThat( logByteSizeMergePolicy.getMinMergeMB() ).isEqualTo( 2.0 );
+		assertThat( logByteSizeMergePolicy.getMaxMergeMB() ).isEqualTo( 500.0 );
+		assertThat( logByteSizeMergePolicy.getMaxMergeMBForForcedMerge() ).isEqualTo( 600.0 );
+		assertThat( logByteSizeMergePolicy.getCalibrateSizeByDeletes() ).isFalse();
+	}
+
+	@Test
+	public void mergePolicy_logByteSize_defaults() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "log-byte-size" );
+
+		IndexWriterConfig config = new IndexWriterConfig( new StandardAnalyzer() );
+		extract().applyToWriterConfig( config );
+
+		assertThat( config.getMergePolicy() ).isInstanceOf( LogByteSizeMergePolicy.class );
+	}
+
+	@Test
+	public void invalid_mergePolicyName() {
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "some-invalid-name" );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to convert configuration property '" + LuceneIndexSettings.IO_MERGE_POLICY
+						+ "' with value 'some-invalid-name'" )
+				.hasMessageContaining( "Invalid merge policy name: 'some-invalid-name'" );
+	}
+
+	@Test
+	public void invalid_logByteSizeOnlySettingWithTieredMergePolicy() {
+		testInvalidWithTieredMergePolicy( LuceneIndexSettings.IO_MERGE_MAX_DOCS, 10_000 );
+		testInvalidWithTieredMergePolicy( LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE, 600 );
+		testInvalidWithTieredMergePolicy( LuceneIndexSettings.IO_MERGE_CALIBRATE_BY_DELETES, false );
+
+		properties.put( LuceneIndexSettings.IO_MERGE_POLICY, "tiered" );
+		testInvalidWithTieredMergePolicy( LuceneIndexSettings.IO_MERGE_MAX_DOCS, 10_000 );
+	}
+
+	@Test
+	public void mergeScheduler() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 3 );
+
+		ConcurrentMergeScheduler mergeScheduler = new ConcurrentMergeScheduler();
+		extract().applyToMergeScheduler( mergeScheduler );
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 3 );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 3 + 5 );
+
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 4 );
+
+		mergeScheduler = new ConcurrentMergeScheduler();
+		extract().applyToMergeScheduler( mergeScheduler );
+		assertThat( mergeScheduler.getMaxThreadCount() ).isEqualTo( 3 );
+		assertThat( mergeScheduler.getMaxMergeCount() ).isEqualTo( 4 );
+	}
+
+	@Test
+	public void invalid() {
+		testInvalid( LuceneIndexSettings.IO_WRITER_RAM_BUFFER_SIZE, -1 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_MAX_DOCS, 0 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_MIN_SIZE, 0 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_MAX_SIZE, -1 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE, 0 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 0 );
+		testInvalid( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, -1 );
+	}
+
+	@Test
+	public void invalid_belowMinimum() {
+		// Lucene rejects these values, even when they are strictly positive
+		testInvalidBelowMinimum( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 1, 2 );
+		testInvalidBelowMinimum( LuceneIndexSettings.IO_WRITER_MAX_BUFFERED_DOCS, 0, 2 );
+		testInvalidBelowMinimum( LuceneIndexSettings.IO_MERGE_FACTOR, 1, 2 );
+		testInvalidBelowMinimum( LuceneIndexSettings.IO_MERGE_FACTOR, -2, 2 );
+	}
+
+	@Test
+	public void invalid_mergeSchedulerMaxMergeCountWithoutMaxThreadCount() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 4 );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Configuration property '" + LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT
+						+ "' is set, but configuration property '" + LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT
+						+ "' is not" )
+				.hasMessageContaining( INDEX_NAME );
+	}
+
+	@Test
+	public void invalid_mergeSchedulerMaxMergeCountLowerThanMaxThreadCount() {
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT, 3 );
+		properties.put( LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT, 2 );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '"
+						+ LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_MERGE_COUNT + "': '2'" )
+				.hasMessageContaining( "The value must be greater than or equal to the value of configuration property '"
+						+ LuceneIndexSettings.IO_MERGE_SCHEDULER_MAX_THREAD_COUNT + "': '3'" )
+				.hasMessageContaining( INDEX_NAME );
+	}
+
+	private void testInvalidWithTieredMergePolicy(String key, Object value) {
+		properties.remove( LuceneIndexSettings.IO_MERGE_MAX_DOCS );
+		properties.remove( LuceneIndexSettings.IO_MERGE_MAX_FORCED_SIZE );
+		properties.remove( LuceneIndexSettings.IO_MERGE_CALIBRATE_BY_DELETES );
+		properties.put( key, value );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Configuration property '" + key + "' is set" )
+				.hasMessageContaining( "configuration property '" + LuceneIndexSettings.IO_MERGE_POLICY + "'" )
+				.hasMessageContaining( "only supported by the 'log-byte-size' merge policy" )
+				.hasMessageContaining( INDEX_NAME );
+	}
+
+	private void testInvalidBelowMinimum(String key, int value, int minimum) {
+		properties.clear();
+		properties.put( key, value );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '" + key + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be greater than or equal to " + minimum )
+				.hasMessageContaining( INDEX_NAME );
+	}
+
+	private void testInvalid(String key, int value) {
+		properties.clear();
+		properties.put( key, value );
+		SubTest.expectException( this::extract )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '" + key + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be strictly positive" )
+				.hasMessageContaining( INDEX_NAME );
+	}
+
+	private IndexWriterSettings extract() {
+		return IndexWriterSettings.extract( ConfigurationPropertySource.fromMap( properties ), INDEX_NAME );
+	}
+}
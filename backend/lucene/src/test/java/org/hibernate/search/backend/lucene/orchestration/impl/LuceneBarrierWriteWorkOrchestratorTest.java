@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LuceneBarrierWriteWorkOrchestratorTest {
+
+	private final List<String> executionLog = Collections.synchronizedList( new ArrayList<>() );
+
+	private final StubOrchestrator orchestrator1 = new StubOrchestrator();
+	private final StubOrchestrator orchestrator2 = new StubOrchestrator();
+	private final StubOrchestrator orchestrator3 = new StubOrchestrator();
+
+	private final LuceneBarrierWriteWorkOrchestrator barrierOrchestrator = new LuceneBarrierWriteWorkOrchestrator(
+			Arrays.asList( orchestrator1, orchestrator2, orchestrator3 )
+	);
+
+	@After
+	public void shutdownOrchestrators() {
+		orchestrator1.executor.shutdownNow();
+		orchestrator2.executor.shutdownNow();
+		orchestrator3.executor.shutdownNow();
+	}
+
+	@Test
+	public void ordering() throws Exception {
+		CountDownLatch release = new CountDownLatch( 1 );
+
+		// Orchestrator 2 is slow to process its queue
+		orchestrator1.submit( new LoggingWorkSet( "before1" ) );
+		orchestrator2.submit( new BlockingWorkSet( release ) );
+		orchestrator2.submit( new LoggingWorkSet( "before2" ) );
+		orchestrator3.submit( new LoggingWorkSet( "before3" ) );
+
+		LoggingWorkSet barrierWorkSet = new LoggingWorkSet( "barrier" );
+		barrierOrchestrator.submit( barrierWorkSet );
+
+		orchestrator1.submit( new LoggingWorkSet( "after1" ) );
+		orchestrator3.submit( new LoggingWorkSet( "after3" ) );
+
+		// The shard-wide workset must wait for worksets submitted earlier to any orchestrator...
+		Thread.sleep( 100 );
+		assertThat( executionLog ).containsExactlyInAnyOrder( "before1", "before3" );
+		assertThat( barrierWorkSet.future ).isNotDone();
+
+		release.countDown();
+		barrierWorkSet.future.get( 10, TimeUnit.SECONDS );
+		orchestrator1.awaitQueue();
+		orchestrator2.awaitQueue();
+		orchestrator3.awaitQueue();
+
+		// ... and worksets submitted later must wait for the shard-wide workset.
+		assertThat( executionLog ).hasSize( 6 );
+		assertThat( executionLog.indexOf( "barrier" ) )
+				.isGreaterThan( executionLog.indexOf( "before1" ) )
+				.isGreaterThan( executionLog.indexOf( "before2" ) )
+				.isGreaterThan( executionLog.indexOf( "before3" ) )
+				.isLessThan( executionLog.indexOf( "after1" ) )
+				.isLessThan( executionLog.indexOf( "after3" ) );
+	}
+
+	@Test
+	public void markAsFailed_releasesOtherOrchestrators() throws Exception {
+		LoggingWorkSet barrierWorkSet = new LoggingWorkSet( "barrier" );
+		orchestrator3.failNextWorkSet = true;
+		barrierOrchestrator.submit( barrierWorkSet );
+
+		orchestrator1.submit( new LoggingWorkSet( "after1" ) );
+		orchestrator2.submit( new LoggingWorkSet( "after2" ) );
+
+		SubTest.expectException( () -> barrierWorkSet.future.get( 10, TimeUnit.SECONDS ) )
+				.assertThrown()
+				.hasMessageContaining( "Simulated failure" );
+		orchestrator1.awaitQueue();
+		orchestrator2.awaitQueue();
+		assertThat( executionLog ).containsExactlyInAnyOrder( "after1", "after2" );
+	}
+
+	private class LoggingWorkSet implements LuceneWriteWorkSet {
+		private final String name;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private LoggingWorkSet(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public void submitTo(LuceneWriteWorkProcessor processor) {
+			executionLog.add( name );
+			future.complete( null );
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			future.completeExceptionally( t );
+		}
+	}
+
+	private static class BlockingWorkSet implements LuceneWriteWorkSet {
+		private final CountDownLatch release;
+
+		private BlockingWorkSet(CountDownLatch release) {
+			this.release = release;
+		}
+
+		@Override
+		public void submitTo(LuceneWriteWorkProcessor processor) {
+			try {
+				release.await();
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+		}
+	}
+
+	/**
+	 * Applies worksets in order in a single thread, like the actual write orchestrators.
+	 */
+	private static class StubOrchestrator implements LuceneWriteWorkOrchestrator {
+		private final ExecutorService executor = Executors.newSingleThreadExecutor();
+		private volatile boolean failNextWorkSet = false;
+
+		@Override
+		public void submit(LuceneWriteWorkSet workSet) {
+			executor.submit( () -> {
+				if ( failNextWorkSet ) {
+					failNextWorkSet = false;
+					workSet.markAsFailed( new RuntimeException( "Simulated failure" ) );
+					return;
+				}
+				// Processors are not used by the worksets in this test
+				workSet.submitTo( null );
+			} );
+		}
+
+		void awaitQueue() throws Exception {
+			executor.submit( () -> { } ).get( 10, TimeUnit.SECONDS );
+		}
+	}
+}
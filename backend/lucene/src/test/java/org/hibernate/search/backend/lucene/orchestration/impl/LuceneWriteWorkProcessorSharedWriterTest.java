@@ -0,0 +1,235 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.easymock.EasyMock.capture;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessor;
+import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterDelegator;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWork;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWriteWorkExecutionContext;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.IndexFailureContext;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.assertj.core.api.Assertions;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+/**
+ * Test processors sharing the same index accessor from different threads,
+ * as happens when an index is configured with multiple writer threads.
+ */
+public class LuceneWriteWorkProcessorSharedWriterTest extends EasyMockSupport {
+
+	private static final String INDEX_NAME = "SomeIndexName";
+
+	private final EventContext indexEventContext = EventContexts.fromIndexName( INDEX_NAME );
+	private final StubIndexAccessor indexAccessor = new StubIndexAccessor();
+	private final FailureHandler failureHandlerMock = createMock( FailureHandler.class );
+	private final ReentrantReadWriteLock writerUsageLock = new ReentrantReadWriteLock();
+
+	private final LuceneWriteWorkProcessor processor1 = new LuceneWriteWorkProcessor(
+			INDEX_NAME, indexEventContext, indexAccessor, failureHandlerMock, writerUsageLock
+	);
+	private final LuceneWriteWorkProcessor processor2 = new LuceneWriteWorkProcessor(
+			INDEX_NAME, indexEventContext, indexAccessor, failureHandlerMock, writerUsageLock
+	);
+
+	private final ExecutorService executor = Executors.newFixedThreadPool( 2 );
+
+	@After
+	public void shutdownExecutor() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void failure_resetWaitsForWorksInOtherThreads() throws Exception {
+		replayAll();
+
+		CountDownLatch work1Started = new CountDownLatch( 1 );
+		CountDownLatch work1Release = new CountDownLatch( 1 );
+		AtomicInteger resetCountDuringWork1 = new AtomicInteger( -1 );
+		LuceneWriteWork<String> work1 = new StubWork<String>() {
+			@Override
+			public String execute(LuceneWriteWorkExecutionContext context) {
+				work1Started.countDown();
+				try {
+					work1Release.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				resetCountDuringWork1.set( indexAccessor.resetCount.get() );
+				return "work1Result";
+			}
+		};
+		RuntimeException work2Exception = new RuntimeException( "Some message" );
+		LuceneWriteWork<String> work2 = new StubWork<String>() {
+			@Override
+			public String execute(LuceneWriteWorkExecutionContext context) {
+				throw work2Exception;
+			}
+		};
+
+		CompletableFuture<String> work1Future = CompletableFuture.supplyAsync( () -> {
+			processor1.beforeWorkSet( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			return processor1.submit( work1 );
+		}, executor );
+		assertThat( work1Started.await( 10, TimeUnit.SECONDS ) ).isTrue();
+
+		CompletableFuture<String> work2Future = CompletableFuture.supplyAsync( () -> {
+			processor2.beforeWorkSet( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+			return processor2.submit( work2 );
+		}, executor );
+
+		// The failing processor must wait for the other processor to stop using the writer before resetting it
+		await().until( writerUsageLock::hasQueuedThreads );
+		assertThat( indexAccessor.resetCount ).hasValue( 0 );
+
+		work1Release.countDown();
+
+		assertThat( work1Future.get( 10, TimeUnit.SECONDS ) ).isEqualTo( "work1Result" );
+		assertThat( resetCountDuringWork1 ).hasValue( 0 );
+		SubTest.expectException( () -> work2Future.join() )
+				.assertThrown()
+				.hasCause( work2Exception );
+		assertThat( indexAccessor.resetCount ).hasValue( 1 );
+		verifyAll();
+	}
+
+	@Test
+	public void failure_commitInOtherThread_reportsLostWorks() {
+		LuceneWriteWork<String> work1 = new StubWork<String>() {
+			@Override
+			public String execute(LuceneWriteWorkExecutionContext context) {
+				return "work1Result";
+			}
+		};
+		LuceneWriteWork<String> work2 = new StubWork<String>() {
+			@Override
+			public String execute(LuceneWriteWorkExecutionContext context) {
+				return "work2Result";
+			}
+		};
+		RuntimeException commitException = new RuntimeException( "Some message" );
+
+		resetAll();
+		replayAll();
+		processor1.beforeWorkSet( DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE );
+		assertThat( processor1.submit( work1 ) ).isEqualTo( "work1Result" );
+		processor1.afterSuccessfulWorkSet();
+		verifyAll();
+
+		// The commit fails in the other processor, which resets the shared index writer
+		resetAll();
+		replayAll();
+		indexAccessor.commitFailure = commitException;
+		processor2.beforeWorkSet( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+		assertThat( processor2.submit( work2 ) ).isEqualTo( "work2Result" );
+		SubTest.expectException( processor2::afterSuccessfulWorkSet )
+				.assertThrown()
+				.isSameAs( commitException );
+		assertThat( indexAccessor.resetCount ).hasValue( 1 );
+		verifyAll();
+
+		// The uncommitted works of the first processor were applied to the writer that was reset: they must be reported
+		Capture<IndexFailureContext> failureContextCapture = Capture.newInstance();
+		resetAll();
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		assertThat( processor1.completeOrDelay() ).isEqualTo( 0L );
+		verifyAll();
+		assertThat( indexAccessor.commitOrDelayCount ).hasValue( 0 );
+
+		IndexFailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getIndexName() ).isEqualTo( INDEX_NAME );
+		assertThat( failureContext.getThrowable() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "The index writer was reset after a failure in another thread" );
+		Assertions.<Object>assertThat( failureContext.getUncommittedOperations() )
+				.containsExactly( work1.getInfo() );
+	}
+
+	private abstract static class StubWork<T> implements LuceneWriteWork<T> {
+		@Override
+		public Object getInfo() {
+			return toString();
+		}
+	}
+
+	private static class StubIndexAccessor implements IndexAccessor {
+		private final AtomicInteger resetCount = new AtomicInteger();
+		private final AtomicLong writerGeneration = new AtomicLong();
+		private final AtomicInteger commitOrDelayCount = new AtomicInteger();
+		private volatile RuntimeException commitFailure;
+
+		@Override
+		public void reset() {
+			resetCount.incrementAndGet();
+			writerGeneration.incrementAndGet();
+		}
+
+		@Override
+		public void ensureIndexExists() {
+		}
+
+		@Override
+		public void commit() {
+			RuntimeException failure = commitFailure;
+			if ( failure != null ) {
+				commitFailure = null;
+				throw failure;
+			}
+		}
+
+		@Override
+		public long commitOrDelay() {
+			commitOrDelayCount.incrementAndGet();
+			return 0;
+		}
+
+		@Override
+		public long getWriterGeneration() {
+			return writerGeneration.get();
+		}
+
+		@Override
+		public void refresh() {
+		}
+
+		@Override
+		public IndexWriterDelegator getIndexWriterDelegator() {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		public DirectoryReader getIndexReader() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
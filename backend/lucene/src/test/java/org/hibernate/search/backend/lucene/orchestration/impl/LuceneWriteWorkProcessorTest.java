@@ -50,6 +50,13 @@ public class LuceneWriteWorkProcessorTest extends EasyMockSupport {
 
 	private List<LuceneWriteWork<?>> workMocks = new ArrayList<>();
 
+	@Override
+	public void resetAll() {
+		super.resetAll();
+		// The index writer is never reset by another processor in these tests
+		expect( indexAccessorMock.getWriterGeneration() ).andStubReturn( 0L );
+	}
+
 	@Test
 	public void immediateCommitStrategy() throws IOException {
 		resetAll();
@@ -6,7 +6,11 @@
  */
 package org.hibernate.search.engine.backend;
 
+import java.util.Optional;
+
+import org.hibernate.search.engine.backend.orchestration.SearchAdmissionMetrics;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotaion.Incubating;
 
 /**
  * A backend as viewed by Hibernate Search users.
@@ -30,4 +34,13 @@ public interface Backend {
 	 */
 	<T> T unwrap(Class<T> clazz);
 
+	/**
+	 * @return Metrics related to the admission control of search queries,
+	 * or an empty optional if admission control is disabled for this backend.
+	 */
+	@Incubating
+	default Optional<SearchAdmissionMetrics> getSearchAdmissionMetrics() {
+		return Optional.empty();
+	}
+
 }
@@ -0,0 +1,58 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration;
+
+import java.time.Duration;
+
+import org.hibernate.search.util.common.annotaion.Incubating;
+
+/**
+ * Metrics related to the admission control of search queries in a backend.
+ * <p>
+ * Values are read from live counters:
+ * two values retrieved from the same instance may not be consistent with each other.
+ */
+@Incubating
+public interface SearchAdmissionMetrics {
+
+	/**
+	 * @return The number of search queries currently executing.
+	 */
+	int getRunningCount();
+
+	/**
+	 * @return The number of search queries currently waiting in the queue.
+	 */
+	int getQueuedCount();
+
+	/**
+	 * @return The total number of search queries admitted for execution since the backend started,
+	 * be it immediately or after waiting in the queue.
+	 */
+	long getAdmittedCount();
+
+	/**
+	 * @return The total number of search queries rejected because the queue was full.
+	 */
+	long getRejectedCount();
+
+	/**
+	 * @return The total number of search queries that failed because they waited in the queue for too long.
+	 */
+	long getTimedOutCount();
+
+	/**
+	 * @return The total time admitted search queries spent waiting in the queue.
+	 */
+	Duration getTotalQueueWaitTime();
+
+	/**
+	 * @return The longest time an admitted search query spent waiting in the queue.
+	 */
+	Duration getMaxQueueWaitTime();
+
+}
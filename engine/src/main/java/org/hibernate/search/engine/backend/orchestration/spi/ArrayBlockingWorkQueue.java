@@ -0,0 +1,52 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded work queue relying on an {@link ArrayBlockingQueue},
+ * i.e. on a single lock shared by producers and the consumer.
+ *
+ * @param <W> The type of worksets.
+ */
+public final class ArrayBlockingWorkQueue<W> implements BatchingExecutor.WorkQueue<W> {
+
+	private final BlockingQueue<W> delegate;
+
+	/**
+	 * @param capacity The capacity of the queue.
+	 * @param fair if {@code true} worksets are always consumed in FIFO order,
+	 * if {@code false} worksets submitted when the queue is full may be consumed out of order.
+	 */
+	public ArrayBlockingWorkQueue(int capacity, boolean fair) {
+		this.delegate = new ArrayBlockingQueue<>( capacity, fair );
+	}
+
+	@Override
+	public void put(W workSet) throws InterruptedException {
+		delegate.put( workSet );
+	}
+
+	@Override
+	public int drainTo(List<? super W> collection, int maxElements) {
+		return delegate.drainTo( collection, maxElements );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+}
@@ -9,8 +9,6 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
@@ -44,7 +42,7 @@
 	private final FailureHandler failureHandler;
 	private final int maxTasksPerBatch;
 
-	private final BlockingQueue<W> workQueue;
+	private final WorkQueue<W> workQueue;
 	private final List<W> workBuffer;
 	private final AtomicReference<ProcessingStatus> processingStatus;
 
@@ -66,11 +64,26 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, new MpscArrayWorkQueue<>( maxTasksPerBatch, fair ), failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * @param workQueue The queue holding tasks until they are processed.
+	 * Its capacity defines how many tasks can be submitted before submitting threads are blocked.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, WorkQueue<W> workQueue,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.processor = processor;
 		this.failureHandler = failureHandler;
 		this.maxTasksPerBatch = maxTasksPerBatch;
-		workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
+		this.workQueue = workQueue;
 		workBuffer = new ArrayList<>( maxTasksPerBatch );
 		processingStatus = new AtomicReference<>( ProcessingStatus.IDLE );
 	}
@@ -322,6 +335,51 @@ public interface WorkProcessor {
 
 	}
 
+	/**
+	 * A bounded queue of worksets, filled by any number of threads
+	 * and consumed by the executor's background thread.
+	 *
+	 * @param <W> The type of worksets.
+	 * @see MpscArrayWorkQueue
+	 * @see ArrayBlockingWorkQueue
+	 */
+	public interface WorkQueue<W> {
+
+		/**
+		 * Adds a workset to the queue, waiting for space to become available if necessary.
+		 *
+		 * @param workSet The workset to add.
+		 * @throws InterruptedException If the current thread is interrupted while waiting,
+		 * in which case the workset is not added to the queue.
+		 */
+		void put(W workSet) throws InterruptedException;
+
+		/**
+		 * Removes worksets from the queue and adds them to the given collection.
+		 * <p>
+		 * Only called from the executor's background thread.
+		 *
+		 * @param collection The collection to add worksets to.
+		 * @param maxElements The maximum number of worksets to remove.
+		 * @return The number of worksets that were removed.
+		 */
+		int drainTo(List<? super W> collection, int maxElements);
+
+		/**
+		 * @return {@code true} if the queue does not contain any workset that {@link #drainTo(List, int)}
+		 * would remove, {@code false} otherwise.
+		 * Worksets that are still being added may be ignored:
+		 * {@link BatchingExecutor#submit(WorkSet)} ensures they are processed once they are added.
+		 */
+		boolean isEmpty();
+
+		/**
+		 * Removes all worksets from the queue.
+		 */
+		void clear();
+
+	}
+
 	public interface WorkSet<P extends WorkProcessor> {
 
 		void submitTo(P processor);
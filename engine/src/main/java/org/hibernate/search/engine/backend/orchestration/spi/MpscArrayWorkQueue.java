@@ -0,0 +1,300 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * A bounded, array-based work queue that accepts worksets from multiple threads without locking,
+ * to be consumed by a single thread.
+ * <p>
+ * Each slot of the underlying array has a sequence number,
+ * which tells producers whether the slot is free and the consumer whether the slot has been filled.
+ * Producers never acquire locks: they claim a slot with an atomic operation on a shared index,
+ * then fill it.
+ * When the queue is full, producers spin briefly, then park
+ * until the consumer frees a slot and unparks them, which effectively applies back-pressure.
+ * <p>
+ * In fair mode, producers claim a slot <em>before</em> waiting for it to be free,
+ * so worksets are always consumed in the order producers started to submit them,
+ * even when the queue is full.
+ * In non-fair mode, producers only claim a slot once it is free,
+ * so worksets submitted while the queue is full may be consumed out of order.
+ * <p>
+ * Producers interrupted while waiting give up immediately and throw an {@link InterruptedException}.
+ * In fair mode, the slot they claimed is then skipped by the consumer once it is freed.
+ * <p>
+ * {@link #clear()} also releases producers that are waiting for space at the time it is called:
+ * they return without adding their workset to the queue,
+ * as if the workset had been added and then removed by the clear.
+ * <p>
+ * Consuming operations ({@link #drainTo(List, int)}, {@link #clear()})
+ * are expected to be called from a single thread,
+ * but are synchronized to remain safe when the queue is cleared while the executor is stopping.
+ *
+ * @param <W> The type of worksets.
+ */
+public final class MpscArrayWorkQueue<W> implements BatchingExecutor.WorkQueue<W> {
+
+	/*
+	 * Marker for slots claimed by producers that gave up before filling them:
+	 * in fair mode, once claimed, a slot must be filled, otherwise the consumer would wait for it forever.
+	 */
+	private static final Object SKIPPED = new Object();
+
+	private static final int MAX_SPINS = 100;
+
+	private final boolean fair;
+	private final int capacity;
+	private final AtomicReferenceArray<Object> elements;
+	private final AtomicLongArray sequences;
+
+	private final AtomicLong producerIndex = new AtomicLong( 0L );
+	// Only written by the consumer, but read by other threads through isEmpty()
+	private volatile long consumerIndex = 0L;
+
+	// Producers parked while the queue is full, to be unparked when a slot is freed or the queue is cleared
+	private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+	// Indexes claimed by producers that gave up before their slot was free: the consumer fills them with SKIPPED
+	private final Set<Long> abandonedIndexes = ConcurrentHashMap.newKeySet();
+	// Fair mode: producers that claimed an index lower than this when the queue got cleared must give up
+	private volatile long clearedUpToIndex = 0L;
+	// Non-fair mode: producers waiting while this changes must give up
+	private volatile long clearCount = 0L;
+
+	/**
+	 * @param capacity The capacity of the queue, i.e. the number of worksets it can hold
+	 * before producers have to wait.
+	 * @param fair if {@code true} worksets are always consumed in FIFO order,
+	 * if {@code false} worksets submitted when the queue is full may be consumed out of order.
+	 */
+	public MpscArrayWorkQueue(int capacity, boolean fair) {
+		Contracts.assertStrictlyPositive( capacity, "capacity" );
+		this.fair = fair;
+		this.capacity = capacity;
+		this.elements = new AtomicReferenceArray<>( capacity );
+		this.sequences = new AtomicLongArray( capacity );
+		for ( int i = 0; i < capacity; i++ ) {
+			sequences.set( i, i );
+		}
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[capacity=" + capacity + ", fair=" + fair + "]";
+	}
+
+	@Override
+	public void put(W workSet) throws InterruptedException {
+		if ( Thread.interrupted() ) {
+			throw new InterruptedException();
+		}
+		if ( fair ) {
+			putFair( workSet );
+		}
+		else {
+			putNonFair( workSet );
+		}
+	}
+
+	@Override
+	public int drainTo(List<? super W> collection, int maxElements) {
+		return drain( collection, maxElements );
+	}
+
+	@Override
+	public boolean isEmpty() {
+		// Only consider published slots, like drain() does:
+		// a producer may have claimed the next slot without filling it yet,
+		// in which case drain() would return nothing and the executor would spin.
+		// That producer will trigger processing itself once its put() returns.
+		long index = consumerIndex;
+		return sequences.get( slotOf( index ) ) != index + 1;
+	}
+
+	@Override
+	public synchronized void clear() {
+		long clearedUpTo = producerIndex.get();
+		clearedUpToIndex = clearedUpTo;
+		++clearCount;
+		wakeUpWaiters();
+		drain( null, Integer.MAX_VALUE );
+		while ( consumerIndex < clearedUpTo ) {
+			// Some producers claimed a slot before the clear, but did not fill it yet.
+			// They will either fill it or give it up shortly: wait for them.
+			Thread.yield();
+			drain( null, Integer.MAX_VALUE );
+		}
+	}
+
+	private void putFair(W workSet) throws InterruptedException {
+		long index = producerIndex.getAndIncrement();
+		int slot = slotOf( index );
+		Thread currentThread = Thread.currentThread();
+		boolean registered = false;
+		int spinCount = 0;
+		try {
+			while ( sequences.get( slot ) != index ) {
+				// The queue is full: wait for the consumer to free our slot.
+				if ( index < clearedUpToIndex ) {
+					// The queue was cleared while we were waiting: our workset is cleared too.
+					abandon( slot, index );
+					return;
+				}
+				if ( Thread.interrupted() ) {
+					abandon( slot, index );
+					throw new InterruptedException();
+				}
+				if ( spinCount < MAX_SPINS ) {
+					// Start with a busy spin: the consumer is probably about to free a slot.
+					++spinCount;
+				}
+				else if ( !registered ) {
+					// Check the slot again after registering, so that we cannot miss a wake-up.
+					waiters.add( currentThread );
+					registered = true;
+				}
+				else {
+					LockSupport.park( this );
+				}
+			}
+		}
+		finally {
+			if ( registered ) {
+				waiters.remove( currentThread );
+			}
+		}
+		publish( slot, index, workSet );
+	}
+
+	private void putNonFair(W workSet) throws InterruptedException {
+		long initialClearCount = clearCount;
+		Thread currentThread = Thread.currentThread();
+		boolean registered = false;
+		int spinCount = 0;
+		try {
+			while ( true ) {
+				long index = producerIndex.get();
+				int slot = slotOf( index );
+				long sequence = sequences.get( slot );
+				if ( sequence == index ) {
+					if ( producerIndex.compareAndSet( index, index + 1 ) ) {
+						publish( slot, index, workSet );
+						return;
+					}
+					// Another producer claimed this slot: try the next one right away.
+				}
+				else if ( sequence < index ) {
+					// The queue is full: wait for the consumer to free a slot.
+					if ( clearCount != initialClearCount ) {
+						// The queue was cleared while we were waiting: our workset is cleared too.
+						return;
+					}
+					if ( Thread.interrupted() ) {
+						throw new InterruptedException();
+					}
+					if ( spinCount < MAX_SPINS ) {
+						// Start with a busy spin: the consumer is probably about to free a slot.
+						++spinCount;
+					}
+					else if ( !registered ) {
+						// Check the slot again after registering, so that we cannot miss a wake-up.
+						waiters.add( currentThread );
+						registered = true;
+					}
+					else {
+						LockSupport.park( this );
+					}
+				}
+				// Else another producer claimed this slot and filled it since we read the index: try again.
+			}
+		}
+		finally {
+			if ( registered ) {
+				waiters.remove( currentThread );
+			}
+		}
+	}
+
+	private void publish(int slot, long index, Object element) {
+		// The volatile write to the sequence below makes the element visible to the consumer.
+		elements.lazySet( slot, element );
+		sequences.set( slot, index + 1 );
+	}
+
+	/*
+	 * Gives up a slot claimed in fair mode.
+	 * Whoever removes the index from abandonedIndexes fills the slot:
+	 * this thread if the slot is already free, the consumer when it frees the slot otherwise.
+	 */
+	private void abandon(int slot, long index) {
+		abandonedIndexes.add( index );
+		if ( sequences.get( slot ) == index && abandonedIndexes.remove( index ) ) {
+			publish( slot, index, SKIPPED );
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Only worksets and SKIPPED are ever added to the array
+	private synchronized int drain(List<? super W> collection, int maxElements) {
+		long initialIndex = consumerIndex;
+		long index = initialIndex;
+		int count = 0;
+		while ( count < maxElements ) {
+			int slot = slotOf( index );
+			if ( sequences.get( slot ) != index + 1 ) {
+				// Either the queue is empty, or the next producer did not fill its slot yet.
+				break;
+			}
+			Object element = elements.get( slot );
+			elements.lazySet( slot, null );
+			// Free the slot for the producer that will claim it on the next turn.
+			long nextTurnIndex = index + capacity;
+			sequences.set( slot, nextTurnIndex );
+			if ( !abandonedIndexes.isEmpty() && abandonedIndexes.remove( nextTurnIndex ) ) {
+				publish( slot, nextTurnIndex, SKIPPED );
+			}
+			++index;
+			if ( element != SKIPPED ) {
+				if ( collection != null ) {
+					collection.add( (W) element );
+				}
+				++count;
+			}
+		}
+		consumerIndex = index;
+		if ( index != initialIndex ) {
+			wakeUpWaiters();
+		}
+		return count;
+	}
+
+	private void wakeUpWaiters() {
+		for ( Thread waiter : waiters ) {
+			LockSupport.unpark( waiter );
+		}
+	}
+
+	/*
+	 * The capacity is not necessarily a power of two, so we cannot use a bit mask:
+	 * rounding the capacity up would silently move the point where back-pressure is applied.
+	 * Index (index + capacity) maps to the same slot as index, which is all the sequence logic requires.
+	 */
+	private int slotOf(long index) {
+		return (int) ( index % capacity );
+	}
+
+}
@@ -0,0 +1,437 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.orchestration.SearchAdmissionMetrics;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Admission control for search queries.
+ * <p>
+ * Bounds the number of queries executing concurrently,
+ * makes other queries wait in a bounded queue for a bounded time,
+ * and shares execution slots between tenants according to their weight:
+ * when a slot is freed, it goes to the waiting tenant with the fewest running queries relative to its weight.
+ * Queries of a given tenant are admitted in the order they were submitted.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class SearchAdmissionController implements SearchAdmissionMetrics {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int DEFAULT_TENANT_WEIGHT = 1;
+
+	/**
+	 * @param values Tenant weights in the format {@code <tenant identifier>:<weight>}.
+	 * @return A map of weights indexed by tenant identifier.
+	 * @throws org.hibernate.search.util.common.SearchException If one of the values is invalid.
+	 */
+	public static Map<String, Integer> parseTenantWeights(List<String> values) {
+		Map<String, Integer> result = new LinkedHashMap<>();
+		for ( String value : values ) {
+			int separatorIndex = value.lastIndexOf( ':' );
+			if ( separatorIndex <= 0 ) {
+				throw log.invalidSearchAdmissionTenantWeight( value );
+			}
+			String tenantId = value.substring( 0, separatorIndex ).trim();
+			int weight;
+			try {
+				weight = Integer.parseInt( value.substring( separatorIndex + 1 ).trim() );
+			}
+			catch (NumberFormatException e) {
+				throw log.invalidSearchAdmissionTenantWeight( value );
+			}
+			if ( tenantId.isEmpty() || weight <= 0 ) {
+				throw log.invalidSearchAdmissionTenantWeight( value );
+			}
+			result.put( tenantId, weight );
+		}
+		return result;
+	}
+
+	private final String name;
+	private final int maxConcurrency;
+	private final Integer maxConcurrencyPerTenant;
+	private final int queueSize;
+	private final long queueTimeoutMs;
+	private final Map<String, Integer> tenantWeights;
+	private final ScheduledExecutorService timeoutScheduler;
+
+	// Guarded by "this"
+	private final Map<String, TenantState> tenantStates = new HashMap<>();
+	private int runningCount = 0;
+	private int queuedCount = 0;
+	private boolean stopped = false;
+
+	private final LongAdder admittedCount = new LongAdder();
+	private final LongAdder rejectedCount = new LongAdder();
+	private final LongAdder timedOutCount = new LongAdder();
+	private final LongAdder totalQueueWaitNanos = new LongAdder();
+	private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+	/**
+	 * @param name The name of this controller when reporting errors.
+	 * @param maxConcurrency The maximum number of queries executing concurrently. Must be strictly positive.
+	 * @param maxConcurrencyPerTenant The maximum number of queries executing concurrently for a single tenant,
+	 * or {@code null} for no other limit than {@code maxConcurrency}.
+	 * @param queueSize The maximum number of queries waiting for execution,
+	 * or {@code 0} to reject queries immediately when no slot is available.
+	 * @param queueTimeoutMs The maximum time a query may wait for execution, in milliseconds,
+	 * or {@code 0} to wait indefinitely.
+	 * @param tenantWeights The weight of each tenant. Tenants not listed here have a weight of 1.
+	 * @param timeoutScheduler A scheduler, used to fail queries that waited for too long.
+	 */
+	public SearchAdmissionController(String name, int maxConcurrency, Integer maxConcurrencyPerTenant,
+			int queueSize, long queueTimeoutMs, Map<String, Integer> tenantWeights,
+			ScheduledExecutorService timeoutScheduler) {
+		this.name = name;
+		this.maxConcurrency = maxConcurrency;
+		this.maxConcurrencyPerTenant = maxConcurrencyPerTenant;
+		this.queueSize = queueSize;
+		this.queueTimeoutMs = queueTimeoutMs;
+		this.tenantWeights = tenantWeights == null ? Collections.emptyMap() : tenantWeights;
+		this.timeoutScheduler = timeoutScheduler;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + name + "]";
+	}
+
+	/**
+	 * Waits until a query can be executed, executes it in the current thread, then frees its slot.
+	 *
+	 * @param tenantId The identifier of the tenant executing the query, or {@code null}.
+	 * @param task The query execution.
+	 * @param <T> The type of results.
+	 * @return The result of the task.
+	 * @throws org.hibernate.search.util.common.SearchException If the query was rejected,
+	 * or if the thread was interrupted while the query was waiting for execution,
+	 * in which case the query leaves the queue and the interrupt flag is preserved.
+	 */
+	public <T> T execute(String tenantId, Supplier<T> task) {
+		CompletableFuture<Permit> permitFuture = acquire( tenantId );
+		Permit permit;
+		try {
+			permit = Futures.unwrappedExceptionGet( permitFuture );
+		}
+		catch (InterruptedException e) {
+			if ( !permitFuture.cancel( false ) ) {
+				// The query was admitted in the meantime: free the slot
+				permitFuture.thenAccept( Permit::release );
+			}
+			Thread.currentThread().interrupt();
+			throw log.searchAdmissionInterrupted( name, e );
+		}
+		try {
+			return task.get();
+		}
+		finally {
+			permit.release();
+		}
+	}
+
+	/**
+	 * Starts an asynchronous query execution as soon as it is admitted, and frees its slot when it completes.
+	 * <p>
+	 * The task will be started either in the current thread,
+	 * or in the thread completing the execution of another query.
+	 * It must not block.
+	 *
+	 * @param tenantId The identifier of the tenant executing the query, or {@code null}.
+	 * @param task The query execution.
+	 * @param <T> The type of results.
+	 * @return A future completed with the result of the task,
+	 * or completed exceptionally if the query was rejected.
+	 */
+	public <T> CompletableFuture<T> submit(String tenantId, Supplier<CompletableFuture<T>> task) {
+		return acquire( tenantId ).thenCompose( permit -> Futures.create( task )
+				.whenComplete( (result, throwable) -> permit.release() ) );
+	}
+
+	/**
+	 * @param tenantId The identifier of the tenant executing the query, or {@code null}.
+	 * @return A future completed with a permit when the query is admitted,
+	 * or completed exceptionally if the query was rejected.
+	 * The permit must be {@link Permit#release() released} when the query execution ends.
+	 * Cancelling the future removes the query from the queue.
+	 */
+	public CompletableFuture<Permit> acquire(String tenantId) {
+		Waiter waiter;
+		synchronized ( this ) {
+			if ( stopped ) {
+				return failedFuture( log.searchAdmissionStopped( name ) );
+			}
+			TenantState tenant = tenantStates.computeIfAbsent( tenantId, TenantState::new );
+			if ( runningCount < maxConcurrency && tenant.canRun() && tenant.waiters.isEmpty() ) {
+				admittedCount.increment();
+				return CompletableFuture.completedFuture( grant( tenant ) );
+			}
+			if ( queuedCount >= queueSize ) {
+				removeIfIdle( tenant );
+				rejectedCount.increment();
+				return failedFuture( log.searchAdmissionQueueFull( name, queueSize ) );
+			}
+			waiter = new Waiter( tenant );
+			tenant.waiters.addLast( waiter );
+			++queuedCount;
+		}
+		if ( queueTimeoutMs > 0 ) {
+			waiter.timeoutFuture = timeoutScheduler.schedule( () -> timeout( waiter ), queueTimeoutMs, TimeUnit.MILLISECONDS );
+		}
+		waiter.future.whenComplete( (permit, throwable) -> {
+			if ( waiter.future.isCancelled() ) {
+				abandon( waiter );
+			}
+		} );
+		return waiter.future;
+	}
+
+	/**
+	 * Rejects all waiting queries and any query submitted from now on.
+	 * Running queries are not affected.
+	 */
+	public void stop() {
+		List<Waiter> rejected = new ArrayList<>();
+		synchronized ( this ) {
+			stopped = true;
+			for ( TenantState tenant : tenantStates.values() ) {
+				rejected.addAll( tenant.waiters );
+				tenant.waiters.clear();
+			}
+			queuedCount = 0;
+			tenantStates.values().removeIf( TenantState::isIdle );
+		}
+		for ( Waiter waiter : rejected ) {
+			waiter.cancelTimeout();
+			waiter.future.completeExceptionally( log.searchAdmissionStopped( name ) );
+		}
+	}
+
+	@Override
+	public synchronized int getRunningCount() {
+		return runningCount;
+	}
+
+	@Override
+	public synchronized int getQueuedCount() {
+		return queuedCount;
+	}
+
+	@Override
+	public long getAdmittedCount() {
+		return admittedCount.sum();
+	}
+
+	@Override
+	public long getRejectedCount() {
+		return rejectedCount.sum();
+	}
+
+	@Override
+	public long getTimedOutCount() {
+		return timedOutCount.sum();
+	}
+
+	@Override
+	public Duration getTotalQueueWaitTime() {
+		return Duration.ofNanos( totalQueueWaitNanos.sum() );
+	}
+
+	@Override
+	public Duration getMaxQueueWaitTime() {
+		return Duration.ofNanos( maxQueueWaitNanos.get() );
+	}
+
+	// Must be called while holding the lock on "this"
+	private Permit grant(TenantState tenant) {
+		++runningCount;
+		++tenant.runningCount;
+		return new Permit( tenant );
+	}
+
+	private void release(TenantState tenant) {
+		List<Waiter> admitted = new ArrayList<>();
+		synchronized ( this ) {
+			--runningCount;
+			--tenant.runningCount;
+			dispatch( admitted );
+			removeIfIdle( tenant );
+		}
+		// Complete futures outside of the lock: this may trigger the execution of queries.
+		for ( Waiter waiter : admitted ) {
+			waiter.admit();
+		}
+	}
+
+	// Must be called while holding the lock on "this"
+	private void dispatch(List<Waiter> admitted) {
+		while ( runningCount < maxConcurrency && queuedCount > 0 ) {
+			TenantState next = null;
+			for ( TenantState candidate : tenantStates.values() ) {
+				if ( candidate.waiters.isEmpty() || !candidate.canRun() ) {
+					continue;
+				}
+				if ( next == null || candidate.hasPriorityOver( next ) ) {
+					next = candidate;
+				}
+			}
+			if ( next == null ) {
+				// All waiting tenants reached their own concurrency limit
+				return;
+			}
+			Waiter waiter = next.waiters.removeFirst();
+			--queuedCount;
+			waiter.permit = grant( next );
+			admitted.add( waiter );
+		}
+	}
+
+	private void timeout(Waiter waiter) {
+		synchronized ( this ) {
+			if ( !waiter.tenant.waiters.remove( waiter ) ) {
+				// Already admitted or rejected
+				return;
+			}
+			--queuedCount;
+			removeIfIdle( waiter.tenant );
+		}
+		timedOutCount.increment();
+		waiter.future.completeExceptionally( log.searchAdmissionQueueTimeout( name, queueTimeoutMs ) );
+	}
+
+	private void abandon(Waiter waiter) {
+		synchronized ( this ) {
+			if ( !waiter.tenant.waiters.remove( waiter ) ) {
+				// Already admitted (the permit is released in Waiter.admit()), rejected or timed out
+				return;
+			}
+			--queuedCount;
+			removeIfIdle( waiter.tenant );
+		}
+		waiter.cancelTimeout();
+	}
+
+	// Must be called while holding the lock on "this"
+	private void removeIfIdle(TenantState tenant) {
+		if ( tenant.isIdle() ) {
+			tenantStates.remove( tenant.tenantId );
+		}
+	}
+
+	private static <T> CompletableFuture<T> failedFuture(Throwable throwable) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally( throwable );
+		return future;
+	}
+
+	/**
+	 * A slot for the execution of a single query.
+	 */
+	public final class Permit {
+		private final TenantState tenant;
+		private final AtomicBoolean released = new AtomicBoolean( false );
+
+		private Permit(TenantState tenant) {
+			this.tenant = tenant;
+		}
+
+		/**
+		 * Frees the slot, so that another query can be admitted.
+		 * Calling this method more than once has no effect.
+		 */
+		public void release() {
+			if ( released.compareAndSet( false, true ) ) {
+				SearchAdmissionController.this.release( tenant );
+			}
+		}
+	}
+
+	private final class TenantState {
+		private final String tenantId;
+		private final int weight;
+		private final Deque<Waiter> waiters = new ArrayDeque<>();
+		private int runningCount = 0;
+
+		private TenantState(String tenantId) {
+			this.tenantId = tenantId;
+			this.weight = tenantWeights.getOrDefault( tenantId, DEFAULT_TENANT_WEIGHT );
+		}
+
+		boolean canRun() {
+			return maxConcurrencyPerTenant == null || runningCount < maxConcurrencyPerTenant;
+		}
+
+		boolean isIdle() {
+			return runningCount == 0 && waiters.isEmpty();
+		}
+
+		boolean hasPriorityOver(TenantState other) {
+			// Compare runningCount / weight without floating-point arithmetic
+			long thisShare = (long) runningCount * other.weight;
+			long otherShare = (long) other.runningCount * weight;
+			if ( thisShare != otherShare ) {
+				return thisShare < otherShare;
+			}
+			// Same share: the tenant whose oldest query waited the longest goes first
+			return waiters.getFirst().enqueueNanos - other.waiters.getFirst().enqueueNanos < 0;
+		}
+	}
+
+	private final class Waiter {
+		private final TenantState tenant;
+		private final long enqueueNanos = System.nanoTime();
+		private final CompletableFuture<Permit> future = new CompletableFuture<>();
+		private volatile ScheduledFuture<?> timeoutFuture;
+		private Permit permit;
+
+		private Waiter(TenantState tenant) {
+			this.tenant = tenant;
+		}
+
+		void admit() {
+			cancelTimeout();
+			long waitNanos = System.nanoTime() - enqueueNanos;
+			totalQueueWaitNanos.add( waitNanos );
+			maxQueueWaitNanos.accumulateAndGet( waitNanos, Math::max );
+			admittedCount.increment();
+			if ( !future.complete( permit ) ) {
+				// The caller is no longer waiting for this permit
+				permit.release();
+			}
+		}
+
+		void cancelTimeout() {
+			ScheduledFuture<?> currentTimeoutFuture = timeoutFuture;
+			if ( currentTimeoutFuture != null ) {
+				currentTimeoutFuture.cancel( false );
+			}
+		}
+	}
+}
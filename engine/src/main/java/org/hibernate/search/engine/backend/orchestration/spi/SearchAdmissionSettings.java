@@ -0,0 +1,138 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+/**
+ * Configuration properties of {@link SearchAdmissionController search admission control},
+ * shared by all backends.
+ * <p>
+ * Property keys are relative to the backend property source;
+ * backends document them in their own settings class.
+ */
+public final class SearchAdmissionSettings {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private SearchAdmissionSettings() {
+	}
+
+	public static final class Radicals {
+
+		private Radicals() {
+		}
+
+		public static final String MAX_CONCURRENCY = "search.admission.max_concurrency";
+		public static final String MAX_CONCURRENCY_PER_TENANT = "search.admission.max_concurrency_per_tenant";
+		public static final String QUEUE_SIZE = "search.admission.queue_size";
+		public static final String QUEUE_TIMEOUT = "search.admission.queue_timeout";
+		public static final String TENANT_WEIGHTS = "search.admission.tenant_weights";
+	}
+
+	public static final class Defaults {
+
+		private Defaults() {
+		}
+
+		public static final int QUEUE_SIZE = 100;
+		public static final long QUEUE_TIMEOUT = 0L;
+	}
+
+	private static final OptionalConfigurationProperty<Integer> MAX_CONCURRENCY =
+			ConfigurationProperty.forKey( Radicals.MAX_CONCURRENCY )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> MAX_CONCURRENCY_PER_TENANT =
+			ConfigurationProperty.forKey( Radicals.MAX_CONCURRENCY_PER_TENANT )
+					.asInteger()
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUEUE_SIZE =
+			ConfigurationProperty.forKey( Radicals.QUEUE_SIZE )
+					.asInteger()
+					.withDefault( Defaults.QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUEUE_TIMEOUT =
+			ConfigurationProperty.forKey( Radicals.QUEUE_TIMEOUT )
+					.asLong()
+					.withDefault( Defaults.QUEUE_TIMEOUT )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<String>> TENANT_WEIGHTS =
+			ConfigurationProperty.forKey( Radicals.TENANT_WEIGHTS )
+					.asString().multivalued()
+					.build();
+
+	/**
+	 * @param name The name of the controller when reporting errors.
+	 * @param propertySource The backend property source.
+	 * @param eventContext The event context of the backend, for error reporting.
+	 * @param timeoutScheduler A scheduler, used to fail queries that waited for too long.
+	 * @return A new admission controller, or {@code null} if admission control is disabled.
+	 * @throws org.hibernate.search.util.common.SearchException If one of the properties has an invalid value.
+	 */
+	public static SearchAdmissionController createController(String name, ConfigurationPropertySource propertySource,
+			EventContext eventContext, ScheduledExecutorService timeoutScheduler) {
+		Optional<Integer> maxConcurrency = MAX_CONCURRENCY.get( propertySource );
+		if ( !maxConcurrency.isPresent() ) {
+			// Admission control is disabled
+			return null;
+		}
+		checkStrictlyPositive( MAX_CONCURRENCY, propertySource, maxConcurrency.get(), eventContext );
+
+		Integer maxConcurrencyPerTenant = MAX_CONCURRENCY_PER_TENANT.get( propertySource ).orElse( null );
+		if ( maxConcurrencyPerTenant != null ) {
+			checkStrictlyPositive( MAX_CONCURRENCY_PER_TENANT, propertySource, maxConcurrencyPerTenant, eventContext );
+		}
+
+		int queueSize = QUEUE_SIZE.get( propertySource );
+		// 0 means queries are rejected immediately when no slot is available
+		checkPositiveOrZero( QUEUE_SIZE, propertySource, queueSize, eventContext );
+
+		long queueTimeout = QUEUE_TIMEOUT.get( propertySource );
+		// 0 means queries wait indefinitely
+		checkPositiveOrZero( QUEUE_TIMEOUT, propertySource, queueTimeout, eventContext );
+
+		Map<String, Integer> tenantWeights = TENANT_WEIGHTS
+				.getAndMap( propertySource, SearchAdmissionController::parseTenantWeights )
+				.orElse( Collections.emptyMap() );
+
+		return new SearchAdmissionController( name, maxConcurrency.get(), maxConcurrencyPerTenant,
+				queueSize, queueTimeout, tenantWeights, timeoutScheduler );
+	}
+
+	private static void checkStrictlyPositive(ConfigurationProperty<?> property,
+			ConfigurationPropertySource propertySource, long value, EventContext eventContext) {
+		if ( value <= 0 ) {
+			throw log.invalidStrictlyPositiveSearchAdmissionSetting( property.resolveOrRaw( propertySource ), value,
+					eventContext );
+		}
+	}
+
+	private static void checkPositiveOrZero(ConfigurationProperty<?> property,
+			ConfigurationPropertySource propertySource, long value, EventContext eventContext) {
+		if ( value < 0 ) {
+			throw log.invalidPositiveSearchAdmissionSetting( property.resolveOrRaw( propertySource ), value,
+					eventContext );
+		}
+	}
+}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.engine.backend.work.execution.spi;
 
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -22,4 +23,39 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Prepares the index for a full rebuild, e.g. through mass indexing.
+	 * <p>
+	 * By default, this simply purges the index.
+	 * Backends may instead redirect writes to a new, write-optimized index,
+	 * which will only replace the current one on {@link #finishBulkLoad()}.
+	 *
+	 * @return A future that will be completed when the index is ready for bulk-loading.
+	 */
+	default CompletableFuture<?> beginBulkLoad() {
+		return purge( Collections.emptySet() );
+	}
+
+	/**
+	 * Completes a bulk-load started with {@link #beginBulkLoad()},
+	 * making all loaded documents visible to searches.
+	 * <p>
+	 * Should be called after {@link #flush()}.
+	 *
+	 * @return A future that will be completed when the loaded documents are visible to searches.
+	 */
+	default CompletableFuture<?> finishBulkLoad() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	/**
+	 * Aborts a bulk-load started with {@link #beginBulkLoad()},
+	 * reverting to the index that was in use before, if possible.
+	 *
+	 * @return A future that will be completed when the bulk-load is aborted.
+	 */
+	default CompletableFuture<?> abortBulkLoad() {
+		return CompletableFuture.completedFuture( null );
+	}
+
 }
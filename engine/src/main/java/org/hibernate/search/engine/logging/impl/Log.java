@@ -22,6 +22,7 @@
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.common.logging.impl.MessageConstants;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
 
@@ -309,4 +310,38 @@ void configurationPropertyTrackingUnusedProperties(Set<String> propertyKeys, Str
 			value = "The background failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Search query rejected by admission control of '%1$s':"
+					+ " %2$s queries are already waiting for execution, which is the maximum.")
+	SearchException searchAdmissionQueueFull(String name, int queueSize);
+
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Search query rejected by admission control of '%1$s':"
+					+ " the query waited for execution for more than %2$s ms.")
+	SearchTimeoutException searchAdmissionQueueTimeout(String name, long queueTimeoutMs);
+
+	@Message(id = ID_OFFSET_2 + 72,
+			value = "Search query rejected by admission control of '%1$s': the backend is shutting down.")
+	SearchException searchAdmissionStopped(String name);
+
+	@Message(id = ID_OFFSET_2 + 73,
+			value = "Invalid tenant weight for search admission control: '%1$s'."
+					+ " The expected format is '<tenant identifier>:<weight>', with a strictly positive integer weight.")
+	SearchException invalidSearchAdmissionTenantWeight(String value);
+
+	@Message(id = ID_OFFSET_2 + 74,
+			value = "Search query rejected by admission control of '%1$s':"
+					+ " the thread was interrupted while the query was waiting for execution.")
+	SearchException searchAdmissionInterrupted(String name, @Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_2 + 75,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be strictly positive.")
+	SearchException invalidStrictlyPositiveSearchAdmissionSetting(String propertyKey, long value,
+			@Param EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 76,
+			value = "Invalid value for configuration property '%1$s': '%2$s'. The value must be positive or zero.")
+	SearchException invalidPositiveSearchAdmissionSetting(String propertyKey, long value,
+			@Param EventContext context);
 }
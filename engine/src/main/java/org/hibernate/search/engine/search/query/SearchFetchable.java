@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,89 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for its {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if anything goes wrong.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for its {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread does not wait for the query to be executed, provided the backend supports it:
+	 * the Elasticsearch backend sends the request without blocking,
+	 * and the Lucene backend executes the query in a dedicated thread pool, if one was configured.
+	 * Entity loading, if necessary, is chained after the backend returned the hits
+	 * and may execute in a different thread:
+	 * the session the query was created from must not be used until the returned {@link CompletionStage} completes.
+	 * <p>
+	 * Failures, including timeouts and entity loading failures,
+	 * complete the returned {@link CompletionStage} exceptionally
+	 * with the same exceptions {@link #fetch(Integer, Integer)} would throw.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult},
+	 * or completed exceptionally if anything goes wrong.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for its hits as a {@link List},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally if anything goes wrong.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for its hits as a {@link List},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be returned. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the query hits,
+	 * or completed exceptionally if anything goes wrong.
+	 */
+	CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} for its total hit count.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about asynchronous execution.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the total number of matching entities,
+	 * ignoring pagination settings, or completed exceptionally if anything goes wrong.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
+	/**
+	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
+	 * <p>
+	 * Useful to process large result sets:
+	 * contrary to {@link #fetch(Integer, Integer)} with increasing offsets,
+	 * each chunk is retrieved at a cost that does not depend on its position in the result set,
+	 * and only the hits of the current chunk are held in memory.
+	 * <p>
+	 * The returned scroll must be {@link SearchScroll#close() closed} once it is no longer needed.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link SearchScroll#next()}.
+	 * @return The {@link SearchScroll}.
+	 * @throws IllegalArgumentException If {@code chunkSize} is zero or negative.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
 }
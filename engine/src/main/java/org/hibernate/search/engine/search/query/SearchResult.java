@@ -17,10 +17,18 @@
 public interface SearchResult<H> {
 
 	/**
-	 * @return The total number of matching entities, ignoring pagination settings.
+	 * @return The total number of matching entities, ignoring pagination settings,
+	 * or a lower bound of that number if {@link #isTotalHitCountExact()} returns {@code false}.
 	 */
 	long getTotalHitCount();
 
+	/**
+	 * @return {@code true} if {@link #getTotalHitCount()} is the exact number of matching entities,
+	 * {@code false} if it is only a lower bound because the backend stopped counting hits
+	 * after reaching the {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(int) total hit count threshold}.
+	 */
+	boolean isTotalHitCountExact();
+
 	/**
 	 * @return The hits as a {@link List} containing one element for each matched entity.
 	 */
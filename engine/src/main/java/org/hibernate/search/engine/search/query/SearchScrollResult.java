@@ -0,0 +1,33 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.List;
+
+/**
+ * One chunk of the results of a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains hits, {@code false} if the scroll is exhausted.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> getHits();
+
+	/**
+	 * @return The total number of matching entities, ignoring chunking.
+	 */
+	long getTotalHitCount();
+
+}
@@ -92,6 +92,29 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Allow the backend to stop counting hits once a given number of hits has been reached.
+	 * <p>
+	 * Counting all matching documents prevents some optimizations,
+	 * such as skipping documents that cannot make it to the top hits.
+	 * When the exact total hit count is not needed, e.g. when only displaying the first page of results,
+	 * setting a threshold can make queries significantly faster.
+	 * <p>
+	 * When the number of matching documents exceeds the threshold,
+	 * {@link SearchResult#getTotalHitCount()} will only return a lower bound
+	 * and {@link SearchResult#isTotalHitCountExact()} will return {@code false}.
+	 * <p>
+	 * By default, unless a default threshold was set in the backend configuration,
+	 * the total hit count is always exact.
+	 * {@link SearchFetchable#fetchTotalHitCount()} always returns an exact count regardless of this setting.
+	 *
+	 * @param totalHitCountThreshold The number of hits after which the backend may stop counting hits.
+	 * Zero means the total hit count will not be computed at all, except as a side effect of fetching hits.
+	 * {@link Integer#MAX_VALUE} means the total hit count will always be exact.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(int totalHitCountThreshold);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
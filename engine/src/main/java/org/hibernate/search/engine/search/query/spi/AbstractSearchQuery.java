@@ -9,10 +9,13 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -58,6 +61,47 @@ public List<H> fetchHits(Integer offset, Integer limit) {
 		return fetch( offset, limit ).getHits();
 	}
 
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	/**
+	 * Execute the query in the calling thread and return an already completed stage.
+	 * <p>
+	 * Backends able to execute queries without blocking the calling thread should override this method.
+	 *
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to return. {@code null} means no limit.
+	 * @return A completed {@link CompletionStage}.
+	 */
+	@Override
+	public CompletionStage<R> fetchAsync(Integer offset, Integer limit) {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetch( offset, limit ) ) );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer limit) {
+		return fetchHitsAsync( null, limit );
+	}
+
+	@Override
+	public CompletionStage<List<H>> fetchHitsAsync(Integer offset, Integer limit) {
+		return fetchAsync( offset, limit ).thenApply( SearchResult::getHits );
+	}
+
+	/**
+	 * Execute the count query in the calling thread and return an already completed stage.
+	 * <p>
+	 * Backends able to execute queries without blocking the calling thread should override this method.
+	 *
+	 * @return A completed {@link CompletionStage}.
+	 */
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return Futures.create( () -> CompletableFuture.completedFuture( fetchTotalHitCount() ) );
+	}
+
 	@Override
 	public Optional<H> fetchSingleHit() {
 		// We don't need to fetch more than two elements to detect a problem
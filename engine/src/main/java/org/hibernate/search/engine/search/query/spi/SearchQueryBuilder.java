@@ -26,6 +26,8 @@
 
 	void failAfter(long timeout, TimeUnit timeUnit);
 
+	void totalHitCountThreshold(int totalHitCountThreshold);
+
 	SearchQuery<H> build();
 
 }
@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+
+public class SimpleSearchScrollResult<H> implements SearchScrollResult<H> {
+
+	private final long hitCount;
+	private final List<H> hits;
+
+	public SimpleSearchScrollResult(long hitCount, List<H> hits) {
+		this.hitCount = hitCount;
+		this.hits = hits;
+	}
+
+	@Override
+	public boolean hasHits() {
+		return !hits.isEmpty();
+	}
+
+	@Override
+	public List<H> getHits() {
+		return hits;
+	}
+
+	@Override
+	public long getTotalHitCount() {
+		return hitCount;
+	}
+
+	@Override
+	public String toString() {
+		return new StringJoiner( ", ", SimpleSearchScrollResult.class.getSimpleName() + "[", "]" )
+				.add( "hitCount=" + hitCount )
+				.add( "hits=" + hits )
+				.toString();
+	}
+}
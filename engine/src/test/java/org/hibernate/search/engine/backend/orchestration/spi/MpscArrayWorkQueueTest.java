@@ -0,0 +1,284 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class MpscArrayWorkQueueTest {
+
+	// To execute code asynchronously. Just use more threads than we'll ever need, we don't care about performance.
+	private final ExecutorService asyncExecutor = Executors.newFixedThreadPool( 8 );
+
+	@After
+	public void cleanup() {
+		asyncExecutor.shutdownNow();
+	}
+
+	@Test
+	public void fifo() throws InterruptedException {
+		MpscArrayWorkQueue<Integer> queue = new MpscArrayWorkQueue<>( 4, true );
+		assertThat( queue.isEmpty() ).isTrue();
+
+		queue.put( 1 );
+		queue.put( 2 );
+		queue.put( 3 );
+		assertThat( queue.isEmpty() ).isFalse();
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 2 ) ).isEqualTo( 2 );
+		assertThat( drained ).containsExactly( 1, 2 );
+
+		// Wrap around the end of the underlying array
+		queue.put( 4 );
+		queue.put( 5 );
+		queue.put( 6 );
+		drained.clear();
+		assertThat( queue.drainTo( drained, 10 ) ).isEqualTo( 4 );
+		assertThat( drained ).containsExactly( 3, 4, 5, 6 );
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void backPressure_fair() throws InterruptedException {
+		testBackPressure( true, 2 );
+	}
+
+	@Test
+	public void backPressure_nonFair() throws InterruptedException {
+		testBackPressure( false, 2 );
+	}
+
+	@Test
+	public void backPressure_capacityNotPowerOfTwo_fair() throws InterruptedException {
+		// The configured capacity must be honored exactly, not rounded up to a power of two
+		testBackPressure( true, 3 );
+	}
+
+	@Test
+	public void backPressure_capacityNotPowerOfTwo_nonFair() throws InterruptedException {
+		// The configured capacity must be honored exactly, not rounded up to a power of two
+		testBackPressure( false, 3 );
+	}
+
+	@Test
+	public void interrupted_fair() throws InterruptedException {
+		testInterrupted( true );
+	}
+
+	@Test
+	public void interrupted_nonFair() throws InterruptedException {
+		testInterrupted( false );
+	}
+
+	@Test
+	public void waitingProducerParks_fair() throws InterruptedException {
+		testWaitingProducerParks( true );
+	}
+
+	@Test
+	public void waitingProducerParks_nonFair() throws InterruptedException {
+		testWaitingProducerParks( false );
+	}
+
+	@Test
+	public void clearReleasesWaitingProducers_fair() throws InterruptedException {
+		testClearReleasesWaitingProducers( true );
+	}
+
+	@Test
+	public void clearReleasesWaitingProducers_nonFair() throws InterruptedException {
+		testClearReleasesWaitingProducers( false );
+	}
+
+	@Test
+	public void multipleProducers() {
+		int producerCount = 4;
+		int worksetsPerProducer = 10_000;
+		MpscArrayWorkQueue<long[]> queue = new MpscArrayWorkQueue<>( 16, true );
+
+		CompletableFuture<?>[] producerFutures = new CompletableFuture[producerCount];
+		for ( int i = 0; i < producerCount; i++ ) {
+			long producerId = i;
+			producerFutures[i] = CompletableFuture.runAsync( () -> {
+				try {
+					for ( long j = 0; j < worksetsPerProducer; j++ ) {
+						queue.put( new long[] { producerId, j } );
+					}
+				}
+				catch (InterruptedException e) {
+					throw new IllegalStateException( e );
+				}
+			}, asyncExecutor );
+		}
+
+		long[] nextExpectedPerProducer = new long[producerCount];
+		List<long[]> drained = new ArrayList<>();
+		int total = 0;
+		while ( total < producerCount * worksetsPerProducer ) {
+			drained.clear();
+			total += queue.drainTo( drained, 5 );
+			for ( long[] workset : drained ) {
+				// Worksets submitted by a given thread must be consumed in order
+				int producerId = (int) workset[0];
+				assertThat( workset[1] ).isEqualTo( nextExpectedPerProducer[producerId] );
+				++nextExpectedPerProducer[producerId];
+			}
+		}
+
+		FutureAssert.assertThat( CompletableFuture.allOf( producerFutures ) ).isSuccessful();
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+	private void testBackPressure(boolean fair, int capacity) throws InterruptedException {
+		MpscArrayWorkQueue<Integer> queue = new MpscArrayWorkQueue<>( capacity, fair );
+		List<Integer> expected = new ArrayList<>();
+		for ( int i = 1; i <= capacity; i++ ) {
+			queue.put( i );
+			expected.add( i );
+		}
+		expected.add( capacity + 1 );
+
+		CompletableFuture<?> blockedPut = CompletableFuture.runAsync( () -> {
+			try {
+				queue.put( capacity + 1 );
+			}
+			catch (InterruptedException e) {
+				throw new IllegalStateException( e );
+			}
+		}, asyncExecutor );
+
+		// The queue is full: the put must not complete until we consume a workset
+		await().pollDelay( 100, TimeUnit.MILLISECONDS ).untilAsserted(
+				() -> FutureAssert.assertThat( blockedPut ).isPending()
+		);
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 1 ) ).isEqualTo( 1 );
+		await().untilAsserted( () -> FutureAssert.assertThat( blockedPut ).isSuccessful() );
+
+		assertThat( queue.drainTo( drained, 10 ) ).isEqualTo( capacity );
+		assertThat( drained ).containsExactlyElementsOf( expected );
+	}
+
+	private void testWaitingProducerParks(boolean fair) throws InterruptedException {
+		MpscArrayWorkQueue<Integer> queue = new MpscArrayWorkQueue<>( 1, fair );
+		queue.put( 1 );
+
+		CompletableFuture<Thread> producerThread = new CompletableFuture<>();
+		CompletableFuture<?> blockedPut = CompletableFuture.runAsync( () -> {
+			producerThread.complete( Thread.currentThread() );
+			try {
+				queue.put( 2 );
+			}
+			catch (InterruptedException e) {
+				throw new IllegalStateException( e );
+			}
+		}, asyncExecutor );
+
+		// The producer must not burn CPU while the queue is full
+		Thread thread = producerThread.join();
+		await().until( () -> thread.getState() == Thread.State.WAITING );
+		FutureAssert.assertThat( blockedPut ).isPending();
+
+		// ... and the consumer must wake it up as soon as a slot is freed
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained, 1 ) ).isEqualTo( 1 );
+		await().untilAsserted( () -> FutureAssert.assertThat( blockedPut ).isSuccessful() );
+
+		assertThat( queue.drainTo( drained, 10 ) ).isEqualTo( 1 );
+		assertThat( drained ).containsExactly( 1, 2 );
+	}
+
+	private void testClearReleasesWaitingProducers(boolean fair) throws InterruptedException {
+		MpscArrayWorkQueue<Integer> queue = new MpscArrayWorkQueue<>( 2, fair );
+		queue.put( 1 );
+		queue.put( 2 );
+
+		// More waiting producers than two rounds of slots
+		int waitingProducerCount = 7;
+		List<Thread> producerThreads = new CopyOnWriteArrayList<>();
+		CompletableFuture<?>[] blockedPuts = new CompletableFuture[waitingProducerCount];
+		for ( int i = 0; i < waitingProducerCount; i++ ) {
+			int workset = 3 + i;
+			blockedPuts[i] = CompletableFuture.runAsync( () -> {
+				producerThreads.add( Thread.currentThread() );
+				try {
+					queue.put( workset );
+				}
+				catch (InterruptedException e) {
+					throw new IllegalStateException( e );
+				}
+			}, asyncExecutor );
+		}
+		await().until( () -> producerThreads.size() == waitingProducerCount
+				&& producerThreads.stream().allMatch( thread -> thread.getState() == Thread.State.WAITING ) );
+		FutureAssert.assertThat( CompletableFuture.anyOf( blockedPuts ) ).isPending();
+
+		queue.clear();
+
+		// Every waiting producer must be released
+		await().untilAsserted(
+				() -> FutureAssert.assertThat( CompletableFuture.allOf( blockedPuts ) ).isSuccessful()
+		);
+
+		// The queue must remain usable, and not contain the worksets of released producers
+		queue.put( 100 );
+		List<Integer> drained = new ArrayList<>();
+		queue.drainTo( drained, 10 );
+		assertThat( drained ).containsExactly( 100 );
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+	private void testInterrupted(boolean fair) throws InterruptedException {
+		MpscArrayWorkQueue<Integer> queue = new MpscArrayWorkQueue<>( 1, fair );
+		queue.put( 1 );
+
+		CompletableFuture<Thread> producerThread = new CompletableFuture<>();
+		CompletableFuture<Boolean> blockedPut = CompletableFuture.supplyAsync( () -> {
+			producerThread.complete( Thread.currentThread() );
+			try {
+				queue.put( 2 );
+				return false;
+			}
+			catch (InterruptedException e) {
+				return true;
+			}
+		}, asyncExecutor );
+
+		await().pollDelay( 100, TimeUnit.MILLISECONDS ).untilAsserted(
+				() -> FutureAssert.assertThat( blockedPut ).isPending()
+		);
+		producerThread.join().interrupt();
+
+		// The interrupted thread must give up without waiting for its slot to be freed
+		await().untilAsserted( () -> FutureAssert.assertThat( blockedPut ).isSuccessful() );
+		assertThat( blockedPut.join() ).isTrue();
+
+		List<Integer> drained = new ArrayList<>();
+		queue.drainTo( drained, 10 );
+		queue.put( 3 );
+		queue.drainTo( drained, 10 );
+		// The workset whose submission was interrupted must not be consumed
+		assertThat( drained ).containsExactly( 1, 3 );
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+}
@@ -0,0 +1,264 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+import org.hibernate.search.util.impl.test.FutureAssert;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SearchAdmissionControllerTest {
+
+	private final ScheduledExecutorService timeoutScheduler = Executors.newSingleThreadScheduledExecutor();
+
+	@After
+	public void cleanup() {
+		timeoutScheduler.shutdownNow();
+	}
+
+	@Test
+	public void maxConcurrency() {
+		SearchAdmissionController controller = create( 2, null, 10, 0L, Collections.emptyMap() );
+
+		CompletableFuture<SearchAdmissionController.Permit> first = controller.acquire( null );
+		CompletableFuture<SearchAdmissionController.Permit> second = controller.acquire( null );
+		CompletableFuture<SearchAdmissionController.Permit> third = controller.acquire( null );
+		FutureAssert.assertThat( first ).isSuccessful();
+		FutureAssert.assertThat( second ).isSuccessful();
+		FutureAssert.assertThat( third ).isPending();
+		assertThat( controller.getRunningCount() ).isEqualTo( 2 );
+		assertThat( controller.getQueuedCount() ).isEqualTo( 1 );
+
+		first.join().release();
+		FutureAssert.assertThat( third ).isSuccessful();
+		assertThat( controller.getRunningCount() ).isEqualTo( 2 );
+		assertThat( controller.getQueuedCount() ).isEqualTo( 0 );
+
+		// Releasing twice has no effect
+		first.join().release();
+		assertThat( controller.getRunningCount() ).isEqualTo( 2 );
+
+		second.join().release();
+		third.join().release();
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+		assertThat( controller.getAdmittedCount() ).isEqualTo( 3 );
+	}
+
+	@Test
+	public void queueFull() {
+		SearchAdmissionController controller = create( 1, null, 1, 0L, Collections.emptyMap() );
+
+		FutureAssert.assertThat( controller.acquire( null ) ).isSuccessful();
+		FutureAssert.assertThat( controller.acquire( null ) ).isPending();
+		FutureAssert.assertThat( controller.acquire( null ) ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "1 queries are already waiting for execution" ) );
+		assertThat( controller.getRejectedCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void queueTimeout() {
+		SearchAdmissionController controller = create( 1, null, 10, 50L, Collections.emptyMap() );
+
+		CompletableFuture<SearchAdmissionController.Permit> first = controller.acquire( null );
+		CompletableFuture<SearchAdmissionController.Permit> second = controller.acquire( null );
+		FutureAssert.assertThat( second ).isPending();
+
+		await().untilAsserted( () -> FutureAssert.assertThat( second ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( "waited for execution for more than 50 ms" ) ) );
+		assertThat( controller.getTimedOutCount() ).isEqualTo( 1 );
+		assertThat( controller.getQueuedCount() ).isEqualTo( 0 );
+
+		// The timed out query must not be admitted later
+		first.join().release();
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void weightedFairness() {
+		Map<String, Integer> weights = new HashMap<>();
+		weights.put( "heavy", 2 );
+		SearchAdmissionController controller = create( 3, null, 10, 0L, weights );
+
+		// Saturate the controller with queries from a single tenant
+		CompletableFuture<SearchAdmissionController.Permit> light1 = controller.acquire( "light" );
+		CompletableFuture<SearchAdmissionController.Permit> light2 = controller.acquire( "light" );
+		CompletableFuture<SearchAdmissionController.Permit> light3 = controller.acquire( "light" );
+		CompletableFuture<SearchAdmissionController.Permit> light4 = controller.acquire( "light" );
+		CompletableFuture<SearchAdmissionController.Permit> heavy1 = controller.acquire( "heavy" );
+		CompletableFuture<SearchAdmissionController.Permit> heavy2 = controller.acquire( "heavy" );
+
+		// "heavy" has no running query: it goes first, even though "light" has been waiting for longer
+		light1.join().release();
+		FutureAssert.assertThat( heavy1 ).isSuccessful();
+		FutureAssert.assertThat( light4 ).isPending();
+
+		// "heavy" has 1 running query for a weight of 2, "light" has 1 for a weight of 1
+		light2.join().release();
+		FutureAssert.assertThat( heavy2 ).isSuccessful();
+		FutureAssert.assertThat( light4 ).isPending();
+
+		light3.join().release();
+		FutureAssert.assertThat( light4 ).isSuccessful();
+	}
+
+	@Test
+	public void maxConcurrencyPerTenant() {
+		SearchAdmissionController controller = create( 3, 1, 10, 0L, Collections.emptyMap() );
+
+		CompletableFuture<SearchAdmissionController.Permit> tenant1First = controller.acquire( "tenant1" );
+		CompletableFuture<SearchAdmissionController.Permit> tenant1Second = controller.acquire( "tenant1" );
+		CompletableFuture<SearchAdmissionController.Permit> tenant2First = controller.acquire( "tenant2" );
+		FutureAssert.assertThat( tenant1First ).isSuccessful();
+		FutureAssert.assertThat( tenant1Second ).isPending();
+		// Another tenant is not blocked by the waiting query of "tenant1"
+		FutureAssert.assertThat( tenant2First ).isSuccessful();
+
+		tenant1First.join().release();
+		FutureAssert.assertThat( tenant1Second ).isSuccessful();
+	}
+
+	@Test
+	public void execute() {
+		SearchAdmissionController controller = create( 1, null, 10, 0L, Collections.emptyMap() );
+
+		assertThat( controller.execute( null, () -> {
+			assertThat( controller.getRunningCount() ).isEqualTo( 1 );
+			return "result";
+		} ) ).isEqualTo( "result" );
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+
+		SubTest.expectException( () -> controller.execute( null, () -> {
+			throw new IllegalStateException( "failure" );
+		} ) )
+				.assertThrown()
+				.isInstanceOf( IllegalStateException.class );
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void execute_interrupted() throws InterruptedException {
+		SearchAdmissionController controller = create( 1, null, 10, 0L, Collections.emptyMap() );
+
+		CompletableFuture<SearchAdmissionController.Permit> first = controller.acquire( null );
+		FutureAssert.assertThat( first ).isSuccessful();
+
+		AtomicReference<Throwable> thrown = new AtomicReference<>();
+		AtomicBoolean interruptFlagPreserved = new AtomicBoolean( false );
+		AtomicBoolean executed = new AtomicBoolean( false );
+		Thread thread = new Thread( () -> {
+			try {
+				controller.execute( null, () -> executed.getAndSet( true ) );
+			}
+			catch (Throwable t) {
+				thrown.set( t );
+				interruptFlagPreserved.set( Thread.currentThread().isInterrupted() );
+			}
+		} );
+		thread.start();
+		await().until( () -> controller.getQueuedCount() == 1 );
+
+		thread.interrupt();
+		thread.join( 10_000 );
+
+		assertThat( thrown.get() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "the thread was interrupted while the query was waiting for execution" )
+				.hasCauseInstanceOf( InterruptedException.class );
+		assertThat( interruptFlagPreserved ).isTrue();
+		// The interrupted query left the queue and is never executed
+		assertThat( controller.getQueuedCount() ).isEqualTo( 0 );
+		first.join().release();
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+		assertThat( executed ).isFalse();
+	}
+
+	@Test
+	public void acquire_cancelled() {
+		SearchAdmissionController controller = create( 1, null, 10, 0L, Collections.emptyMap() );
+
+		CompletableFuture<SearchAdmissionController.Permit> first = controller.acquire( null );
+		CompletableFuture<SearchAdmissionController.Permit> second = controller.acquire( null );
+		CompletableFuture<SearchAdmissionController.Permit> third = controller.acquire( null );
+		assertThat( controller.getQueuedCount() ).isEqualTo( 2 );
+
+		second.cancel( false );
+		assertThat( controller.getQueuedCount() ).isEqualTo( 1 );
+
+		// The slot goes to the next query that is still waiting
+		first.join().release();
+		FutureAssert.assertThat( third ).isSuccessful();
+		assertThat( controller.getRunningCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void submit() {
+		SearchAdmissionController controller = create( 1, null, 10, 0L, Collections.emptyMap() );
+
+		CompletableFuture<String> firstExecution = new CompletableFuture<>();
+		CompletableFuture<String> first = controller.submit( null, () -> firstExecution );
+		CompletableFuture<String> second = controller.submit( null, () -> CompletableFuture.completedFuture( "second" ) );
+		FutureAssert.assertThat( second ).isPending();
+
+		firstExecution.complete( "first" );
+		FutureAssert.assertThat( first ).isSuccessful( "first" );
+		FutureAssert.assertThat( second ).isSuccessful( "second" );
+		assertThat( controller.getRunningCount() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void stop() {
+		SearchAdmissionController controller = create( 1, null, 10, 0L, Collections.emptyMap() );
+
+		FutureAssert.assertThat( controller.acquire( null ) ).isSuccessful();
+		CompletableFuture<SearchAdmissionController.Permit> waiting = controller.acquire( null );
+
+		controller.stop();
+		FutureAssert.assertThat( waiting ).isFailed( throwable -> assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "shutting down" ) );
+		FutureAssert.assertThat( controller.acquire( null ) ).isFailed();
+	}
+
+	@Test
+	public void parseTenantWeights() {
+		assertThat( SearchAdmissionController.parseTenantWeights( Arrays.asList( "tenant1:3", " tenant2 : 1 " ) ) )
+				.containsEntry( "tenant1", 3 )
+				.containsEntry( "tenant2", 1 )
+				.hasSize( 2 );
+
+		for ( String invalid : Arrays.asList( "tenant1", ":3", "tenant1:0", "tenant1:abc" ) ) {
+			SubTest.expectException( () -> SearchAdmissionController.parseTenantWeights( Collections.singletonList( invalid ) ) )
+					.assertThrown()
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Invalid tenant weight for search admission control: '" + invalid + "'" );
+		}
+	}
+
+	private SearchAdmissionController create(int maxConcurrency, Integer maxConcurrencyPerTenant,
+			int queueSize, long queueTimeoutMs, Map<String, Integer> tenantWeights) {
+		return new SearchAdmissionController( "test", maxConcurrency, maxConcurrencyPerTenant,
+				queueSize, queueTimeoutMs, tenantWeights, timeoutScheduler );
+	}
+}
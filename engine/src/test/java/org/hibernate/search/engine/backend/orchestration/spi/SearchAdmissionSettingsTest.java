@@ -0,0 +1,86 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.reporting.EventContext;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+public class SearchAdmissionSettingsTest {
+
+	private static final EventContext BACKEND_CONTEXT = EventContexts.fromBackendName( "myBackend" );
+
+	private final Map<String, Object> properties = new HashMap<>();
+
+	@Test
+	public void disabledByDefault() {
+		assertThat( createController() ).isNull();
+	}
+
+	@Test
+	public void enabled() {
+		properties.put( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY, 4 );
+		properties.put( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY_PER_TENANT, "2" );
+		properties.put( SearchAdmissionSettings.Radicals.QUEUE_SIZE, 0 );
+		properties.put( SearchAdmissionSettings.Radicals.QUEUE_TIMEOUT, 0 );
+		properties.put( SearchAdmissionSettings.Radicals.TENANT_WEIGHTS, "tenant1:3,tenant2:1" );
+
+		SearchAdmissionController controller = createController();
+		assertThat( controller ).isNotNull();
+		assertThat( controller.execute( "tenant1", () -> "result" ) ).isEqualTo( "result" );
+		assertThat( controller.getAdmittedCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void maxConcurrency_invalid() {
+		testInvalid( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY, 0, "strictly positive" );
+		testInvalid( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY, -1, "strictly positive" );
+	}
+
+	@Test
+	public void maxConcurrencyPerTenant_invalid() {
+		testInvalid( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY_PER_TENANT, 0, "strictly positive" );
+		testInvalid( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY_PER_TENANT, -1, "strictly positive" );
+	}
+
+	@Test
+	public void queueSize_invalid() {
+		testInvalid( SearchAdmissionSettings.Radicals.QUEUE_SIZE, -1, "positive or zero" );
+	}
+
+	@Test
+	public void queueTimeout_invalid() {
+		testInvalid( SearchAdmissionSettings.Radicals.QUEUE_TIMEOUT, -1, "positive or zero" );
+	}
+
+	private void testInvalid(String key, int value, String expectedConstraint) {
+		properties.clear();
+		properties.put( SearchAdmissionSettings.Radicals.MAX_CONCURRENCY, 4 );
+		properties.put( key, value );
+		SubTest.expectException( this::createController )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid value for configuration property '" + key + "': '" + value + "'" )
+				.hasMessageContaining( "The value must be " + expectedConstraint )
+				.hasMessageContaining( "myBackend" );
+	}
+
+	private SearchAdmissionController createController() {
+		// Queue timeouts are disabled in these tests, so no scheduler is necessary
+		return SearchAdmissionSettings.createController( "myController",
+				ConfigurationPropertySource.fromMap( properties ), BACKEND_CONTEXT, null );
+	}
+}
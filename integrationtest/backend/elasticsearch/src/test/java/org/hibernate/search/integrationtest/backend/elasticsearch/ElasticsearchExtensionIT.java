@@ -195,6 +195,24 @@ public void query_gsonResponseBody() {
 				.extracting( body -> body.get( "_shards" ) ).isInstanceOf( JsonObject.class );
 	}
 
+	@Test
+	public void query_gsonResponseBody_source() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// No projection needs the source: Elasticsearch should not return it
+		ElasticsearchSearchResult<DocumentReference> result = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.id().matching( FIRST_ID ) )
+				.fetchAll();
+		Assertions.assertThat( getFirstHit( result.getResponseBody() ).has( "_source" ) ).isFalse();
+
+		// The source can still be requested explicitly
+		result = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.id().matching( FIRST_ID ) )
+				.requestTransformer( context -> context.getBody().addProperty( "_source", true ) )
+				.fetchAll();
+		Assertions.assertThat( getFirstHit( result.getResponseBody() ).get( "_source" ) ).isInstanceOf( JsonObject.class );
+	}
+
 	@Test
 	public void query_explain_singleIndex() {
 		StubMappingScope scope = indexManager.createScope();
@@ -1013,6 +1031,10 @@ public void indexManager_unwrap_error_unknownType() {
 		indexManager.unwrap( String.class );
 	}
 
+	private static JsonObject getFirstHit(JsonObject responseBody) {
+		return responseBody.getAsJsonObject( "hits" ).getAsJsonArray( "hits" ).get( 0 ).getAsJsonObject();
+	}
+
 	private void initData() {
 		IndexIndexingPlan plan = indexManager.createIndexingPlan();
 		plan.add( referenceProvider( SECOND_ID ), document -> {
@@ -0,0 +1,276 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.UnaryOperator;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientFactoryImpl;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * Test the execution of several search queries in a single multi-search request.
+ */
+public class ElasticsearchMultiSearchIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final int DOCUMENT_COUNT = 10;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final List<String> requestPaths = new CopyOnWriteArrayList<>();
+	private volatile UnaryOperator<JsonObject> multiSearchResponseBodyTransformer = UnaryOperator.identity();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+	private ElasticsearchMultiSearch multiSearch;
+
+	@Before
+	public void setup() {
+		SearchIntegration integration = setupHelper.start( BACKEND_NAME )
+				.withBackendProperty( ElasticsearchBackendSpiSettings.CLIENT_FACTORY, createClientFactory() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		multiSearch = integration.getBackend( BACKEND_NAME ).unwrap( ElasticsearchBackend.class )
+				.createMultiSearch();
+
+		initData();
+	}
+
+	@Test
+	public void resultsDispatchedToEachQuery() {
+		List<String> loadingThreadNames = new CopyOnWriteArrayList<>();
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> evenQuery = scope.query()
+				.select( f -> f.composite(
+						reference -> {
+							// Composite transformers are applied when loading hits
+							loadingThreadNames.add( Thread.currentThread().getName() );
+							return reference;
+						},
+						f.documentReference()
+				) )
+				.where( f -> f.match().field( "string" ).matching( "even" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> oddQuery = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "odd" ) )
+				.toQuery();
+
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> evenFuture =
+				multiSearch.add( evenQuery, null, null ).toCompletableFuture();
+		CompletableFuture<Long> allCountFuture =
+				multiSearch.addTotalHitCount( scope.query().where( f -> f.matchAll() ).toQuery() ).toCompletableFuture();
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> oddFuture =
+				multiSearch.add( oddQuery, 1, 2 ).toCompletableFuture();
+
+		requestPaths.clear();
+		multiSearch.execute().toCompletableFuture().join();
+
+		// All queries must have been sent in a single request
+		Assertions.assertThat( requestPaths )
+				.hasSize( 1 )
+				.allSatisfy( path -> Assertions.assertThat( path ).contains( "_msearch" ) );
+
+		assertThat( evenFuture.join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "0", "2", "4", "6", "8" );
+		Assertions.assertThat( allCountFuture.join() ).isEqualTo( DOCUMENT_COUNT );
+		assertThat( oddFuture.join() ).hasTotalHitCount( DOCUMENT_COUNT / 2 );
+		Assertions.assertThat( oddFuture.join().getHits() )
+				.hasSize( 2 )
+				.allSatisfy( reference -> Assertions.assertThat( Integer.parseInt( reference.getId() ) % 2 )
+						.isEqualTo( 1 ) );
+
+		// Hits must not be loaded in the I/O threads of the Elasticsearch client
+		Assertions.assertThat( loadingThreadNames )
+				.hasSize( DOCUMENT_COUNT / 2 )
+				.allSatisfy( name -> Assertions.assertThat( name )
+						.contains( "Elasticsearch search loading executor for backend " + BACKEND_NAME ) );
+	}
+
+	@Test
+	public void itemFailure_failsOnlyThatQuery() {
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> evenQuery = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "even" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> invalidQuery = scope.query().extension( ElasticsearchExtension.get() )
+				// Elasticsearch rejects unknown query types
+				.where( f -> f.fromJson( "{'unknown_query_type': {}}" ) )
+				.toQuery();
+
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> evenFuture =
+				multiSearch.add( evenQuery, null, null ).toCompletableFuture();
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> invalidFuture =
+				multiSearch.add( invalidQuery, null, null ).toCompletableFuture();
+		CompletableFuture<Long> evenCountFuture = multiSearch.addTotalHitCount( evenQuery ).toCompletableFuture();
+
+		requestPaths.clear();
+		CompletableFuture<Void> executeFuture = multiSearch.execute().toCompletableFuture();
+		awaitCompletion( executeFuture, evenFuture, invalidFuture, evenCountFuture );
+
+		Assertions.assertThat( requestPaths ).hasSize( 1 );
+		FutureAssert.assertThat( executeFuture ).isFailed();
+		FutureAssert.assertThat( invalidFuture ).isFailed(
+				throwable -> Assertions.assertThat( throwable )
+						.isInstanceOf( SearchException.class )
+						.hasMessageContaining( "Elasticsearch multi-searched request failed" )
+						.hasMessageContaining( "unknown_query_type" )
+		);
+		// Other queries of the same multi-search must not be affected
+		assertThat( evenFuture.join() ).hasDocRefHitsAnyOrder( INDEX_NAME, "0", "2", "4", "6", "8" );
+		Assertions.assertThat( evenCountFuture.join() ).isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void responseItemCountMismatch_failsAllQueries() {
+		// Simulate a response missing one item
+		multiSearchResponseBodyTransformer = body -> {
+			JsonArray responses = body.getAsJsonArray( "responses" );
+			responses.remove( responses.size() - 1 );
+			return body;
+		};
+
+		StubMappingScope scope = indexManager.createScope();
+		SearchQuery<DocumentReference> evenQuery = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "even" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> oddQuery = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "odd" ) )
+				.toQuery();
+
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> evenFuture =
+				multiSearch.add( evenQuery, null, null ).toCompletableFuture();
+		CompletableFuture<ElasticsearchSearchResult<DocumentReference>> oddFuture =
+				multiSearch.add( oddQuery, null, null ).toCompletableFuture();
+
+		CompletableFuture<Void> executeFuture = multiSearch.execute().toCompletableFuture();
+		awaitCompletion( executeFuture, evenFuture, oddFuture );
+
+		// Results cannot be matched to queries reliably: every query must fail
+		for ( CompletableFuture<?> future : new CompletableFuture<?>[] { executeFuture, evenFuture, oddFuture } ) {
+			FutureAssert.assertThat( future ).isFailed(
+					throwable -> Assertions.assertThat( throwable )
+							.hasStackTraceContaining( "Multi-search responded with 1 items, but 2 searches were sent" )
+			);
+		}
+	}
+
+	private static void awaitCompletion(CompletableFuture<?>... futures) {
+		for ( CompletableFuture<?> future : futures ) {
+			future.handle( (result, throwable) -> null ).join();
+		}
+	}
+
+	private void initData() {
+		IndexIndexingPlan plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			String value = i % 2 == 0 ? "even" : "odd";
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.string, value );
+			} );
+		}
+		plan.execute().join();
+
+		StubMappingScope scope = indexManager.createScope();
+		Assertions.assertThat( scope.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private BeanReference<ElasticsearchClientFactory> createClientFactory() {
+		return beanResolver -> {
+			BeanHolder<ElasticsearchClientFactory> delegateHolder =
+					beanResolver.resolve( ElasticsearchClientFactoryImpl.REFERENCE );
+			ElasticsearchClientFactory delegate = delegateHolder.get();
+			ElasticsearchClientFactory factory = (propertySource, threadPoolProvider, gsonProvider) ->
+					new InterceptingElasticsearchClient( delegate.create( propertySource, threadPoolProvider, gsonProvider ) );
+			return BeanHolder.of( factory ).withDependencyAutoClosing( delegateHolder );
+		};
+	}
+
+	private class InterceptingElasticsearchClient implements ElasticsearchClientImplementor {
+		private final ElasticsearchClientImplementor delegate;
+
+		private InterceptingElasticsearchClient(ElasticsearchClientImplementor delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void close() throws IOException {
+			delegate.close();
+		}
+
+		@Override
+		public CompletableFuture<ElasticsearchResponse> submit(ElasticsearchRequest request) {
+			requestPaths.add( request.getPath() );
+			CompletableFuture<ElasticsearchResponse> future = delegate.submit( request );
+			if ( !request.getPath().contains( "_msearch" ) ) {
+				return future;
+			}
+			return future.thenApply( response -> new ElasticsearchResponse(
+					response.getStatusCode(), response.getStatusMessage(),
+					multiSearchResponseBodyTransformer.apply( response.getBody() )
+			) );
+		}
+
+		@Override
+		public <T> T unwrap(Class<T> clientClass) {
+			throw new UnsupportedOperationException();
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
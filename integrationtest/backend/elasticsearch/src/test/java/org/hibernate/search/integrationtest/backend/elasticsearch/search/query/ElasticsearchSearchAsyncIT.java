@@ -0,0 +1,144 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the asynchronous execution of search queries,
+ * in particular that hits are never loaded in the I/O threads of the Elasticsearch client.
+ */
+public class ElasticsearchSearchAsyncIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start( BACKEND_NAME )
+				.withBackendProperty( ElasticsearchBackendSettings.SEARCH_ASYNC_THREAD_POOL_SIZE, 2 )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void fetchAsync_loadsInLoadingExecutor() {
+		StubMappingScope scope = indexManager.createScope();
+		List<String> loadingThreadNames = new CopyOnWriteArrayList<>();
+
+		SearchQuery<DocumentReference> query = scope.query()
+				.select( f -> f.composite(
+						reference -> {
+							// Composite transformers are applied when loading hits
+							loadingThreadNames.add( Thread.currentThread().getName() );
+							return reference;
+						},
+						f.documentReference()
+				) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		SearchResult<DocumentReference> result = query.fetchAsync( 10 ).toCompletableFuture().join();
+
+		assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).hasSize( 10 );
+		Assertions.assertThat( loadingThreadNames )
+				.hasSize( 10 )
+				.allSatisfy( name -> Assertions.assertThat( name )
+						.contains( "Elasticsearch search loading executor for backend " + BACKEND_NAME )
+						.doesNotContain( "Elasticsearch transport thread" ) );
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		StubMappingScope scope = indexManager.createScope();
+
+		CompletableFuture<Long> future = scope.query()
+				.where( f -> f.matchAll() )
+				.fetchTotalHitCountAsync()
+				.toCompletableFuture();
+
+		Assertions.assertThat( future.join() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void fetchAsync_failure() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<DocumentReference> query = scope.query().extension( ElasticsearchExtension.get() )
+				// Elasticsearch rejects unknown query types
+				.where( f -> f.fromJson( "{'unknown_query_type': {}}" ) )
+				.toQuery();
+
+		// Failures must be reported through the future, not thrown in the calling thread
+		CompletableFuture<SearchResult<DocumentReference>> future = query.fetchAsync( 10 ).toCompletableFuture();
+		future.handle( (result, throwable) -> null ).join();
+
+		FutureAssert.assertThat( future ).isFailed(
+				throwable -> Assertions.assertThat( throwable )
+						.isInstanceOf( SearchException.class )
+						.hasMessageContaining( "unknown_query_type" )
+		);
+	}
+
+	private void initData() {
+		IndexIndexingPlan plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> { } );
+		}
+		plan.execute().join();
+
+		StubMappingScope scope = indexManager.createScope();
+		Assertions.assertThat( scope.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
@@ -109,6 +109,26 @@ public void projection_sourceFiltering() {
 		query.fetchAll();
 	}
 
+	@Test
+	public void projection_noSource() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<?> query = scope.query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( readAlias )
+						.pathComponent( Paths._SEARCH )
+						.body( new Gson().fromJson( "{'_source':false}", JsonObject.class ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		query.fetchAll();
+	}
+
 	@Test
 	public void routing() {
 		StubMappingScope scope = indexManager.createScope();
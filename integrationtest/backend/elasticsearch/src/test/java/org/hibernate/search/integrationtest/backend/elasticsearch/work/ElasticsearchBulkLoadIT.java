@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.aliasDefinitions;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultAliasDefinitions;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultWriteAlias;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
+
+import java.util.concurrent.CompletionException;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests the aliases and indexes resulting from bulk-loading,
+ * see {@link IndexWorkspace#beginBulkLoad()}.
+ */
+public class ElasticsearchBulkLoadIT {
+
+	private static final String INDEX_NAME = "indexname";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private TestElasticsearchClient.IndexClient previousIndex;
+	private TestElasticsearchClient.IndexClient newIndex;
+
+	private void setup(IndexLayoutStrategy layoutStrategy) {
+		setupHelper.start()
+				.withBackendProperty( ElasticsearchBackendSettings.LAYOUT_STRATEGY, layoutStrategy )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		previousIndex = elasticsearchClient.index( INDEX_NAME );
+		newIndex = elasticsearchClient.index( encodeName( INDEX_NAME + "-000002" ), null, null )
+				.ensureDoesNotExist().registerForCleanup();
+
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		indexer.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.text, "text1" );
+		} ).join();
+		indexManager.createWorkspace().refresh().join();
+	}
+
+	@Test
+	public void beginAndFinish() {
+		setup( null );
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		assertAliases( previousIndex, defaultWriteAlias( INDEX_NAME ).original, defaultReadAlias( INDEX_NAME ).original );
+
+		workspace.beginBulkLoad().join();
+
+		// Writes go to the new index, reads still target the previous index
+		assertAliases( previousIndex, null, defaultReadAlias( INDEX_NAME ).original );
+		assertAliases( newIndex, defaultWriteAlias( INDEX_NAME ).original, null );
+
+		indexDocument2( workspace );
+		assertThat( queryText( "text1" ) ).hasTotalHitCount( 1 );
+		assertThat( queryText( "text2" ) ).hasNoHits();
+
+		workspace.finishBulkLoad().join();
+
+		// Both aliases point to the new index, and the previous index is gone
+		assertAliases( newIndex, defaultWriteAlias( INDEX_NAME ).original, defaultReadAlias( INDEX_NAME ).original );
+		Assertions.assertThat( previousIndex.exists() ).isFalse();
+		assertThat( queryText( "text1" ) ).hasNoHits();
+		assertThat( queryText( "text2" ) ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void beginAndAbort() {
+		setup( null );
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		workspace.beginBulkLoad().join();
+
+		assertAliases( previousIndex, null, defaultReadAlias( INDEX_NAME ).original );
+		assertAliases( newIndex, defaultWriteAlias( INDEX_NAME ).original, null );
+
+		indexDocument2( workspace );
+
+		workspace.abortBulkLoad().join();
+
+		// Both aliases point to the previous index again, and the new index is gone
+		assertJsonEquals( defaultAliasDefinitions( INDEX_NAME ).toString(), previousIndex.aliases().get() );
+		Assertions.assertThat( newIndex.exists() ).isFalse();
+		assertThat( queryText( "text1" ) ).hasTotalHitCount( 1 );
+		assertThat( queryText( "text2" ) ).hasNoHits();
+	}
+
+	@Test
+	public void layoutStrategyWithoutNextIndexName() {
+		setup( new SimpleIndexLayoutStrategy() );
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		SubTest.expectException( () -> workspace.beginBulkLoad().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCauseInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot bulk-load index" )
+				.hasMessageContaining( "does not support creating new Elasticsearch index names" );
+
+		// Nothing changed
+		assertAliases( previousIndex, defaultWriteAlias( INDEX_NAME ).original, defaultReadAlias( INDEX_NAME ).original );
+		assertThat( queryText( "text1" ) ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void layoutStrategyFailingToCreateNextIndexName() {
+		UnsupportedOperationException failure = new UnsupportedOperationException( "Some failure in custom code" );
+		setup( new SimpleIndexLayoutStrategy() {
+			@Override
+			public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+					String currentElasticsearchIndexName) {
+				throw failure;
+			}
+		} );
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		// Failures in custom code must be propagated as-is, not mistaken for a lack of support
+		SubTest.expectException( () -> workspace.beginBulkLoad().join() )
+				.assertThrown()
+				.isInstanceOf( CompletionException.class )
+				.hasCause( failure );
+	}
+
+	private void indexDocument2(IndexWorkspace workspace) {
+		IndexIndexer indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		indexer.add( referenceProvider( "2" ), document -> {
+			document.addValue( indexMapping.text, "text2" );
+		} ).join();
+		workspace.flush().join();
+		workspace.refresh().join();
+	}
+
+	private SearchQuery<DocumentReference> queryText(String text) {
+		return indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( text ) )
+				.toQuery();
+	}
+
+	private void assertAliases(TestElasticsearchClient.IndexClient index, String writeAlias, String readAlias) {
+		assertJsonEquals( aliasDefinitions( writeAlias, readAlias ).toString(), index.aliases().get() );
+	}
+
+	/**
+	 * A layout strategy using the same names as the default one,
+	 * but not supporting creating new index names.
+	 */
+	private static class SimpleIndexLayoutStrategy implements IndexLayoutStrategy {
+		@Override
+		public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
+			return hibernateSearchIndexName + "-000001";
+		}
+
+		@Override
+		public String createWriteAlias(String hibernateSearchIndexName) {
+			return defaultWriteAlias( hibernateSearchIndexName ).original;
+		}
+
+		@Override
+		public String createReadAlias(String hibernateSearchIndexName) {
+			return defaultReadAlias( hibernateSearchIndexName ).original;
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() )
+					.toReference();
+		}
+	}
+}
@@ -19,7 +19,9 @@
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.test.SubTest;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -161,6 +163,78 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThat( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshBackground_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		// This opens the first reader and starts the background refresh
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThat( query ).hasNoHits();
+
+		// ... but they should be after the background refresh
+		Awaitility.await().untilAsserted( () -> assertThat( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshBackground_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will refresh the reader in the writing thread
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( indexMapping.textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalZero_refreshBackground() {
+		SubTest.expectException(
+				"Background refresh with a zero refresh interval",
+				() -> setup( null, 0, true )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( LuceneIndexSettings.IO_REFRESH_BACKGROUND + "' is enabled" )
+				.hasMessageContaining( LuceneIndexSettings.IO_REFRESH_INTERVAL + "' is set to '0'" )
+				.hasMessageContaining( "Background refresh requires a strictly positive refresh interval" );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalDefault_refreshBackground() {
+		SubTest.expectException(
+				"Background refresh with the default refresh interval",
+				() -> setup( null, null, true )
+		)
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Background refresh requires a strictly positive refresh interval" );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -184,6 +258,10 @@ public void ioStrategyDebug() {
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Boolean refreshBackground) {
 		setupHelper.start()
 				.withIndex(
 						INDEX_NAME,
@@ -192,6 +270,7 @@ private void setup(String ioStrategyName, Integer refreshIntervalMs) {
 				)
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_BACKGROUND, refreshBackground )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test that works affecting a whole shard are correctly ordered relative to document works
+ * when document works are applied by multiple writer threads.
+ */
+public class LuceneIndexWriterThreadCountIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int WRITER_THREAD_COUNT = 4;
+	private static final int DOCUMENT_COUNT = 200;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> { },
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WRITER_THREAD_COUNT, WRITER_THREAD_COUNT )
+				// Make sure commits only happen when explicitly requested
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, 1_000_000 )
+				.setup();
+	}
+
+	@Test
+	public void flush_coversWorksOfAllThreads() throws IOException {
+		List<CompletableFuture<?>> futures = addDocuments( 0, DOCUMENT_COUNT );
+
+		// Do not wait for the additions: the flush must wait for them in every writer thread
+		workspace().flush().join();
+
+		assertThat( futures ).allMatch( CompletableFuture::isDone );
+		assertThat( countDocsOnDisk() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void refresh_coversWorksOfAllThreads() {
+		List<CompletableFuture<?>> futures = addDocuments( 0, DOCUMENT_COUNT );
+
+		// Do not wait for the additions: the refresh must wait for them in every writer thread
+		workspace().refresh().join();
+
+		assertThat( futures ).allMatch( CompletableFuture::isDone );
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void purge_orderedRelativeToDocumentWorks() {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		futures.addAll( addDocuments( 0, DOCUMENT_COUNT ) );
+		// The purge must not be overtaken by earlier additions...
+		futures.add( workspace().purge( Collections.emptySet() ) );
+		// ... and must not overtake later additions.
+		futures.addAll( addDocuments( DOCUMENT_COUNT, DOCUMENT_COUNT ) );
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).join();
+
+		workspace().refresh().join();
+
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+		assertThat( indexManager.createScope().query().where( f -> f.id().matching( "0" ) ).fetchTotalHitCount() )
+				.isEqualTo( 0 );
+		assertThat( indexManager.createScope().query().where( f -> f.id().matching( String.valueOf( DOCUMENT_COUNT ) ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 1 );
+	}
+
+	private List<CompletableFuture<?>> addDocuments(int firstId, int count) {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = firstId; i < firstId + count; i++ ) {
+			// One plan per document, so that documents are spread across writer threads
+			IndexIndexingPlan plan = indexManager.createIndexingPlan(
+					new StubBackendSessionContext(),
+					DocumentCommitStrategy.NONE,
+					DocumentRefreshStrategy.NONE
+			);
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> { } );
+			futures.add( plan.execute() );
+		}
+		return futures;
+	}
+
+	private IndexWorkspace workspace() {
+		return indexManager.createWorkspace( new StubBackendSessionContext() );
+	}
+
+	private int countDocsOnDisk() throws IOException {
+		return LuceneIndexContentUtils.doOnIndexCopy(
+				setupHelper, temporaryFolder, INDEX_NAME,
+				reader -> reader.getDocCount( MetadataFields.idFieldName() )
+		);
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.time.Year;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test field projections on numeric fields with doc values,
+ * which retrieve values from doc values instead of stored fields.
+ */
+public class LuceneDocValuesFieldProjectionIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String EMPTY = "empty";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void docValues() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "double", Double.class ),
+						f.field( "boolean", Boolean.class ),
+						f.field( "localDate", LocalDate.class ),
+						f.field( "year", Year.class ),
+						f.field( "monthDay", MonthDay.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "order" ) )
+				.toQuery();
+
+		assertThat( query ).hasListHitsExactOrder( b -> {
+			b.list( 1, -3.5, true, LocalDate.of( 2017, 11, 1 ), Year.of( 1999 ), MonthDay.of( 2, 29 ) );
+			b.list( -42, 42.25, false, LocalDate.of( 1970, 1, 1 ), Year.of( -500 ), MonthDay.of( 12, 31 ) );
+			b.list( null, null, null, null, null, null );
+		} );
+	}
+
+	@Test
+	public void docValues_sameAsStoredFields() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "integerStoredOnly", Integer.class ),
+						f.field( "double", Double.class ),
+						f.field( "doubleStoredOnly", Double.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "order" ) )
+				.toQuery();
+
+		assertThat( query ).hasListHitsExactOrder( b -> {
+			b.list( 1, 1, -3.5, -3.5 );
+			b.list( -42, -42, 42.25, 42.25 );
+			b.list( null, null, null, null );
+		} );
+	}
+
+	@Test
+	public void docValues_multipleProjectionsOnSameField() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<List<?>> query = scope.query()
+				.select( f -> f.composite(
+						f.field( "integer", Integer.class ),
+						f.field( "integer", Integer.class )
+				) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "order" ) )
+				.toQuery();
+
+		assertThat( query ).hasListHitsExactOrder( b -> {
+			b.list( 1, 1 );
+			b.list( -42, -42 );
+			b.list( null, (Object) null );
+		} );
+	}
+
+	@Test
+	public void docValues_offset() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SearchQuery<Integer> query = scope.query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "order" ) )
+				.toQuery();
+
+		// Only the values of the requested top documents must be returned
+		assertThat( query.fetch( 1, 1 ) ).hasHitsExactOrder( -42 );
+	}
+
+	private void initData() {
+		// Commit after each document so that documents end up in different segments
+		index( DOCUMENT_1, 1, document -> {
+			document.addValue( indexMapping.integer, 1 );
+			document.addValue( indexMapping.integerStoredOnly, 1 );
+			document.addValue( indexMapping.doubleField, -3.5 );
+			document.addValue( indexMapping.doubleStoredOnly, -3.5 );
+			document.addValue( indexMapping.booleanField, true );
+			document.addValue( indexMapping.localDate, LocalDate.of( 2017, 11, 1 ) );
+			document.addValue( indexMapping.year, Year.of( 1999 ) );
+			document.addValue( indexMapping.monthDay, MonthDay.of( 2, 29 ) );
+		} );
+		index( DOCUMENT_2, 2, document -> {
+			document.addValue( indexMapping.integer, -42 );
+			document.addValue( indexMapping.integerStoredOnly, -42 );
+			document.addValue( indexMapping.doubleField, 42.25 );
+			document.addValue( indexMapping.doubleStoredOnly, 42.25 );
+			document.addValue( indexMapping.booleanField, false );
+			document.addValue( indexMapping.localDate, LocalDate.of( 1970, 1, 1 ) );
+			document.addValue( indexMapping.year, Year.of( -500 ) );
+			document.addValue( indexMapping.monthDay, MonthDay.of( 12, 31 ) );
+		} );
+		index( EMPTY, 3, document -> { } );
+	}
+
+	private void index(String id, int order, Consumer<DocumentElement> contributor) {
+		IndexIndexingPlan plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(),
+				DocumentCommitStrategy.FORCE,
+				DocumentRefreshStrategy.FORCE
+		);
+		plan.add( referenceProvider( id ), document -> {
+			document.addValue( indexMapping.order, order );
+			contributor.accept( document );
+		} );
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> order;
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<Integer> integerStoredOnly;
+		final IndexFieldReference<Double> doubleField;
+		final IndexFieldReference<Double> doubleStoredOnly;
+		final IndexFieldReference<Boolean> booleanField;
+		final IndexFieldReference<LocalDate> localDate;
+		final IndexFieldReference<Year> year;
+		final IndexFieldReference<MonthDay> monthDay;
+
+		IndexMapping(IndexSchemaElement root) {
+			order = root.field( "order", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			integer = root.field( "integer", f -> f.asInteger().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			integerStoredOnly = root.field( "integerStoredOnly", f -> f.asInteger().projectable( Projectable.YES ) )
+					.toReference();
+			doubleField = root.field( "double", f -> f.asDouble().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			doubleStoredOnly = root.field( "doubleStoredOnly", f -> f.asDouble().projectable( Projectable.YES ) )
+					.toReference();
+			booleanField = root.field( "boolean", f -> f.asBoolean().projectable( Projectable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			localDate = root.field( "localDate", f -> f.asLocalDate().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			year = root.field( "year", f -> f.asYear().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+			monthDay = root.field( "monthDay", f -> f.asMonthDay().projectable( Projectable.YES ).sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
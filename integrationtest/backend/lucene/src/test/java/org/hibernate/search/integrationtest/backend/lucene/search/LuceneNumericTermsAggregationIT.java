@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Searchable;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the collection of the first terms of numeric terms aggregations with a minimum document count of zero,
+ * from points for searchable fields and from doc values for non-searchable fields.
+ */
+public class LuceneNumericTermsAggregationIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	// Includes negative values, whose raw doc value bits do not follow the natural order
+	private static final double[] VALUES = { 7.25, -1.5, 100.0, -10.5, 0.0, 3.5, -2.0, 1.0 };
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void minDocumentCountZero_orderByTermAscending_points() {
+		Assertions.assertThat( firstTerms( "searchable", false, "100.0" ) )
+				.containsExactly( entry( -10.5, 0L ), entry( -2.0, 0L ), entry( -1.5, 0L ) );
+	}
+
+	@Test
+	public void minDocumentCountZero_orderByTermDescending_points() {
+		Assertions.assertThat( firstTerms( "searchable", true, "-10.5" ) )
+				.containsExactly( entry( 100.0, 0L ), entry( 7.25, 0L ), entry( 3.5, 0L ) );
+	}
+
+	@Test
+	public void minDocumentCountZero_orderByTermAscending_matchingTermIncluded_points() {
+		Assertions.assertThat( firstTerms( "searchable", false, "-2.0" ) )
+				.containsExactly( entry( -10.5, 0L ), entry( -2.0, 1L ), entry( -1.5, 0L ) );
+	}
+
+	@Test
+	public void minDocumentCountZero_orderByTermAscending_docValues() {
+		Assertions.assertThat( firstTerms( "nonSearchable", false, "100.0" ) )
+				.containsExactly( entry( -10.5, 0L ), entry( -2.0, 0L ), entry( -1.5, 0L ) );
+	}
+
+	@Test
+	public void minDocumentCountZero_orderByTermDescending_docValues() {
+		Assertions.assertThat( firstTerms( "nonSearchable", true, "-10.5" ) )
+				.containsExactly( entry( 100.0, 0L ), entry( 7.25, 0L ), entry( 3.5, 0L ) );
+	}
+
+	private Map<Double, Long> firstTerms(String fieldPath, boolean descending, String matchingId) {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<Double, Long>> aggregationKey = AggregationKey.of( "terms" );
+
+		return scope.query()
+				.where( f -> f.id().matching( matchingId ) )
+				.aggregation( aggregationKey, f -> {
+					if ( descending ) {
+						return f.terms().field( fieldPath, Double.class )
+								.orderByTermDescending().minDocumentCount( 0 ).maxTermCount( 3 );
+					}
+					else {
+						return f.terms().field( fieldPath, Double.class )
+								.orderByTermAscending().minDocumentCount( 0 ).maxTermCount( 3 );
+					}
+				} )
+				.fetchAll()
+				.getAggregation( aggregationKey );
+	}
+
+	private void initData() {
+		// Commit after each document so that values end up in different segments
+		for ( double value : VALUES ) {
+			IndexIndexingPlan plan = indexManager.createIndexingPlan(
+					new StubBackendSessionContext(),
+					DocumentCommitStrategy.FORCE,
+					DocumentRefreshStrategy.FORCE
+			);
+			plan.add( referenceProvider( String.valueOf( value ) ), document -> {
+				document.addValue( indexMapping.searchable, value );
+				document.addValue( indexMapping.nonSearchable, value );
+			} );
+			plan.execute().join();
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Double> searchable;
+		final IndexFieldReference<Double> nonSearchable;
+
+		IndexMapping(IndexSchemaElement root) {
+			searchable = root.field( "searchable", f -> f.asDouble().aggregable( Aggregable.YES ) )
+					.toReference();
+			nonSearchable = root.field(
+					"nonSearchable",
+					f -> f.asDouble().searchable( Searchable.NO ).aggregable( Aggregable.YES )
+			)
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.FilterWeight;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
+import org.apache.lucene.search.Weight;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test the execution of search queries over multiple slices of an index in the search thread pool.
+ */
+public class LuceneSearchConcurrentSlicesIT {
+
+	private static final String BACKEND_NAME = "myLuceneBackend";
+	private static final String INDEX_NAME = "IndexName";
+
+	// Enough shards for the index searcher to split the index into multiple slices
+	private static final int SHARD_COUNT = 12;
+	private static final int DOCUMENT_COUNT = 100;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start( BACKEND_NAME )
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "hash" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_NUMBER_OF_SHARDS, SHARD_COUNT )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void search_slicesSearchedInSearchThreadPool() {
+		StubMappingScope scope = indexManager.createScope();
+		List<String> searchThreadNames = new CopyOnWriteArrayList<>();
+
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.extension( LuceneExtension.get() )
+						.fromLuceneQuery( new ThreadRecordingQuery( searchThreadNames ) ) )
+				.fetch( 10 );
+
+		assertThat( result ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( result.getHits() ).hasSize( 10 );
+		Assertions.assertThat( searchThreadNames )
+				.anySatisfy( name -> Assertions.assertThat( name )
+						.contains( "Lucene read work orchestrator for backend " + BACKEND_NAME )
+						.doesNotContain( "async" ) );
+	}
+
+	@Test
+	public void search_mergesTopDocsTotalHitCountAndAggregations() {
+		StubMappingScope scope = indexManager.createScope();
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "parity" );
+
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.aggregation( aggregationKey, f -> f.terms().field( "parity", String.class ) )
+				.fetch( 5 );
+
+		assertThat( result )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, "99", "98", "97", "96", "95" )
+				.aggregation( aggregationKey, aggregation -> Assertions.assertThat( aggregation )
+						.containsEntry( "even", (long) DOCUMENT_COUNT / 2 )
+						.containsEntry( "odd", (long) DOCUMENT_COUNT / 2 ) );
+	}
+
+	@Test
+	public void fetchTotalHitCount() {
+		StubMappingScope scope = indexManager.createScope();
+
+		Assertions.assertThat( scope.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void scroll_tiedScores_eachHitExactlyOnce() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// All documents have the same score
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		assertEachHitExactlyOnce( query );
+	}
+
+	@Test
+	public void scroll_tiedSortKeys_eachHitExactlyOnce() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// Many documents share the same sort key
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "bucket" ) )
+				.toQuery();
+
+		assertEachHitExactlyOnce( query );
+	}
+
+	private void assertEachHitExactlyOnce(SearchQuery<DocumentReference> query) {
+		List<String> hitIds = new ArrayList<>();
+		// A chunk size that does not divide the document count nor the number of slices
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( 7 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				for ( DocumentReference hit : chunk.getHits() ) {
+					hitIds.add( hit.getId() );
+				}
+			}
+		}
+
+		List<String> expectedIds = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expectedIds.add( String.valueOf( i ) );
+		}
+		Assertions.assertThat( hitIds ).doesNotHaveDuplicates()
+				.containsExactlyInAnyOrderElementsOf( expectedIds );
+	}
+
+	private void initData() {
+		IndexIndexingPlan plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.integer, value );
+				document.addValue( indexMapping.parity, value % 2 == 0 ? "even" : "odd" );
+				document.addValue( indexMapping.bucket, value % 3 );
+			} );
+		}
+		plan.execute().join();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> parity;
+		final IndexFieldReference<Integer> bucket;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			parity = root.field( "parity", f -> f.asString().aggregable( Aggregable.YES ) ).toReference();
+			bucket = root.field( "bucket", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+		}
+	}
+
+	/**
+	 * A query matching all documents and recording the name of the threads its scorers are created in,
+	 * i.e. the threads each slice of the index is searched in.
+	 */
+	private static class ThreadRecordingQuery extends Query {
+		private final List<String> threadNames;
+
+		private ThreadRecordingQuery(List<String> threadNames) {
+			this.threadNames = threadNames;
+		}
+
+		@Override
+		public Weight createWeight(IndexSearcher searcher, ScoreMode scoreMode, float boost) throws IOException {
+			Weight delegate = new MatchAllDocsQuery().createWeight( searcher, scoreMode, boost );
+			return new FilterWeight( this, delegate ) {
+				@Override
+				public Scorer scorer(LeafReaderContext context) throws IOException {
+					threadNames.add( Thread.currentThread().getName() );
+					return super.scorer( context );
+				}
+
+				@Override
+				public boolean isCacheable(LeafReaderContext ctx) {
+					return false;
+				}
+			};
+		}
+
+		@Override
+		public String toString(String field) {
+			return getClass().getSimpleName();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+}
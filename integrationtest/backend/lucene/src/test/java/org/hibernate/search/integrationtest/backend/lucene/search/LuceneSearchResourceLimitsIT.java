@@ -0,0 +1,397 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.lucene.LuceneExtension;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.impl.test.FutureAssert;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.apache.lucene.index.ExitableDirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.WildcardQuery;
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class LuceneSearchResourceLimitsIT {
+
+	private static final String INDEX_NAME = "IndexName";
+
+	private static final int DOCUMENT_COUNT = 1000;
+	private static final int DISTINCT_VALUE_COUNT = 10;
+
+	private static final AggregationKey<Map<String, Long>> AGGREGATION_KEY = AggregationKey.of( "terms" );
+	private static final AggregationKey<Map<Integer, Long>> NUMERIC_AGGREGATION_KEY = AggregationKey.of( "numericTerms" );
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void visitedDocumentLimit() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.visitedDocumentLimit( 100 )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query exceeded the limit of 100 visited documents" );
+
+		SubTest.expectException( query::fetchTotalHitCount )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query exceeded the limit of 100 visited documents" );
+	}
+
+	@Test
+	public void visitedDocumentLimit_notExceeded() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.visitedDocumentLimit( DOCUMENT_COUNT * 2 )
+				.toQuery();
+
+		assertThat( query.fetch( 10 ) ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void visitedDocumentLimit_invalid() {
+		StubMappingScope scope = indexManager.createScope();
+
+		SubTest.expectException( () -> scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.visitedDocumentLimit( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'visitedDocumentLimit' must be strictly positive" );
+	}
+
+	@Test
+	public void aggregationBucketLimit() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ) )
+				.aggregationBucketLimit( DISTINCT_VALUE_COUNT - 1 )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query exceeded the limit of " + ( DISTINCT_VALUE_COUNT - 1 )
+						+ " aggregation buckets" );
+	}
+
+	@Test
+	public void aggregationBucketLimit_notExceeded() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ) )
+				.aggregationBucketLimit( DISTINCT_VALUE_COUNT )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch( 10 ).getAggregation( AGGREGATION_KEY ) ).hasSize( DISTINCT_VALUE_COUNT );
+	}
+
+	@Test
+	public void aggregationBucketLimit_bucketsNotReturned() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// Buckets are limited before they are counted, so terms that would not be returned count too
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( AGGREGATION_KEY, f -> f.terms().field( "string", String.class ).maxTermCount( 1 ) )
+				.aggregationBucketLimit( DISTINCT_VALUE_COUNT - 1 )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query exceeded the limit of " + ( DISTINCT_VALUE_COUNT - 1 )
+						+ " aggregation buckets" );
+	}
+
+	@Test
+	public void aggregationBucketLimit_numeric() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.aggregation( NUMERIC_AGGREGATION_KEY, f -> f.terms().field( "integer", Integer.class ) )
+				.aggregationBucketLimit( DISTINCT_VALUE_COUNT - 1 )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query exceeded the limit of " + ( DISTINCT_VALUE_COUNT - 1 )
+						+ " aggregation buckets" );
+	}
+
+	@Test
+	public void aggregationBucketLimit_numeric_notExceeded() {
+		StubMappingScope scope = indexManager.createScope();
+
+		// Only the distinct terms of matching documents count for numeric fields
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.range().field( "integer" ).between( 0, 1 ) )
+				.aggregation( NUMERIC_AGGREGATION_KEY, f -> f.terms().field( "integer", Integer.class ) )
+				.aggregationBucketLimit( 2 )
+				.toQuery();
+
+		Assertions.assertThat( query.fetch( 10 ).getAggregation( NUMERIC_AGGREGATION_KEY ) ).hasSize( 2 );
+	}
+
+	@Test
+	public void cancel_beforeExecution() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.wildcard().field( "string" ).matching( "val*" ) )
+				.toQuery();
+
+		query.cancel();
+
+		// Cancellation is sticky: it is not reset when an execution starts
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query was cancelled" );
+		SubTest.expectException( query::fetchTotalHitCount )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query was cancelled" );
+
+		// A new query is not affected
+		assertThat( scope.query().where( f -> f.wildcard().field( "string" ).matching( "val*" ) ).fetch( 10 ) )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void cancel_beforeExecution_failAfter() {
+		StubMappingScope scope = indexManager.createScope();
+
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		query.cancel();
+		// Replacing the timeout manager must not lose the cancellation
+		query.failAfter( 1, TimeUnit.HOURS );
+
+		SubTest.expectException( () -> query.fetch( 10 ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query was cancelled" );
+	}
+
+	@Test
+	public void cancel_inFlight() throws InterruptedException {
+		StubMappingScope scope = indexManager.createScope();
+
+		BlockingQuery blockingQuery = new BlockingQuery( new MatchAllDocsQuery() );
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( blockingQuery ) )
+				.toQuery();
+
+		CompletableFuture<?> future = CompletableFuture.runAsync( () -> query.fetch( 10 ) );
+		// The execution started and is now blocked while rewriting the query
+		blockingQuery.awaitStarted();
+
+		query.cancel();
+		blockingQuery.resume();
+
+		future.handle( (result, throwable) -> null ).join();
+		FutureAssert.assertThat( future ).isFailed( throwable -> Assertions.assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query was cancelled" ) );
+	}
+
+	@Test
+	public void cancel_inFlight_termEnumeration() throws InterruptedException {
+		StubMappingScope scope = indexManager.createScope();
+
+		BlockingQuery blockingQuery = new BlockingQuery( new WildcardQuery( new Term( "string", "val*" ) ) );
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( blockingQuery ) )
+				.cancellable()
+				.toQuery();
+
+		CompletableFuture<?> future = CompletableFuture.runAsync( () -> query.fetch( 10 ) );
+		// The execution started, but terms matching the wildcard were not enumerated yet
+		blockingQuery.awaitStarted();
+
+		query.cancel();
+		blockingQuery.resume();
+
+		future.handle( (result, throwable) -> null ).join();
+		FutureAssert.assertThat( future ).isFailed( throwable -> Assertions.assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Search query was cancelled" )
+				// The cancellation must be noticed while enumerating terms, before collection
+				.hasStackTraceContaining( ExitableDirectoryReader.class.getName() ) );
+	}
+
+	@Test
+	public void cancel_inFlight_termEnumeration_notCancellable() throws InterruptedException {
+		StubMappingScope scope = indexManager.createScope();
+
+		BlockingQuery blockingQuery = new BlockingQuery( new WildcardQuery( new Term( "string", "val*" ) ) );
+		LuceneSearchQuery<DocumentReference> query = scope.query().extension( LuceneExtension.get() )
+				.where( f -> f.extension( LuceneExtension.get() ).fromLuceneQuery( blockingQuery ) )
+				.toQuery();
+
+		CompletableFuture<?> future = CompletableFuture.runAsync( () -> query.fetch( 10 ) );
+		blockingQuery.awaitStarted();
+
+		query.cancel();
+		blockingQuery.resume();
+
+		future.handle( (result, throwable) -> null ).join();
+		FutureAssert.assertThat( future ).isFailed( throwable -> {
+			Assertions.assertThat( throwable )
+					.isInstanceOf( SearchException.class )
+					.hasMessageContaining( "Search query was cancelled" );
+			// Terms are not checked for queries that were not built as cancellable:
+			// the cancellation is only noticed during collection
+			StringWriter stackTrace = new StringWriter();
+			throwable.printStackTrace( new PrintWriter( stackTrace ) );
+			Assertions.assertThat( stackTrace.toString() )
+					.doesNotContain( ExitableDirectoryReader.class.getName() );
+		} );
+	}
+
+	private void initData() {
+		IndexIndexingPlan plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i % DISTINCT_VALUE_COUNT;
+			plan.add( referenceProvider( String.valueOf( i ) ), document -> {
+				document.addValue( indexMapping.string, "value" + value );
+				document.addValue( indexMapping.integer, value );
+			} );
+		}
+		plan.execute().join();
+
+		StubMappingScope scope = indexManager.createScope();
+		Assertions.assertThat( scope.query().where( f -> f.matchAll() ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	/**
+	 * A query that blocks while being rewritten, i.e. once the execution started,
+	 * but before terms are enumerated and documents are collected.
+	 */
+	private static class BlockingQuery extends Query {
+		private final Query delegate;
+		private final CountDownLatch started = new CountDownLatch( 1 );
+		private final CountDownLatch resumed = new CountDownLatch( 1 );
+
+		BlockingQuery(Query delegate) {
+			this.delegate = delegate;
+		}
+
+		void awaitStarted() throws InterruptedException {
+			Assertions.assertThat( started.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		}
+
+		void resume() {
+			resumed.countDown();
+		}
+
+		@Override
+		public Query rewrite(IndexReader reader) throws IOException {
+			started.countDown();
+			try {
+				if ( !resumed.await( 10, TimeUnit.SECONDS ) ) {
+					throw new IllegalStateException( "Timed out waiting for the test to resume the query" );
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+			return delegate;
+		}
+
+		@Override
+		public String toString(String field) {
+			return "BlockingQuery(" + delegate.toString( field ) + ")";
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			return obj == this;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode( this );
+		}
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+			integer = root.field( "integer", f -> f.asInteger().aggregable( Aggregable.YES ) )
+					.toReference();
+		}
+	}
+}
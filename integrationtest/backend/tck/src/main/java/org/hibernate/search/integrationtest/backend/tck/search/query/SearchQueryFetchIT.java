@@ -25,6 +25,9 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
@@ -199,6 +202,50 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllQuery().fetchAsync( 1, 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ), docId( 2 ) );
+
+		assertThat( matchFirstHalfQuery().fetchHitsAsync( null ).toCompletableFuture().join() )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( (long) DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		SearchResult<DocumentReference> result = matchAllQuery().totalHitCountThreshold( Integer.MAX_VALUE ).fetch( 20 );
+		Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.isTotalHitCountExact() ).isTrue();
+
+		// Backends may or may not stop counting after the threshold, but the count must be a valid lower bound
+		result = matchAllQuery().totalHitCountThreshold( 10 ).fetch( 20 );
+		Assertions.assertThat( result.getHits() ).hasSize( 20 );
+		Assertions.assertThat( result.getTotalHitCount() ).isBetween( 20L, (long) DOCUMENT_COUNT );
+		if ( result.isTotalHitCountExact() ) {
+			Assertions.assertThat( result.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+		}
+
+		// Explicitly fetching the total hit count is always exact
+		Assertions.assertThat( matchAllQuery().totalHitCountThreshold( 0 ).fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_negative() {
+		SubTest.expectException( () -> matchAllQuery().totalHitCountThreshold( -1 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "totalHitCountThreshold" );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
@@ -252,6 +299,41 @@ public void fetch_limitAndOffset_reuseQuery() {
 				} );
 	}
 
+	@Test
+	public void scroll() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( 30 ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+				Assertions.assertThat( chunk.getHits() ).hasSizeLessThanOrEqualTo( 30 );
+				hits.addAll( chunk.getHits() );
+			}
+		}
+
+		List<DocumentReference> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( reference( INDEX_NAME, docId( i ) ) );
+		}
+		Assertions.assertThat( normalize( hits ) ).containsExactlyElementsOf( normalize( expected ) );
+	}
+
+	@Test
+	public void scroll_noHits() {
+		try ( SearchScroll<DocumentReference> scroll = matchNoneQuery().scroll( 30 ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.getTotalHitCount() ).isEqualTo( 0 );
+		}
+	}
+
+	@Test
+	public void scroll_invalidChunkSize() {
+		SubTest.expectException( () -> matchAllQuery().scroll( 0 ) )
+				.assertThrown()
+				.isInstanceOf( IllegalArgumentException.class );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3389")
 	public void maxResults_zero() {
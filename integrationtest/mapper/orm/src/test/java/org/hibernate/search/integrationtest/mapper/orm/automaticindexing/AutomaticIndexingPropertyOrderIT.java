@@ -0,0 +1,217 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Inheritance;
+import javax.persistence.InheritanceType;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test automatic indexing based on Hibernate ORM entity events
+ * when the order of properties in Hibernate ORM differs from their declaration order,
+ * and when some properties are inherited.
+ * <p>
+ * Dirty properties reported by Hibernate ORM are used as path ordinals directly,
+ * so any mismatch between ordinals and property indexes would lead to
+ * a change in one property being mistaken for a change in another.
+ */
+public class AutomaticIndexingPropertyOrderIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "zzzIndexedInParent", String.class )
+				.field( "yyyIndexedInChild", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.setup(
+						ParentEntity.class,
+						IndexedEntity.class
+				);
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity();
+			entity1.setId( 1 );
+			entity1.setZzzIndexedInParent( "initialValue" );
+			entity1.setYyyIndexedInChild( "initialValue" );
+
+			session.persist( entity1 );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "1", b -> b
+							.field( "zzzIndexedInParent", "initialValue" )
+							.field( "yyyIndexedInChild", "initialValue" )
+					)
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@After
+	public void cleanup() {
+		if ( sessionFactory != null ) {
+			sessionFactory.close();
+		}
+	}
+
+	@Test
+	public void directValueUpdate_indexedFieldInParent() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setZzzIndexedInParent( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "zzzIndexedInParent", "updatedValue" )
+							.field( "yyyIndexedInChild", "initialValue" )
+					)
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void directValueUpdate_indexedFieldInChild() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setYyyIndexedInChild( "updatedValue" );
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "1", b -> b
+							.field( "zzzIndexedInParent", "initialValue" )
+							.field( "yyyIndexedInChild", "updatedValue" )
+					)
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	/**
+	 * Test that updating a non-indexed property declared in the parent entity
+	 * does not trigger reindexing of the indexed entity.
+	 */
+	@Test
+	public void directValueUpdate_nonIndexedFieldInParent() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setAaaNonIndexedInParent( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	/**
+	 * Test that updating a non-indexed property declared in the child entity
+	 * does not trigger reindexing of the indexed entity.
+	 */
+	@Test
+	public void directValueUpdate_nonIndexedFieldInChild() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = session.get( IndexedEntity.class, 1 );
+			entity1.setBbbNonIndexedInChild( "updatedValue" );
+
+			// Do not expect any work
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "parent")
+	@Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+	public static class ParentEntity {
+
+		@Id
+		private Integer id;
+
+		// Declared before the non-indexed property, but sorted after it by Hibernate ORM
+		@Basic
+		@GenericField
+		private String zzzIndexedInParent;
+
+		@Basic
+		private String aaaNonIndexedInParent;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getZzzIndexedInParent() {
+			return zzzIndexedInParent;
+		}
+
+		public void setZzzIndexedInParent(String zzzIndexedInParent) {
+			this.zzzIndexedInParent = zzzIndexedInParent;
+		}
+
+		public String getAaaNonIndexedInParent() {
+			return aaaNonIndexedInParent;
+		}
+
+		public void setAaaNonIndexedInParent(String aaaNonIndexedInParent) {
+			this.aaaNonIndexedInParent = aaaNonIndexedInParent;
+		}
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity extends ParentEntity {
+		static final String INDEX = "IndexedEntity";
+
+		// Declared before the non-indexed property, but sorted after it by Hibernate ORM
+		@Basic
+		@GenericField
+		private String yyyIndexedInChild;
+
+		@Basic
+		private String bbbNonIndexedInChild;
+
+		public String getYyyIndexedInChild() {
+			return yyyIndexedInChild;
+		}
+
+		public void setYyyIndexedInChild(String yyyIndexedInChild) {
+			this.yyyIndexedInChild = yyyIndexedInChild;
+		}
+
+		public String getBbbNonIndexedInChild() {
+			return bbbNonIndexedInChild;
+		}
+
+		public void setBbbNonIndexedInChild(String bbbNonIndexedInChild) {
+			this.bbbNonIndexedInChild = bbbNonIndexedInChild;
+		}
+	}
+
+}
@@ -97,6 +97,48 @@ public void indexing() {
 		);
 	}
 
+	/**
+	 * Checks that failures reported by the backend after the loading thread moved on
+	 * (and cleared its session) are still reported with a reference to the failing entity.
+	 */
+	@Test
+	public void indexing_asynchronousFailure() {
+		SessionFactory sessionFactory = setup();
+
+		String entityName = Book.NAME;
+		String entityReferenceAsString = Book.NAME + "#2";
+		String exceptionMessage = "Indexing failure";
+		String failingOperationAsString = "Indexing instance of entity '" + entityName + "' during mass indexing";
+
+		expectEntityIndexingFailureHandling(
+				entityName, entityReferenceAsString,
+				exceptionMessage, failingOperationAsString
+		);
+
+		doMassIndexingWithFailure(
+				Search.mapping( sessionFactory ).scope( Object.class ).massIndexer(),
+				ThreadExpectation.CREATED_AND_TERMINATED,
+				throwable -> assertThat( throwable ).isInstanceOf( SearchException.class )
+						.hasMessageContainingAll(
+								"1 entities could not be indexed",
+								"See the logs for details.",
+								"First failure on entity 'Book#2': ",
+								exceptionMessage
+						)
+						.hasCauseInstanceOf( SimulatedFailure.class ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.PURGE, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.MERGE_SEGMENTS, ExecutionExpectation.SUCCEED ),
+				expectIndexingWorksFailingAsynchronously(),
+				expectIndexScaleWork( StubIndexScaleWork.Type.FLUSH, ExecutionExpectation.SUCCEED ),
+				expectIndexScaleWork( StubIndexScaleWork.Type.REFRESH, ExecutionExpectation.SUCCEED )
+		);
+
+		assertEntityIndexingFailureHandling(
+				entityName, entityReferenceAsString,
+				exceptionMessage, failingOperationAsString
+		);
+	}
+
 	@Test
 	public void getId() {
 		SessionFactory sessionFactory = setup();
@@ -587,6 +629,53 @@ private Runnable expectIndexingWorks(ExecutionExpectation workTwoExecutionExpect
 		};
 	}
 
+	private Runnable expectIndexingWorksFailingAsynchronously() {
+		return () -> {
+			// Fail from another thread, once the loading thread handed the batch off to the backend
+			// and is waiting for indexing to complete.
+			CompletableFuture<?> failingFuture = new CompletableFuture<>();
+			Thread failingThread = new Thread( () -> {
+				try {
+					Awaitility.await().until( () -> threadSpy.getCreatedThreads( "entity loading" ).stream()
+							.anyMatch( AbstractMassIndexingFailureIT::isWaitingForIndexing ) );
+				}
+				finally {
+					failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+				}
+			} );
+			backendMock.expectWorksAnyOrder(
+					Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+			backendMock.expectWorksAnyOrder(
+					Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.processedThenExecuted( failingFuture );
+			failingThread.start();
+		};
+	}
+
+	private static boolean isWaitingForIndexing(Thread thread) {
+		for ( StackTraceElement element : thread.getStackTrace() ) {
+			if ( "acquireUninterruptibly".equals( element.getMethodName() ) ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private SessionFactory setup() {
 		assertBeforeSetup();
 
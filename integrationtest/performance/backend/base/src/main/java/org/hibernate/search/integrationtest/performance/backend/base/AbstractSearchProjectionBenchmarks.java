@@ -0,0 +1,73 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.AbstractBackendHolder;
+import org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.MappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Abstract class for JMH benchmarks related to projections,
+ * which are primarily used when displaying lists of search results.
+ * <p>
+ * This benchmark executes read-only queries on the initial documents of the index,
+ * so that the cost of extracting projected values from each hit can be measured
+ * against the cost of simply returning document references.
+ * <p>
+ * Subclasses are expected to use a backend holder that maps indexes with
+ * {@link org.hibernate.search.integrationtest.performance.backend.base.testsupport.index.ProjectableMappedIndex}.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public abstract class AbstractSearchProjectionBenchmarks extends AbstractBackendBenchmarks {
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void documentReference(QueryParams params, Blackhole blackhole) {
+		StubMappingIndexManager indexManager = getIndexPartition().getIndex().getIndexManager();
+
+		SearchResult<DocumentReference> results = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.getTotalHitCount() );
+		for ( DocumentReference hit : results.getHits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+	@Benchmark
+	@Threads(2 * AbstractBackendHolder.INDEX_COUNT)
+	public void fieldProjections(QueryParams params, Blackhole blackhole) {
+		StubMappingIndexManager indexManager = getIndexPartition().getIndex().getIndexManager();
+
+		SearchResult<List<?>> results = indexManager.createScope().query()
+				.select( f -> f.composite(
+						f.field( MappedIndex.SHORT_TEXT_FIELD_NAME, String.class ),
+						f.field( MappedIndex.NUMERIC_FIELD_NAME, Long.class )
+				) )
+				.where( f -> f.matchAll() )
+				.fetch( params.getQueryMaxResults() );
+
+		blackhole.consume( results.getTotalHitCount() );
+		for ( List<?> hit : results.getHits() ) {
+			blackhole.consume( hit );
+		}
+	}
+
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.orchestration.spi.ArrayBlockingWorkQueue;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.orchestration.spi.MpscArrayWorkQueue;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
+import org.hibernate.search.util.common.impl.Futures;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks measuring the throughput of worksets submitted to a {@link BatchingExecutor}
+ * by multiple threads, with the different work queue implementations.
+ * <p>
+ * Worksets and the processor do nothing,
+ * so that these benchmarks only measure the overhead of queuing worksets and of contention between submitting threads.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchingExecutorBenchmarks {
+
+	@Param({ "MPSC", "ARRAY_BLOCKING" })
+	private QueueType queueType;
+
+	@Param({ "1000" })
+	private int maxWorksetsPerBatch;
+
+	private ThreadPoolProviderImpl threadPoolProvider;
+	private BatchingExecutor<NoOpWorkSet, NoOpWorkProcessor> executor;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		threadPoolProvider = new ThreadPoolProviderImpl( BeanHolder.of( new DefaultThreadProvider() ) );
+		executor = new BatchingExecutor<>(
+				"Benchmarked executor", new NoOpWorkProcessor(),
+				maxWorksetsPerBatch, queueType.create( maxWorksetsPerBatch ),
+				new LogFailureHandler()
+		);
+		executor.start( threadPoolProvider );
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDownTrial() {
+		Futures.unwrappedExceptionJoin( executor.getCompletion() );
+		executor.stop();
+		threadPoolProvider.close();
+	}
+
+	@Benchmark
+	@Threads(1)
+	public void submit_1Thread() throws InterruptedException {
+		executor.submit( NoOpWorkSet.INSTANCE );
+	}
+
+	@Benchmark
+	@Threads(4)
+	public void submit_4Threads() throws InterruptedException {
+		executor.submit( NoOpWorkSet.INSTANCE );
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void submit_16Threads() throws InterruptedException {
+		executor.submit( NoOpWorkSet.INSTANCE );
+	}
+
+	@Benchmark
+	@Threads(64)
+	public void submit_64Threads() throws InterruptedException {
+		executor.submit( NoOpWorkSet.INSTANCE );
+	}
+
+	public enum QueueType {
+		MPSC {
+			@Override
+			<W> BatchingExecutor.WorkQueue<W> create(int capacity) {
+				return new MpscArrayWorkQueue<>( capacity, true );
+			}
+		},
+		ARRAY_BLOCKING {
+			@Override
+			<W> BatchingExecutor.WorkQueue<W> create(int capacity) {
+				return new ArrayBlockingWorkQueue<>( capacity, true );
+			}
+		};
+
+		abstract <W> BatchingExecutor.WorkQueue<W> create(int capacity);
+	}
+
+	private static final class NoOpWorkProcessor implements BatchingExecutor.WorkProcessor {
+		private long processedCount;
+
+		@Override
+		public void beginBatch() {
+			// Nothing to do
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			return CompletableFuture.completedFuture( processedCount );
+		}
+
+		@Override
+		public long completeOrDelay() {
+			return 0L;
+		}
+	}
+
+	private static final class NoOpWorkSet implements BatchingExecutor.WorkSet<NoOpWorkProcessor> {
+		private static final NoOpWorkSet INSTANCE = new NoOpWorkSet();
+
+		@Override
+		public void submitTo(NoOpWorkProcessor processor) {
+			++processor.processedCount;
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			throw new IllegalStateException( "Unexpected failure", t );
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.base;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks comparing the cost of reading property values
+ * through value read handles created by the different {@link ValueReadHandleFactory} implementations.
+ * <p>
+ * Each invocation reads several properties of several entities,
+ * so that call sites in the handles see multiple getters, as they would when indexing a real entity.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValueReadHandleFactoryBenchmarks {
+
+	private static final int ENTITY_COUNT = 100;
+
+	@Param({ "JAVA_LANG_REFLECT", "METHOD_HANDLE", "LAMBDA_METAFACTORY" })
+	private FactoryType factoryType;
+
+	private ValueReadHandle<?>[] methodHandles;
+	private ValueReadHandle<?>[] fieldHandles;
+	private SampleEntity[] entities;
+
+	@Setup(Level.Trial)
+	public void setupTrial() throws ReflectiveOperationException {
+		ValueReadHandleFactory factory = factoryType.create( MethodHandles.lookup() );
+		methodHandles = new ValueReadHandle<?>[] {
+				factory.createForMethod( SampleEntity.class.getMethod( "getId" ) ),
+				factory.createForMethod( SampleEntity.class.getMethod( "getTitle" ) ),
+				factory.createForMethod( SampleEntity.class.getMethod( "getPageCount" ) ),
+				factory.createForMethod( SampleEntity.class.getMethod( "isAvailable" ) )
+		};
+		fieldHandles = new ValueReadHandle<?>[] {
+				factory.createForField( accessibleField( "id" ) ),
+				factory.createForField( accessibleField( "title" ) ),
+				factory.createForField( accessibleField( "pageCount" ) ),
+				factory.createForField( accessibleField( "available" ) )
+		};
+		entities = new SampleEntity[ENTITY_COUNT];
+		for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+			entities[i] = new SampleEntity( i, "Title #" + i, i * 10, i % 2 == 0 );
+		}
+	}
+
+	private static Field accessibleField(String name) throws NoSuchFieldException {
+		Field field = SampleEntity.class.getDeclaredField( name );
+		field.setAccessible( true );
+		return field;
+	}
+
+	@Benchmark
+	public void readMethods(Blackhole blackhole) {
+		read( methodHandles, blackhole );
+	}
+
+	@Benchmark
+	public void readFields(Blackhole blackhole) {
+		read( fieldHandles, blackhole );
+	}
+
+	private void read(ValueReadHandle<?>[] handles, Blackhole blackhole) {
+		for ( SampleEntity entity : entities ) {
+			for ( ValueReadHandle<?> handle : handles ) {
+				blackhole.consume( handle.get( entity ) );
+			}
+		}
+	}
+
+	public enum FactoryType {
+		JAVA_LANG_REFLECT {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingJavaLangReflect();
+			}
+		},
+		METHOD_HANDLE {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingMethodHandle( lookup );
+			}
+		},
+		LAMBDA_METAFACTORY {
+			@Override
+			ValueReadHandleFactory create(MethodHandles.Lookup lookup) {
+				return ValueReadHandleFactory.usingLambdaMetafactory( lookup );
+			}
+		};
+
+		abstract ValueReadHandleFactory create(MethodHandles.Lookup lookup);
+	}
+
+	public static final class SampleEntity {
+		private final Integer id;
+		private final String title;
+		private final int pageCount;
+		private final boolean available;
+
+		SampleEntity(Integer id, String title, int pageCount, boolean available) {
+			this.id = id;
+			this.title = title;
+			this.pageCount = pageCount;
+			this.available = available;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public int getPageCount() {
+			return pageCount;
+		}
+
+		public boolean isAvailable() {
+			return available;
+		}
+	}
+}
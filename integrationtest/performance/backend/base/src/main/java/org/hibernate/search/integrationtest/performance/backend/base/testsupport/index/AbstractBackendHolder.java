@@ -74,7 +74,7 @@ public void startHibernateSearch(TemporaryFileHolder temporaryFileHolder) throws
 
 		indexes = new ArrayList<>();
 		for ( int i = 0; i < INDEX_COUNT; ++i ) {
-			MappedIndex index = new MappedIndex();
+			MappedIndex index = createIndex();
 			indexes.add( index );
 			initiator.add(
 					"type_" + i, BACKEND_NAME, "index_" + i,
@@ -132,6 +132,10 @@ protected final Map<String, String> stringToMap(String settings) {
 		return map;
 	}
 
+	protected MappedIndex createIndex() {
+		return new MappedIndex();
+	}
+
 	protected abstract ConfigurationPropertySource getDefaultBackendProperties(TemporaryFileHolder temporaryFileHolder)
 			throws IOException;
 
@@ -37,7 +37,7 @@ public class JavaBeanBootstrapIntrospector extends AbstractPojoHCAnnBootstrapInt
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static JavaBeanBootstrapIntrospector create(MethodHandles.Lookup lookup) {
-		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
+		ValueReadHandleFactory valueReadHandleFactory = ValueReadHandleFactory.usingLambdaMetafactory( lookup );
 		return new JavaBeanBootstrapIntrospector( valueReadHandleFactory );
 	}
 
@@ -6,14 +6,15 @@
  */
 package org.hibernate.search.mapper.javabean.model.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
-import org.hibernate.search.util.common.impl.CollectionHelper;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 
 /**
  * A factory for filters expecting a simple string representation of dirty paths,
@@ -21,14 +22,20 @@
  * <p>
  * See {@link PojoModelPathPropertyNode#toPropertyString()}.
  */
-public class JavaBeanSimpleStringSetPojoPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class JavaBeanSimplePojoPathFilterFactory implements PojoPathFilterFactory<BitSet> {
+
+	private final PojoPathOrdinals pathOrdinals;
+
+	public JavaBeanSimplePojoPathFilterFactory(PojoPathOrdinals pathOrdinals) {
+		this.pathOrdinals = pathOrdinals;
+	}
+
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
-		// Use a LinkedHashSet for deterministic iteration
-		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
+		BitSet acceptedPaths = new BitSet();
 		for ( PojoModelPathValueNode path : paths ) {
-			pathsAsStrings.add( path.getParent().toPropertyString() );
+			acceptedPaths.set( pathOrdinals.toExistingOrNewOrdinal( path.getParent().toPropertyString() ) );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		return new BitSetPojoPathFilter( pathOrdinals, acceptedPaths );
 	}
 }
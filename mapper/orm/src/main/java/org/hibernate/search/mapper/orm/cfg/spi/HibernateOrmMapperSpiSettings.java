@@ -47,7 +47,7 @@ private Defaults() {
 		}
 
 		public static final HibernateOrmReflectionStrategyName REFLECTION_STRATEGY =
-				HibernateOrmReflectionStrategyName.METHOD_HANDLE;
+				HibernateOrmReflectionStrategyName.LAMBDA_METAFACTORY;
 	}
 
 }
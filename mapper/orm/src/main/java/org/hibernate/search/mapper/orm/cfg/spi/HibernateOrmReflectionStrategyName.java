@@ -26,7 +26,15 @@ public enum HibernateOrmReflectionStrategyName {
 	 * This means using {@link java.lang.invoke.MethodHandles.Lookup} and {@link java.lang.invoke.MethodHandle}
 	 * in particular.
 	 */
-	METHOD_HANDLE( "method-handle" );
+	METHOD_HANDLE( "method-handle" ),
+
+	/**
+	 * Use accessors generated at bootstrap through {@link java.lang.invoke.LambdaMetafactory} for reflection,
+	 * such as calling a method dynamically,
+	 * falling back to {@link java.lang.invoke.MethodHandle} when code generation is not possible,
+	 * e.g. for fields, non-public methods or entity types that are not visible from Hibernate Search's class loader.
+	 */
+	LAMBDA_METAFACTORY( "lambda-metafactory" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -16,6 +16,7 @@
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBasicTypeMetadataProvider;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContextProvider;
+import org.hibernate.search.mapper.orm.model.impl.HibernateOrmPathFilterFactory;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmRawTypeIdentifierResolver;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionIndexedTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContextProvider;
@@ -39,6 +40,7 @@ class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContex
 	private HibernateOrmTypeContextContainer(Builder builder, SessionFactoryImplementor sessionFactory) {
 		for ( HibernateOrmIndexedTypeContext.Builder<?> contextBuilder : builder.indexedTypeContextBuilders ) {
 			HibernateOrmIndexedTypeContext<?> indexedTypeContext = contextBuilder.build( sessionFactory );
+			checkPathOrdinals( indexedTypeContext );
 			PojoRawTypeIdentifier<?> typeIdentifier = indexedTypeContext.getTypeIdentifier();
 			indexedTypeContexts.put( typeIdentifier, indexedTypeContext );
 			indexedTypeContextsByHibernateOrmEntityName.put( indexedTypeContext.getHibernateOrmEntityName(), indexedTypeContext );
@@ -46,6 +48,7 @@ private HibernateOrmTypeContextContainer(Builder builder, SessionFactoryImplemen
 		}
 		for ( HibernateOrmContainedTypeContext.Builder<?> contextBuilder : builder.containedTypeContextBuilders ) {
 			HibernateOrmContainedTypeContext<?> containedTypeContext = contextBuilder.build( sessionFactory );
+			checkPathOrdinals( containedTypeContext );
 			PojoRawTypeIdentifier<?> typeIdentifier = containedTypeContext.getTypeIdentifier();
 			containedTypeContexts.put( typeIdentifier, containedTypeContext );
 			containedTypeContextsByHibernateOrmEntityName.put( containedTypeContext.getHibernateOrmEntityName(), containedTypeContext );
@@ -107,6 +110,14 @@ public PojoRawTypeIdentifier<?> getTypeIdentifierByEntityName(String entityName)
 		return result;
 	}
 
+	private static void checkPathOrdinals(AbstractHibernateOrmTypeContext<?> typeContext) {
+		// Dirty properties reported by ORM are used as path ordinals directly: make sure they match.
+		HibernateOrmPathFilterFactory.checkPathOrdinals(
+				typeContext.getPathOrdinals(),
+				typeContext.getEntityPersister()
+		);
+	}
+
 	static class Builder {
 
 		private final HibernateOrmBasicTypeMetadataProvider basicTypeMetadataProvider;
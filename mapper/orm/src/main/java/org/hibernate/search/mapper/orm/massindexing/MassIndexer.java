@@ -37,6 +37,21 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Set the number of threads to be used to load
+	 * the identifiers of the root entities, for each type indexed in parallel.
+	 * <p>
+	 * When set to a value higher than 1, the identifiers of each type are split into that many ranges,
+	 * each range being loaded by a separate thread in a separate transaction.
+	 * This is only supported for integral numeric identifiers (int, long, short, BigInteger);
+	 * for other identifier types, and when {@link #limitIndexedObjectsTo(long)} is used,
+	 * a single thread is used regardless of this setting.
+	 * Defaults to 1.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -44,6 +59,30 @@ public interface MassIndexer {
 	 */
 	MassIndexer batchSizeToLoadObjects(int batchSize);
 
+	/**
+	 * Sets the maximum number of batches of identifiers waiting to be picked up
+	 * by the threads loading entities.
+	 * <p>
+	 * When this limit is reached, the thread loading identifiers blocks until entity loading catches up.
+	 * Defaults to 1000.
+	 * @param queueSize the maximum number of batches of identifiers waiting for entity loading
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer idBatchQueueSize(int queueSize);
+
+	/**
+	 * Sets the maximum number of batches each entity loading thread can submit to the backend
+	 * without waiting for their indexing to complete.
+	 * <p>
+	 * Higher values allow loading threads to keep loading entities from the database
+	 * while the backend is indexing previous batches,
+	 * at the cost of holding more entities and documents in memory.
+	 * Defaults to 2.
+	 * @param batches the maximum number of batches being indexed for each entity loading thread
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer indexingBatchesInFlightPerThread(int batches);
+
 	/**
 	 * Sets the cache interaction mode for the data loading tasks.
 	 * Defaults to {@code CacheMode.IGNORE}.
@@ -79,6 +118,21 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Rebuild each index from scratch in bulk-load mode, if the backend supports it.
+	 * Defaults to {@code false}.
+	 * <p>
+	 * With the Elasticsearch backend, documents are indexed into a new Elasticsearch index
+	 * optimized for indexing throughput, which replaces the current index atomically
+	 * once mass indexing finishes successfully; searches keep targeting the current index in the meantime.
+	 * Other backends simply purge the index before indexing.
+	 * <p>
+	 * When enabled, {@code purgeAllOnStart} and {@code mergeSegmentsAfterPurge} are ignored.
+	 * @param enable {@code true} to enable bulk-load mode, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer bulkLoad(boolean enable);
+
 	/**
 	 * EXPERIMENTAL method: will probably change
 	 *
@@ -93,6 +93,34 @@ public interface MassIndexingMonitor {
 	 */
 	void addToTotalCount(long increment);
 
+	/**
+	 * Notify the monitor of the current depth of the queues between the stages of mass indexing
+	 * for a given entity type.
+	 * <p>
+	 * These numbers help identify the bottleneck of mass indexing:
+	 * <ul>
+	 *     <li>an identifier queue that stays empty means identifier loading is the bottleneck;</li>
+	 *     <li>an identifier queue that stays full while few batches are in flight
+	 *     means entity loading from the database is the bottleneck;</li>
+	 *     <li>a number of batches in flight that stays at its maximum
+	 *     (see {@link MassIndexer#indexingBatchesInFlightPerThread(int)}) means the backend is the bottleneck.</li>
+	 * </ul>
+	 * <p>
+	 * This method is invoked each time a thread starts loading a new batch of entities.
+	 * It can be invoked from several threads thus implementors are required to be thread-safe.
+	 * <p>
+	 * The default implementation does nothing.
+	 *
+	 * @param entityName the name of the entity type being indexed
+	 * @param identifierBatchesQueued the number of batches of identifiers
+	 * waiting to be picked up by a thread loading entities
+	 * @param indexingBatchesInFlight the number of batches of entities submitted to the backend
+	 * whose indexing is not complete yet, for all threads loading entities of this type
+	 */
+	default void queueDepths(String entityName, long identifierBatchesQueued, long indexingBatchesInFlight) {
+		// No-op by default
+	}
+
 	/**
 	 * Notify the monitor that indexing is complete.
 	 */
@@ -38,14 +38,18 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final int typesToIndexInParallel;
+	private final int identifierLoadingThreads;
 	private final int documentBuilderThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean bulkLoad;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final int idBatchQueueSize;
+	private final int indexingBatchesInFlightPerThread;
 	private final Integer transactionTimeout;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
 
@@ -53,10 +57,11 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
+			int typesToIndexInParallel, int identifierLoadingThreads, int documentBuilderThreads, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
-			boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
-			int idFetchSize, Integer transactionTimeout) {
+			boolean purgeAtStart, boolean mergeSegmentsAfterPurge, boolean bulkLoad,
+			int idFetchSize, int idBatchQueueSize, int indexingBatchesInFlightPerThread,
+			Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -64,14 +69,18 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.scopeWorkspace = scopeWorkspace;
 
 		this.idFetchSize = idFetchSize;
+		this.idBatchQueueSize = idBatchQueueSize;
+		this.indexingBatchesInFlightPerThread = indexingBatchesInFlightPerThread;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = documentBuilderThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.bulkLoad = bulkLoad;
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -81,22 +90,32 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
+		beforeBatch(); // purgeAll and mergeSegments if enabled, or begin bulk-loading
 		doBatchWork();
-		afterBatch(); // mergeSegments if enabled and flush
+		afterBatch(); // mergeSegments if enabled and flush, then finish bulk-loading
 	}
 
 	@Override
 	protected void cleanUpOnInterruption() throws InterruptedException {
 		cancelPendingTasks();
-		// Indexing performed before the exception must still be committed,
-		// in order to leave the index in a consistent state
-		afterBatchOnInterruption();
+		if ( bulkLoad ) {
+			// The index being bulk-loaded is incomplete: revert to the previous index
+			Futures.unwrappedExceptionGet( scopeWorkspace.abortBulkLoad() );
+		}
+		else {
+			// Indexing performed before the exception must still be committed,
+			// in order to leave the index in a consistent state
+			afterBatchOnInterruption();
+		}
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		if ( bulkLoad ) {
+			// The index being bulk-loaded is incomplete: revert to the previous index
+			Futures.unwrappedExceptionGet( scopeWorkspace.abortBulkLoad() );
+		}
 	}
 
 	@Override
@@ -149,9 +168,10 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
+				identifierLoadingThreads, documentBuilderThreads, cacheMode,
 				objectLoadingBatchSize,
-				objectsLimit, idFetchSize, transactionTimeout
+				objectsLimit, idFetchSize, idBatchQueueSize, indexingBatchesInFlightPerThread,
+				transactionTimeout
 		);
 	}
 
@@ -163,6 +183,9 @@ private void afterBatch() throws InterruptedException {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		if ( this.bulkLoad ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.finishBulkLoad() );
+		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
 	}
 
@@ -178,7 +201,10 @@ private void afterBatchOnInterruption() throws InterruptedException {
 	 * Optional operations to do before the multiple-threads start indexing
 	 */
 	private void beforeBatch() throws InterruptedException {
-		if ( this.purgeAtStart ) {
+		if ( this.bulkLoad ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.beginBulkLoad() );
+		}
+		else if ( this.purgeAtStart ) {
 			Futures.unwrappedExceptionGet( scopeWorkspace.purge( Collections.emptySet() ) );
 			if ( this.mergeSegmentsAfterPurge ) {
 				Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
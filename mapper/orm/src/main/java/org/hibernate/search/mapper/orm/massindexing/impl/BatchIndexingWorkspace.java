@@ -41,8 +41,9 @@
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private ProducerConsumerQueue<List<I>> primaryKeyStream;
 
+	private final int identifierProducerThreads;
 	private final int documentBuilderThreads;
 
 	// loading options
@@ -52,6 +53,8 @@
 	private final long objectsLimit;
 
 	private final int idFetchSize;
+	private final int idBatchQueueSize;
+	private final int indexingBatchesInFlightPerThread;
 	private final Integer transactionTimeout;
 
 	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
@@ -61,9 +64,10 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int identifierLoadingThreads, int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
-			int idFetchSize, Integer transactionTimeout) {
+			int idFetchSize, int idBatchQueueSize, int indexingBatchesInFlightPerThread,
+			Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
 		this.sessionContext = sessionContext;
@@ -71,18 +75,18 @@
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.idFetchSize = idFetchSize;
+		this.idBatchQueueSize = idBatchQueueSize;
+		this.indexingBatchesInFlightPerThread = indexingBatchesInFlightPerThread;
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
+		this.identifierProducerThreads = identifierLoadingThreads;
 		this.documentBuilderThreads = objectLoadingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
-		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
-
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -94,9 +98,12 @@ public void runWithFailureHandler() throws InterruptedException {
 
 		final BatchTransactionalContext transactionalContext =
 				new BatchTransactionalContext( mappingContext.getSessionFactory() );
+		List<IdentifierRange<I>> identifierRanges = splitIdentifierRanges( transactionalContext );
+		//pipelining queues:
+		primaryKeyStream = new ProducerConsumerQueue<>( idBatchQueueSize, identifierRanges.size() );
 		// First start the consumers, then the producers (reverse order):
 		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		startProducingPrimaryKeys( transactionalContext, identifierRanges );
 		// Wait for indexing to finish.
 		Futures.unwrappedExceptionGet(
 				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
@@ -124,28 +131,57 @@ private void cancelPendingTasks() {
 		}
 	}
 
-	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+	private List<IdentifierRange<I>> splitIdentifierRanges(BatchTransactionalContext transactionalContext)
+			throws InterruptedException {
+		if ( identifierProducerThreads <= 1 || objectsLimit != 0
+				|| !IdentifierRangeSplitter.isSupported( idAttributeOfType ) ) {
+			// Load all identifiers in a single transaction
+			return IdentifierRange.all();
+		}
+		IdentifierRangeSplitter<E, I> splitter = new IdentifierRangeSplitter<>(
+				mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+				type, idAttributeOfType,
+				identifierProducerThreads
+		);
+		new OptionallyWrapInJTATransaction(
 				transactionalContext,
 				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
-						getNotifier(),
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						type, idAttributeOfType,
-						objectsLimit,
-						idFetchSize
-				),
+				splitter,
 				transactionTimeout, sessionContext.getTenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+		)
+				.run();
+		if ( Thread.currentThread().isInterrupted() ) {
+			throw new InterruptedException();
+		}
+		return splitter.getRanges();
+	}
+
+	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext,
+			List<IdentifierRange<I>> identifierRanges) {
+		//execIdentifiersLoader has one thread per range: each range is loaded in its own transaction
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
-				1,
+				identifierRanges.size(),
 				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( IdentifierRange<I> identifierRange : identifierRanges ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+								getNotifier(),
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								type, idAttributeOfType,
+								identifierRange,
+								objectsLimit,
+								idFetchSize
+						),
+						transactionTimeout, sessionContext.getTenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
@@ -159,7 +195,8 @@ private void startIndexing() {
 				type, idAttributeOfType,
 				primaryKeyStream,
 				cacheMode,
-				transactionTimeout
+				transactionTimeout,
+				indexingBatchesInFlightPerThread
 		);
 		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
 				documentBuilderThreads,
@@ -9,6 +9,8 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.persistence.LockModeType;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -25,6 +27,7 @@
 import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
 import org.hibernate.query.Query;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.util.common.impl.Futures;
@@ -56,6 +59,13 @@
 	private final ProducerConsumerQueue<List<I>> source;
 	private final CacheMode cacheMode;
 	private final Integer transactionTimeout;
+	private final int indexingBatchesInFlightPerThread;
+
+	/**
+	 * The number of batches submitted to the backend whose indexing is not complete yet,
+	 * for all threads running this producer.
+	 */
+	private final AtomicInteger indexingBatchesInFlight = new AtomicInteger();
 
 	/**
 	 * The JTA transaction manager or {@code null} if not in a JTA environment
@@ -68,7 +78,8 @@
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			CacheMode cacheMode,
-			Integer transactionTimeout
+			Integer transactionTimeout,
+			int indexingBatchesInFlightPerThread
 			) {
 		this.mappingContext = mappingContext;
 		this.tenantId = tenantId;
@@ -78,6 +89,7 @@
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
 		this.transactionTimeout = transactionTimeout;
+		this.indexingBatchesInFlightPerThread = indexingBatchesInFlightPerThread;
 		this.transactionManager = mappingContext.getSessionFactory()
 				.getServiceRegistry()
 				.getService( JtaPlatform.class )
@@ -112,13 +124,16 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 		PojoIndexer indexer = mappingContext.createIndexer(
 				session, DocumentCommitStrategy.NONE
 		);
+		// Each permit allows one batch to be indexed by the backend while this thread loads the next batches.
+		Semaphore indexingPermits = new Semaphore( indexingBatchesInFlightPerThread );
 		try {
 			List<I> idList;
 			do {
 				idList = source.take();
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, indexer );
+					notifier.notifyQueueDepths( type, source.size(), indexingBatchesInFlight.get() );
+					loadList( idList, session, indexer, indexingPermits );
 				}
 			}
 			while ( idList != null );
@@ -127,6 +142,11 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 			// just quit
 			Thread.currentThread().interrupt();
 		}
+		finally {
+			// Wait for indexing of the last batches to complete before closing the session,
+			// even on failure or interruption: their callbacks are still pending.
+			indexingPermits.acquireUninterruptibly( indexingBatchesInFlightPerThread );
+		}
 	}
 
 	/**
@@ -137,8 +157,10 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	 * @param listIds the list of entity identifiers (of type
 	 * @param session the session to be used
 	 * @param indexer the indexer to be used
+	 * @param indexingPermits the permits limiting the number of batches being indexed by the backend
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
+	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer,
+			Semaphore indexingPermits)
 			throws InterruptedException, NotSupportedException, SystemException {
 		try {
 			beginTransaction( session );
@@ -156,7 +178,7 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			indexAllQueue( session, indexer, query.getResultList(), indexingPermits );
 			session.clear();
 		}
 		finally {
@@ -192,33 +214,65 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+	private void indexAllQueue(SessionImplementor session, PojoIndexer indexer, List<E> entities,
+			Semaphore indexingPermits)
+			throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
 			return;
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
 		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
+		// Extract references while the entities are still attached to the session:
+		// indexing results are notified from backend threads, which must not access the session.
+		EntityReference[] entityReferences = new EntityReference[entities.size()];
+		RuntimeException[] referenceExtractionFailures = new RuntimeException[entities.size()];
 
-		for ( int i = 0; i < entities.size(); i++ ) {
-			final E entity = entities.get( i );
-			indexingFutures[i] = index( indexer, entity );
+		// Wait for the backend to complete indexing of a previous batch if there are too many in flight.
+		indexingPermits.acquire();
+		indexingBatchesInFlight.incrementAndGet();
+		try {
+			for ( int i = 0; i < entities.size(); i++ ) {
+				final E entity = entities.get( i );
+				try {
+					entityReferences[i] = notifier.extractReference( type, session, entity );
+				}
+				catch (RuntimeException e) {
+					referenceExtractionFailures[i] = e;
+				}
+				indexingFutures[i] = index( indexer, entity );
+			}
+		}
+		catch (InterruptedException | RuntimeException e) {
+			onBatchIndexingDone( indexingPermits );
+			throw e;
 		}
 
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures )
-						// We handle exceptions on a per-entity basis below, so we ignore them here.
-						.exceptionally( exception -> null )
-		);
+		// Do not wait for the backend: documents are built already,
+		// so this thread can load the next batch while the backend indexes this one.
+		CompletableFuture.allOf( indexingFutures )
+				// We handle exceptions on a per-entity basis below, so we ignore them here.
+				.exceptionally( exception -> null )
+				.whenComplete( (ignored1, ignored2) -> {
+					try {
+						notifyBatchIndexingResult( entityReferences, referenceExtractionFailures, indexingFutures );
+					}
+					finally {
+						onBatchIndexingDone( indexingPermits );
+					}
+				} );
+	}
 
+	private void notifyBatchIndexingResult(EntityReference[] entityReferences,
+			RuntimeException[] referenceExtractionFailures, CompletableFuture<?>[] indexingFutures) {
 		int successfulEntities = 0;
-		for ( int i = 0; i < entities.size(); i++ ) {
+		for ( int i = 0; i < indexingFutures.length; i++ ) {
 			CompletableFuture<?> future = indexingFutures[i];
 
 			if ( future.isCompletedExceptionally() ) {
 				notifier.notifyEntityIndexingFailure(
 						type,
-						session, entities.get( i ),
+						entityReferences[i], referenceExtractionFailures[i],
 						Futures.getThrowableNow( future )
 				);
 			}
@@ -230,6 +284,11 @@ private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entitie
 		notifier.notifyDocumentsAdded( successfulEntities );
 	}
 
+	private void onBatchIndexingDone(Semaphore indexingPermits) {
+		indexingBatchesInFlight.decrementAndGet();
+		indexingPermits.release();
+	}
+
 	private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws InterruptedException {
 		// abort if the thread has been interrupted while not in wait(), I/O or similar which themselves would have
 		// raised the InterruptedException
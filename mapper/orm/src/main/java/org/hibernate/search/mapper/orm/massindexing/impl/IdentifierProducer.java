@@ -12,6 +12,7 @@
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -28,9 +29,10 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
- * done by one thread per type) so that a single transaction is used
- * to define the group of entities to be indexed.
+ * By default this step in the indexing process is not parallel (one thread per type)
+ * so that a single transaction is used to define the group of entities to be indexed.
+ * When the identifiers are split into several {@link IdentifierRange ranges},
+ * one producer runs for each range, each in its own transaction.
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -50,6 +52,7 @@
 
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final IdentifierRange<I> range;
 
 	private final ProducerConsumerQueue<List<I>> destination;
 	private final int batchSize;
@@ -64,6 +67,7 @@
 	 * @param objectLoadingBatchSize affects mostly the next consumer: IdentifierConsumerEntityProducer
 	 * @param type the entity type whose identifiers are to be loaded
 	 * @param idAttributeOfType the id attribute to be loaded
+	 * @param range the range of identifiers to be loaded
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
 	 */
@@ -72,12 +76,14 @@
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			IdentifierRange<I> range,
 			long objectsLimit, int idFetchSize) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
+		this.range = range;
 		this.destination = fromIdentifierListToEntities;
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
@@ -142,7 +148,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 			totalCount = objectsLimit;
 		}
 		if ( log.isDebugEnabled() ) {
-			log.debugf( "going to fetch %d primary keys", (Long) totalCount );
+			log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, range );
 		}
 		notifier.notifyAddedTotalCount( totalCount );
 
@@ -181,6 +187,7 @@ private Query<Long> createTotalCountQuery(StatelessSession session) {
 
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		criteriaQuery.select( criteriaBuilder.count( root ) );
+		restrictToRange( criteriaBuilder, criteriaQuery, root.get( idAttributeOfType ) );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false );
@@ -193,12 +200,32 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
 		Path<I> idPath = root.get( idAttributeOfType );
 		criteriaQuery.select( idPath );
+		restrictToRange( criteriaBuilder, criteriaQuery, idPath );
 
 		return session.createQuery( criteriaQuery )
 				.setCacheable( false )
 				.setFetchSize( idFetchSize );
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Identifiers are only split into ranges when they are comparable
+	private void restrictToRange(CriteriaBuilder criteriaBuilder, CriteriaQuery<?> criteriaQuery, Path<I> idPath) {
+		List<Predicate> predicates = new ArrayList<>( 2 );
+		Path<Comparable> comparableIdPath = (Path<Comparable>) idPath;
+		if ( range.getLowerBoundInclusive() != null ) {
+			predicates.add( criteriaBuilder.greaterThanOrEqualTo(
+					comparableIdPath, (Comparable) range.getLowerBoundInclusive()
+			) );
+		}
+		if ( range.getUpperBoundExclusive() != null ) {
+			predicates.add( criteriaBuilder.lessThan(
+					comparableIdPath, (Comparable) range.getUpperBoundExclusive()
+			) );
+		}
+		if ( !predicates.isEmpty() ) {
+			criteriaQuery.where( predicates.toArray( new Predicate[0] ) );
+		}
+	}
+
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
 			destination.put( idsList );
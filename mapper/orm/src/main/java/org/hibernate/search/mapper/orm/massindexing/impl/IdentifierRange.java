@@ -0,0 +1,50 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A contiguous range of entity identifiers, to be loaded by a single {@link IdentifierProducer}.
+ *
+ * @param <I> The identifier type
+ */
+final class IdentifierRange<I> {
+
+	static <I> List<IdentifierRange<I>> all() {
+		return Collections.singletonList( new IdentifierRange<>( null, null ) );
+	}
+
+	private final I lowerBoundInclusive;
+	private final I upperBoundExclusive;
+
+	IdentifierRange(I lowerBoundInclusive, I upperBoundExclusive) {
+		this.lowerBoundInclusive = lowerBoundInclusive;
+		this.upperBoundExclusive = upperBoundExclusive;
+	}
+
+	@Override
+	public String toString() {
+		return "[" + ( lowerBoundInclusive == null ? "*" : lowerBoundInclusive )
+				+ ", " + ( upperBoundExclusive == null ? "*" : upperBoundExclusive ) + ")";
+	}
+
+	/**
+	 * @return The lowest identifier in this range, or {@code null} if there is no lower bound.
+	 */
+	I getLowerBoundInclusive() {
+		return lowerBoundInclusive;
+	}
+
+	/**
+	 * @return The lowest identifier above this range, or {@code null} if there is no upper bound.
+	 */
+	I getUpperBoundExclusive() {
+		return upperBoundExclusive;
+	}
+}
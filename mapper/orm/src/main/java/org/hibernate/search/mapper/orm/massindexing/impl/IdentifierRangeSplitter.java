@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable splits the identifiers of an entity type into contiguous ranges,
+ * so that identifiers can be loaded by several {@link IdentifierProducer}s in parallel.
+ * <p>
+ * Ranges are computed from the minimum and maximum identifier,
+ * so only integral numeric identifiers are supported:
+ * see {@link #isSupported(SingularAttribute)}.
+ * Ranges are of equal width, which is most efficient when identifiers are evenly distributed,
+ * e.g. when they are generated from a sequence.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+class IdentifierRangeSplitter<E, I> implements StatelessSessionAwareRunnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static boolean isSupported(SingularAttribute<?, ?> idAttribute) {
+		Class<?> idType = idAttribute.getJavaType();
+		return Long.class.equals( idType ) || long.class.equals( idType )
+				|| Integer.class.equals( idType ) || int.class.equals( idType )
+				|| Short.class.equals( idType ) || short.class.equals( idType )
+				|| BigInteger.class.equals( idType );
+	}
+
+	private final SessionFactory sessionFactory;
+	private final String tenantId;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+
+	private final int maxRangeCount;
+
+	private List<IdentifierRange<I>> ranges;
+
+	IdentifierRangeSplitter(SessionFactory sessionFactory, String tenantId,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			int maxRangeCount) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.maxRangeCount = maxRangeCount;
+	}
+
+	@Override
+	public void run(StatelessSession upperSession) {
+		StatelessSession session = upperSession;
+		if ( upperSession == null ) {
+			if ( tenantId == null ) {
+				session = sessionFactory.openStatelessSession();
+			}
+			else {
+				session = sessionFactory.withStatelessOptions().tenantIdentifier( tenantId ).openStatelessSession();
+			}
+		}
+		try {
+			Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+			final boolean controlTransactions = ! transaction.isActive();
+			if ( controlTransactions ) {
+				transaction.begin();
+			}
+			try {
+				ranges = split( session );
+			}
+			finally {
+				if ( controlTransactions ) {
+					transaction.commit();
+				}
+			}
+		}
+		finally {
+			if ( upperSession == null ) {
+				session.close();
+			}
+		}
+		log.debugf( "Identifier ranges for %s: %s", type.getJpaEntityName(), ranges );
+	}
+
+	/**
+	 * @return The identifier ranges, covering all possible identifiers.
+	 * Only available after {@link #run(StatelessSession)} completed successfully.
+	 */
+	List<IdentifierRange<I>> getRanges() {
+		return ranges;
+	}
+
+	private List<IdentifierRange<I>> split(StatelessSession session) {
+		Object[] minMax = createMinMaxQuery( session );
+		if ( minMax[0] == null || minMax[1] == null ) {
+			// No entity: nothing to split.
+			return IdentifierRange.all();
+		}
+		BigInteger min = toBigInteger( minMax[0] );
+		BigInteger max = toBigInteger( minMax[1] );
+
+		BigInteger width = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger rangeCount = width.min( BigInteger.valueOf( maxRangeCount ) );
+		BigInteger rangeWidth = width.divide( rangeCount );
+
+		List<IdentifierRange<I>> result = new ArrayList<>( rangeCount.intValue() );
+		// The first and last ranges are unbounded, to include identifiers created while mass indexing.
+		I lowerBound = null;
+		for ( int i = 1; i < rangeCount.intValue(); i++ ) {
+			I upperBound = fromBigInteger( min.add( rangeWidth.multiply( BigInteger.valueOf( i ) ) ) );
+			result.add( new IdentifierRange<>( lowerBound, upperBound ) );
+			lowerBound = upperBound;
+		}
+		result.add( new IdentifierRange<>( lowerBound, null ) );
+		return result;
+	}
+
+	private Object[] createMinMaxQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		@SuppressWarnings("unchecked") // We checked the ID type is numeric in isSupported()
+		Path<Number> idPath = (Path<Number>) root.get( idAttributeOfType );
+		criteriaQuery.multiselect( criteriaBuilder.min( idPath ), criteriaBuilder.max( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.uniqueResult();
+	}
+
+	private static BigInteger toBigInteger(Object id) {
+		if ( id instanceof BigInteger ) {
+			return (BigInteger) id;
+		}
+		return BigInteger.valueOf( ( (Number) id ).longValue() );
+	}
+
+	@SuppressWarnings("unchecked") // We checked the ID type in isSupported()
+	private I fromBigInteger(BigInteger value) {
+		Class<?> idType = idAttributeOfType.getJavaType();
+		if ( Long.class.equals( idType ) || long.class.equals( idType ) ) {
+			return (I) (Long) value.longValue();
+		}
+		else if ( Integer.class.equals( idType ) || int.class.equals( idType ) ) {
+			return (I) (Integer) value.intValue();
+		}
+		else if ( Short.class.equals( idType ) || short.class.equals( idType ) ) {
+			return (I) (Short) value.shortValue();
+		}
+		else {
+			return (I) value;
+		}
+	}
+}
@@ -83,6 +83,12 @@ public void addToTotalCount(long count) {
 		log.indexingEntities( count );
 	}
 
+	@Override
+	public void queueDepths(String entityName, long identifierBatchesQueued, long indexingBatchesInFlight) {
+		log.tracef( "Queue depths for %s: %d batches of identifiers queued, %d batches being indexed",
+				entityName, identifierBatchesQueued, indexingBatchesInFlight );
+	}
+
 	@Override
 	public void indexingCompleted() {
 		log.indexingEntitiesCompleted( totalCounter.longValue() );
@@ -47,6 +47,7 @@ public class MassIndexerImpl implements MassIndexer {
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
+	private int identifierLoadingThreads = 1;
 	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
 	private int objectLoadingBatchSize = 10;
 	private long objectsLimit = 0; //means no limit at all
@@ -54,7 +55,10 @@ public class MassIndexerImpl implements MassIndexer {
 	private boolean mergeSegmentsOnFinish = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean bulkLoad = false;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
+	private int idBatchQueueSize = ProducerConsumerQueue.DEFAULT_BUFF_LENGTH;
+	private int indexingBatchesInFlightPerThread = 2;
 	private Integer idLoadingTransactionTimeout;
 
 	private MassIndexingFailureHandler failureHandler;
@@ -109,6 +113,24 @@ public MassIndexer typesToIndexInParallel(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer idBatchQueueSize(int queueSize) {
+		if ( queueSize < 1 ) {
+			throw new IllegalArgumentException( "queueSize must be at least 1" );
+		}
+		this.idBatchQueueSize = queueSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer indexingBatchesInFlightPerThread(int batches) {
+		if ( batches < 1 ) {
+			throw new IllegalArgumentException( "batches must be at least 1" );
+		}
+		this.indexingBatchesInFlightPerThread = batches;
+		return this;
+	}
+
 	@Override
 	public MassIndexer cacheMode(CacheMode cacheMode) {
 		if ( cacheMode == null ) {
@@ -127,6 +149,15 @@ public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.identifierLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer batchSizeToLoadObjects(int batchSize) {
 		if ( batchSize < 1 ) {
@@ -154,6 +185,12 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer bulkLoad(boolean enable) {
+		this.bulkLoad = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -198,10 +235,11 @@ protected BatchCoordinator createCoordinator() {
 				mappingContext, sessionContext,
 				notifier,
 				rootEntityTypes, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel, identifierLoadingThreads, documentBuilderThreads,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
-				mergeSegmentsOnFinish, purgeAtStart, mergeSegmentsAfterPurge,
-				idFetchSize, idLoadingTransactionTimeout
+				mergeSegmentsOnFinish, purgeAtStart, mergeSegmentsAfterPurge, bulkLoad,
+				idFetchSize, idBatchQueueSize, indexingBatchesInFlightPerThread,
+				idLoadingTransactionTimeout
 		);
 	}
 
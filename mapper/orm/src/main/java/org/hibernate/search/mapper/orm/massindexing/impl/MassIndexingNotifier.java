@@ -10,7 +10,7 @@
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
-import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -60,8 +60,22 @@ void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
 	}
 
+	void notifyQueueDepths(HibernateOrmMassIndexingIndexedTypeContext<?> type,
+			int identifierBatchesQueued, int indexingBatchesInFlight) {
+		monitor.queueDepths( type.getJpaEntityName(), identifierBatchesQueued, indexingBatchesInFlight );
+	}
+
+	// Must be called from the thread using the session, while the entity is still attached to the session.
+	<T> EntityReference extractReference(HibernateOrmMassIndexingIndexedTypeContext<T> type,
+			SessionImplementor session, T entity) {
+		return new EntityReferenceImpl(
+				type.getTypeIdentifier(), type.getJpaEntityName(), session.getIdentifier( entity )
+		);
+	}
+
+	// May be called from any thread: references are extracted beforehand, so the session is not accessed.
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, T entity, Throwable throwable) {
+			EntityReference entityReference, RuntimeException referenceExtractionFailure, Throwable throwable) {
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
@@ -72,7 +86,11 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		contextBuilder.failingOperation( log.massIndexerIndexingInstance( type.getJpaEntityName() ) );
 		// Add more information here, but information that may not be available if the session completely broke down
 		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
-		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
+		if ( referenceExtractionFailure != null ) {
+			// We failed to extract a reference.
+			// Let's just give up and suppress the exception.
+			throwable.addSuppressed( referenceExtractionFailure );
+		}
 		if ( entityReference != null ) {
 			contextBuilder.entityReference( entityReference );
 			recordedFailure.entityReference = entityReference;
@@ -121,21 +139,6 @@ private SearchException createEntityIndexingExceptionOrNull() {
 		);
 	}
 
-	private <T> EntityReference extractReferenceOrSuppress(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, Object entity, Throwable throwable) {
-		try {
-			return new EntityReferenceImpl(
-					type.getTypeIdentifier(), type.getJpaEntityName(), session.getIdentifier( entity )
-			);
-		}
-		catch (RuntimeException e) {
-			// We failed to extract a reference.
-			// Let's just give up and suppress the exception.
-			throwable.addSuppressed( e );
-			return null;
-		}
-	}
-
 	private static class RecordedEntityIndexingFailure {
 		private Throwable throwable;
 		private EntityReference entityReference;
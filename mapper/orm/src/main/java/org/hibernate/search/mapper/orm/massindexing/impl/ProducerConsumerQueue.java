@@ -19,7 +19,7 @@
  */
 public class ProducerConsumerQueue<T> {
 
-	private static final int DEFAULT_BUFF_LENGTH = 1000;
+	static final int DEFAULT_BUFF_LENGTH = 1000;
 	private static final Object exitToken = new Object();
 
 	//doesn't use <T> here as exitToken needs to be put in the queue too:
@@ -67,6 +67,14 @@ public void put(T obj) throws InterruptedException {
 		queue.put( obj );
 	}
 
+	/**
+	 * @return the number of objects currently waiting in the queue.
+	 * This is only an estimate, since producers and consumers may be working concurrently.
+	 */
+	public int size() {
+		return queue.size();
+	}
+
 	/**
 	 * Each producer thread should call producerStopping() when it has
 	 * finished. After doing it can safely terminate.
@@ -63,6 +63,11 @@ public static HibernateOrmBootstrapIntrospector create(
 			case METHOD_HANDLE:
 				valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
 				break;
+			case LAMBDA_METAFACTORY:
+				// Generating accessors requires a lookup with private access;
+				// accessors will only be generated for public getters of classes visible from this class.
+				valueReadHandleFactory = ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.lookup() );
+				break;
 			default:
 				throw new AssertionFailure( "Unexpected reflection strategy name: " + reflectionStrategyName );
 		}
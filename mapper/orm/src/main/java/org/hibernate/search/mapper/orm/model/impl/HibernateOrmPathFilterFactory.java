@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.model.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
@@ -22,14 +23,16 @@
 import org.hibernate.mapping.SimpleValue;
 import org.hibernate.mapping.ToOne;
 import org.hibernate.mapping.Value;
+import org.hibernate.persister.entity.EntityPersister;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.pojo.extractor.mapping.programmatic.ContainerExtractorPath;
 import org.hibernate.search.mapper.pojo.extractor.builtin.BuiltinContainerExtractors;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.BitSetPojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
-import org.hibernate.search.mapper.pojo.model.path.spi.StringSetPojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.impl.CollectionHelper;
@@ -142,25 +145,79 @@
  *         is used before we can detect a prefix matching the conditions described above.
  *     </li>
  * </ul>
+ * <p>
+ * String representations are then converted to ordinals using the given {@link PojoPathOrdinals}.
+ * See {@link #createPathOrdinals(PersistentClass)} for how top-level properties are assigned ordinals.
  */
-public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<Set<String>> {
+public class HibernateOrmPathFilterFactory implements PojoPathFilterFactory<BitSet> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * @param persistentClass The entity type.
+	 * @return Path ordinals where the ordinal of each top-level property of the entity type
+	 * is the index of this property in Hibernate ORM,
+	 * so that dirty properties reported in a {@link PostUpdateEvent}
+	 * can be used as ordinals directly, without any conversion.
+	 */
+	public static PojoPathOrdinals createPathOrdinals(PersistentClass persistentClass) {
+		PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+		// Same order as the property indexes of the entity persister
+		@SuppressWarnings("unchecked")
+		Iterator<Property> propertyIterator = persistentClass.getPropertyClosureIterator();
+		while ( propertyIterator.hasNext() ) {
+			pathOrdinals.toExistingOrNewOrdinal( propertyIterator.next().getName() );
+		}
+		return pathOrdinals;
+	}
+
+	/**
+	 * Checks that path ordinals match the property indexes of the entity persister,
+	 * since dirty properties reported in a {@link PostUpdateEvent} are used as ordinals directly.
+	 * <p>
+	 * Ordinals of other paths, e.g. nested properties or collection roles,
+	 * are assigned after those of top-level properties when path filters are created,
+	 * so they are not checked.
+	 *
+	 * @param pathOrdinals The path ordinals used by the path filters of the entity type,
+	 * as returned by {@link #createPathOrdinals(PersistentClass)} then completed when creating filters.
+	 * @param persister The persister of that same entity type.
+	 * @throws AssertionFailure If the ordinal of a top-level property is not its index in the persister.
+	 */
+	public static void checkPathOrdinals(PojoPathOrdinals pathOrdinals, EntityPersister persister) {
+		String[] propertyNames = persister.getPropertyNames();
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			String path = pathOrdinals.toPath( i );
+			if ( !propertyNames[i].equals( path ) ) {
+				throw new AssertionFailure(
+						"Path ordinal " + i + " of entity type '" + persister.getEntityName()
+						+ "' is assigned to path '" + path + "', but the entity persister has property '"
+						+ propertyNames[i] + "' at that index"
+				);
+			}
+		}
+	}
+
 	private final PersistentClass persistentClass;
+	private final PojoPathOrdinals pathOrdinals;
 
-	public HibernateOrmPathFilterFactory(PersistentClass persistentClass) {
+	public HibernateOrmPathFilterFactory(PersistentClass persistentClass, PojoPathOrdinals pathOrdinals) {
 		this.persistentClass = persistentClass;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
-	public PojoPathFilter<Set<String>> create(Set<PojoModelPathValueNode> paths) {
+	public PojoPathFilter<BitSet> create(Set<PojoModelPathValueNode> paths) {
 		// Use a LinkedHashSet for deterministic iteration
 		Set<String> pathsAsStrings = CollectionHelper.newLinkedHashSet( paths.size() );
 		for ( PojoModelPathValueNode path : paths ) {
 			addDirtyPathStringRepresentations( pathsAsStrings, path );
 		}
-		return new StringSetPojoPathFilter( pathsAsStrings );
+		BitSet acceptedPaths = new BitSet();
+		for ( String pathAsString : pathsAsStrings ) {
+			acceptedPaths.set( pathOrdinals.toExistingOrNewOrdinal( pathAsString ) );
+		}
+		return new BitSetPojoPathFilter( pathOrdinals, acceptedPaths );
 	}
 
 	private void addDirtyPathStringRepresentations(Set<String> pathsAsStrings, PojoModelPathValueNode path) {
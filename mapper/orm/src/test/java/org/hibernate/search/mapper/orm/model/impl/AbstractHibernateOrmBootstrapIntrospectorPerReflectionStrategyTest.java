@@ -37,6 +37,7 @@ public static List<Object[]> data() {
 		return Arrays.asList( new Object[][] {
 				{ null },
 				{ "method-handle" },
+				{ "lambda-metafactory" },
 				{ "java-lang-reflect" }
 		} );
 	}
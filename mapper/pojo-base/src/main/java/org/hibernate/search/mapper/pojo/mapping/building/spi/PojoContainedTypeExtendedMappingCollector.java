@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
 /**
  * A collector of extended mapping information.
  * <p>
@@ -14,4 +16,10 @@
  */
 public interface PojoContainedTypeExtendedMappingCollector {
 
+	/**
+	 * @param pathOrdinals The path ordinals used by the path filters of this type,
+	 * i.e. the ordinals dirty paths must be expressed with.
+	 */
+	void pathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
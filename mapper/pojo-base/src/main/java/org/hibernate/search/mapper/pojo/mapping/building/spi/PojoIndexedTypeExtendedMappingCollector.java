@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -21,4 +22,10 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	/**
+	 * @param pathOrdinals The path ordinals used by the path filters of this type,
+	 * i.e. the ordinals dirty paths must be expressed with.
+	 */
+	void pathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.StringJoiner;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet},
+ * where each bit is the ordinal of a path as assigned by a {@link PojoPathOrdinals}.
+ * <p>
+ * Testing a set of paths is a word-level intersection of bitsets,
+ * so it does not involve any hashing or allocation.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	public BitSetPojoPathFilter(PojoPathOrdinals ordinals, BitSet acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = acceptedPaths;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner( ", ", "[", "]" );
+		for ( int i = acceptedPaths.nextSetBit( 0 ); i >= 0; i = acceptedPaths.nextSetBit( i + 1 ) ) {
+			joiner.add( ordinals.toPath( i ) );
+		}
+		return getClass().getSimpleName() + joiner;
+	}
+}
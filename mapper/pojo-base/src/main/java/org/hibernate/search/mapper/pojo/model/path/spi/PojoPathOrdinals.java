@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assigns an ordinal to the string representation of each path of an entity type,
+ * so that sets of dirty paths can be represented as a {@link java.util.BitSet}.
+ * <p>
+ * Ordinals are assigned during bootstrap only, and must not change afterwards:
+ * at runtime, instances of this class are only read from.
+ * Mapper implementations may register paths in a specific order beforehand,
+ * so that ordinals match an existing numbering of properties
+ * (e.g. property indexes in Hibernate ORM).
+ *
+ * @see BitSetPojoPathFilter
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to this path, or {@code null} if no ordinal was assigned.
+	 */
+	public Integer toOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal assigned to this path, newly assigned if necessary.
+	 * Must only be called during bootstrap.
+	 */
+	public int toExistingOrNewOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param ordinal An ordinal.
+	 * @return The string representation of the path this ordinal was assigned to,
+	 * or {@code null} if this ordinal was not assigned.
+	 */
+	public String toPath(int ordinal) {
+		return ordinal < pathByOrdinal.size() ? pathByOrdinal.get( ordinal ) : null;
+	}
+
+}
@@ -47,6 +47,21 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> beginBulkLoad() {
+		return doOperationOnTypes( IndexWorkspace::beginBulkLoad );
+	}
+
+	@Override
+	public CompletableFuture<?> finishBulkLoad() {
+		return doOperationOnTypes( IndexWorkspace::finishBulkLoad );
+	}
+
+	@Override
+	public CompletableFuture<?> abortBulkLoad() {
+		return doOperationOnTypes( IndexWorkspace::abortBulkLoad );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
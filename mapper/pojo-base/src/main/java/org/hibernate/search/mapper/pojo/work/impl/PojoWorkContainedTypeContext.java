@@ -6,10 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
@@ -20,10 +21,12 @@
 
 	PojoRawTypeIdentifier<E> getTypeIdentifier();
 
+	PojoPathOrdinals getPathOrdinals();
+
 	Supplier<E> toEntitySupplier(PojoWorkSessionContext sessionContext, Object entity);
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext sessionContext,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths);
+			Supplier<E> entitySupplier, BitSet dirtyPaths);
 
 	PojoContainedTypeIndexingPlan<E> createIndexingPlan(PojoWorkSessionContext sessionContext);
 
@@ -19,4 +19,10 @@ public interface PojoScopeWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	CompletableFuture<?> beginBulkLoad();
+
+	CompletableFuture<?> finishBulkLoad();
+
+	CompletableFuture<?> abortBulkLoad();
+
 }
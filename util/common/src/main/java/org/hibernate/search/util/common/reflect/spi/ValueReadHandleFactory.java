@@ -34,4 +34,15 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with sufficient access rights to access all relevant fields and methods.
+	 * Should have private access to its lookup class, otherwise no code will be generated.
+	 * @return A factory producing value handles that rely on accessors generated through
+	 * {@link java.lang.invoke.LambdaMetafactory} to get the value of a method when possible,
+	 * falling back to {@link java.lang.invoke.MethodHandle} for fields and inaccessible methods.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
@@ -39,6 +39,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -109,6 +110,47 @@ public void publicMethod() throws Exception {
 		testMethodValueReadHandleSuccess( "publicMethod" );
 	}
 
+	@Test
+	public void publicMethod_publicType() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "publicMethod" );
+		Method otherMethod = PublicEntityType.class.getDeclaredMethod( "otherMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle.get( new PublicEntityType() ) ).isEqualTo( "publicMethodValue" );
+
+		ValueReadHandle<?> equalValueReadHandle = factory.createForMethod( method );
+		ValueReadHandle<?> differentMethodValueReadHandle = factory.createForMethod( otherMethod );
+		assertThat( valueReadHandle ).isEqualTo( equalValueReadHandle );
+		assertThat( valueReadHandle.hashCode() ).isEqualTo( equalValueReadHandle.hashCode() );
+		assertThat( valueReadHandle ).isNotEqualTo( differentMethodValueReadHandle );
+	}
+
+	@Test
+	public void primitiveMethod_publicType() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "primitiveMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+		assertThat( valueReadHandle.get( new PublicEntityType() ) ).isEqualTo( 42 );
+	}
+
+	@Test
+	public void failure_method_runtimeException_publicType() throws Exception {
+		Method method = PublicEntityType.class.getDeclaredMethod( "runtimeExceptionThrowingMethod" );
+
+		ValueReadHandle<?> valueReadHandle = factory.createForMethod( method );
+
+		PublicEntityType entity = new PublicEntityType();
+		SubTest.expectThrowable( () -> valueReadHandle.get( entity ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining(
+						"Exception while invoking '" + method.toString() + "' on 'publicEntityToString'"
+				)
+				.extracting( Throwable::getCause ).asInstanceOf( InstanceOfAssertFactories.THROWABLE )
+				.isInstanceOf( SimulatedRuntimeException.class )
+				.hasMessageContaining( "runtimeExceptionThrowingMethod" );
+	}
+
 	@Test
 	public void failure_method_error() throws Exception {
 		Method method = EntityType.class.getDeclaredMethod( "errorThrowingMethod" );
@@ -149,6 +191,7 @@ public void failure_method_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -172,6 +215,7 @@ public void failure_field_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -311,6 +355,26 @@ private String illegalAccessExceptionThrowingMethod() {
 		}
 	}
 
+	public static class PublicEntityType {
+		@Override
+		public String toString() {
+			return "publicEntityToString";
+		}
+
+		public String publicMethod() {
+			return "publicMethodValue";
+		}
+		public String otherMethod() {
+			return "otherMethod";
+		}
+		public int primitiveMethod() {
+			return 42;
+		}
+		public String runtimeExceptionThrowingMethod() {
+			throw new SimulatedRuntimeException( "runtimeExceptionThrowingMethod" );
+		}
+	}
+
 	private static class SimulatedRuntimeException extends RuntimeException {
 		public SimulatedRuntimeException(String message) {
 			super( message );
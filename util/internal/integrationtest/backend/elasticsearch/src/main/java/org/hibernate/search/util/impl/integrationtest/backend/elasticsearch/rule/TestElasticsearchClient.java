@@ -124,6 +124,10 @@ public IndexClient ensureDoesNotExist() {
 			return this;
 		}
 
+		public boolean exists() {
+			return TestElasticsearchClient.this.indexExists( primaryIndexName );
+		}
+
 		public IndexClient registerForCleanup() {
 			TestElasticsearchClient.this.registerIndexForCleanup( primaryIndexName );
 			return this;
@@ -414,6 +418,13 @@ private void ensureIndexDoesNotExist(URLEncodedString indexName) {
 				.build() );
 	}
 
+	private boolean indexExists(URLEncodedString indexName) {
+		ElasticsearchResponse response = performRequestIgnore404( ElasticsearchRequest.get()
+				.pathComponent( indexName )
+				.build() );
+		return response.getStatusCode() != 404;
+	}
+
 	private JsonObject createAddAliasAction(String indexName, String alias, JsonObject aliasAttributes) {
 		JsonObject action = new JsonObject();
 		JsonObject aliasDefinition = new JsonObject();
@@ -15,6 +15,9 @@
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.index.impl.StubBackend;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjection;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.projection.impl.StubSearchProjectionContext;
@@ -60,6 +63,25 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		);
 	}
 
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		return new SearchScroll<H>() {
+			private int offset = 0;
+
+			@Override
+			public void close() {
+				// Nothing to do
+			}
+
+			@Override
+			public SearchScrollResult<H> next() {
+				SearchResult<H> result = fetch( offset, chunkSize );
+				offset += chunkSize;
+				return new SimpleSearchScrollResult<>( result.getTotalHitCount(), result.getHits() );
+			}
+		};
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );